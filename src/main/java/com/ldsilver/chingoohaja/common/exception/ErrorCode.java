@@ -35,6 +35,7 @@ public enum ErrorCode {
     JWT_UNSUPPORTED(HttpStatus.UNAUTHORIZED, "J005", "지원되지 않는 JWT 토큰입니다."),
     JWT_CLAIMS_EMPTY(HttpStatus.UNAUTHORIZED, "J006", "JWT 토큰의 클레임이 비어있습니다."),
     JWT_TOKEN_NOT_FOUND(HttpStatus.UNAUTHORIZED, "J007", "JWT 토큰을 찾을 수 없습니다."),
+    JWT_REVOKED(HttpStatus.UNAUTHORIZED, "J008", "로그아웃되었거나 폐기된 JWT 토큰입니다."),
 
     // OAuth 관련 에러 (기존 코드에 추가)
     OAUTH_PROVIDER_NOT_SUPPORTED(HttpStatus.BAD_REQUEST, "O001", "지원하지 않는 OAuth 공급자입니다: %s"),
@@ -132,6 +133,9 @@ public enum ErrorCode {
     BAD_EXPIRED_TIME(HttpStatus.BAD_REQUEST, "L038", "토큰 만료 시각은 현재 시각 이후여야 합니다."),
     RECORDING_ALREADY_STOPPED(HttpStatus.CONFLICT, "L039", "이미 녹음이 중지되었습니다."),
     WEBSOCKET_SEND_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "L040", "WebSocket 메시지 전송에 실패했습니다."),
+    CALL_CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "L041", "통화 상태가 동시에 변경되었습니다. 잠시 후 다시 시도해주세요."),
+    AGORA_WEBHOOK_SIGNATURE_INVALID(HttpStatus.UNAUTHORIZED, "L042", "Agora 콜백 서명이 유효하지 않습니다."),
+    WEBSOCKET_CONNECT_THROTTLED(HttpStatus.TOO_MANY_REQUESTS, "L043", "WebSocket 접속 요청이 많습니다. %d ms 후 다시 시도해주세요."),
 
     // 카테고리 관련 에러
     CATEGORY_NOT_FOUND(HttpStatus.NOT_FOUND, "T001", "카테고리를 찾을 수 없습니다."),
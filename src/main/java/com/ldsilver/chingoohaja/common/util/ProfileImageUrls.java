@@ -0,0 +1,62 @@
+package com.ldsilver.chingoohaja.common.util;
+
+/**
+ * 프로필 이미지 변형본 경로 규칙
+ * - 업로드 시 profiles/{base}/original.{ext} 옆에 thumb.jpg, medium.jpg를 같은 다운로드 토큰으로 저장
+ * - 변형본 URL은 원본 URL에서 파일명만 바꿔 만들 수 있으므로 DB에는 원본 URL만 저장
+ * - 규칙에 맞지 않는 URL(기존 업로드, 소셜 프로필 이미지)은 원본 URL을 그대로 사용
+ */
+public final class ProfileImageUrls {
+
+    public static final String ORIGINAL = "original";
+    public static final String THUMBNAIL = "thumb";
+    public static final String MEDIUM = "medium";
+    public static final String VARIANT_EXTENSION = ".jpg";
+
+    private static final String ENCODED_SEPARATOR = "%2F";
+    private static final String ENCODED_ORIGINAL_MARKER = ENCODED_SEPARATOR + ORIGINAL + ".";
+
+    private ProfileImageUrls() {
+        throw new AssertionError("ProfileImageUrls는 인스턴스화할 수 없습니다.");
+    }
+
+    public static String thumbnail(String profileImageUrl) {
+        return variant(profileImageUrl, THUMBNAIL);
+    }
+
+    public static String medium(String profileImageUrl) {
+        return variant(profileImageUrl, MEDIUM);
+    }
+
+    public static boolean hasVariants(String profileImageUrl) {
+        return profileImageUrl != null && originalMarkerIndex(profileImageUrl) >= 0;
+    }
+
+    /**
+     * 원본 객체명(profiles/{base}/original.png)에 대응하는 변형본 객체명
+     */
+    public static String variantObjectName(String originalObjectName, String variant) {
+        return originalObjectName.substring(0, originalObjectName.lastIndexOf('/') + 1) + variant + VARIANT_EXTENSION;
+    }
+
+    private static String variant(String profileImageUrl, String variant) {
+        if (profileImageUrl == null) {
+            return null;
+        }
+
+        int marker = originalMarkerIndex(profileImageUrl);
+        if (marker < 0) {
+            return profileImageUrl;
+        }
+
+        int query = profileImageUrl.indexOf('?');
+        String suffix = query >= 0 ? profileImageUrl.substring(query) : "";
+        return profileImageUrl.substring(0, marker) + ENCODED_SEPARATOR + variant + VARIANT_EXTENSION + suffix;
+    }
+
+    private static int originalMarkerIndex(String url) {
+        int query = url.indexOf('?');
+        String path = query >= 0 ? url.substring(0, query) : url;
+        return path.lastIndexOf(ENCODED_ORIGINAL_MARKER);
+    }
+}
@@ -32,6 +32,9 @@ public class AgoraProperties {
     @NotBlank(message = "Agora Customer Secret은 필수입니다.")
     private String customerSecret;
 
+    // 녹음 콜백(NCS) 서명 키 - 미설정 시 Customer Secret 사용
+    private String notificationSecret;
+
     // Token 설정
     @Min(1)
     @Max(86400) // 24h
@@ -56,6 +59,10 @@ public class AgoraProperties {
                 && customerSecret != null && !customerSecret.isBlank();
     }
 
+    public String resolveNotificationSecret() {
+        return notificationSecret != null && !notificationSecret.isBlank() ? notificationSecret : customerSecret;
+    }
+
     public boolean isCustomStorageConfigured() {
         return useCustomStorage &&
                 recordingStorageBucket != null && !recordingStorageBucket.trim().isEmpty() &&
@@ -96,6 +96,102 @@ public class AsyncConfig {
         return executor;
     }
 
+    /**
+     * 정리 스케줄러 부수효과(채널 삭제, 녹음 중지) 전용 TaskExecutor
+     * 큐가 가득 차면 스케줄러 스레드에서 실행되어 자연스럽게 속도가 조절됨
+     */
+    @Bean("cleanupTaskExecutor")
+    public Executor cleanupTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("Cleanup-Async-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+
+        executor.setThreadFactory(runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName("Cleanup-Async-" + thread.getId());
+            thread.setUncaughtExceptionHandler((t, ex) ->
+                    log.error("Cleanup 비동기 작업 예외 발생 - Thread: {}", t.getName(), ex));
+            return thread;
+        });
+        executor.initialize();
+
+        log.info("Cleanup TaskExecutor 초기화 완료 - Core: {}, Max: {}, Queue: {}",
+                executor.getCorePoolSize(), executor.getMaxPoolSize(), executor.getQueueCapacity());
+
+        return executor;
+    }
+
+    /**
+     * Storage 전송(HLS 세그먼트 다운로드) 전용 TaskExecutor
+     * 스레드 수가 곧 동시 전송 수 상한이며, 큐가 가득 차면 요청 스레드에서 직접 내려받음
+     */
+    @Bean("storageTransferExecutor")
+    public Executor storageTransferExecutor(RecordingProperties recordingProperties) {
+        int workers = Math.max(1, recordingProperties.getTransfer().getWorkers());
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("Storage-Transfer-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+
+        executor.setThreadFactory(runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName("Storage-Transfer-" + thread.getId());
+            thread.setUncaughtExceptionHandler((t, ex) ->
+                    log.error("Storage 전송 작업 예외 발생 - Thread: {}", t.getName(), ex));
+            return thread;
+        });
+        executor.initialize();
+
+        log.info("Storage Transfer TaskExecutor 초기화 완료 - Core: {}, Max: {}, Queue: {}",
+                executor.getCorePoolSize(), executor.getMaxPoolSize(), executor.getQueueCapacity());
+
+        return executor;
+    }
+
+    /**
+     * 녹음 후처리(WAV 변환) 워커 전용 Executor
+     * RecordingPostProcessingQueueService가 빈 워커 수만큼만 작업을 꺼내므로 큐가 쌓이지 않음
+     * (작업 대기는 Redis 후처리 큐가 담당, 호출자 스레드에서 실행하지 않음)
+     */
+    @Bean("postProcessingExecutor")
+    public Executor postProcessingExecutor(RecordingProperties recordingProperties) {
+        int workers = recordingProperties.getPostProcessing().resolveWorkers();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(workers);
+        executor.setThreadNamePrefix("PostProcessing-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+
+        executor.setThreadFactory(runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName("PostProcessing-" + thread.getId());
+            thread.setUncaughtExceptionHandler((t, ex) ->
+                    log.error("후처리 작업 예외 발생 - Thread: {}", t.getName(), ex));
+            return thread;
+        });
+        executor.initialize();
+
+        log.info("PostProcessing Executor 초기화 완료 - Core: {}, Max: {}, Queue: {}",
+                executor.getCorePoolSize(), executor.getMaxPoolSize(), executor.getQueueCapacity());
+
+        return executor;
+    }
+
     private static ThreadPoolTaskExecutor getThreadPoolTaskExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 
@@ -0,0 +1,129 @@
+package com.ldsilver.chingoohaja.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "app.call")
+public class CallProperties {
+
+    /**
+     * 통화 스냅샷 인메모리 캐시 설정
+     */
+    private SnapshotCacheConfig snapshotCache = new SnapshotCacheConfig();
+
+    /**
+     * 통화 상태 전이 동시성 제어 설정
+     */
+    private ConcurrencyConfig concurrency = new ConcurrencyConfig();
+
+    /**
+     * 고아 통화/세션/녹음 정리 스케줄러 설정
+     */
+    private CleanupConfig cleanup = new CleanupConfig();
+
+    /**
+     * 통화별 질문 덱 설정
+     */
+    private PromptDeckConfig promptDeck = new PromptDeckConfig();
+
+    /**
+     * RTC 토큰 만료 전 백그라운드 갱신 설정
+     */
+    private TokenRenewalConfig tokenRenewal = new TokenRenewalConfig();
+
+    @Getter
+    @Setter
+    public static class SnapshotCacheConfig {
+        private boolean enabled = true;
+
+        // 노드당 최대 캐시 항목 수 (초과 시 가장 오래 사용되지 않은 항목 제거)
+        @Min(value = 1, message = "캐시 크기는 1 이상이어야 합니다.")
+        private int maxEntries = 10000;
+
+        // 캐시 유지 시간 (초) - 다른 노드의 상태 변경 반영 지연 상한
+        @Min(value = 1, message = "캐시 유지 시간은 1초 이상이어야 합니다.")
+        private int ttlSeconds = 5;
+    }
+
+    @Getter
+    @Setter
+    public static class ConcurrencyConfig {
+        // OPTIMISTIC: @Version 충돌 시 재시도, PESSIMISTIC: SELECT ... FOR UPDATE (비교용)
+        private LockMode lockMode = LockMode.OPTIMISTIC;
+
+        // 낙관적 잠금 충돌 시 최대 시도 횟수 (최초 시도 포함)
+        @Min(value = 1, message = "최대 시도 횟수는 1 이상이어야 합니다.")
+        private int maxAttempts = 3;
+
+        // 재시도 간격 기준값 (밀리초, 시도 횟수에 비례 + 지터)
+        @Min(value = 0, message = "재시도 간격은 0 이상이어야 합니다.")
+        private long retryBackoffMillis = 20;
+
+        public enum LockMode {
+            OPTIMISTIC,
+            PESSIMISTIC
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class CleanupConfig {
+        // 이 시간(분) 이상 IN_PROGRESS/JOINED/PROCESSING 상태면 정리 대상
+        @Min(value = 1, message = "정리 기준 시간은 1분 이상이어야 합니다.")
+        private int staleThresholdMinutes = 120;
+
+        // 청크당 처리 행 수 (청크마다 별도 트랜잭션으로 커밋)
+        @Min(value = 1, message = "청크 크기는 1 이상이어야 합니다.")
+        private int chunkSize = 200;
+
+        // 1회 실행당 최대 청크 수 (남은 행은 다음 실행에서 처리)
+        @Min(value = 1, message = "최대 청크 수는 1 이상이어야 합니다.")
+        private int maxChunksPerRun = 50;
+    }
+
+    @Getter
+    @Setter
+    public static class PromptDeckConfig {
+        // 질문 카탈로그 변경 확인 주기 (밀리초)
+        @Min(value = 1000, message = "카탈로그 갱신 주기는 1초 이상이어야 합니다.")
+        private long catalogRefreshMillis = 60000;
+
+        // 통화별 질문 커서 유지 시간 (초) - 최대 통화 시간보다 길게
+        @Min(value = 60, message = "커서 유지 시간은 60초 이상이어야 합니다.")
+        private long cursorTtlSeconds = 10800;
+    }
+
+    @Getter
+    @Setter
+    public static class TokenRenewalConfig {
+        private boolean enabled = true;
+
+        // 갱신 스케줄러 실행 주기 (밀리초)
+        @Min(value = 1000, message = "갱신 주기는 1초 이상이어야 합니다.")
+        private long intervalMillis = 30000;
+
+        // 만료까지 이 시간(초) 이내로 남은 토큰을 갱신 - 클라이언트 갱신 요청보다 먼저 처리
+        @Min(value = 60, message = "갱신 시점은 만료 60초 전 이상이어야 합니다.")
+        private int renewAheadSeconds = 300;
+
+        // 새 토큰 유효 시간에서 무작위로 줄이는 최대 초 (같은 시각에 발급된 토큰의 다음 만료를 분산)
+        @Min(value = 0, message = "지터는 0 이상이어야 합니다.")
+        private int jitterSeconds = 120;
+
+        // 청크당 갱신 세션 수 (청크마다 커밋 후 WebSocket 전송)
+        @Min(value = 1, message = "청크 크기는 1 이상이어야 합니다.")
+        private int chunkSize = 200;
+
+        // 1회 실행당 최대 청크 수 (남은 세션은 다음 실행에서 처리)
+        @Min(value = 1, message = "최대 청크 수는 1 이상이어야 합니다.")
+        private int maxChunksPerRun = 10;
+    }
+}
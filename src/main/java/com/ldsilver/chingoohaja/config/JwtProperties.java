@@ -1,5 +1,6 @@
 package com.ldsilver.chingoohaja.config;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
@@ -40,4 +41,63 @@ public class JwtProperties {
      * Refresh Token의 subject prefix
      */
     private String refreshTokenSubject = "refresh_token";
+
+    /**
+     * Access Token 클레임만으로 인증 (요청마다 사용자 조회 생략)
+     * false이면 매 요청 DB에서 사용자를 조회해 존재 여부를 확인
+     */
+    private boolean statelessAuthentication = true;
+
+    /**
+     * 검증된 Access Token 클레임 캐시 (같은 토큰의 반복 서명 검증 생략)
+     */
+    private VerifiedTokenCacheConfig verifiedTokenCache = new VerifiedTokenCacheConfig();
+
+    /**
+     * Access Token 폐기 목록 (로그아웃/전체 로그아웃/정지)
+     */
+    private RevocationConfig revocation = new RevocationConfig();
+
+    /**
+     * Refresh Token 회전 (Redis 기준, DB 이력은 지연 일괄 저장)
+     */
+    private RefreshRotationConfig refreshRotation = new RefreshRotationConfig();
+
+    @Getter
+    @Setter
+    public static class VerifiedTokenCacheConfig {
+        private boolean enabled = true;
+
+        // 노드당 최대 캐시 항목 수 (초과 시 가장 오래 사용되지 않은 토큰 제거)
+        @Min(value = 1, message = "캐시 크기는 1 이상이어야 합니다.")
+        private int maxEntries = 50000;
+    }
+
+    @Getter
+    @Setter
+    public static class RevocationConfig {
+        // Redis 폐기 목록 전체 재동기화 주기 (밀리초) - 놓친 pub/sub 메시지 반영 지연 상한
+        @Min(value = 1000, message = "재동기화 주기는 1초 이상이어야 합니다.")
+        private long resyncIntervalMillis = 60000;
+    }
+
+    @Getter
+    @Setter
+    public static class RefreshRotationConfig {
+        // 회전된 이전 토큰으로 다시 요청하면 같은 새 토큰을 돌려주는 유예 시간 (앱의 동시 갱신 요청 대비)
+        @Min(value = 0, message = "유예 시간은 0 이상이어야 합니다.")
+        private long reuseGraceSeconds = 30;
+
+        // DB 이력 일괄 저장 주기 (밀리초)
+        @Min(value = 100, message = "저장 주기는 100ms 이상이어야 합니다.")
+        private long flushIntervalMillis = 1000;
+
+        // 한 트랜잭션에서 저장할 최대 회전 건수
+        @Min(value = 1, message = "배치 크기는 1 이상이어야 합니다.")
+        private int batchSize = 200;
+
+        // 저장 대기열 상한 (DB 장애 시 메모리 보호, 초과분은 이력만 유실되고 회전은 Redis에 반영됨)
+        @Min(value = 1, message = "대기열 크기는 1 이상이어야 합니다.")
+        private int queueCapacity = 50000;
+    }
 }
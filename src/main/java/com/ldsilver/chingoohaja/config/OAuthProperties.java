@@ -80,6 +80,9 @@ public class OAuthProperties {
         private String tokenUrl = "https://oauth2.googleapis.com/token";
         private String userInfoUrl = "https://www.googleapis.com/oauth2/v2/userinfo";
 
+        // ID Token 서명 검증용 공개키(인증서) 주소 - 로컬에서는 대체 키 서버로 바꿀 수 있음
+        private String publicCertsUrl = "https://www.googleapis.com/oauth2/v1/certs";
+
         public String getRedirectUri(boolean isMobile) {
             if (isMobile && redirectUriMobile != null && !redirectUriMobile.isEmpty()) {
                 return redirectUriMobile;
@@ -125,4 +125,111 @@ public class RecordingProperties {
         private int maxAttempts = 2;
         private int delaySeconds = 3;
     }
+
+    // 진행 중 녹음 상태 조회 (관리자 대시보드) 설정
+    private StatusQueryConfig statusQuery = new StatusQueryConfig();
+
+    @Getter
+    @Setter
+    public static class StatusQueryConfig {
+        // 동시에 보내는 Agora query 요청 수 상한
+        private int maxConcurrency = 16;
+
+        // 녹음 1건당 query 응답 대기 시간 (초과 시 DB 상태로 응답)
+        private long timeoutMillis = 3000L;
+
+        // 조회 결과 재사용 시간 (대시보드 새로고침 시 Agora 재호출 방지)
+        private long cacheTtlMillis = 5000L;
+    }
+
+    // HLS 세그먼트 다운로드/업로드 설정
+    private TransferConfig transfer = new TransferConfig();
+
+    @Getter
+    @Setter
+    public static class TransferConfig {
+        // 동시에 내려받는 세그먼트 수 (storageTransferExecutor 스레드 수)
+        private int workers = 8;
+
+        // 세그먼트별 최대 시도 횟수
+        private int segmentMaxAttempts = 3;
+
+        // 재시도 간격 기준값 (시도 횟수만큼 늘어남)
+        private long segmentRetryDelayMillis = 500L;
+
+        // HLS 삭제 시 배치 요청 1건에 묶는 객체 수 (GCS 배치 최대 100)
+        private int deleteBatchSize = 100;
+
+        // 동시에 HLS 디렉토리를 삭제하는 녹음 수
+        private int maxConcurrentDeletes = 4;
+    }
+
+    // AI 학습용 음성 구간 분할 설정 (에너지 기반 VAD)
+    private SegmentationConfig segmentation = new SegmentationConfig();
+
+    @Getter
+    @Setter
+    public static class SegmentationConfig {
+        // false면 사용자별 전체 WAV 1개를 업로드 (기존 방식)
+        private boolean enabled = true;
+
+        // 분석 프레임 길이 (밀리초)
+        private int frameMillis = 30;
+
+        // 이 값 이상(dBFS)이면 음성 프레임으로 판단
+        private double energyThresholdDbfs = -45.0;
+
+        // 이보다 짧은 음성 구간은 버림 (잡음 제거)
+        private int minSpeechMillis = 300;
+
+        // 이 시간 이상 무음이 이어지면 구간 종료
+        private int minSilenceMillis = 500;
+
+        // 구간 앞뒤로 남기는 여유 (말 시작/끝 잘림 방지)
+        private int paddingMillis = 150;
+
+        // 세그먼트 최대 길이 (초과 시 분할)
+        private int maxSegmentSeconds = 30;
+    }
+
+    // 녹음 후처리(WAV 변환) 큐 설정
+    private PostProcessingConfig postProcessing = new PostProcessingConfig();
+
+    @Getter
+    @Setter
+    public static class PostProcessingConfig {
+        // 후처리 워커 수 (0이면 CPU 코어 수)
+        private int workers = 0;
+
+        // 동시에 실행하는 FFmpeg 프로세스 수 (0이면 코어 수의 절반, 최소 1)
+        private int maxConcurrentFfmpeg = 0;
+
+        // 큐 확인 주기 (밀리초)
+        private long pollIntervalMillis = 2000L;
+
+        // 작업 lease 시간 (이 시간 안에 끝나지 않으면 노드 장애로 보고 다시 대기열에 넣음)
+        private long leaseMillis = 1800000L; // 30분
+
+        // 처리 중인 작업의 lease 연장 주기 (leaseMillis보다 충분히 짧게)
+        private long leaseRenewIntervalMillis = 300000L; // 5분
+
+        // 작업별 최대 시도 횟수 (초과 시 dead letter)
+        private int maxAttempts = 3;
+
+        // 재시도 지연 기준값 (시도마다 2배)
+        private long retryDelayMillis = 30000L;
+
+        // dead letter 보관 건수
+        private int deadLetterLimit = 1000;
+
+        public int resolveWorkers() {
+            return workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        }
+
+        public int resolveMaxConcurrentFfmpeg() {
+            return maxConcurrentFfmpeg > 0
+                    ? maxConcurrentFfmpeg
+                    : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        }
+    }
 }
@@ -1,6 +1,11 @@
 package com.ldsilver.chingoohaja.config;
 
+import com.ldsilver.chingoohaja.infrastructure.websocket.CompactPayloadEncoder;
+import com.ldsilver.chingoohaja.infrastructure.websocket.CompactPayloadSessions;
 import com.ldsilver.chingoohaja.infrastructure.websocket.JwtChannelInterceptor;
+import com.ldsilver.chingoohaja.infrastructure.websocket.OutboundChannelMonitor;
+import com.ldsilver.chingoohaja.infrastructure.websocket.PresenceChannelInterceptor;
+import com.ldsilver.chingoohaja.infrastructure.websocket.StompErrorHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Configuration;
@@ -9,6 +14,7 @@ import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Slf4j
 @Configuration
@@ -18,12 +24,35 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final JwtChannelInterceptor jwtChannelInterceptor;
     private final WebSocketProperties webSocketProperties;
+    private final StompErrorHandler stompErrorHandler;
+    private final OutboundChannelMonitor outboundChannelMonitor;
+    private final CompactPayloadSessions compactPayloadSessions;
+    private final CompactPayloadEncoder compactPayloadEncoder;
+    private final PresenceChannelInterceptor presenceChannelInterceptor;
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/topic", "/queue");
+        WebSocketProperties.Relay relay = webSocketProperties.getRelay();
+        if (relay.getType() == WebSocketProperties.RelayType.BROKER) {
+            // 외부 브로커가 노드 간 전달을 맡고, 다른 노드에 있는 사용자의 메시지와 세션 정보는 브로드캐스트로 공유
+            config.enableStompBrokerRelay("/topic", "/queue")
+                    .setRelayHost(relay.getBrokerHost())
+                    .setRelayPort(relay.getBrokerPort())
+                    .setClientLogin(relay.getBrokerLogin())
+                    .setClientPasscode(relay.getBrokerPasscode())
+                    .setSystemLogin(relay.getBrokerLogin())
+                    .setSystemPasscode(relay.getBrokerPasscode())
+                    .setVirtualHost(relay.getBrokerVirtualHost());
+            config.setUserDestinationBroadcast("/topic/unresolved-user-destination");
+            config.setUserRegistryBroadcast("/topic/simp-user-registry");
+            log.info("WebSocket 외부 브로커 relay 사용 - {}:{}", relay.getBrokerHost(), relay.getBrokerPort());
+        } else {
+            config.enableSimpleBroker("/topic", "/queue");
+        }
         config.setApplicationDestinationPrefixes("/app");
         config.setUserDestinationPrefix("/user");
+        // outbound 스레드 풀에서도 세션별 발행 순서 유지 (병합 메시지가 뒤따르는 종료 메시지를 앞지르지 않도록)
+        config.setPreservePublishOrder(true);
     }
 
     @Override
@@ -39,10 +68,40 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .setClientLibraryUrl("https://cdn.jsdelivr.net/npm/sockjs-client@1/dist/sockjs.min.js")
                 .setSessionCookieNeeded(false)
                 .setHeartbeatTime(25000);
+
+        // 네이티브 앱용 순수 WebSocket 엔드포인트 (SockJS 프레이밍/HTTP fallback 없음)
+        // permessage-deflate는 클라이언트가 제안하면 서블릿 컨테이너(Tomcat)가 협상
+        registry.addEndpoint("/ws-native")
+                .setAllowedOriginPatterns(origins);
+
+        registry.setErrorHandler(stompErrorHandler);
     }
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(jwtChannelInterceptor);
+        registration.interceptors(jwtChannelInterceptor, compactPayloadSessions, presenceChannelInterceptor);
+    }
+
+    /**
+     * 느린 클라이언트 한 명이 전송 스레드를 붙잡지 않도록 outbound 채널 전용 스레드 풀을 두고 대기열 길이를 제한
+     */
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        WebSocketProperties.Outbound outbound = webSocketProperties.getOutbound();
+        registration.taskExecutor()
+                .corePoolSize(outbound.getCorePoolSize())
+                .maxPoolSize(outbound.getMaxPoolSize())
+                .queueCapacity(outbound.getQueueCapacity());
+        registration.interceptors(compactPayloadEncoder, outboundChannelMonitor);
+    }
+
+    /**
+     * 세션별 전송 버퍼/시간 상한 - 넘으면 해당 세션만 종료
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        WebSocketProperties.Outbound outbound = webSocketProperties.getOutbound();
+        registration.setSendBufferSizeLimit(outbound.getSendBufferSizeLimit())
+                .setSendTimeLimit(outbound.getSendTimeLimitMillis());
     }
 }
@@ -13,4 +13,94 @@ import java.util.List;
 @ConfigurationProperties(prefix = "ws")
 public class WebSocketProperties {
     private List<String> allowedOrigins;
-}
\ No newline at end of file
+
+    private ConnectAdmission connectAdmission = new ConnectAdmission();
+
+    private Relay relay = new Relay();
+
+    private Outbound outbound = new Outbound();
+
+    private Presence presence = new Presence();
+
+    /**
+     * 노드별 STOMP CONNECT 허용량 (재접속 폭주 대비)
+     */
+    @Getter
+    @Setter
+    public static class ConnectAdmission {
+        private boolean enabled = true;
+        // 초당 허용 CONNECT 수
+        private int permitsPerSecond = 100;
+        // 순간적으로 허용할 최대 CONNECT 수
+        private int burst = 200;
+        // 거절 시 재시도 안내 최소 대기 시간 (ms)
+        private long minRetryMillis = 1000;
+        // 재시도 시각이 몰리지 않도록 더하는 무작위 대기 시간 상한 (ms)
+        private long retryJitterMillis = 5000;
+    }
+
+    /**
+     * 클라이언트로 나가는 메시지 처리 설정
+     * - 세션별 전송 버퍼/시간 상한을 넘는 느린 클라이언트는 연결을 끊어 다른 세션의 전송이 밀리지 않도록 함
+     */
+    @Getter
+    @Setter
+    public static class Outbound {
+        // 세션별 전송 대기 버퍼 상한 (bytes)
+        private int sendBufferSizeLimit = 512 * 1024;
+        // 한 세션에 대한 전송이 이 시간을 넘기면 연결 종료 (ms)
+        private int sendTimeLimitMillis = 10_000;
+        // outbound 채널 전용 스레드 풀
+        private int corePoolSize = 8;
+        private int maxPoolSize = 32;
+        private int queueCapacity = 10_000;
+        // 대기열 위치 등 최신 값만 의미 있는 메시지를 모아 보내는 주기 (ms)
+        private long coalesceWindowMillis = 300;
+        // 병합 대기 메시지를 취소한 뒤 늦게 도착한 병합 메시지를 버리는 시간 (ms)
+        private long coalesceTombstoneMillis = 2000;
+        // 한 메시지 전송이 이 시간을 넘기면 느린 클라이언트로 기록 (ms)
+        private long slowSendThresholdMillis = 1000;
+    }
+
+    /**
+     * 노드 간 사용자 메시지(/user/queue/...) 전달 방식
+     * - SIMPLE: 노드 내부 simple broker만 사용 (단일 노드)
+     * - REDIS: simple broker + Redis pub/sub으로 다른 노드의 세션에 전달
+     * - BROKER: 외부 STOMP 브로커(RabbitMQ 등) relay 사용
+     */
+    @Getter
+    @Setter
+    public static class Relay {
+        private RelayType type = RelayType.SIMPLE;
+        private String redisChannel = "ws:user-destination";
+        private String brokerHost = "localhost";
+        private int brokerPort = 61613;
+        private String brokerLogin = "guest";
+        private String brokerPasscode = "guest";
+        private String brokerVirtualHost;
+    }
+
+    /**
+     * 사용자 접속 상태(presence) 설정
+     * - 마지막 하트비트가 ttl 안에 있으면 온라인, 연결 종료 기록이 있거나 ttl을 넘기면 오프라인
+     */
+    @Getter
+    @Setter
+    public static class Presence {
+        // 마지막 하트비트 이후 온라인으로 보는 시간 (초)
+        private long ttlSeconds = 60;
+        // 이 시간보다 오래된 기록은 메모리에서 제거 (초)
+        private long retentionSeconds = 600;
+        // 변경된 기록을 다른 노드에 전파하는 주기 (ms)
+        private long syncIntervalMillis = 5000;
+        // 한 번에 발행하는 최대 기록 수
+        private int syncBatchSize = 500;
+        // 오래된 기록 정리 주기 (ms)
+        private long compactionIntervalMillis = 60_000;
+        private String redisChannel = "ws:presence";
+    }
+
+    public enum RelayType {
+        SIMPLE, REDIS, BROKER
+    }
+}
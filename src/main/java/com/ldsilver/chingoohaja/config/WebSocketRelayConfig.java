@@ -0,0 +1,40 @@
+package com.ldsilver.chingoohaja.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ldsilver.chingoohaja.infrastructure.websocket.LocalUserDestinationRelay;
+import com.ldsilver.chingoohaja.infrastructure.websocket.RedisUserDestinationRelay;
+import com.ldsilver.chingoohaja.infrastructure.websocket.UserDestinationRelay;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+
+/**
+ * ws.relay.type에 따라 사용자 메시지 전달 방식 선택
+ */
+@Slf4j
+@Configuration
+public class WebSocketRelayConfig {
+
+    @Bean
+    public UserDestinationRelay userDestinationRelay(
+            WebSocketProperties webSocketProperties,
+            SimpMessagingTemplate messagingTemplate,
+            SimpUserRegistry userRegistry,
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            ObjectMapper objectMapper
+    ) {
+        WebSocketProperties.Relay relay = webSocketProperties.getRelay();
+        log.info("WebSocket 사용자 메시지 relay: {}", relay.getType());
+
+        if (relay.getType() == WebSocketProperties.RelayType.REDIS) {
+            return new RedisUserDestinationRelay(messagingTemplate, userRegistry, redisTemplate,
+                    redisMessageListenerContainer, objectMapper, relay.getRedisChannel());
+        }
+        return new LocalUserDestinationRelay(messagingTemplate);
+    }
+}
@@ -0,0 +1,39 @@
+package com.ldsilver.chingoohaja.controller;
+
+import com.ldsilver.chingoohaja.dto.common.ApiResponse;
+import com.ldsilver.chingoohaja.infrastructure.agora.AgoraWebhookVerifier;
+import com.ldsilver.chingoohaja.service.AgoraRecordingWebhookService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/agora/webhooks")
+@RequiredArgsConstructor
+@Tag(name = "Agora 콜백", description = "Agora 클라우드 녹음 이벤트 수신 API")
+public class AgoraWebhookController {
+
+    private final AgoraRecordingWebhookService agoraRecordingWebhookService;
+
+    @Operation(
+            summary = "클라우드 녹음 콜백 수신",
+            description = "Agora 메시지 알림 서비스(NCS)가 보내는 녹음 이벤트를 받아 녹음 상태를 갱신합니다. " +
+                    "서명(Agora-Signature-V2 또는 Agora-Signature)이 일치하지 않으면 거부합니다."
+    )
+    @PostMapping("/recording")
+    public ApiResponse<Void> receiveRecordingNotification(
+            @RequestBody byte[] rawBody,
+            @RequestHeader(value = AgoraWebhookVerifier.SIGNATURE_V2_HEADER, required = false) String signatureV2,
+            @RequestHeader(value = AgoraWebhookVerifier.SIGNATURE_HEADER, required = false) String signature) {
+
+        agoraRecordingWebhookService.handle(rawBody, signatureV2, signature);
+        return ApiResponse.ok("콜백 처리 완료");
+    }
+}
@@ -4,6 +4,8 @@ import com.ldsilver.chingoohaja.common.exception.CustomException;
 import com.ldsilver.chingoohaja.common.exception.ErrorCode;
 import com.ldsilver.chingoohaja.domain.user.CustomUserDetails;
 import com.ldsilver.chingoohaja.dto.matching.response.MatchingStatusResponse;
+import com.ldsilver.chingoohaja.infrastructure.websocket.PresenceRegistry;
+import com.ldsilver.chingoohaja.infrastructure.websocket.UserDestinationRelay;
 import com.ldsilver.chingoohaja.service.MatchingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,7 +13,6 @@ import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.messaging.simp.annotation.SendToUser;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -25,7 +26,8 @@ import java.security.Principal;
 public class WebSocketController {
 
     private final MatchingService matchingService;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final UserDestinationRelay userDestinationRelay;
+    private final PresenceRegistry presenceRegistry;
     /**
      * 매칭 상태 구독 요청
      */
@@ -74,7 +76,7 @@ public class WebSocketController {
                     System.currentTimeMillis()
             );
 
-            messagingTemplate.convertAndSendToUser(
+            userDestinationRelay.sendToUser(
                     partnerId.toString(),
                     "/queue/call-end",
                     notification
@@ -93,6 +95,7 @@ public class WebSocketController {
 
     /**
      * 하트비트 처리 (연결 상태 확인)
+     * 마지막 하트비트 시각을 presence 목록에 기록
      */
     @MessageMapping("/heartbeat")
     @SendToUser("/queue/heartbeat")
@@ -103,6 +106,10 @@ public class WebSocketController {
         Long userId = (userDetails != null ? userDetails.getUserId() : null);
         log.debug("하트비트 수신 - userId: {}, timestamp: {}", userId, message.timestamp());
 
+        if (userId != null) {
+            presenceRegistry.heartbeat(userId);
+        }
+
         // 서버 타임스탬프와 함께 ACK 응답
         return new HeartbeatResponse(message.timestamp(), System.currentTimeMillis());
     }
@@ -149,20 +156,8 @@ public class WebSocketController {
             log.debug("Authentication.principal 타입: {}", principalObj.getClass().getName());
 
             if (principalObj instanceof CustomUserDetails) {
-                CustomUserDetails userDetails = (CustomUserDetails) principalObj;
-
-                // user 필드가 null인 경우 username(=userId)에서 추출
-                if (userDetails.getUser() == null) {
-                    log.warn("CustomUserDetails의 user가 null - username으로 userId 추출");
-                    try {
-                        return Long.parseLong(userDetails.getUsername());
-                    } catch (NumberFormatException e) {
-                        log.error("username을 Long으로 변환 실패: {}", userDetails.getUsername());
-                        return null;
-                    }
-                } else {
-                    return userDetails.getUserId();
-                }
+                // 클레임으로 만든 Principal도 userId를 바로 갖고 있으므로 getUser()로 DB 조회하지 않음
+                return ((CustomUserDetails) principalObj).getUserId();
             } else {
                 log.error("Principal이 CustomUserDetails가 아님: {}", principalObj.getClass());
                 return null;
@@ -58,6 +58,11 @@ public class Call extends BaseEntity {
     @Size(max = 64, message = "Agora 채널명은 64자를 초과할 수 없습니다.")
     private String agoraChannelName;
 
+    // 상태 전이 낙관적 잠금용 버전
+    @Version
+    @Column(nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;
+
 
     public static Call of(
             User user1,
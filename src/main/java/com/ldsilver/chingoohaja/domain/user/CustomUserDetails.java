@@ -1,23 +1,46 @@
 package com.ldsilver.chingoohaja.domain.user;
 
-import lombok.Getter;
-import lombok.RequiredArgsConstructor;
+import com.ldsilver.chingoohaja.domain.user.enums.UserType;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.function.Supplier;
 
-@Getter
-@RequiredArgsConstructor
+/**
+ * 인증된 사용자 principal
+ * - User 엔티티로 만들거나, 토큰 클레임(userId, userType)만으로 만들 수 있음
+ * - 클레임으로 만든 경우 User는 getUser()를 처음 호출할 때 한 번만 조회
+ */
 public class CustomUserDetails implements UserDetails {
 
-    private final User user;
+    private final Long userId;
+    private final UserType userType;
+    private final Supplier<User> userLoader;
+    private User user;
+
+    public CustomUserDetails(User user) {
+        this.userId = user.getId();
+        this.userType = user.getUserType();
+        this.userLoader = () -> user;
+        this.user = user;
+    }
+
+    private CustomUserDetails(Long userId, UserType userType, Supplier<User> userLoader) {
+        this.userId = userId;
+        this.userType = userType;
+        this.userLoader = userLoader;
+    }
+
+    public static CustomUserDetails fromClaims(Long userId, UserType userType, Supplier<User> userLoader) {
+        return new CustomUserDetails(userId, userType, userLoader);
+    }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        String authority = "ROLE_" + user.getUserType().name();
+        String authority = "ROLE_" + getUserType();
         return Collections.singletonList(new SimpleGrantedAuthority(authority));
     }
 
@@ -28,7 +51,7 @@ public class CustomUserDetails implements UserDetails {
 
     @Override
     public String getUsername() {
-        return String.valueOf(user.getId());
+        return String.valueOf(getUserId());
     }
 
     @Override
@@ -52,14 +75,17 @@ public class CustomUserDetails implements UserDetails {
     }
 
     public User getUser() {
+        if (user == null) {
+            user = userLoader.get();
+        }
         return user;
     }
 
     public Long getUserId() {
-        return user.getId();
+        return user != null ? user.getId() : userId;
     }
 
     public String getUserType() {
-        return user.getUserType().name();
+        return user != null ? user.getUserType().name() : userType.name();
     }
 }
@@ -12,6 +12,7 @@ public record AdminUserListResponse(
             @JsonProperty("user_id") Long userId,
             @JsonProperty("email") String email,
             @JsonProperty("nickname") String nickname,
+            @JsonProperty("profile_thumbnail_url") String profileThumbnailUrl,
             @JsonProperty("user_type") String userType,
             @JsonProperty("provider") String provider,
             @JsonProperty("created_at") LocalDateTime createdAt,
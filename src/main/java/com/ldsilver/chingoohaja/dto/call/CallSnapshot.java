@@ -0,0 +1,60 @@
+package com.ldsilver.chingoohaja.dto.call;
+
+import com.ldsilver.chingoohaja.domain.call.Call;
+import com.ldsilver.chingoohaja.domain.call.enums.CallStatus;
+import com.ldsilver.chingoohaja.domain.call.enums.CallType;
+import com.ldsilver.chingoohaja.domain.category.Category;
+
+import java.time.LocalDateTime;
+
+/**
+ * 통화 권한/상태 확인용 불변 스냅샷 (CallSnapshotCacheService에서 공유)
+ */
+public record CallSnapshot(
+        Long callId,
+        String channelName,
+        Long user1Id,
+        String user1Nickname,
+        Long user2Id,
+        String user2Nickname,
+        Long categoryId,
+        String categoryName,
+        CallType callType,
+        CallStatus callStatus,
+        LocalDateTime startAt,
+        LocalDateTime endAt,
+        Integer durationSeconds,
+        LocalDateTime createdAt
+) {
+    public static CallSnapshot from(Call call) {
+        Category category = call.getCategory();
+        return new CallSnapshot(
+                call.getId(),
+                call.getAgoraChannelName(),
+                call.getUser1().getId(),
+                call.getUser1().getNickname(),
+                call.getUser2().getId(),
+                call.getUser2().getNickname(),
+                category != null ? category.getId() : null,
+                category != null ? category.getName() : null,
+                call.getCallType(),
+                call.getCallStatus(),
+                call.getStartAt(),
+                call.getEndAt(),
+                call.getDurationSeconds(),
+                call.getCreatedAt()
+        );
+    }
+
+    public boolean isParticipant(Long userId) {
+        return user1Id.equals(userId) || user2Id.equals(userId);
+    }
+
+    public boolean isInProgress() {
+        return callStatus == CallStatus.IN_PROGRESS;
+    }
+
+    public boolean isActive() {
+        return callStatus == CallStatus.READY || callStatus == CallStatus.IN_PROGRESS;
+    }
+}
@@ -0,0 +1,12 @@
+package com.ldsilver.chingoohaja.dto.call;
+
+/**
+ * 정리 스케줄러용 고아 JOINED 세션 프로젝션
+ */
+public record OrphanedSessionRow(
+        Long sessionId,
+        Long callId,
+        Long userId,
+        String channelName
+) {
+}
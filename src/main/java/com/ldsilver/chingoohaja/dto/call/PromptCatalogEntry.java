@@ -0,0 +1,29 @@
+package com.ldsilver.chingoohaja.dto.call;
+
+import com.ldsilver.chingoohaja.domain.call.ConversationPrompt;
+
+/**
+ * 인메모리 질문 카탈로그 항목 (엔티티 대신 불변 값으로 보관)
+ */
+public record PromptCatalogEntry(
+        Long promptId,
+        String question,
+        Long categoryId,
+        String categoryName,
+        Integer difficulty
+) {
+    public static PromptCatalogEntry from(ConversationPrompt prompt) {
+        return new PromptCatalogEntry(
+                prompt.getId(),
+                prompt.getQuestion(),
+                prompt.getCategory().getId(),
+                prompt.getCategory().getName(),
+                prompt.getDifficulty()
+        );
+    }
+
+    public boolean matches(Long categoryId, Integer maxDifficulty) {
+        return (categoryId == null || categoryId.equals(this.categoryId))
+                && (maxDifficulty == null || difficulty <= maxDifficulty);
+    }
+}
@@ -0,0 +1,61 @@
+package com.ldsilver.chingoohaja.dto.call;
+
+import com.ldsilver.chingoohaja.event.RecordingCompletedEvent;
+
+import java.util.UUID;
+
+/**
+ * 녹음 후처리(WAV 변환) 작업 (후처리 큐에 JSON으로 저장)
+ * - availableAtMillis: 작업을 가져갈 수 있는 시각 (재시도 대기 반영, 큐 지연 측정 기준)
+ */
+public record RecordingJob(
+        String jobId,
+        Long callId,
+        String filePath,
+        Integer durationSeconds,
+        Long fileSize,
+        String user1FilePath,
+        String user2FilePath,
+        int attempt,
+        long enqueuedAtMillis,
+        long availableAtMillis,
+        String lastError
+) {
+    public static RecordingJob from(RecordingCompletedEvent event) {
+        long now = System.currentTimeMillis();
+        return new RecordingJob(
+                UUID.randomUUID().toString(),
+                event.getCallId(),
+                event.getFilePath(),
+                event.getDurationSeconds(),
+                event.getFileSize(),
+                event.getUser1FilePath(),
+                event.getUser2FilePath(),
+                1,
+                now,
+                now,
+                null
+        );
+    }
+
+    public RecordingJob nextAttempt(long delayMillis, String error) {
+        return new RecordingJob(jobId, callId, filePath, durationSeconds, fileSize,
+                user1FilePath, user2FilePath, attempt + 1, enqueuedAtMillis,
+                System.currentTimeMillis() + delayMillis, error);
+    }
+
+    // 시도 횟수를 늘리지 않고 바로 다시 대기열로 (워커 부족 등 작업 자체의 실패가 아닌 경우)
+    public RecordingJob requeued() {
+        return new RecordingJob(jobId, callId, filePath, durationSeconds, fileSize,
+                user1FilePath, user2FilePath, attempt, enqueuedAtMillis, System.currentTimeMillis(), lastError);
+    }
+
+    public RecordingJob withError(String error) {
+        return new RecordingJob(jobId, callId, filePath, durationSeconds, fileSize,
+                user1FilePath, user2FilePath, attempt, enqueuedAtMillis, availableAtMillis, error);
+    }
+
+    public RecordingCompletedEvent toEvent() {
+        return new RecordingCompletedEvent(callId, filePath, durationSeconds, fileSize, user1FilePath, user2FilePath);
+    }
+}
@@ -0,0 +1,17 @@
+package com.ldsilver.chingoohaja.dto.call;
+
+/**
+ * 음성 구간 세그먼트 (AI 학습용 WAV 조각)
+ * - fileName: 세그먼트 디렉토리 기준 파일명
+ * - startMillis/endMillis: 원본 녹음 기준 시각
+ */
+public record SpeechSegment(
+        int index,
+        String fileName,
+        long startMillis,
+        long endMillis
+) {
+    public long durationMillis() {
+        return endMillis - startMillis;
+    }
+}
@@ -0,0 +1,23 @@
+package com.ldsilver.chingoohaja.dto.call;
+
+import java.util.List;
+
+/**
+ * 사용자별 음성 세그먼트 목록 (세그먼트 디렉토리의 index.json)
+ */
+public record SpeechSegmentIndex(
+        Long callId,
+        Long userId,
+        int sampleRate,
+        int channels,
+        long totalDurationMillis,
+        long speechDurationMillis,
+        List<SpeechSegment> segments
+) {
+    public static SpeechSegmentIndex of(Long callId, Long userId, int sampleRate, int channels,
+                                        long totalDurationMillis, List<SpeechSegment> segments) {
+        long speechMillis = segments.stream().mapToLong(SpeechSegment::durationMillis).sum();
+        return new SpeechSegmentIndex(callId, userId, sampleRate, channels,
+                totalDurationMillis, speechMillis, List.copyOf(segments));
+    }
+}
@@ -0,0 +1,17 @@
+package com.ldsilver.chingoohaja.dto.call;
+
+import java.util.List;
+
+/**
+ * 정리 스케줄러용 오래된 IN_PROGRESS 통화 프로젝션 (엔티티 로딩 없이 키셋 페이징)
+ */
+public record StaleCallRow(
+        Long callId,
+        String channelName,
+        Long user1Id,
+        Long user2Id
+) {
+    public List<Long> participantIds() {
+        return List.of(user1Id, user2Id);
+    }
+}
@@ -0,0 +1,10 @@
+package com.ldsilver.chingoohaja.dto.call;
+
+/**
+ * 정리 스케줄러용 멈춘 PROCESSING 녹음 프로젝션
+ */
+public record StuckRecordingRow(
+        Long recordingId,
+        Long callId
+) {
+}
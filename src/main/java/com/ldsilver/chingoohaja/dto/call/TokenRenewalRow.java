@@ -0,0 +1,13 @@
+package com.ldsilver.chingoohaja.dto.call;
+
+/**
+ * 토큰 갱신 스케줄러용 활성 세션 프로젝션
+ */
+public record TokenRenewalRow(
+        Long sessionId,
+        Long callId,
+        Long userId,
+        Long agoraUid,
+        String channelName
+) {
+}
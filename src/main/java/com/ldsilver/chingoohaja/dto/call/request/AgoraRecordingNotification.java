@@ -0,0 +1,50 @@
+package com.ldsilver.chingoohaja.dto.call.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Agora 클라우드 녹음 콜백(NCS) 본문
+ * - eventType별 details 구조가 달라 Map으로 받음
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record AgoraRecordingNotification(
+        @JsonProperty("noticeId") String noticeId,
+        @JsonProperty("productId") Integer productId,
+        @JsonProperty("eventType") Integer eventType,
+        @JsonProperty("notifyMs") Long notifyMs,
+        @JsonProperty("payload") Payload payload
+) {
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Payload(
+            @JsonProperty("cname") String cname,
+            @JsonProperty("uid") String uid,
+            @JsonProperty("sid") String sid,
+            @JsonProperty("sequence") Long sequence,
+            @JsonProperty("sendts") Long sendts,
+            @JsonProperty("serviceType") Integer serviceType,
+            @JsonProperty("details") Map<String, Object> details
+    ) {
+    }
+
+    public String sid() {
+        return payload != null ? payload.sid() : null;
+    }
+
+    public Object detail(String name) {
+        if (payload == null || payload.details() == null) {
+            return null;
+        }
+        return payload.details().get(name);
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<Map<String, Object>> fileList() {
+        Object fileList = detail("fileList");
+        return fileList instanceof List<?> ? (List<Map<String, Object>>) fileList : List.of();
+    }
+}
@@ -1,10 +1,13 @@
 package com.ldsilver.chingoohaja.dto.call.response;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.ldsilver.chingoohaja.common.exception.CustomException;
+import com.ldsilver.chingoohaja.common.exception.ErrorCode;
 import com.ldsilver.chingoohaja.domain.call.Call;
 import com.ldsilver.chingoohaja.domain.call.enums.CallStatus;
 import com.ldsilver.chingoohaja.domain.call.enums.CallType;
 import com.ldsilver.chingoohaja.domain.user.User;
+import com.ldsilver.chingoohaja.dto.call.CallSnapshot;
 
 import java.time.LocalDateTime;
 
@@ -56,6 +59,33 @@ public record CallStatusResponse(
         );
     }
 
+    public static CallStatusResponse from(CallSnapshot snapshot, Long currentUserId) {
+        requireNonNull(snapshot, "snapshot must not be null");
+        final boolean isUser1 = snapshot.user1Id().equals(currentUserId);
+        final boolean isUser2 = snapshot.user2Id().equals(currentUserId);
+        if (!isUser1 && !isUser2) {
+            throw new CustomException(ErrorCode.CALL_NOT_PARTICIPANT);
+        }
+
+        final String channelName = snapshot.isActive() ? snapshot.channelName() : null;
+
+        return new CallStatusResponse(
+                snapshot.callId(),
+                snapshot.callStatus(),
+                snapshot.callType(),
+                snapshot.categoryName(),
+                isUser1 ? snapshot.user2Nickname() : snapshot.user1Nickname(),
+                isUser1 ? snapshot.user2Id() : snapshot.user1Id(),
+                channelName,
+                snapshot.startAt(),
+                snapshot.endAt(),
+                snapshot.durationSeconds(),
+                snapshot.createdAt(),
+                null,
+                null
+        );
+    }
+
     public CallStatusResponse withEvaluationInfo(boolean canEvaluate, boolean hasEvaluated) {
         return new CallStatusResponse(
                 callId, callStatus, callType, categoryName, partnerNickname, partnerId,
@@ -2,6 +2,7 @@ package com.ldsilver.chingoohaja.dto.call.response;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.ldsilver.chingoohaja.domain.call.ConversationPrompt;
+import com.ldsilver.chingoohaja.dto.call.PromptCatalogEntry;
 
 public record PromptResponse(
         @JsonProperty("prompt_id") Long promptId,
@@ -19,4 +20,14 @@ public record PromptResponse(
                 prompt.getDifficulty()
         );
     }
-}
\ No newline at end of file
+
+    public static PromptResponse from(PromptCatalogEntry entry) {
+        return new PromptResponse(
+                entry.promptId(),
+                entry.question(),
+                entry.categoryId(),
+                entry.categoryName(),
+                entry.difficulty()
+        );
+    }
+}
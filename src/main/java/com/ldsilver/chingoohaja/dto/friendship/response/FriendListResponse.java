@@ -1,6 +1,7 @@
 package com.ldsilver.chingoohaja.dto.friendship.response;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.ldsilver.chingoohaja.common.util.ProfileImageUrls;
 import com.ldsilver.chingoohaja.domain.call.Call;
 import com.ldsilver.chingoohaja.domain.user.User;
 
@@ -14,10 +15,12 @@ public record FriendListResponse (
     public record FriendItem(
             @JsonProperty("friend_id") Long friendId,
             @JsonProperty("nickname") String nickname,
+            @JsonProperty("profile_thumbnail_url") String profileThumbnailUrl,
             @JsonProperty("last_call_at") LocalDateTime lastCallAt,
-            @JsonProperty("last_call_category_name") String lastCallCategoryName
+            @JsonProperty("last_call_category_name") String lastCallCategoryName,
+            @JsonProperty("is_online") boolean isOnline
     ) {
-        public static FriendItem of(User friend, Call lastCall) {
+        public static FriendItem of(User friend, Call lastCall, boolean isOnline) {
             LocalDateTime lastCallAt = null;
             String categoryName = null;
 
@@ -33,8 +36,10 @@ public record FriendListResponse (
             return new FriendItem(
                     friend.getId(),
                     friend.getNickname(),
+                    ProfileImageUrls.thumbnail(friend.getProfileImageUrl()),
                     lastCallAt,
-                    categoryName
+                    categoryName,
+                    isOnline
             );
         }
     }
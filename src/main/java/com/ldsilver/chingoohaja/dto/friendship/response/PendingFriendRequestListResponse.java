@@ -1,6 +1,7 @@
 package com.ldsilver.chingoohaja.dto.friendship.response;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.ldsilver.chingoohaja.common.util.ProfileImageUrls;
 import com.ldsilver.chingoohaja.domain.friendship.Friendship;
 
 import java.time.LocalDateTime;
@@ -24,7 +25,7 @@ public record PendingFriendRequestListResponse(
                     friendship.getId(),
                     requester.getId(),
                     requester.getNickname(),
-                    requester.getProfileImageUrl(),
+                    ProfileImageUrls.thumbnail(requester.getProfileImageUrl()),
                     friendship.getCreatedAt()
             );
         }
@@ -1,6 +1,7 @@
 package com.ldsilver.chingoohaja.dto.friendship.response;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.ldsilver.chingoohaja.common.util.ProfileImageUrls;
 import com.ldsilver.chingoohaja.domain.friendship.Friendship;
 
 import java.time.LocalDateTime;
@@ -24,7 +25,7 @@ public record SentFriendRequestListResponse(
                     friendship.getId(),
                     addressee.getId(),
                     addressee.getNickname(),
-                    addressee.getProfileImageUrl(),
+                    ProfileImageUrls.thumbnail(addressee.getProfileImageUrl()),
                     friendship.getCreatedAt()
             );
         }
@@ -13,7 +13,8 @@ public record MatchingNotificationResponse(
         @JsonProperty("partner_nickname") String partnerNickname,
         @JsonProperty("queue_position") Integer queuePosition,
         @JsonProperty("estimated_wait_time") Integer estimatedWaitTime,
-        @JsonProperty("timestamp") LocalDateTime timestamp
+        @JsonProperty("timestamp") LocalDateTime timestamp,
+        @JsonProperty("reason") String reason
 ) {
     public static MatchingNotificationResponse success(Long callId, Long partnerId, String partnerNickname) {
         return new MatchingNotificationResponse(
@@ -24,7 +25,8 @@ public record MatchingNotificationResponse(
                 partnerNickname,
                 null,
                 null,
-                LocalDateTime.now()
+                LocalDateTime.now(),
+                null
         );
     }
 
@@ -37,7 +39,8 @@ public record MatchingNotificationResponse(
                 null,
                 null,
                 null,
-                LocalDateTime.now()
+                LocalDateTime.now(),
+                reason
         );
     }
 
@@ -50,7 +53,8 @@ public record MatchingNotificationResponse(
                 null,
                 position,
                 estimatedWaitTime,
-                LocalDateTime.now()
+                LocalDateTime.now(),
+                null
         );
     }
 
@@ -63,7 +67,8 @@ public record MatchingNotificationResponse(
                 null,
                 null,
                 null,
-                LocalDateTime.now()
+                LocalDateTime.now(),
+                null
         );
     }
 }
@@ -1,11 +1,14 @@
 package com.ldsilver.chingoohaja.dto.user.response;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.ldsilver.chingoohaja.common.util.ProfileImageUrls;
 
 import java.time.LocalDateTime;
 
 public record ProfileImageUploadResponse(
         @JsonProperty("profile_image_url") String profileImageUrl,
+        @JsonProperty("profile_thumbnail_url") String profileThumbnailUrl,
+        @JsonProperty("profile_medium_url") String profileMediumUrl,
         @JsonProperty("original_filename") String originalFilename,
         @JsonProperty("file_size") Long fileSize,
         @JsonProperty("uploaded_at") LocalDateTime uploadedAt
@@ -16,6 +19,8 @@ public record ProfileImageUploadResponse(
             Long fileSize) {
         return new ProfileImageUploadResponse(
                 profileImageUrl,
+                ProfileImageUrls.thumbnail(profileImageUrl),
+                ProfileImageUrls.medium(profileImageUrl),
                 originalFilename,
                 fileSize,
                 LocalDateTime.now()
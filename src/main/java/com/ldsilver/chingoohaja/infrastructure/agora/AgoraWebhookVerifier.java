@@ -0,0 +1,80 @@
+package com.ldsilver.chingoohaja.infrastructure.agora;
+
+import com.ldsilver.chingoohaja.common.exception.CustomException;
+import com.ldsilver.chingoohaja.common.exception.ErrorCode;
+import com.ldsilver.chingoohaja.config.AgoraProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+/**
+ * Agora 콜백 서명 검증
+ * - Agora-Signature-V2: 원문 본문의 HMAC-SHA256 (hex)
+ * - Agora-Signature: 원문 본문의 HMAC-SHA1 (hex, V2 헤더가 없을 때만 사용)
+ * - 파싱 전 원문 바이트 그대로 검증 (문자열 디코딩/재인코딩으로 바이트가 달라지지 않도록 컨트롤러에서 byte[]로 받음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AgoraWebhookVerifier {
+
+    public static final String SIGNATURE_V2_HEADER = "Agora-Signature-V2";
+    public static final String SIGNATURE_HEADER = "Agora-Signature";
+
+    private static final String HMAC_SHA256 = "HmacSHA256";
+    private static final String HMAC_SHA1 = "HmacSHA1";
+
+    private final AgoraProperties agoraProperties;
+
+    public void verify(byte[] rawBody, String signatureV2, String signature) {
+        if (rawBody == null) {
+            throw new CustomException(ErrorCode.AGORA_WEBHOOK_SIGNATURE_INVALID);
+        }
+
+        boolean valid;
+        if (signatureV2 != null && !signatureV2.isBlank()) {
+            valid = matches(sign(rawBody, HMAC_SHA256), signatureV2);
+        } else if (signature != null && !signature.isBlank()) {
+            valid = matches(sign(rawBody, HMAC_SHA1), signature);
+        } else {
+            valid = false;
+        }
+
+        if (!valid) {
+            log.warn("🚨 Agora 콜백 서명 불일치");
+            throw new CustomException(ErrorCode.AGORA_WEBHOOK_SIGNATURE_INVALID);
+        }
+    }
+
+    /**
+     * Agora-Signature-V2 값 생성 (로컬 콜백 재현/테스트용)
+     */
+    public String signV2(byte[] rawBody) {
+        return sign(rawBody, HMAC_SHA256);
+    }
+
+    private String sign(byte[] rawBody, String algorithm) {
+        try {
+            Mac mac = Mac.getInstance(algorithm);
+            mac.init(new SecretKeySpec(
+                    agoraProperties.resolveNotificationSecret().getBytes(StandardCharsets.UTF_8), algorithm));
+            return HexFormat.of().formatHex(mac.doFinal(rawBody));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Agora 콜백 서명 생성 실패", e);
+        }
+    }
+
+    // 상수 시간 비교 (타이밍 공격 방지)
+    private boolean matches(String expected, String actual) {
+        return MessageDigest.isEqual(
+                expected.getBytes(StandardCharsets.US_ASCII),
+                actual.trim().toLowerCase().getBytes(StandardCharsets.US_ASCII));
+    }
+}
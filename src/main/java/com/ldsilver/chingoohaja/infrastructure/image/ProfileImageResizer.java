@@ -0,0 +1,143 @@
+package com.ldsilver.chingoohaja.infrastructure.image;
+
+import com.ldsilver.chingoohaja.common.util.ProfileImageUrls;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 프로필 이미지 변형본 생성
+ * - 가운데 기준 정사각형으로 자른 뒤 고정 크기 JPEG로 압축 (목록용 썸네일, 상세용 중간 크기)
+ * - 디코딩 전에 헤더의 해상도만 읽어 지나치게 큰 이미지는 거부 (압축 폭탄 방지)
+ * - ImageIO가 읽지 못하는 형식(webp 등)은 빈 목록을 반환하고 원본만 저장
+ */
+@Slf4j
+@Component
+public class ProfileImageResizer {
+
+    private static final int THUMBNAIL_SIZE = 160;
+    private static final int MEDIUM_SIZE = 480;
+    private static final float JPEG_QUALITY = 0.82f;
+    private static final long MAX_PIXELS = 40_000_000L;
+
+    public List<ImageVariant> createVariants(byte[] imageBytes) {
+        try {
+            BufferedImage source = decode(imageBytes);
+            if (source == null) {
+                return List.of();
+            }
+
+            BufferedImage square = cropSquare(source);
+            return List.of(
+                    new ImageVariant(ProfileImageUrls.THUMBNAIL, encodeJpeg(resize(square, THUMBNAIL_SIZE))),
+                    new ImageVariant(ProfileImageUrls.MEDIUM, encodeJpeg(resize(square, MEDIUM_SIZE)))
+            );
+        } catch (Exception e) {
+            log.warn("프로필 이미지 변형본 생성 실패 (원본만 저장)", e);
+            return List.of();
+        }
+    }
+
+    private BufferedImage decode(byte[] imageBytes) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(imageBytes))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                log.debug("지원하지 않는 이미지 형식 - 변형본 생략");
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > MAX_PIXELS) {
+                    log.warn("이미지 해상도 초과로 변형본 생략 - pixels: {}", pixels);
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage cropSquare(BufferedImage source) {
+        int side = Math.min(source.getWidth(), source.getHeight());
+        int x = (source.getWidth() - side) / 2;
+        int y = (source.getHeight() - side) / 2;
+        return source.getSubimage(x, y, side, side);
+    }
+
+    // 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 줄인 뒤 마지막에 목표 크기로 맞춤 (확대는 하지 않음)
+    private BufferedImage resize(BufferedImage square, int targetSize) {
+        int target = Math.min(targetSize, square.getWidth());
+        BufferedImage current = square;
+        int size = square.getWidth();
+
+        while (size / 2 >= target) {
+            size /= 2;
+            current = draw(current, size);
+        }
+
+        // 원본 그대로이면 RGB 변환을 위해 한 번은 다시 그림
+        if (size != target || current == square) {
+            current = draw(current, target);
+        }
+        return current;
+    }
+
+    // JPEG는 알파 채널이 없으므로 흰 배경 위에 그림
+    private BufferedImage draw(BufferedImage source, int size) {
+        BufferedImage scaled = new BufferedImage(size, size, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, size, size);
+            graphics.drawImage(source, 0, 0, size, size, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (MemoryCacheImageOutputStream output = new MemoryCacheImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    public record ImageVariant(String name, byte[] bytes) {
+        public String contentType() {
+            return "image/jpeg";
+        }
+    }
+}
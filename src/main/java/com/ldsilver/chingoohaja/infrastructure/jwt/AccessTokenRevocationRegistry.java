@@ -0,0 +1,159 @@
+package com.ldsilver.chingoohaja.infrastructure.jwt;
+
+import com.ldsilver.chingoohaja.config.JwtProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 노드 로컬 Access Token 폐기 목록
+ * - 토큰 단위 폐기(로그아웃): 토큰 해시 -> 토큰 만료 시각
+ * - 사용자 단위 폐기(전체 로그아웃, 정지): userId -> 이 시각(초 단위)까지 발급된 토큰은 모두 폐기
+ * - 폐기 시 Redis ZSET에 기록하고 pub/sub으로 모든 노드에 전파, 요청 경로에서는 로컬 맵만 확인
+ * - pub/sub은 유실될 수 있으므로 주기적으로 Redis ZSET 전체를 다시 읽어 병합 (기동 직후 첫 실행 포함)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccessTokenRevocationRegistry implements MessageListener {
+
+    static final String CHANNEL = "auth:revocation";
+    private static final String REVOKED_TOKENS_KEY = "auth:revoked:tokens";
+    private static final String REVOKED_USERS_KEY = "auth:revoked:users";
+    private static final String TOKEN_PREFIX = "T:";
+    private static final String USER_PREFIX = "U:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final JwtProperties jwtProperties;
+
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    private final Map<Long, Long> revokedUsers = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 토큰 하나를 만료 시각까지 폐기 (로그아웃)
+     */
+    public void revokeToken(String token, long expiresAtMillis) {
+        String tokenHash = TokenHash.of(token);
+        revokedTokens.merge(tokenHash, expiresAtMillis, Math::max);
+
+        try {
+            redisTemplate.opsForZSet().add(REVOKED_TOKENS_KEY, tokenHash, expiresAtMillis);
+            redisTemplate.convertAndSend(CHANNEL, TOKEN_PREFIX + tokenHash + ":" + expiresAtMillis);
+            log.debug("Access Token 폐기 전파 완료");
+        } catch (Exception e) {
+            log.error("Access Token 폐기 전파 실패 (현재 노드에만 적용)", e);
+        }
+    }
+
+    /**
+     * 사용자가 지금까지 발급받은 Access Token을 모두 폐기 (전체 로그아웃, 정지)
+     */
+    public void revokeUser(Long userId) {
+        // 기준 시각은 그대로 기록하고 비교할 때 초 단위로 맞춤 (isRevoked 참고)
+        long revokedBeforeMillis = System.currentTimeMillis();
+        revokedUsers.merge(userId, revokedBeforeMillis, Math::max);
+
+        try {
+            redisTemplate.opsForZSet().add(REVOKED_USERS_KEY, String.valueOf(userId), revokedBeforeMillis);
+            redisTemplate.convertAndSend(CHANNEL, USER_PREFIX + userId + ":" + revokedBeforeMillis);
+            log.debug("사용자 Access Token 전체 폐기 전파 완료 - userId: {}", userId);
+        } catch (Exception e) {
+            log.error("사용자 Access Token 전체 폐기 전파 실패 (현재 노드에만 적용) - userId: {}", userId, e);
+        }
+    }
+
+    public boolean isRevoked(String token, JwtClaims claims) {
+        if (!revokedUsers.isEmpty() && claims.userId() != null && claims.issuedAt() != null) {
+            Long revokedBefore = revokedUsers.get(claims.userId());
+            // iat는 초 단위로 잘려 있으므로 폐기한 초에 발급된 토큰까지 폐기 (같은 초에 다시 로그인한 토큰도 포함)
+            if (revokedBefore != null && claims.issuedAt().getTime() / 1000 <= revokedBefore / 1000) {
+                return true;
+            }
+        }
+        return isTokenRevoked(token);
+    }
+
+    public boolean isTokenRevoked(String token) {
+        if (revokedTokens.isEmpty()) {
+            return false;
+        }
+        return revokedTokens.containsKey(TokenHash.of(token));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            int separator = body.lastIndexOf(':');
+            String subject = body.substring(2, separator);
+            long at = Long.parseLong(body.substring(separator + 1));
+
+            if (body.startsWith(TOKEN_PREFIX)) {
+                revokedTokens.merge(subject, at, Math::max);
+            } else if (body.startsWith(USER_PREFIX)) {
+                revokedUsers.merge(Long.valueOf(subject), at, Math::max);
+            } else {
+                log.warn("알 수 없는 폐기 메시지: {}", body);
+            }
+        } catch (RuntimeException e) {
+            log.warn("폐기 메시지 처리 실패: {}", body, e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "#{@jwtProperties.revocation.resyncIntervalMillis}")
+    public void resync() {
+        long now = System.currentTimeMillis();
+        long userRevocationHorizon = now - jwtProperties.getAccessTokenExpiration();
+
+        try {
+            redisTemplate.opsForZSet().removeRangeByScore(REVOKED_TOKENS_KEY, Double.NEGATIVE_INFINITY, now);
+            redisTemplate.opsForZSet().removeRangeByScore(REVOKED_USERS_KEY, Double.NEGATIVE_INFINITY, userRevocationHorizon);
+
+            Set<ZSetOperations.TypedTuple<String>> tokens =
+                    redisTemplate.opsForZSet().rangeByScoreWithScores(REVOKED_TOKENS_KEY, now, Double.POSITIVE_INFINITY);
+            if (tokens != null) {
+                tokens.forEach(tuple -> revokedTokens.merge(tuple.getValue(), tuple.getScore().longValue(), Math::max));
+            }
+
+            Set<ZSetOperations.TypedTuple<String>> users =
+                    redisTemplate.opsForZSet().rangeByScoreWithScores(REVOKED_USERS_KEY, userRevocationHorizon, Double.POSITIVE_INFINITY);
+            if (users != null) {
+                users.forEach(tuple -> revokedUsers.merge(
+                        Long.valueOf(tuple.getValue()), tuple.getScore().longValue(), Math::max));
+            }
+        } catch (Exception e) {
+            log.warn("Access Token 폐기 목록 재동기화 실패 - 로컬 목록 유지", e);
+        }
+
+        // 만료된 토큰, 기준 시각 이전 발급 토큰이 모두 만료된 사용자 기록은 로컬에서도 제거
+        revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+        revokedUsers.values().removeIf(revokedBefore -> revokedBefore <= userRevocationHorizon);
+    }
+
+    public int revokedTokenCount() {
+        return revokedTokens.size();
+    }
+
+    public int revokedUserCount() {
+        return revokedUsers.size();
+    }
+}
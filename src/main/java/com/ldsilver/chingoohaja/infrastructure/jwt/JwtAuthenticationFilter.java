@@ -4,9 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ldsilver.chingoohaja.common.exception.CustomException;
 import com.ldsilver.chingoohaja.common.exception.ErrorCode;
 import com.ldsilver.chingoohaja.domain.user.CustomUserDetails;
-import com.ldsilver.chingoohaja.domain.user.User;
 import com.ldsilver.chingoohaja.dto.common.ErrorResponse;
-import com.ldsilver.chingoohaja.repository.UserRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -28,8 +26,9 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final AccessTokenRevocationRegistry accessTokenRevocationRegistry;
+    private final JwtUserDetailsFactory jwtUserDetailsFactory;
     private final ObjectMapper objectMapper;
 
     @Override
@@ -46,25 +45,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             if (token != null) {
                 try {
-                    if (!jwtTokenProvider.isTokenValid(token)) {
-                        log.debug("유효하지 않은 JWT 토큰");
-                        SecurityContextHolder.clearContext();
-                        filterChain.doFilter(request, response);
-                        return;
-                    }
-                    if (!jwtTokenProvider.isAccessToken(token)) {
+                    JwtClaims claims = verifiedTokenCache.verify(token);
+                    if (!claims.isAccessToken()) {
                         log.debug("Access Token이 아닙니다. {}", token);
                         SecurityContextHolder.clearContext();
                         filterChain.doFilter(request, response);
                         return;
                     }
+                    if (accessTokenRevocationRegistry.isRevoked(token, claims)) {
+                        throw new CustomException(ErrorCode.JWT_REVOKED);
+                    }
 
-                    Long userId = jwtTokenProvider.getUserIdFromToken(token);
-
-                    User user = userRepository.findById(userId)
-                            .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
-                    CustomUserDetails userDetails = new CustomUserDetails(user);
+                    CustomUserDetails userDetails = jwtUserDetailsFactory.create(claims);
                     UsernamePasswordAuthenticationToken authenticationToken =
                             new UsernamePasswordAuthenticationToken(
                                     userDetails,
@@ -75,7 +67,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     authenticationToken.setDetails(
                             new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-                    log.debug("JWT 인증 성공 - 사용자: {}, 권한: {}", user.getEmail(), userDetails.getAuthorities());
+                    log.debug("JWT 인증 성공 - userId: {}, 권한: {}", userDetails.getUserId(), userDetails.getAuthorities());
                 } catch (io.jsonwebtoken.ExpiredJwtException e) {
                     log.warn("JWT 토큰 만료 - URI: {}, {}", requestURI, e.getMessage());
                     SecurityContextHolder.clearContext();
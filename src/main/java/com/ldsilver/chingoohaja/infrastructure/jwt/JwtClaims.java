@@ -0,0 +1,40 @@
+package com.ldsilver.chingoohaja.infrastructure.jwt;
+
+import com.ldsilver.chingoohaja.domain.user.enums.UserType;
+
+import java.util.Date;
+
+/**
+ * 한 번의 서명 검증으로 읽어낸 토큰 클레임
+ * - 필터가 같은 토큰을 여러 번 파싱하지 않도록 필요한 값을 한꺼번에 담아 전달
+ */
+public record JwtClaims(
+        Long userId,
+        String email,
+        String userType,
+        String tokenType,
+        Date issuedAt,
+        Date expiration
+) {
+    public boolean isAccessToken() {
+        return "ACCESS".equals(tokenType);
+    }
+
+    public boolean isRefreshToken() {
+        return "REFRESH".equals(tokenType);
+    }
+
+    /**
+     * userType 클레임을 UserType으로 변환, 없거나 알 수 없는 값이면 null
+     */
+    public UserType parsedUserType() {
+        if (userType == null) {
+            return null;
+        }
+        try {
+            return UserType.valueOf(userType);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
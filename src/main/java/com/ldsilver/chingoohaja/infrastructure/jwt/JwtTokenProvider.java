@@ -15,6 +15,7 @@ import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
+import java.util.UUID;
 
 @Slf4j
 @Component
@@ -51,7 +52,9 @@ public class JwtTokenProvider {
         Date now = new Date();
         Date expiration = new Date(now.getTime() + jwtProperties.getRefreshTokenExpiration());
 
+        // 같은 초에 회전해도 이전 토큰과 겹치지 않도록 jti 부여
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(jwtProperties.getRefreshTokenSubject())
                 .issuer(jwtProperties.getIssuer())
                 .issuedAt(now)
@@ -62,6 +65,22 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    /**
+     * 서명 검증과 클레임 추출을 한 번에 수행
+     * - 만료/서명 오류는 getClaimsFromToken과 같은 CustomException으로 변환
+     */
+    public JwtClaims parseClaims(String token) {
+        Claims claims = getClaimsFromToken(token);
+        return new JwtClaims(
+                claims.get("userId", Long.class),
+                claims.get("email", String.class),
+                claims.get("userType", String.class),
+                claims.get("tokenType", String.class),
+                claims.getIssuedAt(),
+                claims.getExpiration()
+        );
+    }
+
     public Long getUserIdFromToken(String token) {
         Claims claims = getClaimsFromToken(token);
         return claims.get("userId", Long.class);
@@ -0,0 +1,42 @@
+package com.ldsilver.chingoohaja.infrastructure.jwt;
+
+import com.ldsilver.chingoohaja.common.exception.CustomException;
+import com.ldsilver.chingoohaja.common.exception.ErrorCode;
+import com.ldsilver.chingoohaja.config.JwtProperties;
+import com.ldsilver.chingoohaja.domain.user.CustomUserDetails;
+import com.ldsilver.chingoohaja.domain.user.User;
+import com.ldsilver.chingoohaja.domain.user.enums.UserType;
+import com.ldsilver.chingoohaja.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검증된 Access Token 클레임으로 principal 생성 (HTTP 필터, WebSocket CONNECT 공용)
+ * - stateless 모드에서는 DB 조회 없이 만들고, User는 필요한 곳에서 처음 접근할 때 조회
+ * - 비활성화되었거나 userType 클레임이 없는 예전 토큰이면 바로 조회
+ */
+@Component
+@RequiredArgsConstructor
+public class JwtUserDetailsFactory {
+
+    private final UserRepository userRepository;
+    private final JwtProperties jwtProperties;
+
+    public CustomUserDetails create(JwtClaims claims) {
+        Long userId = claims.userId();
+        if (userId == null) {
+            throw new CustomException(ErrorCode.JWT_CLAIMS_EMPTY);
+        }
+
+        UserType userType = claims.parsedUserType();
+        if (jwtProperties.isStatelessAuthentication() && userType != null) {
+            return CustomUserDetails.fromClaims(userId, userType, () -> loadUser(userId));
+        }
+        return new CustomUserDetails(loadUser(userId));
+    }
+
+    private User loadUser(Long userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+    }
+}
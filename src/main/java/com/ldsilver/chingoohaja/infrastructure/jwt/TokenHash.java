@@ -0,0 +1,25 @@
+package com.ldsilver.chingoohaja.infrastructure.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 토큰 원문 대신 캐시/폐기 목록의 키로 쓰는 SHA-256 해시
+ */
+public final class TokenHash {
+
+    private TokenHash() {
+        throw new AssertionError("TokenHash는 인스턴스화할 수 없습니다.");
+    }
+
+    public static String of(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
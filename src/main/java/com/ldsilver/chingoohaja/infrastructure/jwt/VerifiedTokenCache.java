@@ -0,0 +1,139 @@
+package com.ldsilver.chingoohaja.infrastructure.jwt;
+
+import com.ldsilver.chingoohaja.config.JwtProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 검증된 토큰 클레임 인메모리 캐시
+ * - 같은 Access Token이 만료 전까지 반복해서 오므로 HS512 검증 + 클레임 파싱 결과를 재사용
+ * - 키는 토큰 원문 대신 SHA-256 해시 (메모리에 토큰 원문을 남기지 않음)
+ * - 항목은 토큰의 exp까지만 유효하고, 크기 상한을 넘으면 일부 항목을 표본으로 훑어 가장 오래 사용되지 않은 항목 제거(근사 LRU)
+ *   모든 요청이 거치는 경로이므로 전역 락 없이 ConcurrentHashMap + 항목별 마지막 사용 시각으로 관리
+ * - 검증에 실패한 토큰은 캐시하지 않으므로 오류 응답은 기존과 동일
+ */
+@Component
+@RequiredArgsConstructor
+public class VerifiedTokenCache {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final JwtProperties jwtProperties;
+
+    // 제거 1회당 훑어보는 항목 수
+    private static final int EVICTION_SAMPLE_SIZE = 16;
+
+    private final Map<String, CachedClaims> claimsByTokenHash = new ConcurrentHashMap<>(1024);
+    private final AtomicBoolean evicting = new AtomicBoolean(false);
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    /**
+     * 캐시에 있으면 검증된 클레임을 바로 반환하고, 없으면 검증 후 적재
+     * 만료/서명 오류는 JwtTokenProvider.parseClaims와 같은 CustomException으로 전달
+     */
+    public JwtClaims verify(String token) {
+        if (!isEnabled()) {
+            return jwtTokenProvider.parseClaims(token);
+        }
+
+        String key = TokenHash.of(token);
+        long now = System.currentTimeMillis();
+
+        CachedClaims cached = claimsByTokenHash.get(key);
+        if (cached != null) {
+            if (!isExpired(cached.claims, now)) {
+                cached.lastAccessNanos = System.nanoTime();
+                hitCount.incrementAndGet();
+                return cached.claims;
+            }
+            claimsByTokenHash.remove(key, cached);
+        }
+        missCount.incrementAndGet();
+
+        JwtClaims claims = jwtTokenProvider.parseClaims(token);
+        if (!isExpired(claims, now)) {
+            claimsByTokenHash.put(key, new CachedClaims(claims));
+            evictOverflow(now);
+        }
+        return claims;
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    public int size() {
+        return claimsByTokenHash.size();
+    }
+
+    /**
+     * 한 스레드만 제거를 수행하고 나머지는 바로 반환 (그 사이 잠시 상한을 넘을 수 있음)
+     * 표본 안에서 만료된 항목은 바로 제거하고, 가장 오래 사용되지 않은 항목을 하나씩 제거
+     */
+    private void evictOverflow(long nowMillis) {
+        int maxEntries = jwtProperties.getVerifiedTokenCache().getMaxEntries();
+        if (claimsByTokenHash.size() <= maxEntries || !evicting.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            while (claimsByTokenHash.size() > maxEntries) {
+                Map.Entry<String, CachedClaims> oldest = null;
+                int sampled = 0;
+                for (Map.Entry<String, CachedClaims> entry : claimsByTokenHash.entrySet()) {
+                    if (isExpired(entry.getValue().claims, nowMillis)) {
+                        claimsByTokenHash.remove(entry.getKey(), entry.getValue());
+                        continue;
+                    }
+                    if (oldest == null || entry.getValue().lastAccessNanos < oldest.getValue().lastAccessNanos) {
+                        oldest = entry;
+                    }
+                    if (++sampled >= EVICTION_SAMPLE_SIZE) {
+                        break;
+                    }
+                }
+
+                if (oldest == null) {
+                    break;
+                }
+                if (claimsByTokenHash.remove(oldest.getKey(), oldest.getValue())) {
+                    evictionCount.incrementAndGet();
+                }
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private boolean isExpired(JwtClaims claims, long nowMillis) {
+        return claims.expiration() == null || nowMillis >= claims.expiration().getTime();
+    }
+
+    private boolean isEnabled() {
+        return jwtProperties.getVerifiedTokenCache().isEnabled();
+    }
+
+    private static final class CachedClaims {
+        private final JwtClaims claims;
+        private volatile long lastAccessNanos = System.nanoTime();
+
+        private CachedClaims(JwtClaims claims) {
+            this.claims = claims;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.ldsilver.chingoohaja.infrastructure.oauth;
 
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
+import com.google.api.client.googleapis.auth.oauth2.GooglePublicKeysManager;
 import com.google.api.client.http.javanet.NetHttpTransport;
 import com.google.api.client.json.gson.GsonFactory;
 import com.ldsilver.chingoohaja.common.exception.CustomException;
@@ -9,31 +10,52 @@ import com.ldsilver.chingoohaja.common.exception.ErrorCode;
 import com.ldsilver.chingoohaja.config.OAuthProperties;
 import com.ldsilver.chingoohaja.dto.oauth.OAuthUserInfo;
 import com.ldsilver.chingoohaja.dto.oauth.response.GoogleApiResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.util.Collections;
 
+/**
+ * Google ID Token 검증
+ * - 검증기와 HTTP transport는 한 번만 만들어 공유 (공개키 캐시와 커넥션 재사용)
+ * - 공개키는 응답의 Cache-Control max-age까지 캐시되며, 만료 전에 백그라운드에서 미리 갱신해
+ *   로그인 요청이 인증서 재조회를 기다리지 않도록 함
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class GoogleIdTokenValidator {
 
-    private final OAuthProperties oAuthProperties;
+    // 만료까지 이 시간보다 적게 남으면 백그라운드에서 갱신 (요청 경로의 갱신 기준 5분보다 넉넉하게)
+    private static final long REFRESH_AHEAD_MILLIS = 10 * 60 * 1000L;
+
+    private final GooglePublicKeysManager publicKeysManager;
+    private final GoogleIdTokenVerifier verifier;
+
+    @Autowired
+    public GoogleIdTokenValidator(OAuthProperties oAuthProperties) {
+        this(oAuthProperties, new GooglePublicKeysManager.Builder(
+                new NetHttpTransport(),
+                GsonFactory.getDefaultInstance()
+        )
+                .setPublicCertsEncodedUrl(oAuthProperties.getGoogle().getPublicCertsUrl())
+                .build());
+    }
+
+    // 테스트에서는 로컬 키를 돌려주는 공개키 관리자를 주입
+    GoogleIdTokenValidator(OAuthProperties oAuthProperties, GooglePublicKeysManager publicKeysManager) {
+        this.publicKeysManager = publicKeysManager;
+        this.verifier = new GoogleIdTokenVerifier.Builder(publicKeysManager)
+                .setAudience(Collections.singletonList(oAuthProperties.getGoogle().getClientId()))
+                .build();
+    }
 
     /**
      * Google ID Token을 검증하고 사용자 정보를 추출합니다.
      */
     public OAuthUserInfo verifyIdToken(String idTokenString) {
         try {
-            GoogleIdTokenVerifier verifier = new GoogleIdTokenVerifier.Builder(
-                    new NetHttpTransport(),
-                    GsonFactory.getDefaultInstance()
-            )
-                    .setAudience(Collections.singletonList(oAuthProperties.getGoogle().getClientId()))
-                    .build();
-
             GoogleIdToken idToken = verifier.verify(idTokenString);
 
             if (idToken == null) {
@@ -68,4 +90,23 @@ public class GoogleIdTokenValidator {
                     "Google 사용자 정보 조회 실패: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 공개키 만료가 가까우면 미리 갱신 (기동 직후 첫 실행에서 최초 적재)
+     * 실패해도 기존 키로 계속 검증하고, 만료되면 요청 경로에서 다시 조회
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void refreshPublicKeysIfExpiring() {
+        long remainingMillis = publicKeysManager.getExpirationTimeMilliseconds() - System.currentTimeMillis();
+        if (remainingMillis > REFRESH_AHEAD_MILLIS) {
+            return;
+        }
+
+        try {
+            publicKeysManager.refresh();
+            log.debug("Google 공개키 갱신 완료 - 키 개수: {}", publicKeysManager.getPublicKeys().size());
+        } catch (Exception e) {
+            log.warn("Google 공개키 갱신 실패 - 다음 주기에 재시도: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.ldsilver.chingoohaja.infrastructure.redis;
+
+import com.ldsilver.chingoohaja.dto.call.RecordingJob;
+
+/**
+ * 녹음 후처리 작업 큐
+ * - claim한 작업은 lease 기간 동안 in-flight 상태로 보관되고, complete/retry/deadLetter 중 하나로 정리됨
+ * - 처리 중에는 renew로 lease를 연장하고, 노드가 죽어 연장되지 못한 작업은 lease 만료 후 requeueExpired로 다시 대기열에 들어감
+ *   (lease 만료도 시도 1회로 세어 attempt를 올리고, maxAttempts에 도달한 작업은 dead letter로 보냄)
+ * - complete/retry/deadLetter/renew는 claim 때 받은 leaseToken이 아직 유효할 때만 반영 (다른 워커에게 넘어간 작업은 건드리지 않음)
+ */
+public interface RecordingJobQueue {
+
+    void enqueue(RecordingJob job);
+
+    /**
+     * 지금 처리 가능한 가장 오래된 작업 1건 (없으면 null)
+     */
+    ClaimedJob claim(long leaseMillis);
+
+    /**
+     * @return lease를 아직 보유하고 있어 연장했는지 여부
+     */
+    boolean renew(ClaimedJob claimed, long leaseMillis);
+
+    boolean complete(ClaimedJob claimed);
+
+    /**
+     * in-flight 작업을 다음 시도로 교체해 availableAtMillis 이후 다시 가져갈 수 있게 함
+     */
+    boolean retry(ClaimedJob claimed, RecordingJob nextAttempt);
+
+    boolean deadLetter(ClaimedJob claimed, RecordingJob job);
+
+    /**
+     * lease가 만료된 in-flight 작업을 attempt를 올려 다시 대기열에 넣거나, maxAttempts에 도달했으면 dead letter로 보냄
+     */
+    RequeueResult requeueExpired(int maxAttempts);
+
+    QueueDepth depth();
+
+    record ClaimedJob(RecordingJob job, String leaseToken) {
+    }
+
+    record RequeueResult(int requeued, int deadLettered) {
+    }
+
+    record QueueDepth(long ready, long inFlight, long deadLettered) {
+    }
+}
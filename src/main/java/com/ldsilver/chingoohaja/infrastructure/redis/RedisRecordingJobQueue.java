@@ -0,0 +1,222 @@
+package com.ldsilver.chingoohaja.infrastructure.redis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ldsilver.chingoohaja.config.RecordingProperties;
+import com.ldsilver.chingoohaja.dto.call.RecordingJob;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Redis 기반 녹음 후처리 큐 (재시작해도 작업이 유지됨)
+ * - recording:jobs:payload  HASH  jobId → 작업 JSON
+ * - recording:jobs:ready    ZSET  jobId, score = 처리 가능 시각 (재시도 지연 포함)
+ * - recording:jobs:inflight ZSET  jobId, score = lease 만료 시각
+ * - recording:jobs:lease    HASH  jobId → 현재 lease 보유 토큰 (claim마다 새로 발급, 만료 재적재 시 제거)
+ * - recording:jobs:dead     LIST  재시도 한도를 넘긴 작업 JSON (최근 deadLetterLimit건 유지)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisRecordingJobQueue implements RecordingJobQueue {
+
+    private static final String PAYLOAD_KEY = "recording:jobs:payload";
+    private static final String READY_KEY = "recording:jobs:ready";
+    private static final String INFLIGHT_KEY = "recording:jobs:inflight";
+    private static final String LEASE_KEY = "recording:jobs:lease";
+    private static final String DEAD_KEY = "recording:jobs:dead";
+
+    private static final int REQUEUE_BATCH = 100;
+
+    // KEYS: ready, inflight, payload, lease / ARGV: now, leaseUntil, token → {jobId, payload}
+    private static final RedisScript<List> CLAIM_SCRIPT = RedisScript.of("""
+            local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, 1)
+            if #ids == 0 then
+                return false
+            end
+            redis.call('ZREM', KEYS[1], ids[1])
+            local payload = redis.call('HGET', KEYS[3], ids[1])
+            if not payload then
+                return false
+            end
+            redis.call('ZADD', KEYS[2], ARGV[2], ids[1])
+            redis.call('HSET', KEYS[4], ids[1], ARGV[3])
+            return {ids[1], payload}
+            """, List.class);
+
+    // KEYS: inflight, lease / ARGV: jobId, token, leaseUntil
+    private static final RedisScript<Long> RENEW_SCRIPT = RedisScript.of("""
+            if redis.call('HGET', KEYS[2], ARGV[1]) ~= ARGV[2] then
+                return 0
+            end
+            redis.call('ZADD', KEYS[1], 'XX', ARGV[3], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // KEYS: inflight, payload, lease / ARGV: jobId, token
+    private static final RedisScript<Long> COMPLETE_SCRIPT = RedisScript.of("""
+            if redis.call('HGET', KEYS[3], ARGV[1]) ~= ARGV[2] then
+                return 0
+            end
+            redis.call('ZREM', KEYS[1], ARGV[1])
+            redis.call('HDEL', KEYS[3], ARGV[1])
+            redis.call('HDEL', KEYS[2], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // KEYS: inflight, ready, payload, lease / ARGV: jobId, token, availableAt, payload
+    private static final RedisScript<Long> RETRY_SCRIPT = RedisScript.of("""
+            if redis.call('HGET', KEYS[4], ARGV[1]) ~= ARGV[2] then
+                return 0
+            end
+            redis.call('ZREM', KEYS[1], ARGV[1])
+            redis.call('HDEL', KEYS[4], ARGV[1])
+            redis.call('HSET', KEYS[3], ARGV[1], ARGV[4])
+            redis.call('ZADD', KEYS[2], ARGV[3], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // KEYS: inflight, payload, dead, lease / ARGV: jobId, token, payload, limit
+    private static final RedisScript<Long> DEAD_LETTER_SCRIPT = RedisScript.of("""
+            if redis.call('HGET', KEYS[4], ARGV[1]) ~= ARGV[2] then
+                return 0
+            end
+            redis.call('ZREM', KEYS[1], ARGV[1])
+            redis.call('HDEL', KEYS[4], ARGV[1])
+            redis.call('HDEL', KEYS[2], ARGV[1])
+            redis.call('LPUSH', KEYS[3], ARGV[3])
+            redis.call('LTRIM', KEYS[3], 0, tonumber(ARGV[4]) - 1)
+            return 1
+            """, Long.class);
+
+    // KEYS: inflight, ready, payload, dead, lease / ARGV: now, batch, maxAttempts, limit → {requeued, deadLettered}
+    // lease 만료도 한 번의 시도로 세어 워커를 죽이거나 멈추게 하는 작업이 끝없이 재적재되지 않게 함
+    private static final RedisScript<List> REQUEUE_EXPIRED_SCRIPT = RedisScript.of("""
+            local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))
+            local requeued, dead = 0, 0
+            for _, id in ipairs(ids) do
+                redis.call('ZREM', KEYS[1], id)
+                redis.call('HDEL', KEYS[5], id)
+                local payload = redis.call('HGET', KEYS[3], id)
+                if payload then
+                    local job = cjson.decode(payload)
+                    job['lastError'] = 'lease expired'
+                    if tonumber(job['attempt']) >= tonumber(ARGV[3]) then
+                        redis.call('HDEL', KEYS[3], id)
+                        redis.call('LPUSH', KEYS[4], cjson.encode(job))
+                        redis.call('LTRIM', KEYS[4], 0, tonumber(ARGV[4]) - 1)
+                        dead = dead + 1
+                    else
+                        job['attempt'] = tonumber(job['attempt']) + 1
+                        job['availableAtMillis'] = tonumber(ARGV[1])
+                        redis.call('HSET', KEYS[3], id, cjson.encode(job))
+                        redis.call('ZADD', KEYS[2], ARGV[1], id)
+                        requeued = requeued + 1
+                    end
+                end
+            end
+            return {requeued, dead}
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RecordingProperties recordingProperties;
+
+    @Override
+    public void enqueue(RecordingJob job) {
+        redisTemplate.opsForHash().put(PAYLOAD_KEY, job.jobId(), toJson(job));
+        redisTemplate.opsForZSet().add(READY_KEY, job.jobId(), job.availableAtMillis());
+    }
+
+    @Override
+    public ClaimedJob claim(long leaseMillis) {
+        long now = System.currentTimeMillis();
+        String token = UUID.randomUUID().toString();
+        List<?> claimed = redisTemplate.execute(CLAIM_SCRIPT,
+                List.of(READY_KEY, INFLIGHT_KEY, PAYLOAD_KEY, LEASE_KEY),
+                String.valueOf(now), String.valueOf(now + leaseMillis), token);
+
+        if (claimed == null || claimed.size() < 2) {
+            return null;
+        }
+        return new ClaimedJob(fromJson((String) claimed.get(1)), token);
+    }
+
+    @Override
+    public boolean renew(ClaimedJob claimed, long leaseMillis) {
+        Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(INFLIGHT_KEY, LEASE_KEY),
+                claimed.job().jobId(), claimed.leaseToken(), String.valueOf(System.currentTimeMillis() + leaseMillis));
+        return isOwned(renewed);
+    }
+
+    @Override
+    public boolean complete(ClaimedJob claimed) {
+        return isOwned(redisTemplate.execute(COMPLETE_SCRIPT, List.of(INFLIGHT_KEY, PAYLOAD_KEY, LEASE_KEY),
+                claimed.job().jobId(), claimed.leaseToken()));
+    }
+
+    @Override
+    public boolean retry(ClaimedJob claimed, RecordingJob nextAttempt) {
+        return isOwned(redisTemplate.execute(RETRY_SCRIPT, List.of(INFLIGHT_KEY, READY_KEY, PAYLOAD_KEY, LEASE_KEY),
+                nextAttempt.jobId(), claimed.leaseToken(),
+                String.valueOf(nextAttempt.availableAtMillis()), toJson(nextAttempt)));
+    }
+
+    @Override
+    public boolean deadLetter(ClaimedJob claimed, RecordingJob job) {
+        int limit = Math.max(1, recordingProperties.getPostProcessing().getDeadLetterLimit());
+        return isOwned(redisTemplate.execute(DEAD_LETTER_SCRIPT, List.of(INFLIGHT_KEY, PAYLOAD_KEY, DEAD_KEY, LEASE_KEY),
+                job.jobId(), claimed.leaseToken(), toJson(job), String.valueOf(limit)));
+    }
+
+    @Override
+    public RequeueResult requeueExpired(int maxAttempts) {
+        int limit = Math.max(1, recordingProperties.getPostProcessing().getDeadLetterLimit());
+        List<?> moved = redisTemplate.execute(REQUEUE_EXPIRED_SCRIPT,
+                List.of(INFLIGHT_KEY, READY_KEY, PAYLOAD_KEY, DEAD_KEY, LEASE_KEY),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(REQUEUE_BATCH),
+                String.valueOf(maxAttempts), String.valueOf(limit));
+
+        if (moved == null || moved.size() < 2) {
+            return new RequeueResult(0, 0);
+        }
+        return new RequeueResult(((Number) moved.get(0)).intValue(), ((Number) moved.get(1)).intValue());
+    }
+
+    @Override
+    public QueueDepth depth() {
+        Long ready = redisTemplate.opsForZSet().zCard(READY_KEY);
+        Long inFlight = redisTemplate.opsForZSet().zCard(INFLIGHT_KEY);
+        Long dead = redisTemplate.opsForList().size(DEAD_KEY);
+        return new QueueDepth(
+                ready != null ? ready : 0L,
+                inFlight != null ? inFlight : 0L,
+                dead != null ? dead : 0L);
+    }
+
+    private boolean isOwned(Long result) {
+        return result != null && result > 0;
+    }
+
+    private String toJson(RecordingJob job) {
+        try {
+            return objectMapper.writeValueAsString(job);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("후처리 작업 직렬화 실패 - jobId: " + job.jobId(), e);
+        }
+    }
+
+    private RecordingJob fromJson(String payload) {
+        try {
+            return objectMapper.readValue(payload, RecordingJob.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("후처리 작업 역직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.ldsilver.chingoohaja.infrastructure.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 자주 보내는 알림의 압축 인코딩 (clientOutboundChannel)
+ * - 압축을 요청한 세션에만 적용하고, 적용한 MESSAGE 프레임에는 payload-encoding: compact 헤더를 붙임
+ * - JSON 객체를 목적지별로 정해진 필드 순서의 배열로 바꾸고 뒤쪽 null은 생략 (필드 이름, 안내 문구 제외)
+ *   안내 문구 대신 전달해야 하는 값(매칭 취소 사유 등)은 별도 필드로 둠
+ * - 필드 순서는 클라이언트와의 계약이므로 뒤에만 추가
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CompactPayloadEncoder implements ExecutorChannelInterceptor {
+
+    static final Map<String, List<String>> FIELDS_BY_DESTINATION = Map.of(
+            "/user/queue/matching", List.of(
+                    "type", "call_id", "partner_id", "partner_nickname",
+                    "queue_position", "estimated_wait_time", "timestamp", "reason"),
+            "/user/queue/call-start", List.of(
+                    "callId", "partnerId", "partnerNickname", "channelName",
+                    "rtcToken", "agoraUid", "expiresAt"),
+            "/user/queue/heartbeat", List.of(
+                    "clientTimestamp", "serverTimestamp")
+    );
+
+    private final CompactPayloadSessions compactPayloadSessions;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 브로커 스레드가 아닌 outbound 전송 스레드에서 변환
+     */
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        if (!SimpMessageType.MESSAGE.equals(SimpMessageHeaderAccessor.getMessageType(message.getHeaders()))
+                || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+
+        if (!compactPayloadSessions.isCompact(SimpMessageHeaderAccessor.getSessionId(message.getHeaders()))) {
+            return message;
+        }
+
+        // 사용자 목적지는 세션별 목적지로 바뀌어 있고 원래 목적지(/user/...)는 native 헤더에 있음
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        String destination = accessor.getFirstNativeHeader(SimpMessageHeaderAccessor.ORIGINAL_DESTINATION);
+        if (destination == null) {
+            destination = accessor.getDestination();
+        }
+        List<String> fields = destination != null ? FIELDS_BY_DESTINATION.get(destination) : null;
+        if (fields == null) {
+            return message;
+        }
+
+        try {
+            JsonNode node = objectMapper.readTree(payload);
+            if (!node.isObject()) {
+                return message;
+            }
+
+            accessor.setNativeHeader(CompactPayloadSessions.ENCODING_HEADER, CompactPayloadSessions.COMPACT);
+            return MessageBuilder.createMessage(encode(node, fields), accessor.getMessageHeaders());
+        } catch (Exception e) {
+            log.warn("압축 페이로드 변환 실패 - 원본 전송", e);
+            return message;
+        }
+    }
+
+    private byte[] encode(JsonNode node, List<String> fields) throws Exception {
+        int last = fields.size() - 1;
+        while (last >= 0 && (node.get(fields.get(last)) == null || node.get(fields.get(last)).isNull())) {
+            last--;
+        }
+
+        ArrayNode array = objectMapper.createArrayNode();
+        for (int i = 0; i <= last; i++) {
+            JsonNode value = node.get(fields.get(i));
+            array.add(value != null ? value : objectMapper.nullNode());
+        }
+        return objectMapper.writeValueAsBytes(array);
+    }
+}
@@ -0,0 +1,56 @@
+package com.ldsilver.chingoohaja.infrastructure.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 압축 페이로드를 요청한 STOMP 세션 목록
+ * - CONNECT 프레임의 payload-encoding: compact 헤더로 세션 단위 opt-in
+ * - 연결이 끊기면 제거
+ */
+@Slf4j
+@Component
+public class CompactPayloadSessions implements ChannelInterceptor {
+
+    static final String ENCODING_HEADER = "payload-encoding";
+    static final String COMPACT = "compact";
+
+    private final Set<String> compactSessionIds = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+
+        if (accessor != null && StompCommand.CONNECT.equals(accessor.getCommand())
+                && COMPACT.equalsIgnoreCase(accessor.getFirstNativeHeader(ENCODING_HEADER))
+                && accessor.getSessionId() != null) {
+            compactSessionIds.add(accessor.getSessionId());
+            log.debug("압축 페이로드 세션 등록 - sessionId: {}", accessor.getSessionId());
+        }
+        return message;
+    }
+
+    @EventListener
+    public void handleSessionDisconnect(SessionDisconnectEvent event) {
+        compactSessionIds.remove(event.getSessionId());
+    }
+
+    public boolean isCompact(String sessionId) {
+        return sessionId != null && compactSessionIds.contains(sessionId);
+    }
+
+    public int size() {
+        return compactSessionIds.size();
+    }
+}
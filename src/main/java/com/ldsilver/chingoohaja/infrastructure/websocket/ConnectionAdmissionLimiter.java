@@ -0,0 +1,66 @@
+package com.ldsilver.chingoohaja.infrastructure.websocket;
+
+import com.ldsilver.chingoohaja.config.WebSocketProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 노드별 STOMP CONNECT 허용량 제한 (토큰 버킷)
+ * - 로드밸런서 재시작 등으로 모든 클라이언트가 한꺼번에 재접속할 때 인증/이벤트 처리가 몰리지 않도록 제한
+ * - 거절한 클라이언트에는 최소 대기 시간 + 무작위 지연을 안내해 재시도 시각을 분산
+ */
+@Component
+@RequiredArgsConstructor
+public class ConnectionAdmissionLimiter {
+
+    private final WebSocketProperties webSocketProperties;
+
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    private double availablePermits = -1;
+    private long lastRefillNanos;
+
+    /**
+     * @return 허용 시 0, 거절 시 재시도까지 기다릴 시간(ms)
+     */
+    public long tryAcquire() {
+        WebSocketProperties.ConnectAdmission config = webSocketProperties.getConnectAdmission();
+        if (!config.isEnabled()) {
+            return 0;
+        }
+
+        if (acquirePermit(config)) {
+            return 0;
+        }
+
+        rejectedCount.incrementAndGet();
+        return config.getMinRetryMillis()
+                + ThreadLocalRandom.current().nextLong(config.getRetryJitterMillis() + 1);
+    }
+
+    private synchronized boolean acquirePermit(WebSocketProperties.ConnectAdmission config) {
+        long now = System.nanoTime();
+        if (availablePermits < 0) {
+            availablePermits = config.getBurst();
+        } else {
+            double elapsedSeconds = (double) (now - lastRefillNanos) / TimeUnit.SECONDS.toNanos(1);
+            availablePermits = Math.min(config.getBurst(),
+                    availablePermits + elapsedSeconds * config.getPermitsPerSecond());
+        }
+        lastRefillNanos = now;
+
+        if (availablePermits < 1) {
+            return false;
+        }
+        availablePermits -= 1;
+        return true;
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+}
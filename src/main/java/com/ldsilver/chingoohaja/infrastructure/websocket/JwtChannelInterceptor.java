@@ -3,9 +3,10 @@ package com.ldsilver.chingoohaja.infrastructure.websocket;
 import com.ldsilver.chingoohaja.common.exception.CustomException;
 import com.ldsilver.chingoohaja.common.exception.ErrorCode;
 import com.ldsilver.chingoohaja.domain.user.CustomUserDetails;
-import com.ldsilver.chingoohaja.domain.user.User;
-import com.ldsilver.chingoohaja.infrastructure.jwt.JwtTokenProvider;
-import com.ldsilver.chingoohaja.repository.UserRepository;
+import com.ldsilver.chingoohaja.infrastructure.jwt.AccessTokenRevocationRegistry;
+import com.ldsilver.chingoohaja.infrastructure.jwt.JwtClaims;
+import com.ldsilver.chingoohaja.infrastructure.jwt.JwtUserDetailsFactory;
+import com.ldsilver.chingoohaja.infrastructure.jwt.VerifiedTokenCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
@@ -24,14 +25,22 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class JwtChannelInterceptor implements ChannelInterceptor {
 
-    private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final AccessTokenRevocationRegistry accessTokenRevocationRegistry;
+    private final JwtUserDetailsFactory jwtUserDetailsFactory;
+    private final ConnectionAdmissionLimiter connectionAdmissionLimiter;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
         StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
 
         if (accessor != null && StompCommand.CONNECT.equals(accessor.getCommand())) {
+            long retryAfterMillis = connectionAdmissionLimiter.tryAcquire();
+            if (retryAfterMillis > 0) {
+                log.warn("WebSocket 접속 허용량 초과 - {}ms 후 재시도 안내", retryAfterMillis);
+                throw new WebSocketConnectThrottledException(retryAfterMillis);
+            }
+
             String token = extractTokenFromHeaders(accessor);
 
             if (token != null) {
@@ -39,20 +48,8 @@ public class JwtChannelInterceptor implements ChannelInterceptor {
                     Authentication authentication = authenticateToken(token);
                     accessor.setUser(authentication);
 
-                    log.debug("인증 설정 완료 - principal type: {}",
-                            authentication.getPrincipal().getClass().getName());
-                    log.debug("Principal is CustomUserDetails?: {}",
-                            authentication.getPrincipal() instanceof CustomUserDetails);
-
-                    if (authentication.getPrincipal() instanceof CustomUserDetails) {
-                        CustomUserDetails details = (CustomUserDetails) authentication.getPrincipal();
-                        log.debug("CustomUserDetails.user is null?: {}", details.getUser() == null);
-                        if (details.getUser() != null) {
-                            log.debug("WebSocket 연결 인증 성공 - userId: {}", details.getUser().getId());
-                        }
-                    }
-
-
+                    CustomUserDetails details = (CustomUserDetails) authentication.getPrincipal();
+                    log.debug("WebSocket 연결 인증 성공 - userId: {}", details.getUserId());
                 } catch (CustomException ce) {
                     log.warn("WebSocket 인증 실패 - code: {}, message: {}", ce.getErrorCode().name(), ce.getMessage());
                     throw ce;
@@ -80,20 +77,16 @@ public class JwtChannelInterceptor implements ChannelInterceptor {
 
     private Authentication authenticateToken(String token) {
         try {
-            if (!jwtTokenProvider.isTokenValid(token)) {
-                throw new CustomException(ErrorCode.INVALID_TOKEN);
-            }
-
-            if (!jwtTokenProvider.isAccessToken(token)) {
+            JwtClaims claims = verifiedTokenCache.verify(token);
+            if (!claims.isAccessToken()) {
                 throw new CustomException(ErrorCode.INVALID_ACCESS_TOKEN);
             }
+            if (accessTokenRevocationRegistry.isRevoked(token, claims)) {
+                throw new CustomException(ErrorCode.JWT_REVOKED);
+            }
 
-            Long userId = jwtTokenProvider.getUserIdFromToken(token);
-            log.debug("토큰에서 사용자 ID 추출 - userId: {}", userId);
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
-            CustomUserDetails userDetails = new CustomUserDetails(user);
+            // 재접속 폭주 시에도 DB를 조회하지 않도록 클레임으로 principal 생성
+            CustomUserDetails userDetails = jwtUserDetailsFactory.create(claims);
             return new UsernamePasswordAuthenticationToken(
                     userDetails,
                     null,
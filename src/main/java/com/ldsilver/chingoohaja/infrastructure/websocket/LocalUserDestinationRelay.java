@@ -0,0 +1,20 @@
+package com.ldsilver.chingoohaja.infrastructure.websocket;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+/**
+ * 브로커에 그대로 맡기는 전송
+ * - SIMPLE: 같은 노드의 세션에만 전달 (단일 노드, 로컬/테스트 환경)
+ * - BROKER: 외부 브로커 relay가 다른 노드의 세션까지 전달
+ */
+@RequiredArgsConstructor
+public class LocalUserDestinationRelay implements UserDestinationRelay {
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Override
+    public void sendToUser(String user, String destination, Object payload) {
+        messagingTemplate.convertAndSendToUser(user, destination, payload);
+    }
+}
@@ -0,0 +1,90 @@
+package com.ldsilver.chingoohaja.infrastructure.websocket;
+
+import com.ldsilver.chingoohaja.config.WebSocketProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * clientOutboundChannel 대기열 깊이와 느린 클라이언트 집계
+ * - 대기열 깊이: 채널에 들어왔지만 아직 전송 스레드가 처리하지 않은 메시지 수
+ * - 느린 전송: 한 메시지를 세션에 쓰는 데 slowSendThresholdMillis 이상 걸린 경우
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboundChannelMonitor implements ExecutorChannelInterceptor {
+
+    private static final ThreadLocal<Long> HANDLE_STARTED_AT = new ThreadLocal<>();
+
+    private final WebSocketProperties webSocketProperties;
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+    private final AtomicLong slowSendCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        maxQueueDepth.accumulateAndGet(queueDepth.incrementAndGet(), Math::max);
+        return message;
+    }
+
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        // 전송 스레드 풀 대기열이 가득 차 거절된 메시지
+        if (ex != null) {
+            queueDepth.decrementAndGet();
+            rejectedCount.incrementAndGet();
+            log.warn("WebSocket outbound 대기열 초과로 메시지 폐기 - sessionId: {}",
+                    SimpMessageHeaderAccessor.getSessionId(message.getHeaders()));
+        }
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        queueDepth.decrementAndGet();
+        HANDLE_STARTED_AT.set(System.nanoTime());
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        Long startedAt = HANDLE_STARTED_AT.get();
+        HANDLE_STARTED_AT.remove();
+        if (startedAt == null) {
+            return;
+        }
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        if (elapsedMillis >= webSocketProperties.getOutbound().getSlowSendThresholdMillis()) {
+            slowSendCount.incrementAndGet();
+            log.warn("느린 WebSocket 클라이언트 - sessionId: {}, 전송 시간: {}ms",
+                    SimpMessageHeaderAccessor.getSessionId(message.getHeaders()), elapsedMillis);
+        }
+    }
+
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    public int getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    public long getSlowSendCount() {
+        return slowSendCount.get();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+}
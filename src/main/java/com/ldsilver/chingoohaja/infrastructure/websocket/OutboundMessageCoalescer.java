@@ -0,0 +1,105 @@
+package com.ldsilver.chingoohaja.infrastructure.websocket;
+
+import com.ldsilver.chingoohaja.config.WebSocketProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 최신 값만 의미 있는 사용자 메시지 병합 전송 (대기열 위치 등)
+ * - 전송 주기 안에 같은 사용자/목적지로 여러 번 요청되면 마지막 메시지만 전송
+ * - 같은 목적지로 일반 메시지를 보내기 전 cancelPending으로 대기 중인 이전 상태를 버려 순서가 뒤바뀌지 않도록 함
+ *   flush 전송과 cancelPending은 같은 키의 compute 안에서 실행되므로 서로 겹치지 않음 (진행 중인 전송이 끝난 뒤 취소)
+ *   취소 후 coalesceTombstoneMillis 동안은 늦게 도착한 병합 메시지도 버림
+ * - 사용자 목적지는 그 사용자의 모든 세션으로 전달되므로 사용자 단위로 병합
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboundMessageCoalescer {
+
+    private final UserDestinationRelay userDestinationRelay;
+    private final WebSocketProperties webSocketProperties;
+
+    private final Map<PendingKey, Pending> pending = new ConcurrentHashMap<>();
+    private final AtomicLong coalescedCount = new AtomicLong();
+    private final AtomicLong droppedAfterCancelCount = new AtomicLong();
+
+    public void sendLatest(String user, String destination, Object payload) {
+        long now = System.currentTimeMillis();
+        pending.compute(new PendingKey(user, destination), (key, current) -> {
+            if (current != null && current.isTombstone()) {
+                if (now < current.tombstoneUntilMillis()) {
+                    droppedAfterCancelCount.incrementAndGet();
+                    return current;
+                }
+            } else if (current != null) {
+                coalescedCount.incrementAndGet();
+            }
+            return Pending.of(payload);
+        });
+    }
+
+    public void cancelPending(String user, String destination) {
+        long tombstoneUntil = System.currentTimeMillis()
+                + webSocketProperties.getOutbound().getCoalesceTombstoneMillis();
+        pending.compute(new PendingKey(user, destination), (key, current) -> Pending.tombstone(tombstoneUntil));
+    }
+
+    @Scheduled(fixedDelayString = "#{@webSocketProperties.outbound.coalesceWindowMillis}")
+    public void flush() {
+        long now = System.currentTimeMillis();
+        for (PendingKey key : pending.keySet()) {
+            pending.computeIfPresent(key, (k, current) -> {
+                if (current.isTombstone()) {
+                    return now < current.tombstoneUntilMillis() ? current : null;
+                }
+                send(k, current.payload());
+                return null;
+            });
+        }
+    }
+
+    public int pendingCount() {
+        return (int) pending.values().stream().filter(value -> !value.isTombstone()).count();
+    }
+
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    public long getDroppedAfterCancelCount() {
+        return droppedAfterCancelCount.get();
+    }
+
+    private void send(PendingKey key, Object payload) {
+        try {
+            userDestinationRelay.sendToUser(key.user(), key.destination(), payload);
+        } catch (Exception e) {
+            log.error("병합 메시지 전송 실패 - user: {}, destination: {}", key.user(), key.destination(), e);
+        }
+    }
+
+    private record PendingKey(String user, String destination) {
+    }
+
+    // payload가 null이면 취소 표시 (tombstoneUntilMillis까지 유지)
+    private record Pending(Object payload, long tombstoneUntilMillis) {
+        static Pending of(Object payload) {
+            return new Pending(payload, 0L);
+        }
+
+        static Pending tombstone(long untilMillis) {
+            return new Pending(null, untilMillis);
+        }
+
+        boolean isTombstone() {
+            return payload == null;
+        }
+    }
+}
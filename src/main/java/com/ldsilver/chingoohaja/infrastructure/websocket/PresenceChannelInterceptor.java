@@ -0,0 +1,41 @@
+package com.ldsilver.chingoohaja.infrastructure.websocket;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+
+/**
+ * 인증된 세션의 모든 수신 프레임(STOMP 전송 하트비트 포함)을 presence 하트비트로 반영
+ * - /app/heartbeat를 보내지 않는 클라이언트도 연결이 살아 있는 동안 온라인으로 유지
+ * - 연결/종료는 WebSocketEventListener가 세션 단위로 처리
+ */
+@Component
+@RequiredArgsConstructor
+public class PresenceChannelInterceptor implements ChannelInterceptor {
+
+    private final PresenceRegistry presenceRegistry;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageType messageType = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+        if (messageType == SimpMessageType.CONNECT || messageType == SimpMessageType.DISCONNECT) {
+            return message;
+        }
+
+        Principal user = SimpMessageHeaderAccessor.getUser(message.getHeaders());
+        if (user != null) {
+            try {
+                presenceRegistry.touch(Long.parseLong(user.getName()));
+            } catch (NumberFormatException ignored) {
+                // 사용자 ID 형식이 아니면 presence 대상 아님
+            }
+        }
+        return message;
+    }
+}
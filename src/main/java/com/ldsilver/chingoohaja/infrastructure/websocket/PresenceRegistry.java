@@ -0,0 +1,271 @@
+package com.ldsilver.chingoohaja.infrastructure.websocket;
+
+import com.ldsilver.chingoohaja.config.WebSocketProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 노드 로컬 사용자 접속 상태(presence) 목록
+ * - userId -> 마지막 상태 변경 시각(ms), 양수는 하트비트, 음수는 연결 종료 기록
+ * - 조회는 로컬 맵만 확인하므로 매칭/친구 목록에서 사용자별 Redis/DB 조회 없이 일괄 판단 가능
+ * - 변경된 사용자만 모아 주기적으로 pub/sub 발행, 수신 노드는 더 최근 시각의 기록만 반영
+ * - 이 노드에 연결된 세션을 사용자별로 보관, 마지막 세션이 끊길 때만 연결 종료 기록
+ *   다른 노드의 연결 종료 기록은 이 노드에 세션이 남아 있으면 무시하고 하트비트로 되받아 전파
+ * - 오래된 기록은 주기적으로 제거 (기록이 없으면 UNKNOWN)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PresenceRegistry implements MessageListener {
+
+    private static final char NODE_SEPARATOR = '|';
+    private static final char ENTRY_SEPARATOR = ',';
+    private static final char VALUE_SEPARATOR = ':';
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final WebSocketProperties webSocketProperties;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<Long, Long> lastSeen = new ConcurrentHashMap<>();
+    private final Set<Long> dirtyUserIds = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Set<String>> localSessions = new ConcurrentHashMap<>();
+
+    public enum PresenceStatus {
+        ONLINE, OFFLINE, UNKNOWN
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(webSocketProperties.getPresence().getRedisChannel()));
+    }
+
+    public void heartbeat(Long userId) {
+        record(userId, System.currentTimeMillis());
+    }
+
+    /**
+     * 수신 프레임마다 호출 - 하트비트 주기의 일부(TTL의 1/6)가 지났을 때만 기록해 전파량을 줄임
+     */
+    public void touch(Long userId) {
+        Long value = lastSeen.get(userId);
+        if (value == null || value < 0 || System.currentTimeMillis() - value > ttlMillis() / 6) {
+            heartbeat(userId);
+        }
+    }
+
+    public void markOffline(Long userId) {
+        record(userId, -System.currentTimeMillis());
+    }
+
+    public void sessionConnected(Long userId, String sessionId) {
+        // 같은 사용자의 마지막 세션 종료와 겹쳐도 세션이 빠지지 않도록 추가/제거 모두 compute 안에서 처리
+        localSessions.compute(userId, (id, sessions) -> {
+            Set<String> current = sessions != null ? sessions : ConcurrentHashMap.newKeySet();
+            current.add(sessionId);
+            return current;
+        });
+        heartbeat(userId);
+    }
+
+    /**
+     * 이 노드의 마지막 세션이 끊긴 경우에만 연결 종료 기록
+     * @return 연결 종료로 기록했는지 여부
+     */
+    public boolean sessionDisconnected(Long userId, String sessionId) {
+        AtomicBoolean last = new AtomicBoolean(false);
+        localSessions.computeIfPresent(userId, (id, sessions) -> {
+            sessions.remove(sessionId);
+            last.set(sessions.isEmpty());
+            return sessions.isEmpty() ? null : sessions;
+        });
+        if (last.get()) {
+            markOffline(userId);
+        }
+        return last.get();
+    }
+
+    public boolean hasLocalSession(Long userId) {
+        return localSessions.containsKey(userId);
+    }
+
+    public PresenceStatus getStatus(Long userId) {
+        Long value = lastSeen.get(userId);
+        if (value == null) {
+            return PresenceStatus.UNKNOWN;
+        }
+        if (value < 0 || System.currentTimeMillis() - value > ttlMillis()) {
+            return PresenceStatus.OFFLINE;
+        }
+        return PresenceStatus.ONLINE;
+    }
+
+    public boolean isOnline(Long userId) {
+        return getStatus(userId) == PresenceStatus.ONLINE;
+    }
+
+    /**
+     * 연결 종료가 기록되었거나 하트비트가 끊긴 사용자 (기록이 없는 사용자는 포함하지 않음)
+     */
+    public boolean isOffline(Long userId) {
+        return getStatus(userId) == PresenceStatus.OFFLINE;
+    }
+
+    /**
+     * 연결 종료가 기록되었고 그 이후 하트비트가 없는 사용자 (하트비트만 끊긴 경우는 포함하지 않음)
+     */
+    public boolean isDisconnected(Long userId) {
+        Long value = lastSeen.get(userId);
+        return value != null && value < 0;
+    }
+
+    public Set<Long> findOnlineUserIds(Collection<Long> userIds) {
+        long onlineSince = System.currentTimeMillis() - ttlMillis();
+        Set<Long> online = new HashSet<>();
+        for (Long userId : userIds) {
+            Long value = lastSeen.get(userId);
+            if (value != null && value >= onlineSince) {
+                online.add(userId);
+            }
+        }
+        return online;
+    }
+
+    @Scheduled(fixedDelayString = "#{@webSocketProperties.presence.syncIntervalMillis}")
+    public void sync() {
+        if (dirtyUserIds.isEmpty()) {
+            return;
+        }
+
+        int batchSize = webSocketProperties.getPresence().getSyncBatchSize();
+        StringBuilder body = new StringBuilder().append(nodeId).append(NODE_SEPARATOR);
+        int headerLength = body.length();
+        int count = 0;
+
+        Iterator<Long> iterator = dirtyUserIds.iterator();
+        while (iterator.hasNext()) {
+            Long userId = iterator.next();
+            iterator.remove();
+            Long value = lastSeen.get(userId);
+            if (value == null) {
+                continue;
+            }
+
+            if (count > 0) {
+                body.append(ENTRY_SEPARATOR);
+            }
+            body.append(userId).append(VALUE_SEPARATOR).append(value);
+
+            if (++count >= batchSize) {
+                publish(body.toString(), count);
+                body.setLength(headerLength);
+                count = 0;
+            }
+        }
+
+        if (count > 0) {
+            publish(body.toString(), count);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int nodeEnd = body.indexOf(NODE_SEPARATOR);
+        if (nodeEnd < 0) {
+            log.warn("잘못된 presence 메시지 형식 - 무시");
+            return;
+        }
+        if (nodeEnd == nodeId.length() && body.startsWith(nodeId)) {
+            return;
+        }
+
+        int start = nodeEnd + 1;
+        while (start < body.length()) {
+            int end = body.indexOf(ENTRY_SEPARATOR, start);
+            if (end < 0) {
+                end = body.length();
+            }
+            int valueStart = body.indexOf(VALUE_SEPARATOR, start);
+            try {
+                if (valueStart < 0 || valueStart > end) {
+                    throw new NumberFormatException("구분자 없음");
+                }
+                mergeRemote(Long.valueOf(body.substring(start, valueStart)), Long.parseLong(body.substring(valueStart + 1, end)));
+            } catch (NumberFormatException e) {
+                log.warn("presence 항목 파싱 실패 - {}", body.substring(start, end));
+            }
+            start = end + 1;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "#{@webSocketProperties.presence.compactionIntervalMillis}")
+    public void compact() {
+        long horizon = System.currentTimeMillis() - webSocketProperties.getPresence().getRetentionSeconds() * 1000;
+        int before = lastSeen.size();
+        lastSeen.values().removeIf(value -> Math.abs(value) < horizon);
+
+        int removed = before - lastSeen.size();
+        if (removed > 0) {
+            log.debug("presence 기록 정리 - 제거: {}, 남은 기록: {}", removed, lastSeen.size());
+        }
+    }
+
+    public int size() {
+        return lastSeen.size();
+    }
+
+    String getNodeId() {
+        return nodeId;
+    }
+
+    private void mergeRemote(Long userId, long value) {
+        if (value < 0 && hasLocalSession(userId)) {
+            // 다른 노드의 세션만 끊긴 것 → 이 노드의 세션 기준으로 온라인 유지, 다른 노드에도 다시 알림
+            heartbeat(userId);
+            return;
+        }
+        merge(userId, value);
+    }
+
+    private void record(Long userId, long value) {
+        merge(userId, value);
+        dirtyUserIds.add(userId);
+    }
+
+    // 노드 간 순서가 뒤바뀌어 도착해도 더 최근 시각의 기록만 남김
+    private void merge(Long userId, long value) {
+        lastSeen.merge(userId, value, (current, incoming) -> Math.abs(incoming) >= Math.abs(current) ? incoming : current);
+    }
+
+    private void publish(String body, int count) {
+        try {
+            redisTemplate.convertAndSend(webSocketProperties.getPresence().getRedisChannel(), body);
+            log.debug("presence 전파 - {}건", count);
+        } catch (Exception e) {
+            log.warn("presence 전파 실패 - {}건 (현재 노드에만 반영)", count, e);
+        }
+    }
+
+    private long ttlMillis() {
+        return webSocketProperties.getPresence().getTtlSeconds() * 1000;
+    }
+}
@@ -0,0 +1,107 @@
+package com.ldsilver.chingoohaja.infrastructure.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Redis pub/sub으로 다른 노드의 세션까지 사용자 메시지 전달
+ * - 현재 노드에 세션이 있으면 바로 전달하고, 다른 기기가 다른 노드에 붙어 있을 수 있으므로 항상 발행
+ * - 수신한 노드는 자신이 발행한 메시지는 건너뛰고, 해당 사용자의 세션이 있을 때만 전달
+ * - 메시지 형식: 발행 노드 ID, 사용자, 목적지, JSON 본문을 줄바꿈으로 구분
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RedisUserDestinationRelay implements UserDestinationRelay, MessageListener {
+
+    private static final String SEPARATOR = "\n";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SimpUserRegistry userRegistry;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final String channel;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicLong publishedCount = new AtomicLong();
+    private final AtomicLong relayedCount = new AtomicLong();
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+        log.info("Redis 사용자 메시지 relay 구독 - channel: {}, nodeId: {}", channel, nodeId);
+    }
+
+    @Override
+    public void sendToUser(String user, String destination, Object payload) {
+        if (userRegistry.getUser(user) != null) {
+            messagingTemplate.convertAndSendToUser(user, destination, payload);
+        }
+
+        String body;
+        try {
+            body = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("사용자 메시지 직렬화 실패 - destination: " + destination, e);
+        }
+
+        redisTemplate.convertAndSend(channel, String.join(SEPARATOR, nodeId, user, destination, body));
+        publishedCount.incrementAndGet();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 4);
+        if (parts.length < 4) {
+            log.warn("잘못된 사용자 메시지 relay 형식 - 무시");
+            return;
+        }
+
+        String origin = parts[0];
+        String user = parts[1];
+        if (nodeId.equals(origin) || userRegistry.getUser(user) == null) {
+            return;
+        }
+
+        try {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            accessor.setLeaveMutable(true);
+
+            messagingTemplate.convertAndSendToUser(user, parts[2],
+                    parts[3].getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+            relayedCount.incrementAndGet();
+        } catch (Exception e) {
+            log.error("다른 노드의 사용자 메시지 전달 실패 - user: {}, destination: {}", user, parts[2], e);
+        }
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public long getPublishedCount() {
+        return publishedCount.get();
+    }
+
+    public long getRelayedCount() {
+        return relayedCount.get();
+    }
+}
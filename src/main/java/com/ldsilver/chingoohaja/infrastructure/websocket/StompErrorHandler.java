@@ -0,0 +1,48 @@
+package com.ldsilver.chingoohaja.infrastructure.websocket;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.StompSubProtocolErrorHandler;
+
+/**
+ * STOMP ERROR 프레임 생성
+ * - CONNECT 허용량 초과로 거절한 경우 retry-after-ms 헤더로 재시도 대기 시간을 안내
+ */
+@Component
+public class StompErrorHandler extends StompSubProtocolErrorHandler {
+
+    static final String RETRY_AFTER_HEADER = "retry-after-ms";
+    private static final byte[] EMPTY_PAYLOAD = new byte[0];
+
+    @Override
+    public Message<byte[]> handleClientMessageProcessingError(Message<byte[]> clientMessage, Throwable ex) {
+        WebSocketConnectThrottledException throttled = findThrottled(ex);
+        if (throttled == null) {
+            return super.handleClientMessageProcessingError(clientMessage, ex);
+        }
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.ERROR);
+        accessor.setMessage(throttled.getMessage());
+        accessor.setNativeHeader(RETRY_AFTER_HEADER, String.valueOf(throttled.getRetryAfterMillis()));
+        accessor.setLeaveMutable(true);
+
+        StompHeaderAccessor clientHeaderAccessor = clientMessage != null
+                ? MessageHeaderAccessor.getAccessor(clientMessage, StompHeaderAccessor.class)
+                : null;
+        return handleInternal(accessor, EMPTY_PAYLOAD, throttled, clientHeaderAccessor);
+    }
+
+    private WebSocketConnectThrottledException findThrottled(Throwable ex) {
+        Throwable current = ex;
+        while (current != null) {
+            if (current instanceof WebSocketConnectThrottledException throttled) {
+                return throttled;
+            }
+            current = current.getCause();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,11 @@
+package com.ldsilver.chingoohaja.infrastructure.websocket;
+
+/**
+ * 사용자 대상(/user/...) 메시지 전송
+ * - 사용자의 WebSocket 세션이 어느 노드에 있든 전달되도록 노드 간 전달 방식을 감춤
+ * - 구현은 ws.relay.type 설정으로 선택 (WebSocketRelayConfig)
+ */
+public interface UserDestinationRelay {
+
+    void sendToUser(String user, String destination, Object payload);
+}
@@ -0,0 +1,18 @@
+package com.ldsilver.chingoohaja.infrastructure.websocket;
+
+import com.ldsilver.chingoohaja.common.exception.CustomException;
+import com.ldsilver.chingoohaja.common.exception.ErrorCode;
+import lombok.Getter;
+
+/**
+ * 노드 CONNECT 허용량 초과 - 클라이언트에 재시도 대기 시간을 함께 전달
+ */
+@Getter
+public class WebSocketConnectThrottledException extends CustomException {
+    private final long retryAfterMillis;
+
+    public WebSocketConnectThrottledException(long retryAfterMillis) {
+        super(ErrorCode.WEBSOCKET_CONNECT_THROTTLED, retryAfterMillis);
+        this.retryAfterMillis = retryAfterMillis;
+    }
+}
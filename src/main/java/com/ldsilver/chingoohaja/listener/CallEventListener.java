@@ -5,7 +5,7 @@ import com.ldsilver.chingoohaja.dto.call.request.RecordingRequest;
 import com.ldsilver.chingoohaja.event.CallStartedEvent;
 import com.ldsilver.chingoohaja.event.RecordingCompletedEvent;
 import com.ldsilver.chingoohaja.service.AgoraRecordingService;
-import com.ldsilver.chingoohaja.service.RecordingPostProcessorService;
+import com.ldsilver.chingoohaja.service.RecordingPostProcessingQueueService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
@@ -19,7 +19,7 @@ public class CallEventListener {
 
     private final AgoraRecordingService agoraRecordingService;
     private final RecordingProperties recordingProperties;
-    private final RecordingPostProcessorService recordingPostProcessorService;
+    private final RecordingPostProcessingQueueService recordingPostProcessingQueueService;
 
     @Async("recordingTaskExecutor")
     @EventListener
@@ -41,12 +41,16 @@ public class CallEventListener {
         }
     }
 
-    @Async("recordingTaskExecutor")
+    // 후처리는 큐에 적재만 하고 워커가 처리 (발행 스레드에서 FFmpeg를 실행하지 않음)
     @EventListener
     public void handleRecordingCompleted(RecordingCompletedEvent event) {
         log.info("RecordingCompletedEvent 수신 - callId: {}, duration: {}초",
                 event.getCallId(), event.getDurationSeconds());
 
-        recordingPostProcessorService.processRecordingForAI(event);
+        try {
+            recordingPostProcessingQueueService.enqueue(event);
+        } catch (Exception e) {
+            log.error("후처리 작업 적재 실패 - callId: {}", event.getCallId(), e);
+        }
     }
 }
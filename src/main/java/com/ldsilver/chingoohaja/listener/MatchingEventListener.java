@@ -42,6 +42,8 @@ public class MatchingEventListener {
     private final CallSessionRepository callSessionRepository;
     private final RecordingProperties recordingProperties;
     private final ApplicationEventPublisher eventPublisher;
+    private final ActiveCallIndexService activeCallIndexService;
+    private final CallSnapshotCacheService callSnapshotCacheService;
 
     @Async("matchingTaskExecutor")
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
@@ -65,6 +67,8 @@ public class MatchingEventListener {
                         && call.getCallStatus() != CallStatus.FAILED) {
                         call.cancelCall();
                         callRepository.save(call);
+                        activeCallIndexService.clear(call);
+                        callSnapshotCacheService.evict(call.getId());
                         log.info("통화 가능 비가용으로 Call 취소 - callId: {}", event.getCallId());
                     }
                 }
@@ -100,16 +104,12 @@ public class MatchingEventListener {
                 return;
             }
 
-            // 3. Agora 채널 생성
+            // 3. Agora 채널 생성 (채널명 저장, 스냅샷 캐시 제거까지 createChannel에서 처리)
+            // 여기서 call을 다시 저장하면 이미 올라간 @Version과 충돌하므로 저장하지 않음
             ChannelResponse channelResponse = callChannelService.createChannel(call);
-            log.debug("Agora 채널 생성 완료 - callId: {}, channelName: {}",
-                    event.getCallId(), channelResponse.channelName());
             channelName = channelResponse.channelName();
-
-            // 3-1. Call 엔티티에 채널 이름 저장
-            call.setAgoraChannelInfo(channelName);
-            callRepository.save(call);
-            log.info("Call에 채널 정보 저장 완료 - callId: {}, channelName: {}",
+            activeCallIndexService.markActive(call);
+            log.info("Agora 채널 생성 완료 - callId: {}, channelName: {}",
                     event.getCallId(), channelName);
 
             // 4. 매칭된 사용자들을 채널에 자동 참가시킴
@@ -240,6 +240,8 @@ public class MatchingEventListener {
                     // Call 엔티티의 기존 cancelCall() 메서드 사용
                     call.cancelCall(); // CANCELLED 상태로 변경 + endAt 설정
                     callRepository.save(call);
+                    activeCallIndexService.clear(call);
+                    callSnapshotCacheService.evict(call.getId());
 
                     log.info("채널 조인 실패로 인한 Call 상태 업데이트 완료 - callId: {}, status: CANCELLED",
                             event.getCallId());
@@ -1,7 +1,7 @@
 package com.ldsilver.chingoohaja.listener;
 
-import com.ldsilver.chingoohaja.domain.call.Call;
-import com.ldsilver.chingoohaja.repository.CallRepository;
+import com.ldsilver.chingoohaja.infrastructure.websocket.PresenceRegistry;
+import com.ldsilver.chingoohaja.service.ActiveCallIndexService;
 import com.ldsilver.chingoohaja.service.CallGracePeriodService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,18 +12,20 @@ import org.springframework.web.socket.messaging.SessionConnectEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 
 import java.security.Principal;
-import java.util.List;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class WebSocketEventListener {
 
-    private final CallRepository callRepository;
+    private final ActiveCallIndexService activeCallIndexService;
     private final CallGracePeriodService gracePeriodService;
+    private final PresenceRegistry presenceRegistry;
 
     /**
-     * WebSocket 연결 시 - 유예 기간 취소
+     * WebSocket 연결 시 - 온라인 기록, 유예 기간 취소
+     * 재접속 폭주 시 DB 조회가 몰리지 않도록 활성 통화 대신 Redis의 유예 기록만 확인
+     * (유예 기간은 활성 통화 중 연결이 끊긴 경우에만 시작되므로 결과는 같음)
      */
     @EventListener
     public void handleWebSocketConnectListener(SessionConnectEvent event) {
@@ -40,18 +42,18 @@ public class WebSocketEventListener {
                 return;
             }
 
-            // 활성 통화가 있으면 유예 기간 취소
-            List<Call> activeCalls = callRepository.findActiveCallsByUserId(userId);
-            if (!activeCalls.isEmpty()) {
-                Call call = activeCalls.get(0);
-                gracePeriodService.cancelGracePeriod(call.getId(), userId);
-                log.info("유예 기간 취소 (재연결) - callId: {}, userId: {}", call.getId(), userId);
-            }
+            presenceRegistry.sessionConnected(userId, headerAccessor.getSessionId());
+
+            // 유예 기간 중인 통화가 있으면 취소
+            gracePeriodService.findGracePeriodCallId(userId).ifPresent(callId -> {
+                gracePeriodService.cancelGracePeriod(callId, userId);
+                log.info("유예 기간 취소 (재연결) - callId: {}, userId: {}", callId, userId);
+            });
         }
     }
 
     /**
-     * WebSocket 연결 끊김 시 - 유예 기간 시작
+     * WebSocket 연결 끊김 시 - 이 노드에 남은 세션이 없으면 오프라인 기록, 유예 기간 시작
      */
     @EventListener
     public void handleWebSocketDisconnectListener(SessionDisconnectEvent event) {
@@ -62,18 +64,16 @@ public class WebSocketEventListener {
             Long userId = Long.parseLong(principal.getName());
             log.info("WebSocket 연결 끊김 - userId: {}, sessionId: {}", userId, event.getSessionId());
 
-            // 현재 활성 통화 확인
-            List<Call> activeCalls = callRepository.findActiveCallsByUserId(userId);
-
-            if (!activeCalls.isEmpty()) {
-                Call call = activeCalls.get(0);
+            presenceRegistry.sessionDisconnected(userId, event.getSessionId());
 
+            // 현재 활성 통화 확인
+            activeCallIndexService.findActiveCallId(userId).ifPresent(callId -> {
                 // 유예 기간 시작 (30초)
-                gracePeriodService.markUserDisconnected(call.getId(), userId);
+                gracePeriodService.markUserDisconnected(callId, userId);
 
                 log.warn("통화 중 연결 끊김 - callId: {}, userId: {}, 30초 유예 시작",
-                        call.getId(), userId);
-            }
+                        callId, userId);
+            });
         }
     }
 }
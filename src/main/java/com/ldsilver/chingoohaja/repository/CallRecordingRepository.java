@@ -2,10 +2,14 @@ package com.ldsilver.chingoohaja.repository;
 
 import com.ldsilver.chingoohaja.domain.call.CallRecording;
 import com.ldsilver.chingoohaja.domain.call.enums.RecordingStatus;
+import com.ldsilver.chingoohaja.dto.call.StuckRecordingRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -14,17 +18,35 @@ import java.util.Optional;
 @Repository
 public interface CallRecordingRepository extends JpaRepository<CallRecording, Long> {
 
-    // 녹음 상태별 조회
-    List<CallRecording> findByRecordingStatus(RecordingStatus status);
+    // 녹음 상태별 조회 (Call 함께 로딩)
+    @Query("SELECT cr FROM CallRecording cr JOIN FETCH cr.call WHERE cr.recordingStatus = :status ORDER BY cr.id ASC")
+    List<CallRecording> findByRecordingStatusWithCall(@Param("status") RecordingStatus status);
 
     Optional<CallRecording> findByCallId(Long callId);
 
     @Query("SELECT cr FROM CallRecording cr JOIN FETCH cr.call WHERE cr.call.id = :callId")
     Optional<CallRecording> findByCallIdWithCall(@Param("callId") Long callId);
 
-    @Query("SELECT cr FROM CallRecording cr WHERE cr.recordingStatus = 'PROCESSING' " +
-            "AND cr.recordingStartedAt < :threshold")
-    List<CallRecording> findStuckProcessingRecordings(@Param("threshold") LocalDateTime threshold);
+    @Query("SELECT cr FROM CallRecording cr JOIN FETCH cr.call WHERE cr.agoraSid = :sid")
+    Optional<CallRecording> findByAgoraSidWithCall(@Param("sid") String sid);
+
+    /**
+     * 오래된 PROCESSING 녹음 키셋 페이지 조회 (정리 스케줄러용, id 오름차순)
+     */
+    @Query("SELECT new com.ldsilver.chingoohaja.dto.call.StuckRecordingRow(cr.id, cr.call.id) " +
+            "FROM CallRecording cr " +
+            "WHERE cr.recordingStatus = 'PROCESSING' AND cr.recordingStartedAt < :threshold AND cr.id > :lastId " +
+            "ORDER BY cr.id ASC")
+    List<StuckRecordingRow> findStuckProcessingRecordingChunk(@Param("threshold") LocalDateTime threshold,
+                                                              @Param("lastId") Long lastId,
+                                                              Pageable pageable);
+
+    // 중지 실패한 녹음만 FAILED 처리 (그 사이 정상 종료된 녹음은 건드리지 않음)
+    @Modifying
+    @Transactional
+    @Query("UPDATE CallRecording cr SET cr.recordingStatus = 'FAILED', cr.recordingEndedAt = :endedAt " +
+            "WHERE cr.id = :recordingId AND cr.recordingStatus = 'PROCESSING'")
+    int failIfProcessing(@Param("recordingId") Long recordingId, @Param("endedAt") LocalDateTime endedAt);
 
     @Query("SELECT COUNT(cr) FROM CallRecording cr " +
             "WHERE cr.recordingStatus = 'PROCESSING'")
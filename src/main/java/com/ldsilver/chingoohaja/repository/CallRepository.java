@@ -3,12 +3,14 @@ package com.ldsilver.chingoohaja.repository;
 import com.ldsilver.chingoohaja.domain.call.Call;
 import com.ldsilver.chingoohaja.domain.call.enums.CallStatus;
 import com.ldsilver.chingoohaja.domain.user.User;
+import com.ldsilver.chingoohaja.dto.call.StaleCallRow;
 import jakarta.persistence.LockModeType;
 import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
@@ -178,8 +180,43 @@ public interface CallRepository extends JpaRepository<Call, Long> {
             "WHERE c.id = :callId")
     Optional<Call> findByIdWithLockAndFetchUsers(@Param("callId") Long callId);
 
-    @Query("SELECT c FROM Call c WHERE c.callStatus = 'IN_PROGRESS' AND c.startAt < :threshold")
-    List<Call> findStaleInProgressCalls(@Param("threshold") LocalDateTime threshold);
+    /**
+     * 통화 스냅샷 캐시 적재용 (User, Category fetch join, 락 없음)
+     */
+    @Query("SELECT c FROM Call c " +
+            "JOIN FETCH c.user1 " +
+            "JOIN FETCH c.user2 " +
+            "LEFT JOIN FETCH c.category " +
+            "WHERE c.id = :callId")
+    Optional<Call> findByIdWithUsers(@Param("callId") Long callId);
+
+    @Query("SELECT c FROM Call c " +
+            "JOIN FETCH c.user1 " +
+            "JOIN FETCH c.user2 " +
+            "LEFT JOIN FETCH c.category " +
+            "WHERE c.agoraChannelName = :channelName")
+    Optional<Call> findByAgoraChannelNameWithUsers(@Param("channelName") String channelName);
+
+    /**
+     * 오래된 IN_PROGRESS 통화 키셋 페이지 조회 (정리 스케줄러용, id 오름차순)
+     */
+    @Query("SELECT new com.ldsilver.chingoohaja.dto.call.StaleCallRow(c.id, c.agoraChannelName, c.user1.id, c.user2.id) " +
+            "FROM Call c " +
+            "WHERE c.callStatus = 'IN_PROGRESS' AND c.startAt < :threshold AND c.id > :lastId " +
+            "ORDER BY c.id ASC")
+    List<StaleCallRow> findStaleInProgressCallChunk(@Param("threshold") LocalDateTime threshold,
+                                                     @Param("lastId") Long lastId,
+                                                     Pageable pageable);
+
+    /**
+     * 오래된 통화 일괄 종료 (IN_PROGRESS인 행만, 낙관적 잠금 버전 증가)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Call c SET c.callStatus = 'COMPLETED', c.endAt = :endAt, " +
+            "c.durationSeconds = cast((:endAt - c.startAt) by second as Integer), " +
+            "c.version = c.version + 1 " +
+            "WHERE c.id IN :callIds AND c.callStatus = 'IN_PROGRESS'")
+    int completeStaleCalls(@Param("callIds") List<Long> callIds, @Param("endAt") LocalDateTime endAt);
 
     List<Call> findByCallStatus(CallStatus callStatus);
 
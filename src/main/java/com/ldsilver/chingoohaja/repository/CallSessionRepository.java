@@ -4,6 +4,9 @@ import com.ldsilver.chingoohaja.domain.call.Call;
 import com.ldsilver.chingoohaja.domain.call.CallSession;
 import com.ldsilver.chingoohaja.domain.call.enums.SessionStatus;
 import com.ldsilver.chingoohaja.domain.user.User;
+import com.ldsilver.chingoohaja.dto.call.OrphanedSessionRow;
+import com.ldsilver.chingoohaja.dto.call.TokenRenewalRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -109,8 +112,51 @@ public interface CallSessionRepository extends JpaRepository<CallSession, Long>
                                                              @Param("userId") Long userId);
 
 
-    @Query("SELECT cs FROM CallSession cs WHERE cs.sessionStatus = 'JOINED' AND cs.joinedAt < :threshold")
-    List<CallSession> findOrphanedJoinedSessions(@Param("threshold") LocalDateTime threshold);
+    /**
+     * 오래된 JOINED 세션 키셋 페이지 조회 (정리 스케줄러용, id 오름차순)
+     */
+    @Query("SELECT new com.ldsilver.chingoohaja.dto.call.OrphanedSessionRow(cs.id, c.id, cs.user.id, c.agoraChannelName) " +
+            "FROM CallSession cs JOIN cs.call c " +
+            "WHERE cs.sessionStatus = 'JOINED' AND cs.joinedAt < :threshold AND cs.id > :lastId " +
+            "ORDER BY cs.id ASC")
+    List<OrphanedSessionRow> findOrphanedJoinedSessionChunk(@Param("threshold") LocalDateTime threshold,
+                                                            @Param("lastId") Long lastId,
+                                                            Pageable pageable);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE CallSession cs SET cs.sessionStatus = com.ldsilver.chingoohaja.domain.call.enums.SessionStatus.LEFT, cs.leftAt = :leftAt " +
+            "WHERE cs.id IN :sessionIds AND cs.sessionStatus = com.ldsilver.chingoohaja.domain.call.enums.SessionStatus.JOINED")
+    int leaveSessions(@Param("sessionIds") List<Long> sessionIds, @Param("leftAt") LocalDateTime leftAt);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE CallSession cs SET cs.sessionStatus = com.ldsilver.chingoohaja.domain.call.enums.SessionStatus.LEFT, cs.leftAt = :leftAt " +
+            "WHERE cs.call.id IN :callIds AND cs.sessionStatus = com.ldsilver.chingoohaja.domain.call.enums.SessionStatus.JOINED")
+    int endAllSessionsForCalls(@Param("callIds") List<Long> callIds, @Param("leftAt") LocalDateTime leftAt);
+
+    /**
+     * 곧 만료될 토큰을 가진 진행 중 통화의 활성 세션 키셋 페이지 조회 (토큰 갱신 스케줄러용, id 오름차순)
+     */
+    @Query("SELECT new com.ldsilver.chingoohaja.dto.call.TokenRenewalRow(cs.id, c.id, cs.user.id, cs.agoraUid, c.agoraChannelName) " +
+            "FROM CallSession cs JOIN cs.call c " +
+            "WHERE cs.sessionStatus IN (com.ldsilver.chingoohaja.domain.call.enums.SessionStatus.READY, " +
+            "com.ldsilver.chingoohaja.domain.call.enums.SessionStatus.JOINED) " +
+            "AND c.callStatus = com.ldsilver.chingoohaja.domain.call.enums.CallStatus.IN_PROGRESS " +
+            "AND cs.tokenExpiresAt < :threshold AND cs.id > :lastId " +
+            "ORDER BY cs.id ASC")
+    List<TokenRenewalRow> findTokenRenewalChunk(@Param("threshold") LocalDateTime threshold,
+                                                @Param("lastId") Long lastId,
+                                                Pageable pageable);
+
+    // 그 사이 클라이언트 요청으로 이미 갱신되었거나 통화 종료로 세션이 끝난 경우는 건드리지 않음
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE CallSession cs SET cs.rtcToken = :rtcToken, cs.tokenExpiresAt = :expiresAt " +
+            "WHERE cs.id = :sessionId AND cs.tokenExpiresAt < :threshold " +
+            "AND cs.sessionStatus IN (com.ldsilver.chingoohaja.domain.call.enums.SessionStatus.READY, " +
+            "com.ldsilver.chingoohaja.domain.call.enums.SessionStatus.JOINED)")
+    int renewTokenIfExpiring(@Param("sessionId") Long sessionId,
+                             @Param("rtcToken") String rtcToken,
+                             @Param("expiresAt") LocalDateTime expiresAt,
+                             @Param("threshold") LocalDateTime threshold);
 
 
 }
\ No newline at end of file
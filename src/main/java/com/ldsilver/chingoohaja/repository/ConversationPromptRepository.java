@@ -4,7 +4,6 @@ import com.ldsilver.chingoohaja.domain.call.ConversationPrompt;
 import com.ldsilver.chingoohaja.domain.category.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -18,22 +17,16 @@ public interface ConversationPromptRepository extends JpaRepository<Conversation
 
     List<ConversationPrompt> findByDifficultyAndIsActiveTrueOrderByDisplayOrderAsc(Integer difficulty);
 
-    // 특정 카테고리의 랜덤 질문 조회
+    // 인메모리 카탈로그 적재용 (id 순으로 고정해 덱 셔플 결과가 노드 간 동일하도록 함)
     @Query("SELECT cp FROM ConversationPrompt cp " +
+            "JOIN FETCH cp.category " +
             "WHERE cp.isActive = true " +
-            "AND cp.category.id = :categoryId " +
-            "AND cp.difficulty <= :maxDifficulty " +
-            "ORDER BY FUNCTION('RAND')")
-    List<ConversationPrompt> findRandomPromptsByCategory(
-            @Param("categoryId") Long categoryId,
-            @Param("maxDifficulty") Integer maxDifficulty
-    );
-
-    // 전체 활성 질문 중 랜덤 조회
-    @Query("SELECT cp FROM ConversationPrompt cp " +
-            "WHERE cp.isActive = true " +
-            "ORDER BY FUNCTION('RAND')")
-    List<ConversationPrompt> findRandomActivePrompts();
+            "ORDER BY cp.id ASC")
+    List<ConversationPrompt> findAllActiveWithCategory();
+
+    // 카탈로그 변경 감지용 (전체 개수, 마지막 수정 시각)
+    @Query("SELECT COUNT(cp), MAX(cp.updatedAt) FROM ConversationPrompt cp")
+    List<Object[]> getCatalogFingerprint();
 
     // 카테고리별 질문 개수 조회
     @Query("SELECT cp.category.id, COUNT(cp) FROM ConversationPrompt cp " +
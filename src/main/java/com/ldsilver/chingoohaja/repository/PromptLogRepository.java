@@ -2,6 +2,7 @@ package com.ldsilver.chingoohaja.repository;
 
 import com.ldsilver.chingoohaja.domain.call.PromptLog;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -14,10 +15,6 @@ public interface PromptLogRepository extends JpaRepository<PromptLog, Long> {
 
     List<PromptLog> findByCallIdOrderByDisplayedAtDesc(Long callId);
 
-    @Query("SELECT pl.prompt.id FROM PromptLog pl " +
-            "WHERE pl.call.id = :callId")
-    List<Long> findDisplayedPromptIdsByCallId(@Param("callId") Long callId);
-
     // 효과 분석용
     @Query("SELECT pl.prompt.id, COUNT(pl), " +
             "SUM(CASE WHEN pl.wasHelpful = true THEN 1 ELSE 0 END) " +
@@ -26,11 +23,15 @@ public interface PromptLogRepository extends JpaRepository<PromptLog, Long> {
             "GROUP BY pl.prompt.id")
     List<Object[]> getPromptEffectivenessStats();
 
-    @Query("SELECT pl FROM PromptLog pl " +
-            "WHERE pl.call.id = :callId " +
-            "AND pl.isCurrentlyDisplayed = true " +
-            "ORDER BY pl.displayedAt DESC")
-    Optional<PromptLog> findCurrentPromptByCallId(@Param("callId") Long callId);
+    // Redis 커서 장애 시 fallback 용
+    long countByCallIdAndIsCurrentlyDisplayedFalse(Long callId);
+
+    Optional<PromptLog> findFirstByCallIdAndIsCurrentlyDisplayedTrueOrderByDisplayedAtDesc(Long callId);
+
+    @Modifying
+    @Query("UPDATE PromptLog pl SET pl.isCurrentlyDisplayed = false " +
+            "WHERE pl.call.id = :callId AND pl.isCurrentlyDisplayed = true")
+    int hideCurrentPromptsByCallId(@Param("callId") Long callId);
 
     @Query("SELECT pl FROM PromptLog pl " +
             "WHERE pl.call.id = :callId " +
@@ -5,11 +5,13 @@ import com.ldsilver.chingoohaja.domain.user.enums.UserType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -65,4 +67,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
             Pageable pageable
     );
 
+    // 토큰 갱신 시 마지막 접속 시각 일괄 반영 (지연 저장용)
+    @Modifying
+    @Query("UPDATE User u SET u.lastLoginAt = :loginAt WHERE u.id IN :userIds")
+    int updateLastLoginAt(@Param("userIds") Collection<Long> userIds, @Param("loginAt") LocalDateTime loginAt);
 }
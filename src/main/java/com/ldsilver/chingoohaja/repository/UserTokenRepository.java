@@ -10,6 +10,7 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,6 +31,13 @@ public interface UserTokenRepository extends JpaRepository<UserToken, Long> {
     @Query("UPDATE UserToken ut SET ut.isActive = false WHERE ut.refreshToken = :refreshToken")
     void deactivateTokenByRefreshToken(@Param("refreshToken") String refreshToken);
 
+    List<UserToken> findByRefreshTokenIn(Collection<String> refreshTokens);
+
+    // 회전된 이전 토큰 일괄 비활성화 (지연 저장용)
+    @Modifying
+    @Query("UPDATE UserToken ut SET ut.isActive = false WHERE ut.refreshToken IN :refreshTokens AND ut.isActive = true")
+    int deactivateTokensByRefreshTokenIn(@Param("refreshTokens") Collection<String> refreshTokens);
+
     // 만료된 토큰 일괄 비활성화
     @Modifying
     @Query("UPDATE UserToken ut SET ut.isActive = false WHERE ut.expiresAt < :now AND ut.isActive = true")
@@ -0,0 +1,164 @@
+package com.ldsilver.chingoohaja.service;
+
+import com.ldsilver.chingoohaja.domain.call.Call;
+import com.ldsilver.chingoohaja.repository.CallRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 → 활성 통화 인덱스 (activecall:{userId})
+ * - 통화 시작 시 설정, 종료 시 삭제
+ * - WebSocket 연결/끊김 이벤트에서 DB 조회 대신 Redis GET 1회로 활성 통화 확인
+ * - 인덱스 미스일 때만 DB 조회 후 인덱스 재적재
+ * - 트랜잭션 안에서 호출되면 커밋 후에 반영 (롤백/재시도된 전이가 인덱스를 바꾸지 않도록)
+ * - 종료된 통화는 잠시 종료 표시를 남겨, 종료 전에 읽은 DB 결과로 인덱스가 다시 적재되지 않도록 함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ActiveCallIndexService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CallRepository callRepository;
+
+    private static final String ACTIVE_CALL_PREFIX = "activecall:";
+    private static final String ENDED_CALL_PREFIX = "activecall:ended:";
+    private static final String NO_ACTIVE_CALL = "none";
+    private static final long ACTIVE_CALL_TTL_SECONDS = TimeUnit.HOURS.toSeconds(2);
+    private static final long NO_ACTIVE_CALL_TTL_SECONDS = 60;
+    private static final long ENDED_CALL_TTL_SECONDS = 300;
+
+    // 종료 표시를 남기고, 다른 통화로 덮어쓰인 인덱스는 지우지 않도록 값이 일치할 때만 삭제
+    private static final RedisScript<Long> CLEAR_IF_MATCH_SCRIPT = RedisScript.of("""
+            redis.call('SET', KEYS[2], '1', 'EX', ARGV[2])
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    // 이미 종료 표시가 있는 통화는 재적재하지 않고, 조회 중 설정된 인덱스는 덮어쓰지 않음 (NX)
+    private static final RedisScript<Long> REPOPULATE_SCRIPT = RedisScript.of("""
+            if #KEYS > 1 and redis.call('EXISTS', KEYS[2]) == 1 then
+                return 0
+            end
+            if redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2], 'NX') then
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * 통화 시작 시 두 참가자의 활성 통화 인덱스 설정
+     */
+    public void markActive(Call call) {
+        Long callId = call.getId();
+        List<Long> participantIds = participantIds(call);
+        runAfterCommit(() -> writeActive(callId, participantIds));
+    }
+
+    /**
+     * 통화 종료 시 두 참가자의 활성 통화 인덱스 삭제
+     */
+    public void clear(Call call) {
+        clear(call.getId(), participantIds(call));
+    }
+
+    /**
+     * 엔티티 없이 ID만으로 인덱스 삭제 (일괄 정리 스케줄러용)
+     */
+    public void clear(Long callId, List<Long> participantIds) {
+        runAfterCommit(() -> writeCleared(callId, participantIds));
+    }
+
+    /**
+     * 사용자의 활성 통화 ID 조회 (Redis 우선, 미스 시 DB fallback)
+     */
+    public Optional<Long> findActiveCallId(Long userId) {
+        String key = ACTIVE_CALL_PREFIX + userId;
+
+        try {
+            String cached = redisTemplate.opsForValue().get(key);
+            if (NO_ACTIVE_CALL.equals(cached)) {
+                return Optional.empty();
+            }
+            if (cached != null) {
+                return Optional.of(Long.valueOf(cached));
+            }
+        } catch (Exception e) {
+            log.warn("활성 통화 인덱스 조회 실패, DB 조회로 대체 - userId: {}", userId, e);
+        }
+
+        List<Call> activeCalls = callRepository.findActiveCallsByUserId(userId);
+        Optional<Long> activeCallId = activeCalls.isEmpty()
+                ? Optional.empty()
+                : Optional.of(activeCalls.get(0).getId());
+
+        try {
+            List<String> keys = activeCallId
+                    .map(callId -> List.of(key, ENDED_CALL_PREFIX + callId))
+                    .orElse(List.of(key));
+            String value = activeCallId.map(String::valueOf).orElse(NO_ACTIVE_CALL);
+            long ttl = activeCallId.isPresent() ? ACTIVE_CALL_TTL_SECONDS : NO_ACTIVE_CALL_TTL_SECONDS;
+            redisTemplate.execute(REPOPULATE_SCRIPT, keys, value, String.valueOf(ttl));
+        } catch (Exception e) {
+            log.debug("활성 통화 인덱스 재적재 실패 - userId: {}", userId, e);
+        }
+
+        return activeCallId;
+    }
+
+    private void writeActive(Long callId, List<Long> participantIds) {
+        try {
+            String value = String.valueOf(callId);
+            for (Long userId : participantIds) {
+                redisTemplate.opsForValue().set(
+                        ACTIVE_CALL_PREFIX + userId, value, ACTIVE_CALL_TTL_SECONDS, TimeUnit.SECONDS);
+            }
+            log.debug("활성 통화 인덱스 설정 - callId: {}", callId);
+        } catch (Exception e) {
+            // 인덱스는 TTL과 DB fallback으로 복구되므로 통화 흐름은 계속
+            log.warn("활성 통화 인덱스 설정 실패 - callId: {}", callId, e);
+        }
+    }
+
+    private void writeCleared(Long callId, List<Long> participantIds) {
+        try {
+            String value = String.valueOf(callId);
+            for (Long userId : participantIds) {
+                redisTemplate.execute(CLEAR_IF_MATCH_SCRIPT,
+                        List.of(ACTIVE_CALL_PREFIX + userId, ENDED_CALL_PREFIX + callId),
+                        value, String.valueOf(ENDED_CALL_TTL_SECONDS));
+            }
+            log.debug("활성 통화 인덱스 삭제 - callId: {}", callId);
+        } catch (Exception e) {
+            log.warn("활성 통화 인덱스 삭제 실패 - callId: {}", callId, e);
+        }
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+
+    private List<Long> participantIds(Call call) {
+        return List.of(call.getUser1().getId(), call.getUser2().getId());
+    }
+}
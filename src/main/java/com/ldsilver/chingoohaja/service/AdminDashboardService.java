@@ -2,6 +2,7 @@ package com.ldsilver.chingoohaja.service;
 
 import com.ldsilver.chingoohaja.common.exception.CustomException;
 import com.ldsilver.chingoohaja.common.exception.ErrorCode;
+import com.ldsilver.chingoohaja.common.util.ProfileImageUrls;
 import com.ldsilver.chingoohaja.domain.call.Call;
 import com.ldsilver.chingoohaja.domain.call.enums.CallStatus;
 import com.ldsilver.chingoohaja.domain.matching.MatchingQueue;
@@ -428,6 +429,7 @@ public class AdminDashboardService {
                 user.getId(),
                 user.getEmail(),
                 user.getNickname(),
+                ProfileImageUrls.thumbnail(user.getProfileImageUrl()),
                 user.getUserType().name(),
                 user.getProvider(),
                 user.getCreatedAt(),
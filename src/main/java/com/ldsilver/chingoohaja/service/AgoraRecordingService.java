@@ -2,6 +2,7 @@ package com.ldsilver.chingoohaja.service;
 
 import com.ldsilver.chingoohaja.common.exception.CustomException;
 import com.ldsilver.chingoohaja.common.exception.ErrorCode;
+import com.ldsilver.chingoohaja.config.RecordingProperties;
 import com.ldsilver.chingoohaja.domain.call.Call;
 import com.ldsilver.chingoohaja.domain.call.CallRecording;
 import com.ldsilver.chingoohaja.domain.call.enums.RecordingStatus;
@@ -15,15 +16,33 @@ import jakarta.persistence.OptimisticLockException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+import reactor.util.retry.RetryBackoffSpec;
+
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Agora Cloud Recording 시작/중지
+ * - acquire → start → 저장, stop → (query) → 완료 처리를 AgoraCloudRecordingClient의 Mono 체인으로 구성
+ * - 재시도는 retryWhen 백오프로 처리하므로 대기 중에 스레드를 점유하지 않음
+ * - JPA 작업만 boundedElastic 스케줄러에서 별도 트랜잭션으로 실행
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -33,11 +52,23 @@ public class AgoraRecordingService {
     private final CallRepository callRepository;
     private final CallRecordingRepository callRecordingRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final RecordingProperties recordingProperties;
+    private final PlatformTransactionManager transactionManager;
+
+    // 다시 호출해도 결과가 같은 오류 (설정 누락, 인증 실패, 잘못된 요청, 리소스 없음)는 재시도하지 않음
+    private static final Set<ErrorCode> NON_RETRYABLE_ERRORS = EnumSet.of(
+            ErrorCode.OAUTH_CONFIG_ERROR,
+            ErrorCode.INVALID_INPUT_VALUE,
+            ErrorCode.INVALID_RESOURCE_ID,
+            ErrorCode.AGORA_UNAUTHORIZED,
+            ErrorCode.ACCESS_DENIED,
+            ErrorCode.RECORDING_RESOURCE_NOT_FOUND
+    );
+
+    // sid별 Agora query 결과 (짧은 TTL, 진행 중 녹음 수만큼만 유지)
+    private final Map<String, CachedStatus> statusCache = new ConcurrentHashMap<>();
 
-    private static final int MAX_RETRY_ATTEMPTS = 2; // 최초 시도 + 1회 재시도
-    private static final int RETRY_DELAY_SECONDS = 3;
-
-    @Transactional
+    @Transactional(readOnly = true)
     public RecordingResponse startRecording(RecordingRequest request) {
         log.debug("Cloud Recording 시작 - callId: {}, channel: {}",
                 request.callId(), request.channelName());
@@ -59,189 +90,241 @@ public class AgoraRecordingService {
             throw new CustomException(ErrorCode.RECORDING_ALREADY_STARTED);
         }
 
-        startRecordingAsync(request.callId(), request.channelName());
+        // 구독만 하고 바로 반환 (Agora 응답은 WebClient 이벤트 루프에서 이어서 처리)
+        startRecordingAsync(request.callId(), request.channelName()).subscribe();
 
         return RecordingResponse.started("pending", "pending", request.callId(), request.channelName());
     }
 
-    @Async("recordingTaskExecutor")
-    @Transactional
-    public CompletableFuture<Void> startRecordingAsync(Long callId, String channelName) {
+    /**
+     * acquire → start → 저장 체인 (실패는 내부에서 처리하므로 오류 신호를 내보내지 않음)
+     */
+    public Mono<Void> startRecordingAsync(Long callId, String channelName) {
         log.debug("비동기 녹음 시작 - callId: {}", callId);
 
-        return CompletableFuture.runAsync(() -> {
-            for (int attempt = 1; attempt <= MAX_RETRY_ATTEMPTS; attempt++) {
-                try {
-                    Call call = callRepository.findById(callId).orElse(null);
-                    if (call == null) {
-                        log.error("녹음 시작 실패: Call을 찾을 수 없음 - callId: {}", callId);
-                        return;
-                    }
-
-                    if (!call.isInProgress()) {
-                        log.warn("녹음 시작 실패: 통화가 진행 중이 아님 - callId: {}, status: {}",
-                                callId, call.getCallStatus());
-                        return;
-                    }
+        RecordingRequest request = RecordingRequest.of(callId, channelName);
+
+        // 재시도마다 통화 상태부터 다시 확인 (대기 중 통화가 끝났으면 빈 결과로 종료)
+        Mono<StartedRecording> attempt = Mono.fromCallable(() -> isCallInProgress(callId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .filter(Boolean::booleanValue)
+                .flatMap(inProgress -> cloudRecordingClient.acquireResource(channelName))
+                .flatMap(resourceId -> cloudRecordingClient.startRecording(resourceId, channelName, request)
+                        .map(sid -> new StartedRecording(resourceId, sid)));
+
+        return attempt
+                .retryWhen(retrySpec("녹음 시작", callId))
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(started -> saveStartedRecording(callId, started))
+                .then()
+                .onErrorResume(e -> {
+                    log.error("❌ 녹음 시작 최종 실패 - callId: {}", callId, e);
+                    return Mono.fromRunnable(() -> updateCallRecordingFailureStatus(callId))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .then();
+                });
+    }
 
-                    String resourceId = cloudRecordingClient.acquireResource(channelName).block();
-                    if (resourceId == null) {
-                        throw new CustomException(ErrorCode.CALL_SESSION_ERROR, "Resource 획득 실패");
-                    }
+    /**
+     * 동기 호출자용 (정리 스케줄러 등 blocking이 허용되는 스레드에서만 사용)
+     */
+    public RecordingResponse stopRecording(Long callId) {
+        return stopRecordingAsync(callId).block();
+    }
 
-                    RecordingRequest request = RecordingRequest.of(callId, channelName);
-                    String sid = cloudRecordingClient.startRecording(
-                            resourceId, channelName, request
-                    ).block();
+    public Mono<RecordingResponse> stopRecordingAsync(Long callId) {
+        log.debug("Cloud Recording 중지 - callId: {}", callId);
 
-                    if (sid == null) {
-                        throw new CustomException(ErrorCode.CALL_SESSION_ERROR, "Recording 시작 실패");
+        return Mono.fromCallable(() -> loadStopTarget(callId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(target -> {
+                    CallRecording recording = target.recording();
+                    if (recording.getRecordingStatus() != RecordingStatus.PROCESSING) {
+                        log.warn("이미 종료된 녹음 - callId: {}, status: {}", callId, recording.getRecordingStatus());
+                        return Mono.just(RecordingResponse.from(recording, target.call()));
                     }
+                    return stopProcessingRecording(target);
+                });
+    }
 
-                    CallRecording recording = CallRecording.create(call, resourceId, sid);
-                    callRecordingRepository.save(recording);
-
-                    log.debug("녹음 시작 성공 - callId: {}, attempt: {}/{}",
-                            callId, attempt, MAX_RETRY_ATTEMPTS);
-                    return;
-
-                } catch (Exception e) {
-                    log.error("❌ 녹음 시작 실패 - callId: {}, attempt: {}/{}",
-                            callId, attempt, MAX_RETRY_ATTEMPTS, e);
-
-                    if (attempt < MAX_RETRY_ATTEMPTS) {
-                        log.info("⏳ {}초 후 재시도 - callId: {}", RETRY_DELAY_SECONDS, callId);
-                        try {
-                            Thread.sleep(RETRY_DELAY_SECONDS * 1000L);
-                        } catch (InterruptedException ie) {
-                            Thread.currentThread().interrupt();
-                            log.warn("재시도 대기 중 인터럽트 - callId: {}", callId);
-                            return;
-                        }
-                    } else {
-                        log.error("❌ 녹음 시작 최종 실패 - callId: {}", callId);
-                        updateCallRecordingFailureStatus(callId);
+    private Mono<RecordingResponse> stopProcessingRecording(StopTarget target) {
+        Long callId = target.call().getId();
+        CallRecording recording = target.recording();
+
+        return cloudRecordingClient.stopRecording(
+                        recording.getAgoraResourceId(), recording.getAgoraSid(), target.call().getAgoraChannelName())
+                .retryWhen(retrySpec("녹음 중지", callId))
+                .defaultIfEmpty(Map.of())
+                .flatMap(stopResponse -> {
+                    // ✅ 404 에러일 때 Query API로 파일 정보 조회
+                    if (stopResponse.containsKey("code") && Integer.valueOf(404).equals(stopResponse.get("code"))) {
+                        log.warn("⚠️ Stop 실패 (404) - Query API로 파일 정보 조회 시도. callId: {}", callId);
+                        return handleRecordingAlreadyStopped(target);
                     }
-                }
-            }
-        });
+                    return Mono.fromCallable(() -> completeStoppedRecording(target, stopResponse))
+                            .subscribeOn(Schedulers.boundedElastic());
+                })
+                .onErrorResume(e -> Mono.fromCallable(() -> handleStopError(target, e))
+                        .subscribeOn(Schedulers.boundedElastic()));
     }
 
-    @Transactional
-    public RecordingResponse stopRecording(Long callId) {
-        log.debug("Cloud Recording 중지 - callId: {}", callId);
+    private RecordingResponse completeStoppedRecording(StopTarget target, Map<String, Object> stopResponse) {
+        Call call = target.call();
+        CallRecording recording = target.recording();
+        Long callId = call.getId();
 
-        Call call = callRepository.findById(callId)
-                .orElseThrow(() -> new CustomException(ErrorCode.CALL_NOT_FOUND));
-
-        CallRecording recording = callRecordingRepository.findByCallIdWithCall(callId)
-                .orElseThrow(() -> new CustomException(ErrorCode.RECORDING_NOT_STARTED));
-
-        if (recording.getRecordingStatus() != RecordingStatus.PROCESSING) {
-            log.warn("이미 종료된 녹음 - callId: {}, status: {}", callId, recording.getRecordingStatus());
+        if (stopResponse.isEmpty()) {
+            log.warn("녹음 중지 응답이 비어있음 - callId: {}", callId);
+            recording.complete(null, null, "hls");
+            callRecordingRepository.saveAndFlush(recording);
             return RecordingResponse.from(recording, call);
         }
 
-        String resourceId = recording.getAgoraResourceId();
-        String sid = recording.getAgoraSid();
-        String channelName = call.getAgoraChannelName();
+        // 정상 응답 처리
+        log.debug("🔍 Stop Response: {}", stopResponse);
 
-        for (int attempt = 1; attempt <= MAX_RETRY_ATTEMPTS; attempt++) {
-            try {
-                Map<String, Object> stopResponse = cloudRecordingClient.stopRecording(
-                        resourceId, sid, channelName
-                ).block();
+        String fileUrl = extractFileUrl(stopResponse);
+        Long fileSize = extractFileSize(stopResponse);
+        String finalFileUrl = downloadAndStoreRecordingFile(fileUrl, callId);
 
-                // ✅ 404 에러일 때 Query API로 파일 정보 조회
-                if (stopResponse != null && stopResponse.containsKey("code")
-                        && Integer.valueOf(404).equals(stopResponse.get("code"))) {
-                    log.warn("⚠️ Stop 실패 (404) - Query API로 파일 정보 조회 시도. callId: {}",
-                            callId);
-                    return handleRecordingAlreadyStopped(recording, call, resourceId, sid);
+        List<String> userFilePaths = extractUserFilePaths(stopResponse);
+        String user1Path = userFilePaths.size() > 0 ? userFilePaths.get(0) : null;
+        String user2Path = userFilePaths.size() > 1 ? userFilePaths.get(1) : null;
 
-                }
+        recording.complete(finalFileUrl, fileSize, "hls");
+        callRecordingRepository.saveAndFlush(recording);
 
+        log.info("✅ Recording 중지 성공 - callId: {}", callId);
 
-                if (stopResponse == null || stopResponse.isEmpty()) {
-                    log.warn("녹음 중지 응답이 비어있음 - callId: {}", callId);
-                    recording.complete(null, null, "hls");
-                    callRecordingRepository.saveAndFlush(recording);
-                    return RecordingResponse.from(recording, call);
-                }
+        if (recording.getRecordingDurationSeconds() != null) {
+            eventPublisher.publishEvent(new RecordingCompletedEvent(
+                    callId,
+                    finalFileUrl,
+                    recording.getRecordingDurationSeconds(),
+                    fileSize,
+                    user1Path,
+                    user2Path
+            ));
+            log.debug("RecordingCompletedEvent 발행 - callId: {}", callId);
+        }
 
-                // 정상 응답 처리
-                log.debug("🔍 Stop Response: {}", stopResponse);
+        return RecordingResponse.stopped(
+                recording.getAgoraResourceId(), recording.getAgoraSid(), callId, call.getAgoraChannelName(),
+                finalFileUrl, fileSize, recording.getRecordingStartedAt(), recording.getRecordingDurationSeconds()
+        );
+    }
 
-                String fileUrl = extractFileUrl(stopResponse);
-                Long fileSize = extractFileSize(stopResponse);
-                String finalFileUrl = downloadAndStoreRecordingFile(fileUrl, callId);
+    private RecordingResponse handleStopError(StopTarget target, Throwable e) {
+        Long callId = target.call().getId();
+        CallRecording recording = target.recording();
 
-                List<String> userFilePaths = extractUserFilePaths(stopResponse);
-                String user1Path = userFilePaths.size() > 0 ? userFilePaths.get(0) : null;
-                String user2Path = userFilePaths.size() > 1 ? userFilePaths.get(1) : null;
+        if (e instanceof CustomException ce && ce.getErrorCode() == ErrorCode.RECORDING_RESOURCE_NOT_FOUND) {
+            log.warn("녹음 리소스 없음 - callId: {}", callId);
+            recording.complete(null, null, "hls");
+            callRecordingRepository.saveAndFlush(recording);
+            return RecordingResponse.from(recording, target.call());
+        }
 
-                recording.complete(finalFileUrl, fileSize, "hls");
-                callRecordingRepository.saveAndFlush(recording);
+        if (e instanceof OptimisticLockingFailureException || e instanceof OptimisticLockException) {
+            // 중지 응답을 기다리는 사이 녹음 콜백이 먼저 완료 처리한 경우
+            log.info("녹음이 콜백으로 먼저 완료됨 - callId: {}", callId);
+            return callRecordingRepository.findByCallIdWithCall(callId)
+                    .map(completed -> RecordingResponse.from(completed, target.call()))
+                    .orElseThrow(() -> new CustomException(ErrorCode.RECORDING_NOT_STARTED));
+        }
 
-                log.info("✅ Recording 중지 성공 - callId: {}, attempt: {}/{}",
-                        callId, attempt, MAX_RETRY_ATTEMPTS);
-
-                if (recording.getRecordingDurationSeconds() != null) {
-                    eventPublisher.publishEvent(new RecordingCompletedEvent(
-                            callId,
-                            finalFileUrl,
-                            recording.getRecordingDurationSeconds(),
-                            fileSize,
-                            user1Path,
-                            user2Path
-                    ));
-                    log.debug("RecordingCompletedEvent 발행 - callId: {}", callId);
-                }
+        log.error("❌ Recording 중지 최종 실패 - callId: {}", callId, e);
+        handleRecordingFailure(recording, callId);
 
-                return RecordingResponse.stopped(
-                        resourceId, sid, callId, channelName, finalFileUrl, fileSize,
-                        recording.getRecordingStartedAt(), recording.getRecordingDurationSeconds()
-                );
-
-            } catch (CustomException e) {
-                if (e.getErrorCode() == ErrorCode.RECORDING_RESOURCE_NOT_FOUND) {
-                    log.warn("녹음 리소스 없음 - callId: {}", callId);
-                    recording.complete(null, null, "hls");
-                    callRecordingRepository.saveAndFlush(recording);
-                    return RecordingResponse.from(recording, call);
-                }
+        if (e instanceof CustomException ce) {
+            throw ce;
+        }
+        throw new CustomException(ErrorCode.RECORDING_STOP_FAILED);
+    }
 
-                log.error("❌ Recording 중지 실패 - callId: {}, attempt: {}/{}",
-                        callId, attempt, MAX_RETRY_ATTEMPTS, e);
 
-                if (attempt >= MAX_RETRY_ATTEMPTS) {
-                    handleRecordingFailure(recording, callId);
-                    throw e;
-                }
 
-                // 재시도 대기
-                sleepForRetry(callId);
+    /**
+     * 콜백 완료 처리를 boundedElastic 스케줄러에서 실행 (콜백 요청 스레드에서 파일 저장을 하지 않음)
+     */
+    public Mono<Boolean> completeFromNotificationAsync(String sid, List<Map<String, Object>> fileList) {
+        return Mono.fromCallable(() -> completeFromNotification(sid, fileList))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
 
+    /**
+     * Agora 녹음 콜백(업로드 완료/정상 세션 종료)으로 녹음 완료 처리
+     * - PROCESSING 상태일 때만 전이 (중지 API 응답으로 이미 완료된 경우 무시)
+     * - 콜백으로 받은 fileList로 완료 처리, 파일 목록이 있을 때만 RecordingCompletedEvent 발행
+     */
+    public boolean completeFromNotification(String sid, List<Map<String, Object>> fileList) {
+        CallRecording recording = findProcessingBySid(sid);
+        if (recording == null) {
+            return false;
+        }
 
-            } catch (Exception e) {
-                log.error("❌ Cloud Recording 중지 실패 - callId: {}", callId, e);
-                if (attempt >= MAX_RETRY_ATTEMPTS) {
-                    handleRecordingFailure(recording, callId);
-                    throw new CustomException(ErrorCode.RECORDING_STOP_FAILED);
-                }
+        Long callId = recording.getCall().getId();
+        List<Map<String, Object>> files = fileList != null ? fileList : List.of();
+        Map<String, Object> response = Map.of("serverResponse", Map.of("fileList", files));
 
-                sleepForRetry(callId);
-            }
+        String finalFileUrl = downloadAndStoreRecordingFile(extractFileUrl(response), callId);
+        Long fileSize = extractFileSize(response);
+        List<String> userFilePaths = extractUserFilePaths(response);
+
+        try {
+            recording.complete(finalFileUrl, fileSize, "hls");
+            callRecordingRepository.saveAndFlush(recording);
+        } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+            log.debug("녹음이 중지 API로 먼저 완료됨 - callId: {}", callId);
+            return false;
         }
+        statusCache.remove(sid);
 
-        // 이 지점에 도달하면 모든 재시도 실패
-        handleRecordingFailure(recording, callId);
-        throw new CustomException(ErrorCode.RECORDING_STOP_FAILED, "모든 재시도 실패");
+        log.info("✅ Recording 콜백 완료 처리 - callId: {}", callId);
+
+        if (files.isEmpty()) {
+            log.warn("⚠️ 파일 목록 없이 콜백 완료 - 후처리 생략, callId: {}", callId);
+            return true;
+        }
+
+        if (recording.getRecordingDurationSeconds() != null) {
+            eventPublisher.publishEvent(new RecordingCompletedEvent(
+                    callId,
+                    finalFileUrl,
+                    recording.getRecordingDurationSeconds(),
+                    fileSize,
+                    userFilePaths.size() > 0 ? userFilePaths.get(0) : null,
+                    userFilePaths.size() > 1 ? userFilePaths.get(1) : null
+            ));
+            log.debug("RecordingCompletedEvent 발행 - callId: {}", callId);
+        }
+        return true;
     }
 
+    /**
+     * Agora 세션 비정상 종료 콜백으로 녹음 실패 처리 (PROCESSING 상태일 때만)
+     */
+    public boolean failFromNotification(String sid) {
+        CallRecording recording = findProcessingBySid(sid);
+        if (recording == null) {
+            return false;
+        }
 
+        Long callId = recording.getCall().getId();
+        try {
+            recording.fail();
+            callRecordingRepository.saveAndFlush(recording);
+        } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+            log.debug("녹음이 중지 API로 먼저 종료됨 - callId: {}", callId);
+            return false;
+        }
+        statusCache.remove(sid);
 
-    @Transactional(readOnly = true)
+        log.warn("❌ Recording 세션 비정상 종료 - 실패 처리, callId: {}", callId);
+        return true;
+    }
+
+    // Agora 응답을 기다리는 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행
     public RecordingResponse getRecordingStatus(Long callId) {
         log.debug("Recording 상태 조회 - callId: {}", callId);
 
@@ -252,11 +335,9 @@ public class AgoraRecordingService {
                 .orElseThrow(() -> new CustomException(ErrorCode.RECORDING_NOT_STARTED));
 
         try {
-            Map<String, Object> queryResponse = cloudRecordingClient.queryRecording(
-                    recording.getAgoraResourceId(), recording.getAgoraSid()
-            ).block();
+            RecordingStatus status = queryLiveStatus(recording).block();
 
-            if (queryResponse == null) {
+            if (status == null) {
                 return RecordingResponse.failed(
                         recording.getAgoraResourceId(),
                         recording.getAgoraSid(),
@@ -264,20 +345,7 @@ public class AgoraRecordingService {
                         call.getAgoraChannelName());
             }
 
-            RecordingStatus status = extractRecordingStatus(queryResponse);
-
-            return new RecordingResponse(
-                    recording.getAgoraResourceId(),
-                    recording.getAgoraSid(),
-                    callId,
-                    call.getAgoraChannelName(),
-                    status,
-                    recording.getFilePath(),
-                    recording.getFileSize(),
-                    recording.getRecordingStartedAt(),
-                    recording.getRecordingEndedAt(),
-                    recording.getRecordingDurationSeconds()
-            );
+            return toResponse(recording, call, status);
         } catch (Exception e) {
             log.error("Recording 상태 조회 실패 - callId: {}", callId, e);
             return RecordingResponse.failed(recording.getAgoraResourceId(), recording.getAgoraSid(),
@@ -285,45 +353,97 @@ public class AgoraRecordingService {
         }
     }
 
-    @Async("recordingTaskExecutor")
-    @Transactional
     public CompletableFuture<Void> autoStopRecordingOnCallEnd(Long callId) {
         log.debug("통화 종료로 인한 자동 Recording 중지 - callId: {}", callId);
 
-        return CompletableFuture.runAsync(() -> {
-            try {
-                if (callRecordingRepository.findByCallId(callId).isPresent()) {
-                    stopRecording(callId);
-                    log.info("통화 종료로 인한 자동 Recording 중지 완료 - callId: {}", callId);
-                }
-            } catch (Exception e) {
-                log.error("자동 Recording 중지 실패 - callId: {}", callId, e);
-            }
-        });
+        return stopRecordingAsync(callId)
+                .doOnNext(response -> log.info("통화 종료로 인한 자동 Recording 중지 완료 - callId: {}", callId))
+                .then()
+                .onErrorResume(e -> {
+                    if (e instanceof CustomException ce && ce.getErrorCode() == ErrorCode.RECORDING_NOT_STARTED) {
+                        return Mono.empty(); // 녹음 없이 끝난 통화
+                    }
+                    log.error("자동 Recording 중지 실패 - callId: {}", callId, e);
+                    return Mono.empty();
+                })
+                .toFuture();
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 진행 중 녹음 목록 + Agora 실시간 상태
+     * - query 요청을 maxConcurrency개까지 동시에 보내고, 건별 timeout 초과/실패 시 DB 상태로 응답
+     * - 결과는 sid별로 cacheTtlMillis 동안 재사용
+     * - Agora 응답을 기다리는 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행 (통화는 fetch join으로 함께 조회)
+     */
     public List<RecordingResponse> getActiveRecordings() {
         log.debug("활성 Recording 목록 조회");
 
-        List<CallRecording> recordings = callRecordingRepository.findByRecordingStatus(RecordingStatus.PROCESSING);
+        List<CallRecording> recordings = callRecordingRepository.findByRecordingStatusWithCall(RecordingStatus.PROCESSING);
+        if (recordings.isEmpty()) {
+            return List.of();
+        }
+
+        RecordingProperties.StatusQueryConfig config = recordingProperties.getStatusQuery();
+        Duration timeout = Duration.ofMillis(config.getTimeoutMillis());
+        evictExpiredStatuses();
+
+        Map<Long, RecordingStatus> liveStatuses = Flux.fromIterable(recordings)
+                .flatMap(recording -> queryLiveStatus(recording)
+                                .timeout(timeout)
+                                .map(status -> Map.entry(recording.getId(), status))
+                                .onErrorResume(e -> {
+                                    log.debug("Recording 상태 조회 실패 (DB 상태 사용) - recordingId: {}, cause: {}",
+                                            recording.getId(), e.toString());
+                                    return Mono.empty();
+                                }),
+                        Math.max(1, config.getMaxConcurrency()))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .block();
 
         return recordings.stream()
-                .map(recording -> new RecordingResponse(
-                        recording.getAgoraResourceId(),
-                        recording.getAgoraSid(),
-                        recording.getCall().getId(),
-                        recording.getCall().getAgoraChannelName(),
-                        RecordingStatus.PROCESSING,
-                        recording.getFilePath(),
-                        recording.getFileSize(),
-                        recording.getRecordingStartedAt(),
-                        recording.getRecordingEndedAt(),
-                        recording.getRecordingDurationSeconds()
-                ))
+                .map(recording -> toResponse(recording, recording.getCall(),
+                        liveStatuses != null
+                                ? liveStatuses.getOrDefault(recording.getId(), recording.getRecordingStatus())
+                                : recording.getRecordingStatus()))
                 .toList();
     }
 
+    private Mono<RecordingStatus> queryLiveStatus(CallRecording recording) {
+        String sid = recording.getAgoraSid();
+        if (sid == null) {
+            return Mono.empty();
+        }
+
+        CachedStatus cached = statusCache.get(sid);
+        if (cached != null && !cached.isExpired()) {
+            return Mono.just(cached.status());
+        }
+
+        long ttlMillis = recordingProperties.getStatusQuery().getCacheTtlMillis();
+        return cloudRecordingClient.queryRecording(recording.getAgoraResourceId(), sid)
+                .map(this::extractRecordingStatus)
+                .doOnNext(status -> statusCache.put(sid,
+                        new CachedStatus(status, System.currentTimeMillis() + ttlMillis)));
+    }
+
+    private void evictExpiredStatuses() {
+        statusCache.values().removeIf(CachedStatus::isExpired);
+    }
+
+    private RecordingResponse toResponse(CallRecording recording, Call call, RecordingStatus status) {
+        return new RecordingResponse(
+                recording.getAgoraResourceId(),
+                recording.getAgoraSid(),
+                call.getId(),
+                call.getAgoraChannelName(),
+                status,
+                recording.getFilePath(),
+                recording.getFileSize(),
+                recording.getRecordingStartedAt(),
+                recording.getRecordingEndedAt(),
+                recording.getRecordingDurationSeconds()
+        );
+    }
 
     /**
      * 사용자별 파일 경로 추출
@@ -357,32 +477,40 @@ public class AgoraRecordingService {
         return paths;
     }
 
-
     /**
      * Recording이 이미 종료된 경우 처리 (404)
      */
-    private RecordingResponse handleRecordingAlreadyStopped(
-            CallRecording recording, Call call, String resourceId, String sid) {
-        try {
-            // Query API로 파일 정보 조회 시도
-            Map<String, Object> queryResponse = cloudRecordingClient
-                    .queryRecording(resourceId, sid)
-                    .block();
-
-            if (queryResponse != null) {
-                String fileUrl = extractFileUrl(queryResponse);
-                Long fileSize = extractFileSize(queryResponse);
-
-                if (fileUrl != null && !fileUrl.isEmpty()) {
-                    String finalFileUrl = downloadAndStoreRecordingFile(fileUrl, call.getId());
-                    recording.complete(finalFileUrl, fileSize, "hls");
-                    callRecordingRepository.saveAndFlush(recording);
-                    log.info("✅ Query API로 파일 정보 획득 - callId: {}", call.getId());
-                    return RecordingResponse.from(recording, call);
-                }
+    private Mono<RecordingResponse> handleRecordingAlreadyStopped(StopTarget target) {
+        CallRecording recording = target.recording();
+        Long callId = target.call().getId();
+
+        // Query API로 파일 정보 조회 시도 (실패해도 파일 없이 완료 처리)
+        return cloudRecordingClient.queryRecording(recording.getAgoraResourceId(), recording.getAgoraSid())
+                .map(Optional::of)
+                .onErrorResume(queryEx -> {
+                    log.warn("Query API 실패 - callId: {}", callId, queryEx);
+                    return Mono.empty();
+                })
+                .defaultIfEmpty(Optional.empty())
+                .publishOn(Schedulers.boundedElastic())
+                .map(queryResponse -> completeAlreadyStoppedRecording(target, queryResponse.orElse(null)));
+    }
+
+    private RecordingResponse completeAlreadyStoppedRecording(StopTarget target, Map<String, Object> queryResponse) {
+        Call call = target.call();
+        CallRecording recording = target.recording();
+
+        if (queryResponse != null) {
+            String fileUrl = extractFileUrl(queryResponse);
+            Long fileSize = extractFileSize(queryResponse);
+
+            if (fileUrl != null && !fileUrl.isEmpty()) {
+                String finalFileUrl = downloadAndStoreRecordingFile(fileUrl, call.getId());
+                recording.complete(finalFileUrl, fileSize, "hls");
+                callRecordingRepository.saveAndFlush(recording);
+                log.info("✅ Query API로 파일 정보 획득 - callId: {}", call.getId());
+                return RecordingResponse.from(recording, call);
             }
-        } catch (Exception queryEx) {
-            log.warn("Query API 실패 - callId: {}", call.getId(), queryEx);
         }
 
         // Query 실패 시 파일 없이 완료 처리
@@ -393,6 +521,20 @@ public class AgoraRecordingService {
     }
 
 
+    private CallRecording findProcessingBySid(String sid) {
+        CallRecording recording = callRecordingRepository.findByAgoraSidWithCall(sid).orElse(null);
+        if (recording == null) {
+            log.warn("콜백 대상 녹음 없음 - sid: {}", maskId(sid));
+            return null;
+        }
+        if (recording.getRecordingStatus() != RecordingStatus.PROCESSING) {
+            log.debug("이미 종료된 녹음 콜백 무시 - callId: {}, status: {}",
+                    recording.getCall().getId(), recording.getRecordingStatus());
+            return null;
+        }
+        return recording;
+    }
+
     private void handleRecordingFailure(CallRecording recording, Long callId) {
         try {
             recording.fail();
@@ -405,17 +547,53 @@ public class AgoraRecordingService {
         }
     }
 
-    /**
-     * 재시도 대기
-     */
-    private void sleepForRetry(Long callId) {
-        try {
-            log.info("⏳ {}초 후 재시도 - callId: {}", RETRY_DELAY_SECONDS, callId);
-            Thread.sleep(RETRY_DELAY_SECONDS * 1000L);
-        } catch (InterruptedException ie) {
-            Thread.currentThread().interrupt();
-            log.warn("재시도 대기 중 인터럽트 - callId: {}", callId);
+
+    private RetryBackoffSpec retrySpec(String operation, Long callId) {
+        RecordingProperties.RetryConfig retry = recordingProperties.getRetry();
+        int maxAttempts = retry.getMaxAttempts();
+
+        return Retry.backoff(Math.max(0, maxAttempts - 1), Duration.ofSeconds(retry.getDelaySeconds()))
+                .filter(this::isRetryable)
+                .doBeforeRetry(signal -> log.info("⏳ {} 재시도 - callId: {}, attempt: {}/{}, cause: {}",
+                        operation, callId, signal.totalRetries() + 2, maxAttempts, signal.failure().getMessage()))
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+    }
+
+    private boolean isRetryable(Throwable e) {
+        return !(e instanceof CustomException ce && NON_RETRYABLE_ERRORS.contains(ce.getErrorCode()));
+    }
+
+    private boolean isCallInProgress(Long callId) {
+        Call call = callRepository.findById(callId).orElse(null);
+        if (call == null) {
+            log.error("녹음 시작 실패: Call을 찾을 수 없음 - callId: {}", callId);
+            return false;
+        }
+        if (!call.isInProgress()) {
+            log.warn("녹음 시작 실패: 통화가 진행 중이 아님 - callId: {}, status: {}",
+                    callId, call.getCallStatus());
+            return false;
         }
+        return true;
+    }
+
+    private void saveStartedRecording(Long callId, StartedRecording started) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Call call = callRepository.findById(callId)
+                    .orElseThrow(() -> new CustomException(ErrorCode.CALL_NOT_FOUND));
+            callRecordingRepository.save(CallRecording.create(call, started.resourceId(), started.sid()));
+        });
+        log.debug("녹음 시작 성공 - callId: {}", callId);
+    }
+
+    private StopTarget loadStopTarget(Long callId) {
+        Call call = callRepository.findById(callId)
+                .orElseThrow(() -> new CustomException(ErrorCode.CALL_NOT_FOUND));
+
+        CallRecording recording = callRecordingRepository.findByCallIdWithCall(callId)
+                .orElseThrow(() -> new CustomException(ErrorCode.RECORDING_NOT_STARTED));
+
+        return new StopTarget(call, recording);
     }
 
     private void updateCallRecordingFailureStatus(Long callId) {
@@ -559,4 +737,16 @@ public class AgoraRecordingService {
         }
         return id.substring(0,4) + "***" + id.substring(id.length() - 4);
     }
+
+    private record StartedRecording(String resourceId, String sid) {
+    }
+
+    private record StopTarget(Call call, CallRecording recording) {
+    }
+
+    private record CachedStatus(RecordingStatus status, long expiresAtMillis) {
+        boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAtMillis;
+        }
+    }
 }
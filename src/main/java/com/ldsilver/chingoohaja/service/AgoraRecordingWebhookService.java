@@ -0,0 +1,200 @@
+package com.ldsilver.chingoohaja.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ldsilver.chingoohaja.common.exception.CustomException;
+import com.ldsilver.chingoohaja.common.exception.ErrorCode;
+import com.ldsilver.chingoohaja.dto.call.request.AgoraRecordingNotification;
+import com.ldsilver.chingoohaja.infrastructure.agora.AgoraWebhookVerifier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Agora 클라우드 녹음 콜백 처리
+ * - 서명 검증 후 noticeId로 중복 제거 (Agora는 응답이 늦으면 같은 콜백을 재전송)
+ * - 4(cloud_recording_file_infos): 녹음 파일 목록을 sid별로 보관, 31이 먼저 와서 대기 중이면 바로 완료 처리
+ * - 31(uploaded): 보관한 파일 목록으로 녹음 완료 처리, 목록이 아직 없으면 업로드 완료만 표시하고 4 대기
+ * - 11(session_exit): exitStatus가 오류면 실패 처리, 정상 종료는 보관된 파일 목록이 있을 때만 완료 처리 (없으면 31 대기)
+ * - 완료 처리(파일 저장 포함)는 boundedElastic 스케줄러에 넘기고 콜백 요청은 바로 응답 (실패 시 noticeId 중복 표시를 지워 재전송을 받음)
+ * - 정리 스케줄러의 멈춘 녹음 정리는 콜백 유실 대비용으로만 남김
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AgoraRecordingWebhookService {
+
+    static final int EVENT_RECORDING_ERROR = 1;
+    static final int EVENT_FILE_INFOS = 4;
+    static final int EVENT_SESSION_EXIT = 11;
+    static final int EVENT_UPLOADED = 31;
+
+    private static final String NOTICE_KEY_PREFIX = "agora:webhook:notice:";
+    private static final String FILE_LIST_KEY_PREFIX = "agora:webhook:files:";
+    private static final String UPLOADED_KEY_PREFIX = "agora:webhook:uploaded:";
+    private static final Duration NOTICE_TTL = Duration.ofDays(1);
+    private static final Duration FILE_LIST_TTL = Duration.ofDays(1);
+
+    private final AgoraWebhookVerifier agoraWebhookVerifier;
+    private final AgoraRecordingService agoraRecordingService;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public void handle(byte[] rawBody, String signatureV2, String signature) {
+        agoraWebhookVerifier.verify(rawBody, signatureV2, signature);
+
+        AgoraRecordingNotification notification = parse(rawBody);
+        if (notification.eventType() == null || notification.sid() == null) {
+            log.debug("녹음과 무관한 Agora 콜백 무시 - noticeId: {}", notification.noticeId());
+            return;
+        }
+
+        String noticeKey = NOTICE_KEY_PREFIX + notification.noticeId();
+        if (notification.noticeId() != null
+                && !Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(noticeKey, "1", NOTICE_TTL))) {
+            log.debug("중복 Agora 콜백 무시 - noticeId: {}", notification.noticeId());
+            return;
+        }
+
+        try {
+            dispatch(notification, noticeKey);
+        } catch (RuntimeException e) {
+            // 처리 실패 시 Agora 재전송을 받을 수 있도록 중복 표시 해제
+            redisTemplate.delete(noticeKey);
+            throw e;
+        }
+    }
+
+    private void dispatch(AgoraRecordingNotification notification, String noticeKey) {
+        String sid = notification.sid();
+
+        switch (notification.eventType()) {
+            case EVENT_FILE_INFOS -> handleFileInfos(sid, notification.fileList(), noticeKey);
+            case EVENT_UPLOADED -> {
+                log.info("📥 녹음 업로드 완료 콜백 - cname: {}, status: {}",
+                        notification.payload().cname(), notification.detail("status"));
+                handleUploaded(sid, noticeKey);
+            }
+            case EVENT_SESSION_EXIT -> {
+                Object exitStatus = notification.detail("exitStatus");
+                log.info("📥 녹음 세션 종료 콜백 - cname: {}, exitStatus: {}",
+                        notification.payload().cname(), exitStatus);
+                handleSessionExit(sid, exitStatus, noticeKey);
+            }
+            case EVENT_RECORDING_ERROR -> log.warn("⚠️ Agora 녹음 오류 콜백 - cname: {}, details: {}",
+                    notification.payload().cname(), notification.payload().details());
+            default -> log.debug("처리하지 않는 Agora 콜백 - eventType: {}", notification.eventType());
+        }
+    }
+
+    private void handleFileInfos(String sid, List<Map<String, Object>> fileList, String noticeKey) {
+        if (fileList.isEmpty()) {
+            return;
+        }
+        saveFileList(sid, fileList);
+
+        // 업로드 완료 콜백이 파일 목록보다 먼저 도착해 대기 중이었으면 여기서 완료 처리
+        if (Boolean.TRUE.equals(redisTemplate.delete(UPLOADED_KEY_PREFIX + sid))) {
+            log.info("📥 대기 중이던 업로드 완료 처리 - 파일 수: {}", fileList.size());
+            completeRecording(sid, fileList, noticeKey);
+        }
+    }
+
+    private void handleUploaded(String sid, String noticeKey) {
+        String fileListKey = FILE_LIST_KEY_PREFIX + sid;
+        List<Map<String, Object>> fileList = loadFileList(fileListKey);
+        if (!fileList.isEmpty()) {
+            completeRecording(sid, fileList, noticeKey);
+            return;
+        }
+
+        // 파일 없이 완료하면 후처리 없이 PROCESSING을 벗어나므로 파일 목록 콜백(4)을 기다림
+        String uploadedKey = UPLOADED_KEY_PREFIX + sid;
+        redisTemplate.opsForValue().set(uploadedKey, "1", FILE_LIST_TTL);
+
+        // 표시하는 사이 4가 도착했을 수 있으므로 한 번 더 확인 (표시 삭제에 성공한 쪽만 완료 처리)
+        fileList = loadFileList(fileListKey);
+        if (!fileList.isEmpty() && Boolean.TRUE.equals(redisTemplate.delete(uploadedKey))) {
+            completeRecording(sid, fileList, noticeKey);
+            return;
+        }
+        log.debug("파일 목록 없이 업로드 완료 - 파일 목록 콜백 대기");
+    }
+
+    private void handleSessionExit(String sid, Object exitStatus, String noticeKey) {
+        String fileListKey = FILE_LIST_KEY_PREFIX + sid;
+        if (isErrorExit(exitStatus)) {
+            if (agoraRecordingService.failFromNotification(sid)) {
+                redisTemplate.delete(fileListKey);
+            }
+            return;
+        }
+
+        List<Map<String, Object>> fileList = loadFileList(fileListKey);
+        if (fileList.isEmpty()) {
+            log.debug("파일 목록 없이 세션 종료 - 업로드 완료 콜백 대기");
+            return;
+        }
+        completeRecording(sid, fileList, noticeKey);
+    }
+
+    private void completeRecording(String sid, List<Map<String, Object>> fileList, String noticeKey) {
+        String fileListKey = FILE_LIST_KEY_PREFIX + sid;
+        String uploadedKey = UPLOADED_KEY_PREFIX + sid;
+        agoraRecordingService.completeFromNotificationAsync(sid, fileList)
+                .subscribe(completed -> {
+                    if (completed) {
+                        redisTemplate.delete(List.of(fileListKey, uploadedKey));
+                    }
+                }, e -> {
+                    // 응답은 이미 나갔으므로 중복 표시를 지워 Agora 재전송으로 다시 처리되게 함
+                    // (4가 완료를 맡았다가 실패한 경우에도 재전송된 4가 완료할 수 있도록 업로드 완료 표시 복구)
+                    log.error("❌ 녹음 콜백 완료 처리 실패 (재전송 또는 멈춘 녹음 정리에서 재처리) - sid 파일 목록 유지", e);
+                    redisTemplate.opsForValue().set(uploadedKey, "1", FILE_LIST_TTL);
+                    redisTemplate.delete(noticeKey);
+                });
+    }
+
+    // Agora exitStatus: 0 정상 종료, 그 외 비정상 종료
+    private boolean isErrorExit(Object exitStatus) {
+        return exitStatus != null && !"0".equals(String.valueOf(exitStatus));
+    }
+
+    private void saveFileList(String sid, List<Map<String, Object>> fileList) {
+        try {
+            redisTemplate.opsForValue().set(FILE_LIST_KEY_PREFIX + sid,
+                    objectMapper.writeValueAsString(fileList), FILE_LIST_TTL);
+            log.debug("녹음 파일 목록 보관 - 파일 수: {}", fileList.size());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("녹음 파일 목록 직렬화 실패", e);
+        }
+    }
+
+    private List<Map<String, Object>> loadFileList(String fileListKey) {
+        String json = redisTemplate.opsForValue().get(fileListKey);
+        if (json == null) {
+            return List.of();
+        }
+        try {
+            return objectMapper.readValue(json, new TypeReference<List<Map<String, Object>>>() {});
+        } catch (JsonProcessingException e) {
+            log.warn("보관된 녹음 파일 목록 파싱 실패 - key: {}", fileListKey, e);
+            return List.of();
+        }
+    }
+
+    private AgoraRecordingNotification parse(byte[] rawBody) {
+        try {
+            return objectMapper.readValue(rawBody, AgoraRecordingNotification.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Agora 콜백 본문 파싱 실패", e);
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+}
@@ -2,8 +2,10 @@ package com.ldsilver.chingoohaja.service;
 
 import com.ldsilver.chingoohaja.common.exception.CustomException;
 import com.ldsilver.chingoohaja.common.exception.ErrorCode;
+import com.ldsilver.chingoohaja.config.CallProperties;
 import com.ldsilver.chingoohaja.domain.call.Call;
 import com.ldsilver.chingoohaja.domain.call.CallSession;
+import com.ldsilver.chingoohaja.dto.call.CallSnapshot;
 import com.ldsilver.chingoohaja.dto.call.request.TokenRequest;
 import com.ldsilver.chingoohaja.dto.call.response.BatchTokenResponse;
 import com.ldsilver.chingoohaja.dto.call.response.TokenRenewResponse;
@@ -31,6 +33,8 @@ public class AgoraTokenService {
     private final UserRepository userRepository;
     private final CallRepository callRepository;
     private final CallSessionRepository callSessionRepository;
+    private final CallSnapshotCacheService callSnapshotCacheService;
+    private final CallProperties callProperties;
 
     /**
      * - ✅ 매칭 완료 시: generateTokensForMatching() 사용 (배치 생성)
@@ -202,8 +206,8 @@ public class AgoraTokenService {
     public TokenRenewResponse renewRtcToken(Long userId, Long callId) {
         log.debug("RTC Token 갱신 시작 - userId: {}, callId: {}", userId, callId);
 
-        // 1. Call 조회 및 권한 검증
-        Call call = callRepository.findById(callId)
+        // 1. Call 조회 및 권한 검증 (스냅샷 캐시)
+        CallSnapshot call = callSnapshotCacheService.getByCallId(callId)
                 .orElseThrow(() -> new CustomException(ErrorCode.CALL_NOT_FOUND));
 
         if (!call.isParticipant(userId)) {
@@ -214,7 +218,7 @@ public class AgoraTokenService {
         // 2. 통화 상태 확인 (진행 중인 통화만 갱신 가능)
         if (!call.isInProgress()) {
             log.warn("진행 중이지 않은 통화의 토큰 갱신 시도 - callId: {}, status: {}",
-                    callId, call.getCallStatus());
+                    callId, call.callStatus());
             throw new CustomException(ErrorCode.CALL_NOT_IN_PROGRESS);
         }
 
@@ -225,7 +229,7 @@ public class AgoraTokenService {
                         "활성 세션을 찾을 수 없습니다."));
 
         // 4. 채널명 확인
-        String channelName = call.getAgoraChannelName();
+        String channelName = call.channelName();
         if (channelName == null || channelName.trim().isEmpty()) {
             log.error("채널명이 없음 - callId: {}", callId);
             throw new CustomException(ErrorCode.CALL_SESSION_ERROR, "채널 정보가 없습니다.");
@@ -238,7 +242,16 @@ public class AgoraTokenService {
             throw new CustomException(ErrorCode.CALL_SESSION_ERROR, "세션 UID 정보가 없습니다.");
         }
 
-        // 6. 새로운 RTC Token 생성
+        // 6. 백그라운드 갱신으로 이미 새 토큰이 있으면 그대로 반환 (발급/DB 쓰기 생략)
+        LocalDateTime renewThreshold = LocalDateTime.now()
+                .plusSeconds(callProperties.getTokenRenewal().getRenewAheadSeconds());
+        if (session.getTokenExpiresAt() != null && session.getTokenExpiresAt().isAfter(renewThreshold)) {
+            log.debug("이미 갱신된 RTC Token 반환 - userId: {}, callId: {}, expiresAt: {}",
+                    userId, callId, session.getTokenExpiresAt());
+            return TokenRenewResponse.of(session.getRtcToken(), session.getTokenExpiresAt());
+        }
+
+        // 7. 새로운 RTC Token 생성
         String newRtcToken = agoraTokenGenerator.generateRtcToken(
                 channelName,
                 safeLongToInt(agoraUid),
@@ -246,11 +259,11 @@ public class AgoraTokenService {
                 CallValidationConstants.DEFAULT_TTL_SECONDS_ONE_HOURS // 1시간
         );
 
-        // 7. 새로운 만료 시각 계산
+        // 8. 새로운 만료 시각 계산
         LocalDateTime newExpiresAt = LocalDateTime.now()
                 .plusSeconds(CallValidationConstants.DEFAULT_TTL_SECONDS_ONE_HOURS);
 
-        // 8. CallSession 업데이트
+        // 9. CallSession 업데이트
         session.renewToken(newRtcToken, newExpiresAt);
         callSessionRepository.save(session);
 
@@ -269,6 +282,7 @@ public class AgoraTokenService {
         String channelName = "call_" + call.getId() + "_" + System.currentTimeMillis();
         call.setAgoraChannelInfo(channelName);
         callRepository.save(call);
+        callSnapshotCacheService.evict(call.getId());
 
         log.debug("새 채널 생성 - callId: {}, channelName: {}", call.getId(), channelName);
         return channelName;
@@ -3,7 +3,6 @@ package com.ldsilver.chingoohaja.service;
 import com.ldsilver.chingoohaja.common.exception.CustomException;
 import com.ldsilver.chingoohaja.common.exception.ErrorCode;
 import com.ldsilver.chingoohaja.config.RecordingProperties;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -14,21 +13,32 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Semaphore;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class AudioConverterService {
 
     private final RecordingProperties recordingProperties;
 
+    // 동시에 실행되는 FFmpeg 프로세스 수 상한 (후처리 워커가 코어 수만큼 있어도 CPU를 모두 점유하지 않도록)
+    private final Semaphore ffmpegPermits;
+
+    public AudioConverterService(RecordingProperties recordingProperties) {
+        this.recordingProperties = recordingProperties;
+        this.ffmpegPermits = new Semaphore(recordingProperties.getPostProcessing().resolveMaxConcurrentFfmpeg());
+    }
+
     /**
-     * HLS를 WAV로 변환
+     * HLS를 WAV 파일로 변환
+     * - 결과를 메모리로 읽지 않고 파일 경로만 반환 (업로드는 호출자가 스트리밍)
+     * - 출력 파일은 플레이리스트와 같은 임시 디렉토리에 생성되며, 디렉토리와 함께 정리됨
      */
-    public byte[] convertLocalHlsToWav(Path localM3u8Path, String outputFileName) {
+    public Path convertLocalHlsToWav(Path localM3u8Path, String outputFileName) {
         log.debug("로컬 HLS → WAV 변환 시작 - path: {}", localM3u8Path);
 
         Path outputFile = null;
+        boolean converted = false;
 
         try {
             // 1. 출력 파일 경로 (플레이리스트와 같은 디렉토리)
@@ -37,14 +47,17 @@ public class AudioConverterService {
 
             // 2. FFmpeg 명령 실행
             List<String> command = buildFfmpegCommand(localM3u8Path, outputFile);
-            executeFfmpeg(command);
-
-            // 3. 변환된 WAV 파일 읽기
-            byte[] wavData = Files.readAllBytes(outputFile);
+            ffmpegPermits.acquire();
+            try {
+                executeFfmpeg(command);
+            } finally {
+                ffmpegPermits.release();
+            }
 
-            log.debug("✅ 로컬 HLS → WAV 변환 완료 - outputSize: {} bytes", wavData.length);
+            log.debug("✅ 로컬 HLS → WAV 변환 완료 - outputSize: {} bytes", Files.size(outputFile));
 
-            return wavData;
+            converted = true;
+            return outputFile;
 
         } catch (IOException e) {
             log.error("❌ 파일 I/O 실패", e);
@@ -55,8 +68,8 @@ public class AudioConverterService {
             log.error("❌ 변환 프로세스 인터럽트", e);
             throw new CustomException(ErrorCode.FILE_CONVERSION_FAILED, "오디오 변환 중단");
         } finally {
-            // 출력 파일만 삭제 (세그먼트는 나중에 일괄 삭제)
-            if (outputFile != null) {
+            // 실패 시 불완전한 출력 파일만 삭제 (세그먼트는 나중에 일괄 삭제)
+            if (!converted && outputFile != null) {
                 try {
                     Files.deleteIfExists(outputFile);
                 } catch (IOException e) {
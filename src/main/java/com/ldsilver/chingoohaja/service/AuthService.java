@@ -12,6 +12,7 @@ import com.ldsilver.chingoohaja.dto.oauth.response.SocialLoginResponse;
 import com.ldsilver.chingoohaja.dto.oauth.response.TokenResponse;
 import com.ldsilver.chingoohaja.dto.oauth.response.TokenValidationResponse;
 import com.ldsilver.chingoohaja.dto.oauth.response.UserMeResponse;
+import com.ldsilver.chingoohaja.infrastructure.jwt.JwtClaims;
 import com.ldsilver.chingoohaja.infrastructure.jwt.JwtTokenProvider;
 import com.ldsilver.chingoohaja.infrastructure.oauth.GoogleIdTokenValidator;
 import com.ldsilver.chingoohaja.infrastructure.oauth.OAuthClient;
@@ -84,42 +85,28 @@ public class AuthService {
     }
 
 
-    @Transactional
     public TokenResponse refreshToken(RefreshTokenRequest request) {
         log.debug("토큰 갱신 처리 시작");
 
         try {
             String refreshToken = request.refreshToken();
 
-            if (!jwtTokenProvider.isTokenValid(refreshToken)) {
+            JwtClaims claims;
+            try {
+                claims = jwtTokenProvider.parseClaims(refreshToken);
+            } catch (CustomException e) {
                 throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
             }
 
-            if (!jwtTokenProvider.isRefreshToken(refreshToken)) {
+            if (!claims.isRefreshToken()) {
                 throw new CustomException(ErrorCode.IS_NOT_REFRESH_TOKEN);
             }
 
-            var userToken = userTokenRepository.findByRefreshTokenAndIsActiveTrue(refreshToken)
-                    .orElseThrow(() -> new CustomException(ErrorCode.REFRESH_TOKEN_NOT_FOUND));
-
-            User user = userToken.getUser();
+            TokenResponse tokenResponse = tokenService.rotateRefreshToken(refreshToken, claims.userId());
 
-            user.updateLastLogin();
-            userRepository.save(user);
+            log.info("토큰 갱신 성공 - userId: {}", claims.userId());
 
-            String newAccessToken = jwtTokenProvider.generateAccessToken(
-                    user.getId(),
-                    user.getEmail(),
-                    user.getUserType().name()
-            );
-
-            log.info("토큰 갱신 성공 - userId: {}", user.getId());
-
-            return TokenResponse.forRefresh(
-                    newAccessToken,
-                    refreshToken,
-                    Math.max(0L, jwtTokenProvider.getTimeUntilExpiration(newAccessToken) / 1000L)
-            );
+            return tokenResponse;
         } catch (CustomException e) {
             log.error("토큰 갱신 실패: {}", e.getMessage());
             throw e;
@@ -318,6 +305,7 @@ public class AuthService {
     private void logoutAllDevices(User user) {
         userTokenRepository.deactivateAllTokensByUser(user);
         tokenCacheService.deleteAllUserTokens(user.getId());
+        tokenCacheService.revokeAllAccessTokens(user.getId());
         log.debug("모든 디바이스에서 로그아웃 완료 - userId: {}", user.getId());
     }
 
@@ -325,9 +313,15 @@ public class AuthService {
         if (refreshToken == null || refreshToken.trim().isEmpty()) {
             throw new CustomException(ErrorCode.REFRESH_TOKEN_NOT_FOUND);
         }
-        var userToken = userTokenRepository.findByRefreshTokenAndIsActiveTrue(refreshToken)
-                        .orElseThrow(() -> new CustomException(ErrorCode.REFRESH_TOKEN_NOT_FOUND));
-        if (!userToken.getUser().getId().equals(userId)) {
+
+        // 회전 직후 토큰은 DB 이력이 아직 없을 수 있으므로 Redis를 먼저 확인
+        Long ownerId = tokenCacheService.getUserIdByRefreshToken(refreshToken);
+        if (ownerId == null) {
+            var userToken = userTokenRepository.findByRefreshTokenAndIsActiveTrue(refreshToken)
+                    .orElseThrow(() -> new CustomException(ErrorCode.REFRESH_TOKEN_NOT_FOUND));
+            ownerId = userToken.getUser().getId();
+        }
+        if (!ownerId.equals(userId)) {
             throw new CustomException(ErrorCode.REFRESH_TOKEN_NOT_FOUND);
         }
 
@@ -7,6 +7,7 @@ import com.ldsilver.chingoohaja.domain.call.CallSession;
 import com.ldsilver.chingoohaja.domain.call.enums.SessionStatus;
 import com.ldsilver.chingoohaja.domain.user.User;
 import com.ldsilver.chingoohaja.dto.call.CallChannelInfo;
+import com.ldsilver.chingoohaja.dto.call.CallSnapshot;
 import com.ldsilver.chingoohaja.dto.call.response.ChannelResponse;
 import com.ldsilver.chingoohaja.infrastructure.agora.AgoraTokenGenerator;
 import com.ldsilver.chingoohaja.infrastructure.redis.RedisMatchingConstants;
@@ -48,6 +49,7 @@ public class CallChannelService {
     private final CallSessionRepository callSessionRepository;
     private final UserRepository userRepository;
     private final AgoraTokenGenerator agoraTokenGenerator;
+    private final CallSnapshotCacheService callSnapshotCacheService;
 
     @Transactional
     public ChannelResponse createChannel(Call call) {
@@ -69,10 +71,13 @@ public class CallChannelService {
         channelName = generateChannelName(call);
         call.setAgoraChannelInfo(channelName);
         callRepository.save(call);
+        callSnapshotCacheService.evict(call.getId());
 
         CallChannelInfo channelInfo = CallChannelInfo.empty(channelName, call.getId());
         storeChannelInfo(channelInfo);
 
+        preMintSessions(call, channelName);
+
         log.info("채널 생성 완료 - channelName: {}, callId: {}", channelName, call.getId());
         return ChannelResponse.created(channelInfo);
     }
@@ -81,24 +86,24 @@ public class CallChannelService {
     public ChannelResponse joinChannel(String channelName, Long userId) {
         log.debug("채널 참가 시작 - channelName: {}, userId: {}", channelName, userId);
 
-        // call 권한 검증
-        Call call = callRepository.findByAgoraChannelName(channelName)
+        // call 권한 검증 (스냅샷 캐시)
+        CallSnapshot call = callSnapshotCacheService.getByChannelName(channelName)
                 .orElseThrow(() -> new CustomException(ErrorCode.CALL_NOT_FOUND));
 
         if (!call.isParticipant(userId)) {
             log.warn("채널 참가 권한 없음 - channelName: {}, userId: {}, participants: [{}, {}]",
-                    channelName, userId, call.getUser1().getId(), call.getUser2().getId());
+                    channelName, userId, call.user1Id(), call.user2Id());
             throw new CustomException(ErrorCode.CALL_NOT_PARTICIPANT);
         }
 
         // 상태 검증: 진행 가능한 상태만 입장 허용
-        switch (call.getCallStatus()) {
+        switch (call.callStatus()) {
             case READY, IN_PROGRESS -> {
-                log.debug("채널 참가 허용 - callStatus: {}", call.getCallStatus());
+                log.debug("채널 참가 허용 - callStatus: {}", call.callStatus());
             }
             default -> {
-                log.warn("채널 참가 불가 상태 - channelName: {}, callStatus: {}", channelName, call.getCallStatus());
-                throw new CustomException(ErrorCode.CALL_SESSION_ERROR, "입장 불가 상태: " + call.getCallStatus());
+                log.warn("채널 참가 불가 상태 - channelName: {}, callStatus: {}", channelName, call.callStatus());
+                throw new CustomException(ErrorCode.CALL_SESSION_ERROR, "입장 불가 상태: " + call.callStatus());
             }
         }
 
@@ -155,9 +160,9 @@ public class CallChannelService {
                 session.joinSession();
                 callSessionRepository.save(session);
                 log.info("CallSession 상태 업데이트: READY -> JOINED - callId: {}, userId: {}",
-                        call.getId(), userId);
+                        call.callId(), userId);
             } catch (Exception e) {
-                log.error("CallSession 상태 업데이트 실패 - callId: {}, userId: {}", call.getId(), userId, e);
+                log.error("CallSession 상태 업데이트 실패 - callId: {}, userId: {}", call.callId(), userId, e);
             }
         }
 
@@ -185,10 +190,8 @@ public class CallChannelService {
             return ChannelResponse.from(channelInfo);
         }
 
-        Call call = callRepository.findByAgoraChannelName(channelName).orElse(null);
-        if (call != null) {
-            updateCallSessionToLeft(call.getId(), userId);
-        }
+        callSnapshotCacheService.getByChannelName(channelName)
+                .ifPresent(call -> updateCallSessionToLeft(call.callId(), userId));
 
         // 원자적 제거
         String participantsKey = CHANNEL_PARTICIPANTS_PREFIX + channelName;
@@ -414,24 +417,24 @@ public class CallChannelService {
 
 
 
-    private CallSession getOrCreateCallSession(Call call, Long userId) {
+    private CallSession getOrCreateCallSession(CallSnapshot call, Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
         // 기존 세션 조회 (READY 상태인 것만)
         Optional<CallSession> existingSession = callSessionRepository
-                .findActiveSessionByCallIdAndUserId(call.getId(), userId);
+                .findActiveSessionByCallIdAndUserId(call.callId(), userId);
 
         if (existingSession.isPresent()) {
             CallSession session = existingSession.get();
 
-            log.debug("기존 CallSession 재사용 - callId: {}, userId: {}", call.getId(), userId);
+            log.debug("기존 CallSession 재사용 - callId: {}, userId: {}", call.callId(), userId);
             return session;
         }
 
         // 혹시 모를 동시성 문제를 위해 한 번 더 확인
         List<CallSession> allSessions = callSessionRepository
-                .findByCallIdAndUserIdOrderByCreatedAtDesc(call.getId(), userId);
+                .findByCallIdAndUserIdOrderByCreatedAtDesc(call.callId(), userId);
 
         for (CallSession session : allSessions) {
             if (session.getSessionStatus() == SessionStatus.READY ||
@@ -443,22 +446,52 @@ public class CallChannelService {
 
         // 새 세션 생성
         Long agoraUid = generateAgoraUid(userId);
-        String rtcToken = generateRtcToken(call.getAgoraChannelName(), agoraUid);
+        String rtcToken = generateRtcToken(call.channelName(), agoraUid);
 
         // 만료 시각 계산
         LocalDateTime tokenExpiresAt = LocalDateTime.now()
                 .plusSeconds(CallValidationConstants.DEFAULT_TTL_SECONDS_ONE_HOURS);
 
         CallSession newSession = CallSession.of(
-                call, user, agoraUid, rtcToken, null, SessionStatus.READY, tokenExpiresAt);
+                callRepository.getReferenceById(call.callId()), user, agoraUid, rtcToken, null, SessionStatus.READY, tokenExpiresAt);
         callSessionRepository.save(newSession);
 
         log.info("새로운 CallSession 생성 - callId: {}, userId: {}, agoraUid: {}, expiresAt: {}",
-                call.getId(), userId, agoraUid, tokenExpiresAt);
+                call.callId(), userId, agoraUid, tokenExpiresAt);
 
         return newSession;
     }
 
+    /**
+     * 채널 생성 시 두 참가자의 RTC 토큰을 한 번에 발급해 READY 세션으로 저장
+     * - 입장(joinChannel)과 토큰 조회는 저장된 세션을 재사용하므로 요청 경로에서 토큰을 만들지 않음
+     * - 발급에 실패하면 입장 시 기존처럼 개별 발급
+     */
+    private void preMintSessions(Call call, String channelName) {
+        LocalDateTime tokenExpiresAt = LocalDateTime.now()
+                .plusSeconds(CallValidationConstants.DEFAULT_TTL_SECONDS_ONE_HOURS);
+        Call callReference = callRepository.getReferenceById(call.getId());
+
+        List<CallSession> sessions = new ArrayList<>(2);
+        for (Long userId : List.of(call.getUser1().getId(), call.getUser2().getId())) {
+            try {
+                if (callSessionRepository.findActiveSessionByCallIdAndUserId(call.getId(), userId).isPresent()) {
+                    continue;
+                }
+                Long agoraUid = generateAgoraUid(userId);
+                sessions.add(CallSession.of(callReference, userRepository.getReferenceById(userId), agoraUid,
+                        generateRtcToken(channelName, agoraUid), null, SessionStatus.READY, tokenExpiresAt));
+            } catch (Exception e) {
+                log.warn("RTC 토큰 사전 발급 실패 (입장 시 발급) - callId: {}, userId: {}", call.getId(), userId, e);
+            }
+        }
+
+        if (!sessions.isEmpty()) {
+            callSessionRepository.saveAll(sessions);
+            log.debug("RTC 토큰 사전 발급 완료 - callId: {}, 세션: {}개", call.getId(), sessions.size());
+        }
+    }
+
     private String generateRtcToken(String channelName, Long agoraUid) {
         return agoraTokenGenerator.generateRtcToken(
                 channelName,
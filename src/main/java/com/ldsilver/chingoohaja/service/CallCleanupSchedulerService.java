@@ -1,22 +1,29 @@
 package com.ldsilver.chingoohaja.service;
 
-import com.ldsilver.chingoohaja.common.exception.CustomException;
-import com.ldsilver.chingoohaja.domain.call.Call;
-import com.ldsilver.chingoohaja.domain.call.CallRecording;
-import com.ldsilver.chingoohaja.domain.call.CallSession;
-import com.ldsilver.chingoohaja.domain.call.enums.RecordingStatus;
+import com.ldsilver.chingoohaja.config.CallProperties;
+import com.ldsilver.chingoohaja.dto.call.OrphanedSessionRow;
+import com.ldsilver.chingoohaja.dto.call.StaleCallRow;
+import com.ldsilver.chingoohaja.dto.call.StuckRecordingRow;
 import com.ldsilver.chingoohaja.repository.CallRecordingRepository;
 import com.ldsilver.chingoohaja.repository.CallRepository;
 import com.ldsilver.chingoohaja.repository.CallSessionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
+/**
+ * 고아 리소스 정리 스케줄러
+ * - 엔티티 전체 로딩 대신 id 키셋 페이징으로 청크 단위 조회
+ * - 청크마다 일괄 UPDATE 후 별도 트랜잭션으로 커밋 (장애 복구 후 수천 건이어도 트랜잭션이 커지지 않음)
+ * - 채널 삭제, 녹음 중지 같은 외부 호출은 커밋 후 CallCleanupTaskService로 비동기 위임
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -25,25 +32,28 @@ public class CallCleanupSchedulerService {
     private final CallRepository callRepository;
     private final CallSessionRepository callSessionRepository;
     private final CallRecordingRepository callRecordingRepository;
-    private final AgoraRecordingService agoraRecordingService;
-    private final CallChannelService callChannelService;
+    private final CallCleanupTaskService callCleanupTaskService;
+    private final ActiveCallIndexService activeCallIndexService;
+    private final CallSnapshotCacheService callSnapshotCacheService;
+    private final CallProperties callProperties;
+    private final PlatformTransactionManager transactionManager;
 
     @Scheduled(fixedDelay = 300000) // 5분 = 300,000ms
-    @Transactional
     public void cleanupStaleResources() {
         log.debug("🧹 고아 리소스 정리 스케줄러 실행");
 
         try {
-            LocalDateTime twoHoursAgo = LocalDateTime.now().minusHours(2);
+            LocalDateTime threshold = LocalDateTime.now()
+                    .minusMinutes(callProperties.getCleanup().getStaleThresholdMinutes());
 
-            // 1. 2시간 이상 IN_PROGRESS인 Call 정리
-            cleanupStaleCalls(twoHoursAgo);
+            // 1. 오래된 IN_PROGRESS Call 정리
+            cleanupStaleCalls(threshold);
 
-            // 2. 2시간 이상 JOINED인 Session 정리
-            cleanupOrphanedSessions(twoHoursAgo);
+            // 2. 오래된 JOINED Session 정리
+            cleanupOrphanedSessions(threshold);
 
-            // 3. 2시간 이상 PROCESSING인 Recording 정리
-            cleanupStuckRecordings(twoHoursAgo);
+            // 3. 오래된 PROCESSING Recording 정리
+            cleanupStuckRecordings(threshold);
 
             log.debug("✅ 고아 리소스 정리 완료");
 
@@ -53,167 +63,128 @@ public class CallCleanupSchedulerService {
     }
 
     private void cleanupStaleCalls(LocalDateTime threshold) {
-        List<Call> staleCalls = callRepository.findStaleInProgressCalls(threshold);
+        CallProperties.CleanupConfig config = callProperties.getCleanup();
+        PageRequest chunk = PageRequest.of(0, config.getChunkSize());
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
 
-        if (staleCalls.isEmpty()) {
-            log.debug("정리할 고아 Call 없음");
-            return;
-        }
+        long lastId = 0L;
+        int totalCompleted = 0;
 
-        log.warn("🚨 고아 Call 발견: {}건", staleCalls.size());
-
-        for (Call call : staleCalls) {
-            try {
-                cleanupStaleCall(call);
-            } catch (Exception e) {
-                log.error("고아 Call 정리 실패 - callId: {}", call.getId(), e);
+        for (int chunkCount = 0; chunkCount < config.getMaxChunksPerRun(); chunkCount++) {
+            List<StaleCallRow> staleCalls = callRepository.findStaleInProgressCallChunk(threshold, lastId, chunk);
+            if (staleCalls.isEmpty()) {
+                break;
             }
-        }
-
-        log.info("고아 Call 정리 완료: {}건", staleCalls.size());
-    }
-
-    private void cleanupOrphanedSessions(LocalDateTime threshold) {
-        List<CallSession> orphanedSessions = callSessionRepository
-                .findOrphanedJoinedSessions(threshold);
+            lastId = staleCalls.get(staleCalls.size() - 1).callId();
 
-        if (orphanedSessions.isEmpty()) {
-            log.debug("정리할 고아 Session 없음");
-            return;
-        }
-
-        log.warn("🚨 고아 Session 발견: {}건", orphanedSessions.size());
+            List<Long> callIds = staleCalls.stream().map(StaleCallRow::callId).toList();
+            LocalDateTime now = LocalDateTime.now();
 
-        for (CallSession session : orphanedSessions) {
             try {
-                cleanupOrphanedSession(session);
+                Integer completed = transactionTemplate.execute(status -> {
+                    int updatedSessions = callSessionRepository.endAllSessionsForCalls(callIds, now);
+                    int updatedCalls = callRepository.completeStaleCalls(callIds, now);
+                    log.info("고아 Call 청크 종료 - calls: {}/{}, sessions: {}",
+                            updatedCalls, callIds.size(), updatedSessions);
+                    return updatedCalls;
+                });
+                totalCompleted += completed != null ? completed : 0;
             } catch (Exception e) {
-                log.error("고아 Session 정리 실패 - sessionId: {}", session.getId(), e);
+                log.error("고아 Call 청크 정리 실패 - callIds: {} ~ {}", callIds.get(0), lastId, e);
+                continue;
             }
-        }
-
-        log.info("고아 Session 정리 완료: {}건", orphanedSessions.size());
-    }
-
-    private void cleanupStuckRecordings(LocalDateTime threshold) {
-        List<CallRecording> stuckRecordings = callRecordingRepository
-                .findStuckProcessingRecordings(threshold);
-
-        if (stuckRecordings.isEmpty()) {
-            log.debug("정리할 멈춘 Recording 없음");
-            return;
-        }
 
-        log.warn("🚨 멈춘 Recording 발견: {}건", stuckRecordings.size());
+            for (StaleCallRow call : staleCalls) {
+                activeCallIndexService.clear(call.callId(), call.participantIds());
+                callSnapshotCacheService.evict(call.callId());
+                callCleanupTaskService.teardownStaleCall(call);
+            }
 
-        for (CallRecording recording : stuckRecordings) {
-            try {
-                cleanupStuckRecording(recording);
-            } catch (Exception e) {
-                log.error("멈춘 Recording 정리 실패 - recordingId: {}", recording.getId(), e);
+            if (staleCalls.size() < config.getChunkSize()) {
+                break;
             }
         }
 
-        log.info("멈춘 Recording 정리 완료: {}건", stuckRecordings.size());
+        if (totalCompleted > 0) {
+            log.warn("🚨 고아 Call 정리 완료: {}건", totalCompleted);
+        } else {
+            log.debug("정리할 고아 Call 없음");
+        }
     }
 
-    private void cleanupStaleCall(Call call) {
-        log.info("고아 Call 정리 시작 - callId: {}", call.getId());
+    private void cleanupOrphanedSessions(LocalDateTime threshold) {
+        CallProperties.CleanupConfig config = callProperties.getCleanup();
+        PageRequest chunk = PageRequest.of(0, config.getChunkSize());
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        long lastId = 0L;
+        int totalLeft = 0;
+
+        for (int chunkCount = 0; chunkCount < config.getMaxChunksPerRun(); chunkCount++) {
+            List<OrphanedSessionRow> orphanedSessions = callSessionRepository
+                    .findOrphanedJoinedSessionChunk(threshold, lastId, chunk);
+            if (orphanedSessions.isEmpty()) {
+                break;
+            }
+            lastId = orphanedSessions.get(orphanedSessions.size() - 1).sessionId();
+
+            List<Long> sessionIds = orphanedSessions.stream().map(OrphanedSessionRow::sessionId).toList();
 
-        // 1. Recording 중지 시도
-        if (call.getAgoraChannelName() != null) {
             try {
-                callRecordingRepository.findByCallId(call.getId()).ifPresent(recording -> {
-                    if (recording.getRecordingStatus() == RecordingStatus.PROCESSING) {
-                        try {
-                            agoraRecordingService.stopRecording(call.getId());
-                            log.info("고아 Call의 Recording 중지 완료 - callId: {}", call.getId());
-                        } catch (CustomException e) {
-                            // ✅ 404는 예상된 동작
-                            if (e.getErrorCode().name().contains("NOT_FOUND")) {
-                                log.info("고아 Call의 Recording 이미 종료됨 (404) - callId: {}", call.getId());
-                            } else {
-                                log.warn("고아 Call의 Recording 중지 실패 (무시) - callId: {}", call.getId(), e);
-                            }
-                        }
-                    }
-                });
+                Integer left = transactionTemplate.execute(status ->
+                        callSessionRepository.leaveSessions(sessionIds, LocalDateTime.now()));
+                totalLeft += left != null ? left : 0;
             } catch (Exception e) {
-                log.warn("고아 Call의 Recording 확인 실패 (무시) - callId: {}", call.getId(), e);
+                log.error("고아 Session 청크 정리 실패 - sessionIds: {} ~ {}", sessionIds.get(0), lastId, e);
+                continue;
             }
-        }
 
-        // 2. 관련 Session들 종료
-        try {
-            LocalDateTime now = LocalDateTime.now();
-            int updatedSessions = callSessionRepository.endAllSessionsForCall(call.getId(), now);
-            log.info("고아 Call의 Session 종료 - callId: {}, sessions: {}", call.getId(), updatedSessions);
-        } catch (Exception e) {
-            log.error("고아 Call의 Session 종료 실패 - callId: {}", call.getId(), e);
-        }
+            orphanedSessions.forEach(callCleanupTaskService::leaveOrphanedSessionChannel);
 
-        // 3. Redis 채널 정리
-        if (call.getAgoraChannelName() != null) {
-            try {
-                callChannelService.deleteChannel(call.getAgoraChannelName());
-                log.info("고아 Call의 채널 삭제 완료 - callId: {}, channel: {}",
-                        call.getId(), call.getAgoraChannelName());
-            } catch (Exception e) {
-                log.warn("고아 Call의 채널 삭제 실패 (무시) - callId: {}", call.getId(), e);
+            if (orphanedSessions.size() < config.getChunkSize()) {
+                break;
             }
         }
 
-        // 4. Call 종료
-        try {
-            call.endCall();
-            callRepository.save(call);
-            log.info("고아 Call 종료 완료 - callId: {}, duration: {}초",
-                    call.getId(), call.getDurationSeconds());
-        } catch (Exception e) {
-            log.error("고아 Call 종료 실패 - callId: {}", call.getId(), e);
+        if (totalLeft > 0) {
+            log.warn("🚨 고아 Session 정리 완료: {}건", totalLeft);
+        } else {
+            log.debug("정리할 고아 Session 없음");
         }
     }
 
-    private void cleanupOrphanedSession(CallSession session) {
-        log.info("고아 Session 정리 시작 - sessionId: {}, callId: {}, userId: {}",
-                session.getId(), session.getCall().getId(), session.getUser().getId());
+    private void cleanupStuckRecordings(LocalDateTime threshold) {
+        CallProperties.CleanupConfig config = callProperties.getCleanup();
+        PageRequest chunk = PageRequest.of(0, config.getChunkSize());
 
-        try {
-            session.leaveSession();
-            callSessionRepository.save(session);
-
-            Call call = session.getCall();
-            if (call.getAgoraChannelName() != null) {
-                try {
-                    callChannelService.leaveChannel(
-                            call.getAgoraChannelName(),
-                            session.getUser().getId()
-                    );
-                } catch (Exception e) {
-                    log.warn("고아 Session의 채널 퇴장 실패 (무시) - sessionId: {}", session.getId(), e);
+        long lastId = 0L;
+        int queued = 0;
+
+        for (int chunkCount = 0; chunkCount < config.getMaxChunksPerRun(); chunkCount++) {
+            List<StuckRecordingRow> stuckRecordings = callRecordingRepository
+                    .findStuckProcessingRecordingChunk(threshold, lastId, chunk);
+            if (stuckRecordings.isEmpty()) {
+                break;
+            }
+            lastId = stuckRecordings.get(stuckRecordings.size() - 1).recordingId();
+
+            // 녹음 중지는 Agora 호출이 필요하므로 행 단위로 비동기 처리 (실패 시 FAILED 처리)
+            for (StuckRecordingRow recording : stuckRecordings) {
+                if (callCleanupTaskService.reserveRecording(recording.recordingId())) {
+                    callCleanupTaskService.stopStuckRecording(recording);
+                    queued++;
                 }
             }
 
-            log.info("고아 Session 정리 완료 - sessionId: {}", session.getId());
-        } catch (Exception e) {
-            log.error("고아 Session 정리 실패 - sessionId: {}", session.getId(), e);
+            if (stuckRecordings.size() < config.getChunkSize()) {
+                break;
+            }
         }
-    }
-
-    private void cleanupStuckRecording(CallRecording recording) {
-        log.info("멈춘 Recording 정리 시작 - recordingId: {}, callId: {}",
-                recording.getId(), recording.getCall().getId());
 
-        try {
-            agoraRecordingService.stopRecording(recording.getCall().getId());
-            log.info("멈춘 Recording 중지 성공 - recordingId: {}", recording.getId());
-        } catch (Exception e) {
-            log.warn("멈춘 Recording 중지 실패 - FAILED 처리 - recordingId: {}",
-                    recording.getId(), e);
-            recording.fail();
-            callRecordingRepository.save(recording);
+        if (queued > 0) {
+            log.warn("🚨 멈춘 Recording 중지 요청: {}건", queued);
+        } else {
+            log.debug("정리할 멈춘 Recording 없음");
         }
-
     }
-
 }
@@ -0,0 +1,109 @@
+package com.ldsilver.chingoohaja.service;
+
+import com.ldsilver.chingoohaja.common.exception.CustomException;
+import com.ldsilver.chingoohaja.domain.call.enums.RecordingStatus;
+import com.ldsilver.chingoohaja.dto.call.OrphanedSessionRow;
+import com.ldsilver.chingoohaja.dto.call.StaleCallRow;
+import com.ldsilver.chingoohaja.dto.call.StuckRecordingRow;
+import com.ldsilver.chingoohaja.repository.CallRecordingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 정리 스케줄러의 외부 부수효과 처리 (cleanupTaskExecutor에서 비동기 실행)
+ * - DB 상태 정리는 스케줄러가 청크 단위로 커밋한 뒤 호출됨
+ * - Agora/Redis 호출 실패는 다음 스케줄러 실행이나 TTL로 복구되므로 로그만 남김
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CallCleanupTaskService {
+
+    private final CallRecordingRepository callRecordingRepository;
+    private final AgoraRecordingService agoraRecordingService;
+    private final CallChannelService callChannelService;
+
+    // 이전 실행에서 대기 중인 녹음 중지 작업이 다시 큐에 쌓이지 않도록 추적
+    private final Set<Long> pendingRecordingIds = ConcurrentHashMap.newKeySet();
+
+    @Async("cleanupTaskExecutor")
+    public void teardownStaleCall(StaleCallRow call) {
+        if (call.channelName() == null) {
+            return;
+        }
+
+        // 1. Recording 중지 시도
+        try {
+            callRecordingRepository.findByCallId(call.callId()).ifPresent(recording -> {
+                if (recording.getRecordingStatus() == RecordingStatus.PROCESSING) {
+                    stopRecordingQuietly(call.callId());
+                }
+            });
+        } catch (Exception e) {
+            log.warn("고아 Call의 Recording 확인 실패 (무시) - callId: {}", call.callId(), e);
+        }
+
+        // 2. Redis 채널 정리
+        try {
+            callChannelService.deleteChannel(call.channelName());
+            log.info("고아 Call의 채널 삭제 완료 - callId: {}, channel: {}",
+                    call.callId(), call.channelName());
+        } catch (Exception e) {
+            log.warn("고아 Call의 채널 삭제 실패 (무시) - callId: {}", call.callId(), e);
+        }
+    }
+
+    @Async("cleanupTaskExecutor")
+    public void leaveOrphanedSessionChannel(OrphanedSessionRow session) {
+        if (session.channelName() == null) {
+            return;
+        }
+
+        try {
+            callChannelService.leaveChannel(session.channelName(), session.userId());
+        } catch (Exception e) {
+            log.warn("고아 Session의 채널 퇴장 실패 (무시) - sessionId: {}", session.sessionId(), e);
+        }
+    }
+
+    /**
+     * 이미 같은 녹음의 중지 작업이 대기 중이면 false (호출자는 건너뜀)
+     */
+    public boolean reserveRecording(Long recordingId) {
+        return pendingRecordingIds.add(recordingId);
+    }
+
+    @Async("cleanupTaskExecutor")
+    public void stopStuckRecording(StuckRecordingRow recording) {
+        try {
+            agoraRecordingService.stopRecording(recording.callId());
+            log.info("멈춘 Recording 중지 성공 - recordingId: {}", recording.recordingId());
+        } catch (Exception e) {
+            log.warn("멈춘 Recording 중지 실패 - FAILED 처리 - recordingId: {}",
+                    recording.recordingId(), e);
+            callRecordingRepository.failIfProcessing(recording.recordingId(), LocalDateTime.now());
+        } finally {
+            pendingRecordingIds.remove(recording.recordingId());
+        }
+    }
+
+    private void stopRecordingQuietly(Long callId) {
+        try {
+            agoraRecordingService.stopRecording(callId);
+            log.info("고아 Call의 Recording 중지 완료 - callId: {}", callId);
+        } catch (CustomException e) {
+            // ✅ 404는 예상된 동작
+            if (e.getErrorCode().name().contains("NOT_FOUND")) {
+                log.info("고아 Call의 Recording 이미 종료됨 (404) - callId: {}", callId);
+            } else {
+                log.warn("고아 Call의 Recording 중지 실패 (무시) - callId: {}", callId, e);
+            }
+        }
+    }
+}
@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -15,6 +16,8 @@ public class CallGracePeriodService {
     private final RedisTemplate<String, String> redisTemplate;
 
     private static final String GRACE_PERIOD_PREFIX = "grace_period:";
+    // 사용자 -> 유예 중인 callId (재접속 시 DB의 활성 통화 조회 없이 유예 여부 확인)
+    private static final String USER_GRACE_PERIOD_PREFIX = "grace_period_user:";
     private static final int GRACE_PERIOD_SECONDS = 30;
 
     /**
@@ -30,6 +33,12 @@ public class CallGracePeriodService {
                 GRACE_PERIOD_SECONDS,
                 TimeUnit.SECONDS
         );
+        redisTemplate.opsForValue().set(
+                USER_GRACE_PERIOD_PREFIX + userId,
+                String.valueOf(callId),
+                GRACE_PERIOD_SECONDS,
+                TimeUnit.SECONDS
+        );
 
         log.info("유예 기간 시작 - callId: {}, userId: {}, 만료: {}초 후",
                 callId, userId, GRACE_PERIOD_SECONDS);
@@ -41,12 +50,29 @@ public class CallGracePeriodService {
     public void cancelGracePeriod(Long callId, Long userId) {
         String key = GRACE_PERIOD_PREFIX + callId + ":" + userId;
         Boolean deleted = redisTemplate.delete(key);
+        redisTemplate.delete(USER_GRACE_PERIOD_PREFIX + userId);
 
         if (Boolean.TRUE.equals(deleted)) {
             log.info("유예 기간 취소 (재연결) - callId: {}, userId: {}", callId, userId);
         }
     }
 
+    /**
+     * 사용자가 유예 기간 중인 통화 ID (Redis만 조회)
+     */
+    public Optional<Long> findGracePeriodCallId(Long userId) {
+        String callId = redisTemplate.opsForValue().get(USER_GRACE_PERIOD_PREFIX + userId);
+        if (callId == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Long.valueOf(callId));
+        } catch (NumberFormatException e) {
+            log.warn("유예 기간 callId 파싱 실패 - userId: {}, value: {}", userId, callId);
+            return Optional.empty();
+        }
+    }
+
     /**
      * 유예 기간 중인지 확인
      */
@@ -41,39 +41,49 @@ public class CallService {
     private final RecordingProperties recordingProperties;
     private final CallSessionRepository callSessionRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final ActiveCallIndexService activeCallIndexService;
+    private final CallSnapshotCacheService callSnapshotCacheService;
+    private final CallTransitionService callTransitionService;
 
-    @Transactional
     public void startCall(Long callId) {
         log.debug("통화 시작 처리 - callId: {}", callId);
 
-        Call call = callRepository.findByIdWithLock(callId)
-                .orElseThrow(() -> new CustomException(ErrorCode.CALL_NOT_FOUND));
+        Call call = callTransitionService.execute(callId, target -> {
+            if (target.getCallStatus() == CallStatus.IN_PROGRESS) {
+                log.warn("이미 시작된 통화 - callId: {}, 중복 시작 요청 무시", callId);
+                return null;
+            }
 
-        if (call.getCallStatus() == CallStatus.IN_PROGRESS) {
-            log.warn("이미 시작된 통화 - callId: {}, 중복 시작 요청 무시", callId);
-            return;
-        }
+            if (target.getCallStatus() != CallStatus.READY) {
+                log.error("통화 시작 불가 상태 - callId: {}, status: {}",
+                        callId, target.getCallStatus());
+                throw new CustomException(ErrorCode.CALL_START_FAILED,
+                        "현재 상태에서는 통화를 시작할 수 없습니다: " + target.getCallStatus());
+            }
+
+            target.startCall(); //상태 변경
+            callRepository.save(target);
+            return target;
+        });
 
-        if (call.getCallStatus() != CallStatus.READY) {
-            log.error("통화 시작 불가 상태 - callId: {}, status: {}",
-                    callId, call.getCallStatus());
-            throw new CustomException(ErrorCode.CALL_START_FAILED,
-                    "현재 상태에서는 통화를 시작할 수 없습니다: " + call.getCallStatus());
+        if (call == null) {
+            return;
         }
 
-        try {
-            call.startCall(); //상태 변경
-            callRepository.save(call);
+        // Redis 인덱스/캐시는 전이가 커밋된 뒤 한 번만 반영 (충돌 재시도, 롤백된 시도는 반영하지 않음)
+        activeCallIndexService.markActive(call);
+        callSnapshotCacheService.evict(callId);
 
-            // 녹음 설정 로그 추가
-            log.info("통화 시작 완료 - callId: {}, status: {}", callId, call.getCallStatus());
+        // 녹음 설정 로그 추가
+        log.info("통화 시작 완료 - callId: {}, status: {}", callId, call.getCallStatus());
 
-//            if (shouldStartRecording(call)) {
-//                startRecordingAsync(call);
-//            } else {
-//                log.info("자동 녹음 비활성화 - callId: {}", callId);
-//            }
+//        if (shouldStartRecording(call)) {
+//            startRecordingAsync(call);
+//        } else {
+//            log.info("자동 녹음 비활성화 - callId: {}", callId);
+//        }
 
+        try {
             if (recordingProperties.isAutoStart() && call.getAgoraChannelName() != null) {
                 eventPublisher.publishEvent(new CallStartedEvent(
                         call.getId(),
@@ -81,79 +91,43 @@ public class CallService {
                 ));
                 log.debug("CallStartedEvent 발행 완료 - callId: {}", callId);
             }
-        } catch (CustomException ce) {
-            // Call 엔티티에서 발생한 비즈니스 예외
-            log.error("통화 시작 비즈니스 로직 실패 - callId: {}", callId, ce);
-            throw ce;
         } catch (Exception e) {
-            log.error("통화 시작 처리 실패 - callId: {}", callId, e);
-
-            if (call.getCallStatus() == CallStatus.IN_PROGRESS) {
-                log.warn("녹음 실패했지만 통화는 시작됨 - callId: {}", callId);
-                return;
-            }
-
-            throw new CustomException(ErrorCode.CALL_START_FAILED, "통화 시작 실패", e);
+            log.warn("녹음 실패했지만 통화는 시작됨 - callId: {}", callId, e);
         }
     }
 
-    @Transactional
     public void endCall(Long callId) {
         log.debug("통화 종료 처리 - callId: {}", callId);
 
-        Call call = callRepository.findById(callId)
-                .orElseThrow(() -> new CustomException(ErrorCode.CALL_NOT_FOUND));
-
-        if (call.getCallStatus() == CallStatus.COMPLETED) {
-            log.warn("이미 종료된 통화 - callId: {}, 중복 종료 요청 무시", callId);
-            return;
-        }
-
-        if (call.getCallStatus() == CallStatus.CANCELLED ||
-                call.getCallStatus() == CallStatus.FAILED) {
-            log.warn("종료할 수 없는 상태 - callId: {}, status: {}",
-                    callId, call.getCallStatus());
-            return;
-        }
-
-        try {
-            if (shouldStopRecording(callId)) {
-                try {
-                    stopRecordingAsync(callId);
-                } catch (Exception re) {
-                    log.warn("녹음 중지 실패 (통화 종료는 계속) - callId: {}", callId, re);
-                }
+        Call call = callTransitionService.execute(callId, target -> {
+            if (target.getCallStatus() == CallStatus.COMPLETED) {
+                log.warn("이미 종료된 통화 - callId: {}, 중복 종료 요청 무시", callId);
+                return null;
             }
 
-            try {
-                updateAllSessionsToLeft(callId);
-            } catch (Exception se) {
-                log.warn("세션 상태 업데이트 실패 (통화 종료는 계속) - callId: {}", callId, se);
+            if (target.getCallStatus() == CallStatus.CANCELLED ||
+                    target.getCallStatus() == CallStatus.FAILED) {
+                log.warn("종료할 수 없는 상태 - callId: {}, status: {}",
+                        callId, target.getCallStatus());
+                return null;
             }
 
-            call.endCall();
-            callRepository.save(call);
+            target.endCall();
+            callRepository.save(target);
+            return target;
+        });
 
-            log.info("통화 종료 완료 - callId: {}, duration: {}초",
-                    callId, call.getDurationSeconds());
+        if (call == null) {
+            return;
+        }
 
-        } catch (CustomException ce) {
-            log.error("통화 종료 비즈니스 로직 실패 - callId: {}", callId, ce);
-            throw ce;
-        } catch (Exception e) {
-            log.error("통화 종료 처리 실패 - callId: {}", callId, e);
+        // 상태 전이가 확정된 뒤 한 번만 수행 (충돌 재시도 시 중복 호출 방지)
+        activeCallIndexService.clear(call);
+        callSnapshotCacheService.evict(callId);
+        releaseCallResources(callId);
 
-            // 녹음 중지가 실패해도 통화는 종료
-            try {
-                call.endCall();
-                callRepository.save(call);
-                log.warn("녹음 중지 실패했지만 통화는 종료됨 - callId: {}", callId);
-            } catch (Exception saveEx) {
-                log.error("통화 종료 상태 저장도 실패 - callId: {}", callId, saveEx);
-                throw new CustomException(ErrorCode.CALL_SESSION_ERROR,
-                        "통화 종료 처리 완전 실패", saveEx);
-            }
-        }
+        log.info("통화 종료 완료 - callId: {}, duration: {}초",
+                callId, call.getDurationSeconds());
     }
 
     @Transactional
@@ -208,6 +182,22 @@ public class CallService {
         return true;
     }
 
+    private void releaseCallResources(Long callId) {
+        if (shouldStopRecording(callId)) {
+            try {
+                stopRecordingAsync(callId);
+            } catch (Exception re) {
+                log.warn("녹음 중지 실패 (통화 종료는 계속) - callId: {}", callId, re);
+            }
+        }
+
+        try {
+            updateAllSessionsToLeft(callId);
+        } catch (Exception se) {
+            log.warn("세션 상태 업데이트 실패 (통화 종료는 계속) - callId: {}", callId, se);
+        }
+    }
+
     private void startRecordingAsync(Call call) {
         try {
             log.info("자동 녹음 시작 요청 - callId: {}, channel: {}",
@@ -280,51 +270,33 @@ public class CallService {
      * - 권한 체크 없이 통화 종료 가능
      * - 모든 상태의 통화를 강제 종료 가능 (이미 종료된 통화 제외)
      */
-    @Transactional
     public AdminForceEndCallResponse forceEndCallByAdmin(Long callId, Long adminId) {
         log.warn("⚠️ 관리자 통화 강제 종료 - callId: {}, adminId: {}", callId, adminId);
 
-        // User, Category를 함께 fetch join으로 조회 (LazyInitializationException 방지)
-        Call call = callRepository.findByIdWithLockAndFetchUsers(callId)
-                .orElseThrow(() -> new CustomException(ErrorCode.CALL_NOT_FOUND));
-
-        CallStatus previousStatus = call.getCallStatus();
-
-        // 이미 종료된 통화인 경우
-        if (previousStatus == CallStatus.COMPLETED ||
-                previousStatus == CallStatus.CANCELLED ||
-                previousStatus == CallStatus.FAILED) {
-            log.info("이미 종료된 통화 - callId: {}, status: {}", callId, previousStatus);
-            throw new CustomException(ErrorCode.CALL_ALREADY_ENDED,
-                    "이미 종료된 통화입니다. 현재 상태: " + previousStatus);
-        }
-
+        // 응답에 필요한 User, Category는 전이 트랜잭션 안에서 읽음 (LazyInitializationException 방지)
+        ForcedEnd forcedEnd;
         try {
-            // 녹음 중지 시도
-            if (shouldStopRecording(callId)) {
-                try {
-                    stopRecordingAsync(callId);
-                } catch (Exception re) {
-                    log.warn("녹음 중지 실패 (강제 종료는 계속) - callId: {}", callId, re);
+            forcedEnd = callTransitionService.execute(callId, call -> {
+                CallStatus previousStatus = call.getCallStatus();
+
+                // 이미 종료된 통화인 경우
+                if (previousStatus == CallStatus.COMPLETED ||
+                        previousStatus == CallStatus.CANCELLED ||
+                        previousStatus == CallStatus.FAILED) {
+                    log.info("이미 종료된 통화 - callId: {}, status: {}", callId, previousStatus);
+                    throw new CustomException(ErrorCode.CALL_ALREADY_ENDED,
+                            "이미 종료된 통화입니다. 현재 상태: " + previousStatus);
                 }
-            }
-
-            // 세션 업데이트
-            try {
-                updateAllSessionsToLeft(callId);
-            } catch (Exception se) {
-                log.warn("세션 상태 업데이트 실패 (강제 종료는 계속) - callId: {}", callId, se);
-            }
-
-            // 통화 강제 종료
-            call.forceEndCall();
-            callRepository.save(call);
 
-            log.info("✅ 통화 강제 종료 완료 - callId: {}, previousStatus: {}, duration: {}초",
-                    callId, previousStatus, call.getDurationSeconds());
-
-            return AdminForceEndCallResponse.of(call, previousStatus, adminId);
+                // 통화 강제 종료
+                call.forceEndCall();
+                callRepository.save(call);
 
+                return new ForcedEnd(
+                        AdminForceEndCallResponse.of(call, previousStatus, adminId),
+                        List.of(call.getUser1().getId(), call.getUser2().getId())
+                );
+            });
         } catch (CustomException ce) {
             throw ce;
         } catch (Exception e) {
@@ -332,5 +304,21 @@ public class CallService {
             throw new CustomException(ErrorCode.CALL_SESSION_ERROR,
                     "통화 강제 종료 처리 실패: " + e.getMessage());
         }
+
+        activeCallIndexService.clear(callId, forcedEnd.participantIds());
+        callSnapshotCacheService.evict(callId);
+
+        // 녹음 중지, 세션 업데이트 (실패해도 강제 종료는 유지)
+        releaseCallResources(callId);
+
+        AdminForceEndCallResponse response = forcedEnd.response();
+
+        log.info("✅ 통화 강제 종료 완료 - callId: {}, previousStatus: {}, duration: {}초",
+                callId, response.previousStatus(), response.durationSeconds());
+
+        return response;
+    }
+
+    private record ForcedEnd(AdminForceEndCallResponse response, List<Long> participantIds) {
     }
 }
@@ -0,0 +1,172 @@
+package com.ldsilver.chingoohaja.service;
+
+import com.ldsilver.chingoohaja.config.CallProperties;
+import com.ldsilver.chingoohaja.domain.call.Call;
+import com.ldsilver.chingoohaja.dto.call.CallSnapshot;
+import com.ldsilver.chingoohaja.repository.CallRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 통화 스냅샷 인메모리 캐시
+ * - callId, 채널명 두 키로 조회 (채널 참가, 상태 조회, 토큰 갱신, 질문 조회에서 공유)
+ * - 크기 상한(LRU) + TTL 만료, 통화 상태 전이 시 evict
+ * - 노드 로컬 캐시이므로 다른 노드의 상태 변경은 TTL 이내에 반영됨
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CallSnapshotCacheService {
+
+    private final CallRepository callRepository;
+    private final CallProperties callProperties;
+
+    private final Object lock = new Object();
+    private final LinkedHashMap<Long, CachedSnapshot> snapshotsByCallId = new LinkedHashMap<>(256, 0.75f, true);
+    private final Map<String, Long> callIdsByChannel = new HashMap<>();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    public Optional<CallSnapshot> getByCallId(Long callId) {
+        CallSnapshot cached = lookup(callId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return callRepository.findByIdWithUsers(callId).map(this::put);
+    }
+
+    public Optional<CallSnapshot> getByChannelName(String channelName) {
+        Long callId;
+        synchronized (lock) {
+            callId = callIdsByChannel.get(channelName);
+        }
+
+        if (callId != null) {
+            CallSnapshot cached = lookup(callId);
+            if (cached != null && channelName.equals(cached.channelName())) {
+                return Optional.of(cached);
+            }
+        } else {
+            missCount.incrementAndGet();
+        }
+        return callRepository.findByAgoraChannelNameWithUsers(channelName).map(this::put);
+    }
+
+    public CallSnapshot put(Call call) {
+        CallSnapshot snapshot = CallSnapshot.from(call);
+        if (!isEnabled()) {
+            return snapshot;
+        }
+
+        long expiresAt = System.currentTimeMillis()
+                + callProperties.getSnapshotCache().getTtlSeconds() * 1000L;
+
+        synchronized (lock) {
+            CachedSnapshot previous = snapshotsByCallId.put(snapshot.callId(), new CachedSnapshot(snapshot, expiresAt));
+            if (previous != null && previous.snapshot().channelName() != null) {
+                callIdsByChannel.remove(previous.snapshot().channelName());
+            }
+            if (snapshot.channelName() != null) {
+                callIdsByChannel.put(snapshot.channelName(), snapshot.callId());
+            }
+            evictOverflow();
+        }
+        return snapshot;
+    }
+
+    /**
+     * 통화 상태 전이(시작/종료/취소/채널 설정) 시 호출
+     */
+    public void evict(Long callId) {
+        if (callId == null) {
+            return;
+        }
+        remove(callId);
+
+        // 커밋 전 다른 요청이 이전 상태를 다시 적재했을 수 있으므로 커밋 후 한 번 더 제거
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(callId);
+                }
+            });
+        }
+        log.debug("통화 스냅샷 캐시 제거 - callId: {}", callId);
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    private void remove(Long callId) {
+        synchronized (lock) {
+            CachedSnapshot removed = snapshotsByCallId.remove(callId);
+            if (removed != null && removed.snapshot().channelName() != null) {
+                callIdsByChannel.remove(removed.snapshot().channelName());
+            }
+        }
+    }
+
+    private CallSnapshot lookup(Long callId) {
+        if (!isEnabled() || callId == null) {
+            return null;
+        }
+
+        synchronized (lock) {
+            CachedSnapshot cached = snapshotsByCallId.get(callId);
+            if (cached == null) {
+                missCount.incrementAndGet();
+                return null;
+            }
+            if (cached.isExpired(System.currentTimeMillis())) {
+                snapshotsByCallId.remove(callId);
+                if (cached.snapshot().channelName() != null) {
+                    callIdsByChannel.remove(cached.snapshot().channelName());
+                }
+                missCount.incrementAndGet();
+                return null;
+            }
+            hitCount.incrementAndGet();
+            return cached.snapshot();
+        }
+    }
+
+    // lock 보유 상태에서만 호출
+    private void evictOverflow() {
+        int maxEntries = callProperties.getSnapshotCache().getMaxEntries();
+        Iterator<Map.Entry<Long, CachedSnapshot>> iterator = snapshotsByCallId.entrySet().iterator();
+        while (snapshotsByCallId.size() > maxEntries && iterator.hasNext()) {
+            CachedSnapshot eldest = iterator.next().getValue();
+            iterator.remove();
+            if (eldest.snapshot().channelName() != null) {
+                callIdsByChannel.remove(eldest.snapshot().channelName());
+            }
+        }
+    }
+
+    private boolean isEnabled() {
+        return callProperties.getSnapshotCache().isEnabled();
+    }
+
+    private record CachedSnapshot(CallSnapshot snapshot, long expiresAtMillis) {
+        boolean isExpired(long nowMillis) {
+            return nowMillis >= expiresAtMillis;
+        }
+    }
+}
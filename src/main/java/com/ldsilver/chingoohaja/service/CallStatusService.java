@@ -4,6 +4,7 @@ import com.ldsilver.chingoohaja.common.exception.CustomException;
 import com.ldsilver.chingoohaja.common.exception.ErrorCode;
 import com.ldsilver.chingoohaja.domain.call.Call;
 import com.ldsilver.chingoohaja.domain.call.enums.CallStatus;
+import com.ldsilver.chingoohaja.dto.call.CallSnapshot;
 import com.ldsilver.chingoohaja.dto.call.response.CallStatusResponse;
 import com.ldsilver.chingoohaja.repository.CallRepository;
 import lombok.RequiredArgsConstructor;
@@ -24,12 +25,13 @@ public class CallStatusService {
     private final CallRepository callRepository;
     private final CallService callService;
     private final EvaluationService evaluationService;
+    private final CallSnapshotCacheService callSnapshotCacheService;
 
     @Transactional(readOnly = true)
     public CallStatusResponse getCallStatus(Long callId, Long userId) {
         log.debug("통화 상태 조회 - callId: {}, userId: {}", callId, userId);
 
-        Call call = callRepository.findById(callId)
+        CallSnapshot call = callSnapshotCacheService.getByCallId(callId)
                 .orElseThrow(() -> new CustomException(ErrorCode.CALL_NOT_FOUND));
 
         if (!call.isParticipant(userId)) {
@@ -39,7 +41,7 @@ public class CallStatusService {
         CallStatusResponse baseResponse = CallStatusResponse.from(call, userId);
 
         // 평가 정보 추가 (완료된 통화의 경우에만)
-        if (call.getCallStatus() == CallStatus.COMPLETED) {
+        if (call.callStatus() == CallStatus.COMPLETED) {
             boolean canEvaluate = evaluationService.canEvaluate(userId, callId);
             boolean hasEvaluated = evaluationService.hasUserEvaluatedCall(userId, callId);
 
@@ -49,7 +51,10 @@ public class CallStatusService {
         return baseResponse.withEvaluationInfo(false, false);
     }
 
-    @Transactional
+    /**
+     * 행 잠금 없이 스냅샷으로 권한/상태를 확인하고, 실제 전이는 CallService의 낙관적 전이에 위임
+     * (두 참가자가 동시에 종료해도 한쪽은 이미 종료된 통화로 처리됨)
+     */
     public CallStatusResponse endCall(Long callId, Long userId) {
         log.debug("통화 종료 - callId: {}, userId: {}", callId, userId);
 
@@ -58,14 +63,14 @@ public class CallStatusService {
             throw new CustomException(ErrorCode.UNAUTHORIZED, "인증 정보가 없습니다.");
         }
 
-        Call call = callRepository.findByIdWithLock(callId)
+        CallSnapshot call = callSnapshotCacheService.getByCallId(callId)
                 .orElseThrow(() -> new CustomException(ErrorCode.CALL_NOT_FOUND));
 
         if (!call.isParticipant(userId)) {
             throw new CustomException(ErrorCode.CALL_NOT_PARTICIPANT);
         }
 
-        if (call.getCallStatus() == CallStatus.COMPLETED) {
+        if (call.callStatus() == CallStatus.COMPLETED) {
             log.info("이미 종료된 통화 - callId: {}, userId: {}", callId, userId);
 
             CallStatusResponse baseResponse = CallStatusResponse.from(call, userId);
@@ -75,24 +80,33 @@ public class CallStatusService {
         }
 
 
-        if (call.getCallStatus() == CallStatus.CANCELLED ||
-                call.getCallStatus() == CallStatus.FAILED) {
+        if (call.callStatus() == CallStatus.CANCELLED ||
+                call.callStatus() == CallStatus.FAILED) {
             throw new CustomException(ErrorCode.CALL_ALREADY_ENDED);
         }
 
         try {
             callService.endCall(callId);
+        } catch (CustomException ce) {
+            if (ce.getErrorCode() == ErrorCode.CALL_CONCURRENT_MODIFICATION) {
+                throw ce;
+            }
+            log.error("통화 종료 처리 중 오류 - callId: {}, userId: {}", callId, userId, ce);
+            throw new CustomException(ErrorCode.CALL_SESSION_ERROR,
+                    "통화 종료 처리 실패: " + ce.getMessage());
         } catch (Exception e) {
             log.error("통화 종료 처리 중 오류 - callId: {}, userId: {}", callId, userId, e);
             throw new CustomException(ErrorCode.CALL_SESSION_ERROR,
                     "통화 종료 처리 실패: " + e.getMessage());
         }
 
-        Call updatedCall = callRepository.findById(callId)
+        // 다른 노드에서 먼저 종료된 경우에도 커밋된 최신 상태를 읽도록 다시 적재
+        callSnapshotCacheService.evict(callId);
+        CallSnapshot updatedCall = callSnapshotCacheService.getByCallId(callId)
                 .orElseThrow(() -> new CustomException(ErrorCode.CALL_NOT_FOUND));
 
         log.info("통화 종료 완료 - callId: {}, userId: {}, duration: {}초",
-                callId, userId, updatedCall.getDurationSeconds());
+                callId, userId, updatedCall.durationSeconds());
 
         CallStatusResponse baseResponse = CallStatusResponse.from(updatedCall, userId);
 
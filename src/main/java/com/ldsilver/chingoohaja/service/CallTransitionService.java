@@ -0,0 +1,144 @@
+package com.ldsilver.chingoohaja.service;
+
+import com.ldsilver.chingoohaja.common.exception.CustomException;
+import com.ldsilver.chingoohaja.common.exception.ErrorCode;
+import com.ldsilver.chingoohaja.config.CallProperties;
+import com.ldsilver.chingoohaja.config.CallProperties.ConcurrencyConfig.LockMode;
+import com.ldsilver.chingoohaja.domain.call.Call;
+import com.ldsilver.chingoohaja.repository.CallRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 통화 상태 전이 실행기
+ * - OPTIMISTIC: 잠금 없이 조회 후 @Version 충돌 시 새 트랜잭션으로 재시도 (최대 maxAttempts회)
+ * - PESSIMISTIC: 기존 SELECT ... FOR UPDATE 방식 (비교용)
+ * - 이미 트랜잭션 안에서 호출되면 바깥 트랜잭션에 참여하고 재시도하지 않음
+ * - 모드별 처리량/충돌 통계를 남겨 경합 상황에서 두 방식을 비교
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CallTransitionService {
+
+    private final CallRepository callRepository;
+    private final CallProperties callProperties;
+    private final PlatformTransactionManager transactionManager;
+
+    private final Map<LockMode, ModeStats> stats = createStats();
+
+    /**
+     * transition은 재시도 시 다시 호출될 수 있으므로 엔티티 상태 변경만 수행해야 함
+     * (녹음 중지, 이벤트 발행 같은 외부 부수효과는 반환값을 보고 호출자가 처리)
+     */
+    public <T> T execute(Long callId, Function<Call, T> transition) {
+        CallProperties.ConcurrencyConfig config = callProperties.getConcurrency();
+        LockMode lockMode = config.getLockMode();
+        boolean joinsOuterTransaction = TransactionSynchronizationManager.isActualTransactionActive();
+        int maxAttempts = (lockMode == LockMode.PESSIMISTIC || joinsOuterTransaction)
+                ? 1 : config.getMaxAttempts();
+
+        ModeStats modeStats = stats.get(lockMode);
+        long startedAt = System.nanoTime();
+
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    T result = new TransactionTemplate(transactionManager)
+                            .execute(status -> applyTransition(callId, lockMode, transition));
+                    modeStats.transitions.incrementAndGet();
+                    return result;
+                } catch (OptimisticLockingFailureException e) {
+                    modeStats.conflicts.incrementAndGet();
+
+                    if (attempt >= maxAttempts) {
+                        modeStats.exhausted.incrementAndGet();
+                        log.warn("통화 상태 전이 충돌 재시도 한도 초과 - callId: {}, attempts: {}", callId, attempt);
+                        throw new CustomException(ErrorCode.CALL_CONCURRENT_MODIFICATION);
+                    }
+
+                    log.debug("통화 상태 전이 충돌, 재시도 - callId: {}, attempt: {}/{}", callId, attempt, maxAttempts);
+                    backoff(config.getRetryBackoffMillis(), attempt);
+                }
+            }
+        } finally {
+            modeStats.elapsedNanos.addAndGet(System.nanoTime() - startedAt);
+        }
+    }
+
+    public TransitionStats getStats(LockMode lockMode) {
+        ModeStats modeStats = stats.get(lockMode);
+        return new TransitionStats(
+                lockMode,
+                modeStats.transitions.get(),
+                modeStats.conflicts.get(),
+                modeStats.exhausted.get(),
+                modeStats.elapsedNanos.get() / 1_000_000
+        );
+    }
+
+    private <T> T applyTransition(Long callId, LockMode lockMode, Function<Call, T> transition) {
+        Call call = (lockMode == LockMode.PESSIMISTIC
+                ? callRepository.findByIdWithLock(callId)
+                : callRepository.findById(callId))
+                .orElseThrow(() -> new CustomException(ErrorCode.CALL_NOT_FOUND));
+
+        T result = transition.apply(call);
+
+        // 버전 충돌을 커밋 시점이 아닌 여기서 감지해 재시도 루프가 처리하도록 함
+        callRepository.flush();
+        return result;
+    }
+
+    private void backoff(long baseMillis, int attempt) {
+        if (baseMillis <= 0) {
+            return;
+        }
+        // 동시에 충돌한 요청끼리 같은 시점에 재시도하지 않도록 지터 추가
+        long delay = baseMillis * attempt + ThreadLocalRandom.current().nextLong(baseMillis);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.CALL_CONCURRENT_MODIFICATION);
+        }
+    }
+
+    private static Map<LockMode, ModeStats> createStats() {
+        Map<LockMode, ModeStats> map = new EnumMap<>(LockMode.class);
+        for (LockMode mode : LockMode.values()) {
+            map.put(mode, new ModeStats());
+        }
+        return map;
+    }
+
+    private static class ModeStats {
+        private final AtomicLong transitions = new AtomicLong();
+        private final AtomicLong conflicts = new AtomicLong();
+        private final AtomicLong exhausted = new AtomicLong();
+        private final AtomicLong elapsedNanos = new AtomicLong();
+    }
+
+    public record TransitionStats(
+            LockMode lockMode,
+            long transitions,
+            long conflicts,
+            long retriesExhausted,
+            long totalElapsedMillis
+    ) {
+        public double averageElapsedMillis() {
+            return transitions == 0 ? 0.0 : (double) totalElapsedMillis / transitions;
+        }
+    }
+}
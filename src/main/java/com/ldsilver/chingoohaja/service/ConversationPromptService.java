@@ -2,23 +2,33 @@ package com.ldsilver.chingoohaja.service;
 
 import com.ldsilver.chingoohaja.common.exception.CustomException;
 import com.ldsilver.chingoohaja.common.exception.ErrorCode;
-import com.ldsilver.chingoohaja.domain.call.Call;
-import com.ldsilver.chingoohaja.domain.call.ConversationPrompt;
+import com.ldsilver.chingoohaja.config.CallProperties;
 import com.ldsilver.chingoohaja.domain.call.PromptLog;
+import com.ldsilver.chingoohaja.dto.call.CallSnapshot;
+import com.ldsilver.chingoohaja.dto.call.PromptCatalogEntry;
 import com.ldsilver.chingoohaja.dto.call.response.PromptResponse;
 import com.ldsilver.chingoohaja.repository.CallRepository;
 import com.ldsilver.chingoohaja.repository.ConversationPromptRepository;
 import com.ldsilver.chingoohaja.repository.PromptLogRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.Random;
-import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * 통화 중 대화 질문 제공
+ * - 질문 선택은 PromptCatalogService의 통화별 덱(callId 시드 셔플)에서 커서 위치로 결정 (DB 정렬/잠금 없음)
+ * - 통화별 상태는 Redis 해시(prompt:deck:{callId})에 커서와 현재 질문 id로 보관
+ *   현재 질문은 커서 위치에서 처음 요청한 참가자가 확정하고, 이후에는 난이도와 무관하게 같은 질문을 반환
+ * - "다음 질문"은 현재 질문이 확정된 경우에만 커서를 올리는 Lua 1회 (동시 요청이 와도 한 칸만 이동)
+ * - Redis 장애 시에는 표시 중인 질문 기록, 없으면 넘긴 질문 기록 수를 커서로 사용
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -27,18 +37,49 @@ public class ConversationPromptService {
     private final ConversationPromptRepository promptRepository;
     private final PromptLogRepository promptLogRepository;
     private final CallRepository callRepository;
-    private final Random random = new Random();
+    private final CallSnapshotCacheService callSnapshotCacheService;
+    private final PromptCatalogService promptCatalogService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CallProperties callProperties;
+
+    private static final String DECK_PREFIX = "prompt:deck:";
+    private static final String CURSOR_FIELD = "cursor";
+    private static final String PROMPT_FIELD = "promptId";
+    private static final int MAX_CLAIM_ATTEMPTS = 3;
+
+    // 커서가 읽은 값 그대로이고 현재 질문이 비어 있을 때만 확정, 결과와 무관하게 {확정 여부, 커서, 현재 질문 id}
+    private static final RedisScript<List> CLAIM_SCRIPT = RedisScript.of("""
+            local state = redis.call('HMGET', KEYS[1], 'cursor', 'promptId')
+            local cursor = tonumber(state[1] or '0')
+            if state[2] or cursor ~= tonumber(ARGV[1]) then
+                return {0, cursor, tonumber(state[2] or '-1')}
+            end
+            redis.call('HSET', KEYS[1], 'cursor', cursor, 'promptId', ARGV[2])
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            return {1, cursor, tonumber(ARGV[2])}
+            """, List.class);
+
+    // 현재 질문이 확정된 경우에만 비우고 커서 +1 (이미 넘어간 상태면 -1)
+    private static final RedisScript<Long> ADVANCE_SCRIPT = RedisScript.of("""
+            if redis.call('HEXISTS', KEYS[1], 'promptId') == 0 then
+                return -1
+            end
+            redis.call('HDEL', KEYS[1], 'promptId')
+            local cursor = redis.call('HINCRBY', KEYS[1], 'cursor', 1)
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return cursor
+            """, Long.class);
 
     /**
-     * 통화 중 랜덤 질문 제공
+     * 통화 중 질문 제공 (현재 커서 위치의 덱 질문)
      */
     @Transactional
     public PromptResponse getRandomPrompt(Long callId, Long userId, Integer maxDifficulty) {
         log.debug("질문 조회 - callId: {}, userId: {}, maxDifficulty: {}",
                 callId, userId, maxDifficulty);
 
-        // 1. Call 조회 및 권한 검증
-        Call call = callRepository.findByIdWithLock(callId)
+        // 1. 통화 스냅샷으로 권한 검증 (calls 행 잠금 없음)
+        CallSnapshot call = callSnapshotCacheService.getByCallId(callId)
                 .orElseThrow(() -> new CustomException(ErrorCode.CALL_NOT_FOUND));
 
         if (!call.isParticipant(userId)) {
@@ -49,26 +90,32 @@ public class ConversationPromptService {
             throw new CustomException(ErrorCode.CALL_NOT_IN_PROGRESS);
         }
 
-        // 2. DB에서 현재 표시중인 질문 확인
-        Optional<PromptLog> currentPromptLog = promptLogRepository.findCurrentPromptByCallId(callId);
-
-        if (currentPromptLog.isPresent()) {
-            // 현재 표시 중인 질문이 있으면 그대로 반환
-            ConversationPrompt prompt = currentPromptLog.get().getPrompt();
-            log.info("기존 질문 반환 - callId: {}, userId: {}, promptId: {}",
-                    callId, userId, prompt.getId());
-            return PromptResponse.from(prompt);
+        // 2. 현재 질문 확정 (이미 확정되어 있으면 그대로 반환)
+        Selection selection;
+        try {
+            selection = selectFromDeck(call, maxDifficulty);
+        } catch (CustomException e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("질문 덱 조회 실패, DB 기록 기준으로 선택 - callId: {}", callId, e);
+            selection = selectFromLogs(call, maxDifficulty);
         }
 
-        // 3. 새로운 질문 선택
-        ConversationPrompt selectedPrompt = selectNewPrompt(call, maxDifficulty);
+        PromptCatalogEntry selectedPrompt = selection.prompt();
 
-        // 4. 로그 기록 (isCurrentlyDisplayed = true)
-        PromptLog newLog = PromptLog.create(call, selectedPrompt);
-        promptLogRepository.save(newLog);
+        // 3. 처음 표시되는 질문만 로그 기록 (isCurrentlyDisplayed = true)
+        if (selection.firstDisplay()) {
+            PromptLog newLog = PromptLog.create(
+                    callRepository.getReferenceById(callId),
+                    promptRepository.getReferenceById(selectedPrompt.promptId()));
+            promptLogRepository.save(newLog);
 
-        log.info("새 질문 제공 - callId: {}, userId: {}, promptId: {}, question: {}",
-                callId, userId, selectedPrompt.getId(), selectedPrompt.getQuestion());
+            log.info("새 질문 제공 - callId: {}, userId: {}, promptId: {}, cursor: {}",
+                    callId, userId, selectedPrompt.promptId(), selection.cursor());
+        } else {
+            log.debug("기존 질문 반환 - callId: {}, userId: {}, promptId: {}",
+                    callId, userId, selectedPrompt.promptId());
+        }
 
         return PromptResponse.from(selectedPrompt);
     }
@@ -77,21 +124,29 @@ public class ConversationPromptService {
     public void moveToNextPrompt(Long callId, Long userId) {
         log.debug("다음 질문으로 이동 - callId: {}, userId: {}", callId, userId);
 
-        Call call = callRepository.findByIdWithLock(callId)
+        CallSnapshot call = callSnapshotCacheService.getByCallId(callId)
                 .orElseThrow(() -> new CustomException(ErrorCode.CALL_NOT_FOUND));
 
         if (!call.isParticipant(userId)) {
             throw new CustomException(ErrorCode.CALL_NOT_PARTICIPANT);
         }
 
-        // ✅ 현재 표시 중인 질문의 isCurrentlyDisplayed를 false로 변경
-        promptLogRepository.findCurrentPromptByCallId(callId)
-                .ifPresent(promptLog -> {
-                    promptLog.markAsDisplayed();
-                    promptLogRepository.save(promptLog);
-                });
-
-        log.info("현재 질문 종료 처리 완료 - callId: {}, 다음 호출 시 새 질문 제공", callId);
+        // ✅ 현재 표시 중인 질문의 isCurrentlyDisplayed를 false로 변경 (조건부 일괄 UPDATE, 중복 요청에도 안전)
+        promptLogRepository.hideCurrentPromptsByCallId(callId);
+
+        try {
+            Long cursor = redisTemplate.execute(ADVANCE_SCRIPT,
+                    Collections.singletonList(DECK_PREFIX + callId),
+                    String.valueOf(cursorTtlSeconds()));
+            if (cursor == null || cursor < 0) {
+                log.debug("이미 다음 질문으로 이동됨 - callId: {}", callId);
+                return;
+            }
+            log.info("현재 질문 종료 처리 완료 - callId: {}, cursor: {}", callId, cursor);
+        } catch (Exception e) {
+            // 커서 없이도 넘긴 질문 기록 수로 다음 질문이 결정됨
+            log.warn("질문 커서 이동 실패 - callId: {}", callId, e);
+        }
     }
 
     /**
@@ -102,7 +157,7 @@ public class ConversationPromptService {
         log.debug("질문 피드백 기록 - callId: {}, promptId: {}, helpful: {}",
                 callId, promptId, helpful);
 
-        Call call = callRepository.findById(callId)
+        CallSnapshot call = callSnapshotCacheService.getByCallId(callId)
                 .orElseThrow(() -> new CustomException(ErrorCode.CALL_NOT_FOUND));
 
         if (!call.isParticipant(userId)) {
@@ -119,35 +174,70 @@ public class ConversationPromptService {
                 callId, promptId, helpful);
     }
 
-    private ConversationPrompt selectNewPrompt(Call call, Integer maxDifficulty) {
-        // 이미 표시된 질문 ID 조회
-        List<Long> displayedPromptIds = promptLogRepository.findDisplayedPromptIdsByCallId(call.getId());
+    private Selection selectFromDeck(CallSnapshot call, Integer maxDifficulty) {
+        String key = DECK_PREFIX + call.callId();
+        List<Object> state = redisTemplate.opsForHash().multiGet(key, List.of(CURSOR_FIELD, PROMPT_FIELD));
+        long cursor = state.get(0) != null ? Long.parseLong((String) state.get(0)) : 0L;
+        Long currentPromptId = state.get(1) != null ? Long.valueOf((String) state.get(1)) : null;
+
+        for (int attempt = 0; attempt < MAX_CLAIM_ATTEMPTS; attempt++) {
+            if (currentPromptId != null) {
+                return currentSelection(call, maxDifficulty, currentPromptId, cursor);
+            }
+
+            PromptCatalogEntry candidate = pickOrThrow(call, maxDifficulty, cursor);
+            List<?> claimed = redisTemplate.execute(CLAIM_SCRIPT, Collections.singletonList(key),
+                    String.valueOf(cursor), String.valueOf(candidate.promptId()),
+                    String.valueOf(cursorTtlSeconds()));
+            if (claimed == null || claimed.size() < 3) {
+                throw new IllegalStateException("질문 확정 스크립트 응답 없음");
+            }
+            if (((Number) claimed.get(0)).longValue() == 1L) {
+                return new Selection(candidate, cursor, true);
+            }
+
+            // 다른 참가자가 먼저 확정했거나 커서가 이동함 → 최신 상태로 다시 판단
+            cursor = ((Number) claimed.get(1)).longValue();
+            long promptId = ((Number) claimed.get(2)).longValue();
+            currentPromptId = promptId >= 0 ? promptId : null;
+        }
 
-        Long categoryId = call.getCategory() != null ? call.getCategory().getId() : null;
-        List<ConversationPrompt> candidates;
+        throw new IllegalStateException("질문 확정 재시도 초과 - callId: " + call.callId());
+    }
 
-        if (categoryId != null && maxDifficulty != null) {
-            candidates = promptRepository.findRandomPromptsByCategory(categoryId, maxDifficulty);
-        } else if (categoryId != null) {
-            candidates = promptRepository.findByCategoryIdAndIsActiveTrueOrderByDisplayOrderAsc(categoryId);
-        } else {
-            candidates = promptRepository.findRandomActivePrompts();
+    private Selection selectFromLogs(CallSnapshot call, Integer maxDifficulty) {
+        long cursor = promptLogRepository.countByCallIdAndIsCurrentlyDisplayedFalse(call.callId());
+        Optional<PromptLog> displayed = promptLogRepository
+                .findFirstByCallIdAndIsCurrentlyDisplayedTrueOrderByDisplayedAtDesc(call.callId());
+        if (displayed.isPresent()) {
+            return currentSelection(call, maxDifficulty, displayed.get().getPrompt().getId(), cursor);
         }
+        return new Selection(pickOrThrow(call, maxDifficulty, cursor), cursor, true);
+    }
 
-        List<ConversationPrompt> availablePrompts = candidates.stream()
-                .filter(p -> !displayedPromptIds.contains(p.getId()))
-                .toList();
-
-        if (availablePrompts.isEmpty()) {
-            log.warn("사용 가능한 질문이 없음 - callId: {}, 전체 질문으로 초기화", call.getId());
-            availablePrompts = candidates;
+    private Selection currentSelection(CallSnapshot call, Integer maxDifficulty, Long promptId, long cursor) {
+        PromptCatalogEntry current = promptCatalogService.find(promptId);
+        if (current == null) {
+            // 표시 중에 비활성화된 질문 → 같은 커서의 덱 질문으로 대체 (기록은 남기지 않음)
+            current = pickOrThrow(call, maxDifficulty, cursor);
         }
+        return new Selection(current, cursor, false);
+    }
 
-        if (availablePrompts.isEmpty()) {
+    private PromptCatalogEntry pickOrThrow(CallSnapshot call, Integer maxDifficulty, long cursor) {
+        PromptCatalogEntry prompt = promptCatalogService.pick(
+                call.callId(), call.categoryId(), maxDifficulty, cursor);
+        if (prompt == null) {
             throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR,
                     "해당 카테고리에 사용 가능한 질문이 없습니다.");
         }
+        return prompt;
+    }
+
+    private long cursorTtlSeconds() {
+        return callProperties.getPromptDeck().getCursorTtlSeconds();
+    }
 
-        return availablePrompts.get(ThreadLocalRandom.current().nextInt(availablePrompts.size()));
+    private record Selection(PromptCatalogEntry prompt, long cursor, boolean firstDisplay) {
     }
-}
\ No newline at end of file
+}
@@ -1,30 +1,68 @@
 package com.ldsilver.chingoohaja.service;
 
+import com.google.cloud.ReadChannel;
+import com.google.cloud.WriteChannel;
 import com.google.cloud.storage.*;
 import com.google.firebase.cloud.StorageClient;
 import com.ldsilver.chingoohaja.common.exception.CustomException;
 import com.ldsilver.chingoohaja.common.exception.ErrorCode;
-import lombok.RequiredArgsConstructor;
+import com.ldsilver.chingoohaja.common.util.ProfileImageUrls;
+import com.ldsilver.chingoohaja.config.RecordingProperties;
+import com.ldsilver.chingoohaja.infrastructure.image.ProfileImageResizer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
 
 import static com.ldsilver.chingoohaja.validation.UserValidationConstants.Image.ALLOWED_CONTENT_TYPES;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class FirebaseStorageService {
 
+    private static final int UPLOAD_BUFFER_SIZE = 256 * 1024;
+    // resumable 업로드 청크 (256KB 배수, 기본값 15MB 대신 작게 유지)
+    private static final int UPLOAD_CHUNK_SIZE = 2 * 1024 * 1024;
+    // GCS 배치 요청 1건당 최대 호출 수
+    private static final int MAX_DELETE_BATCH_SIZE = 100;
+    // 프로필 이미지 객체명은 업로드마다 달라지므로 변경되지 않는 리소스로 캐시
+    private static final String PROFILE_IMAGE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private final Executor storageTransferExecutor;
+    private final RecordingProperties recordingProperties;
+    private final ProfileImageResizer profileImageResizer;
+
+    // 녹음이 한꺼번에 끝나도 HLS 삭제 배치가 스토리지 요청을 독점하지 않도록 제한
+    private final Semaphore deletePermits;
+
+    public FirebaseStorageService(
+            @Qualifier("storageTransferExecutor") Executor storageTransferExecutor,
+            RecordingProperties recordingProperties,
+            ProfileImageResizer profileImageResizer
+    ) {
+        this.storageTransferExecutor = storageTransferExecutor;
+        this.recordingProperties = recordingProperties;
+        this.profileImageResizer = profileImageResizer;
+        this.deletePermits = new Semaphore(Math.max(1, recordingProperties.getTransfer().getMaxConcurrentDeletes()));
+    }
+
     public String uploadProfileImage(MultipartFile file, Long userId) {
         if (userId == null) {
             throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
@@ -33,6 +71,18 @@ public class FirebaseStorageService {
         return uploadFile(file, "profiles", userId);
     }
 
+    /**
+     * 프로필 이미지 삭제 (변형본이 있으면 함께 삭제)
+     */
+    public void deleteProfileImage(String profileImageUrl) {
+        deleteFile(profileImageUrl);
+
+        if (ProfileImageUrls.hasVariants(profileImageUrl)) {
+            deleteFile(ProfileImageUrls.thumbnail(profileImageUrl));
+            deleteFile(ProfileImageUrls.medium(profileImageUrl));
+        }
+    }
+
     public void deleteFile(String filePathOrUrl) {
         if (filePathOrUrl == null || filePathOrUrl.isBlank()) {
             log.debug("파일 경로가 비어있어 삭제를 건너뜀");
@@ -94,10 +144,13 @@ public class FirebaseStorageService {
 
     /**
      * HLS 디렉토리 전체 삭제 (플레이리스트 + 세그먼트)
+     * - 객체별 순차 삭제 대신 deleteBatchSize개씩 묶어 배치 요청 1건으로 삭제
+     * - 동시에 삭제하는 디렉토리 수는 maxConcurrentDeletes로 제한
      */
     public void deleteHlsDirectory(String m3u8Path) {
         log.info("HLS 디렉토리 삭제 시작 - m3u8: {}", m3u8Path);
 
+        boolean acquired = false;
         try {
             if (m3u8Path.startsWith("gs://")) {
                 m3u8Path = m3u8Path.substring(m3u8Path.indexOf("/", 5) + 1);
@@ -106,42 +159,67 @@ public class FirebaseStorageService {
             String directory = m3u8Path.substring(0, m3u8Path.lastIndexOf('/') + 1);
 
             Bucket bucket = StorageClient.getInstance().bucket();
+            Storage storage = bucket.getStorage();
 
-            Iterable<Blob> blobs = bucket.list(
-                    Storage.BlobListOption.prefix(directory)
-            ).iterateAll();
+            List<BlobId> blobIds = new ArrayList<>();
+            for (Blob blob : bucket.list(Storage.BlobListOption.prefix(directory)).iterateAll()) {
+                blobIds.add(blob.getBlobId());
+            }
 
+            if (blobIds.isEmpty()) {
+                log.debug("삭제할 HLS 파일 없음 - directory: {}", directory);
+                return;
+            }
+
+            deletePermits.acquire();
+            acquired = true;
+
+            int batchSize = Math.min(MAX_DELETE_BATCH_SIZE,
+                    Math.max(1, recordingProperties.getTransfer().getDeleteBatchSize()));
             int deletedCount = 0;
-            for (Blob blob : blobs) {
+
+            for (int from = 0; from < blobIds.size(); from += batchSize) {
+                List<BlobId> batch = blobIds.subList(from, Math.min(from + batchSize, blobIds.size()));
                 try {
-                    boolean deleted = blob.delete();
-                    if (deleted) {
-                        deletedCount++;
-                        log.debug("파일 삭제 - {}", blob.getName());
-                    }
+                    // 배치 내 개별 실패는 false로 반환됨
+                    List<Boolean> results = storage.delete(batch);
+                    deletedCount += (int) results.stream().filter(Boolean.TRUE::equals).count();
                 } catch (Exception e) {
-                    log.warn("파일 삭제 실패 - {}", blob.getName(), e);
+                    log.warn("HLS 삭제 배치 실패 - directory: {}, 객체: {}개", directory, batch.size(), e);
                 }
             }
 
-            log.info("HLS 디렉토리 삭제 완료 - directory: {}, 삭제된 파일: {}개",
-                    directory, deletedCount);
+            if (deletedCount < blobIds.size()) {
+                log.warn("HLS 디렉토리 일부 삭제 실패 - directory: {}, 삭제: {}/{}개",
+                        directory, deletedCount, blobIds.size());
+            } else {
+                log.info("HLS 디렉토리 삭제 완료 - directory: {}, 삭제된 파일: {}개",
+                        directory, deletedCount);
+            }
 
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("HLS 디렉토리 삭제 중단 - m3u8: {}", m3u8Path);
         } catch (Exception e) {
             log.error("HLS 디렉토리 삭제 실패 - m3u8: {}", m3u8Path, e);
+        } finally {
+            if (acquired) {
+                deletePermits.release();
+            }
         }
     }
 
 
     /**
-     * 바이트 배열을 GCS에 업로드 (WAV 파일용)
+     * 로컬 파일을 GCS에 스트리밍 업로드 (WAV 파일용)
+     * - 파일 크기와 관계없이 UPLOAD_BUFFER_SIZE + WriteChannel 청크 크기만큼만 메모리 사용
      */
     public String uploadRecordingFile(
-            byte[] fileData, String filePath, String contentType) {
-        log.debug("녹음 파일 업로드 - path: {}, size: {} bytes",
-                filePath, fileData.length);
-
+            Path localFile, String filePath, String contentType) {
         try {
+            log.debug("녹음 파일 업로드 - path: {}, size: {} bytes",
+                    filePath, Files.size(localFile));
+
             Bucket bucket = StorageClient.getInstance().bucket();
             BlobId blobId = BlobId.of(bucket.getName(), filePath);
 
@@ -149,7 +227,19 @@ public class FirebaseStorageService {
                     .setContentType(contentType)
                     .build();
 
-            bucket.getStorage().create(blobInfo, fileData);
+            try (FileChannel in = FileChannel.open(localFile, StandardOpenOption.READ);
+                 WriteChannel writer = bucket.getStorage().writer(blobInfo)) {
+                writer.setChunkSize(UPLOAD_CHUNK_SIZE);
+
+                ByteBuffer buffer = ByteBuffer.allocate(UPLOAD_BUFFER_SIZE);
+                while (in.read(buffer) != -1) {
+                    buffer.flip();
+                    while (buffer.hasRemaining()) {
+                        writer.write(buffer);
+                    }
+                    buffer.clear();
+                }
+            }
 
             log.info("녹음 파일 업로드 완료 - path: {}", filePath);
 
@@ -189,36 +279,32 @@ public class FirebaseStorageService {
                         "플레이리스트를 찾을 수 없습니다: " + m3u8Path);
             }
 
-            Files.write(localM3u8, m3u8Blob.getContent());
+            Storage storage = bucket.getStorage();
+            streamToFile(storage, m3u8Blob.getBlobId(), localM3u8, sizeOf(m3u8Blob));
             log.debug("플레이리스트 다운로드 완료 - {}", localM3u8);
 
             // ✅ 2. 플레이리스트에서 세그먼트 파일 목록 추출
             List<String> segmentFiles = extractSegmentFiles(localM3u8, directory);
             log.debug("세그먼트 파일 {}개 발견", segmentFiles.size());
 
-            // ✅ 3. 모든 세그먼트 다운로드
-            int downloaded = 0;
-            for (String segmentPath : segmentFiles) {
-                try {
-                    Blob segmentBlob = bucket.get(segmentPath);
-
-                    if (segmentBlob != null && segmentBlob.exists()) {
-                        // 파일명만 추출
-                        String fileName = segmentPath.substring(segmentPath.lastIndexOf('/') + 1);
-                        Path localSegment = tempDir.resolve(fileName);
+            // 세그먼트 크기는 목록 조회 1번으로 확인 (다운로드 크기 검증용)
+            Map<String, Long> segmentSizes = new HashMap<>();
+            for (Blob blob : bucket.list(Storage.BlobListOption.prefix(directory)).iterateAll()) {
+                segmentSizes.put(blob.getName(), sizeOf(blob));
+            }
 
-                        Files.write(localSegment, segmentBlob.getContent());
-                        downloaded++;
+            // ✅ 3. 세그먼트 병렬 다운로드 (storageTransferExecutor 스레드 수만큼 동시 진행)
+            List<CompletableFuture<Boolean>> downloads = segmentFiles.stream()
+                    .map(segmentPath -> CompletableFuture.supplyAsync(
+                            () -> downloadSegment(storage, bucket.getName(), segmentPath,
+                                    segmentSizes.get(segmentPath), tempDir),
+                            storageTransferExecutor))
+                    .toList();
 
-                        log.debug("세그먼트 다운로드 {}/{} - {}",
-                                downloaded, segmentFiles.size(), fileName);
-                    } else {
-                        log.warn("세그먼트를 찾을 수 없음 - {}", segmentPath);
-                    }
-                } catch (Exception e) {
-                    log.error("세그먼트 다운로드 실패 - {}", segmentPath, e);
-                }
-            }
+            long downloaded = downloads.stream()
+                    .map(CompletableFuture::join)
+                    .filter(Boolean::booleanValue)
+                    .count();
 
             log.info("✅ HLS 디렉토리 다운로드 완료 - 플레이리스트: 1개, 세그먼트: {}/{}개",
                     downloaded, segmentFiles.size());
@@ -232,6 +318,77 @@ public class FirebaseStorageService {
         }
     }
 
+    /**
+     * 세그먼트 1개 다운로드 (일시적 오류는 재시도, 없는 파일은 건너뜀)
+     */
+    private boolean downloadSegment(Storage storage, String bucketName, String segmentPath,
+                                    Long expectedSize, Path tempDir) {
+        if (expectedSize == null) {
+            log.warn("세그먼트를 찾을 수 없음 - {}", segmentPath);
+            return false;
+        }
+
+        RecordingProperties.TransferConfig config = recordingProperties.getTransfer();
+        int maxAttempts = Math.max(1, config.getSegmentMaxAttempts());
+
+        // 파일명만 추출
+        String fileName = segmentPath.substring(segmentPath.lastIndexOf('/') + 1);
+        Path localSegment = tempDir.resolve(fileName);
+
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                long bytes = streamToFile(storage, BlobId.of(bucketName, segmentPath), localSegment, expectedSize);
+                log.debug("세그먼트 다운로드 완료 - {} ({} bytes)", fileName, bytes);
+                return true;
+
+            } catch (StorageException e) {
+                if (e.getCode() == 404) {
+                    log.warn("세그먼트를 찾을 수 없음 - {}", segmentPath);
+                    return false;
+                }
+                log.warn("세그먼트 다운로드 실패 - {}, attempt: {}/{}", segmentPath, attempt, maxAttempts, e);
+            } catch (Exception e) {
+                log.warn("세그먼트 다운로드 실패 - {}, attempt: {}/{}", segmentPath, attempt, maxAttempts, e);
+            }
+
+            if (attempt < maxAttempts) {
+                try {
+                    Thread.sleep(config.getSegmentRetryDelayMillis() * attempt);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+
+        log.error("세그먼트 다운로드 최종 실패 - {}", segmentPath);
+        return false;
+    }
+
+    /**
+     * 객체를 메모리에 올리지 않고 ReadChannel → FileChannel로 바로 기록
+     * - transferFrom은 원본 채널이 중간에 끊겨도 예외 없이 짧게 끝날 수 있으므로 기록한 크기를 객체 크기와 비교
+     * @param expectedSize 객체 크기 (음수면 검증 생략)
+     */
+    private long streamToFile(Storage storage, BlobId blobId, Path target, long expectedSize) throws IOException {
+        long written;
+        try (ReadChannel reader = storage.reader(blobId);
+             FileChannel out = FileChannel.open(target,
+                     StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            written = out.transferFrom(reader, 0, Long.MAX_VALUE);
+        }
+
+        if (expectedSize >= 0 && written != expectedSize) {
+            throw new IOException(String.format("다운로드 크기 불일치 - object: %s, expected: %d, written: %d",
+                    blobId.getName(), expectedSize, written));
+        }
+        return written;
+    }
+
+    private long sizeOf(Blob blob) {
+        return blob.getSize() != null ? blob.getSize() : -1L;
+    }
+
     /**
      * 플레이리스트에서 세그먼트 파일 경로 추출
      */
@@ -254,21 +411,39 @@ public class FirebaseStorageService {
     }
 
 
+    /**
+     * 업로드 파일은 한 번만 읽어 원본 저장과 변형본 생성에 함께 사용
+     * - 변형본이 만들어지면 {folder}/{base}/original.{ext} 옆에 thumb.jpg, medium.jpg를 병렬 업로드
+     * - 변형본을 만들 수 없는 형식이면 기존처럼 {folder}/{base}.{ext} 원본만 저장
+     */
     private String uploadFile(MultipartFile file, String folder, Long userId) {
         try {
-            String fileName = generateFileName(file, userId);
-            String objectName = folder + "/" + fileName;
+            byte[] bytes = file.getBytes();
+            String baseName = generateBaseName(userId);
+            String extension = getFileExtension(file.getOriginalFilename());
+
+            List<ProfileImageResizer.ImageVariant> variants = profileImageResizer.createVariants(bytes);
+            String objectName = variants.isEmpty()
+                    ? folder + "/" + baseName + extension
+                    : folder + "/" + baseName + "/" + ProfileImageUrls.ORIGINAL + extension;
 
             Bucket bucket = StorageClient.getInstance().bucket();
-            BlobId blobId = BlobId.of(bucket.getName(), objectName);
+            Storage storage = bucket.getStorage();
 
+            // 변형본도 같은 토큰을 사용해야 원본 URL에서 변형본 URL을 만들 수 있음
             String token = UUID.randomUUID().toString();
-            BlobInfo blobInfo = BlobInfo.newBuilder(blobId)
-                    .setContentType(file.getContentType())
-                    .setMetadata(java.util.Map.of("firebaseStorageDownloadTokens", token))
-                    .build();
 
-            bucket.getStorage().create(blobInfo, file.getBytes());
+            List<CompletableFuture<Void>> uploads = new ArrayList<>();
+            for (ProfileImageResizer.ImageVariant variant : variants) {
+                String variantObjectName = ProfileImageUrls.variantObjectName(objectName, variant.name());
+                uploads.add(CompletableFuture.runAsync(
+                        () -> createImageObject(storage, bucket.getName(), variantObjectName,
+                                variant.contentType(), token, variant.bytes()),
+                        storageTransferExecutor));
+            }
+
+            createImageObject(storage, bucket.getName(), objectName, file.getContentType(), token, bytes);
+            uploads.forEach(CompletableFuture::join);
 
             String downloadUrl = String.format(
                     "https://firebasestorage.googleapis.com/v0/b/%s/o/%s?alt=media&token=%s",
@@ -277,7 +452,7 @@ public class FirebaseStorageService {
                     token
             );
 
-            log.debug("Firebase Storage 업로드 성공 - userId: {}", userId);
+            log.debug("Firebase Storage 업로드 성공 - userId: {}, 변형본: {}개", userId, variants.size());
             return downloadUrl;
 
         } catch (IOException e) {
@@ -292,6 +467,17 @@ public class FirebaseStorageService {
         }
     }
 
+    private void createImageObject(Storage storage, String bucketName, String objectName,
+                                   String contentType, String token, byte[] bytes) {
+        BlobInfo blobInfo = BlobInfo.newBuilder(BlobId.of(bucketName, objectName))
+                .setContentType(contentType)
+                .setCacheControl(PROFILE_IMAGE_CACHE_CONTROL)
+                .setMetadata(Map.of("firebaseStorageDownloadTokens", token))
+                .build();
+
+        storage.create(blobInfo, bytes);
+    }
+
     private void validateImageFile(MultipartFile file) {
         if (file == null || file.isEmpty()) {
             throw new CustomException(ErrorCode.IMAGE_FILE_EMPTY);
@@ -306,11 +492,10 @@ public class FirebaseStorageService {
         }
     }
 
-    private String generateFileName(MultipartFile file, Long userId) {
+    private String generateBaseName(Long userId) {
         String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
         String uuid = UUID.randomUUID().toString().substring(0,8);
-        String fileExtension = getFileExtension(file.getOriginalFilename());
-        return String.format("user_%d_%s_%s%s", userId, timestamp, uuid, fileExtension);
+        return String.format("user_%d_%s_%s", userId, timestamp, uuid);
     }
 
     private String getFileExtension(String filename) {
@@ -8,6 +8,7 @@ import com.ldsilver.chingoohaja.domain.user.User;
 import com.ldsilver.chingoohaja.dto.friendship.response.FriendListResponse;
 import com.ldsilver.chingoohaja.dto.friendship.response.PendingFriendRequestListResponse;
 import com.ldsilver.chingoohaja.dto.friendship.response.SentFriendRequestListResponse;
+import com.ldsilver.chingoohaja.infrastructure.websocket.PresenceRegistry;
 import com.ldsilver.chingoohaja.repository.CallRepository;
 import com.ldsilver.chingoohaja.repository.FriendshipRepository;
 import com.ldsilver.chingoohaja.repository.UserRepository;
@@ -29,6 +30,7 @@ public class FriendshipService {
     private final FriendshipRepository friendshipRepository;
     private final UserRepository userRepository;
     private final CallRepository callRepository;
+    private final PresenceRegistry presenceRegistry;
 
     @Transactional(readOnly = true)
     public FriendListResponse getFriendsList(Long userId){
@@ -53,12 +55,16 @@ public class FriendshipService {
         uniqueFriends.addAll(friendsAsRequester);
         uniqueFriends.addAll(friendsAsAddressee);
 
+        Set<Long> onlineFriendIds = presenceRegistry.findOnlineUserIds(
+                uniqueFriends.stream().map(User::getId).toList());
+
         List<FriendListResponse.FriendItem> friendItems = uniqueFriends.stream()
                 .map(friend -> {
                     var lastCall = callRepository.findLastCompletedCallBetweenUsers(userId, friend.getId());
                     return FriendListResponse.FriendItem.of(
                             friend,
-                            lastCall.orElse(null)
+                            lastCall.orElse(null),
+                            onlineFriendIds.contains(friend.getId())
                     );
                 })
                 .sorted((a, b) -> {
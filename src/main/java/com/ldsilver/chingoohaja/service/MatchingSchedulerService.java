@@ -9,6 +9,7 @@ import com.ldsilver.chingoohaja.domain.matching.enums.QueueStatus;
 import com.ldsilver.chingoohaja.domain.user.User;
 import com.ldsilver.chingoohaja.event.CallStartedEvent;
 import com.ldsilver.chingoohaja.event.MatchingSuccessEvent;
+import com.ldsilver.chingoohaja.infrastructure.websocket.PresenceRegistry;
 import com.ldsilver.chingoohaja.repository.CallRepository;
 import com.ldsilver.chingoohaja.repository.CategoryRepository;
 import com.ldsilver.chingoohaja.repository.MatchingQueueRepository;
@@ -51,6 +52,7 @@ public class MatchingSchedulerService {
     private final MatchingSchedulerProperties schedulerProperties;
     private final ApplicationEventPublisher eventPublisher;
     private final PlatformTransactionManager transactionManager;
+    private final PresenceRegistry presenceRegistry;
 
     @Scheduled(fixedDelayString = "#{@matchingSchedulerProperties.matchingDelay}")
     public void processMatching() {
@@ -127,6 +129,13 @@ public class MatchingSchedulerService {
                     continue;
                 }
 
+                // 연결 종료가 기록된 사용자는 대기열에서 제외하고 DB 대기 기록 취소 + 알림
+                if (removeOfflineCandidates(userIds, category.getId())) {
+                    log.info("연결 끊긴 사용자 매칭 제외 (시도 {}/{}) - categoryId: {}, users: [{}, {}]",
+                            attempt + 1, maxAttempts, category.getId(), user1Id, user2Id);
+                    continue;
+                }
+
                 Optional<User> user1Opt = userRepository.findById(user1Id);
                 Optional<User> user2Opt = userRepository.findById(user2Id);
 
@@ -186,6 +195,24 @@ public class MatchingSchedulerService {
 
 
 
+    private boolean removeOfflineCandidates(List<Long> userIds, Long categoryId) {
+        boolean removed = false;
+        for (Long userId : userIds) {
+            // 하트비트만 끊긴 경우(UNKNOWN/만료)는 제외하지 않음 - 만료 정리 스케줄러가 처리
+            if (presenceRegistry.isDisconnected(userId)) {
+                RedisMatchingQueueService.DequeueResult result =
+                        redisMatchingQueueService.dequeueUser(userId, categoryId);
+                log.debug("연결 끊긴 사용자 대기열 제거 - userId: {}, success: {}", userId, result.success());
+                if (result.success()) {
+                    updateMatchingQueueStatus(List.of(userId), categoryId, QueueStatus.CANCELLED);
+                    sendDisconnectedNotification(userId);
+                }
+                removed = true;
+            }
+        }
+        return removed;
+    }
+
     private void restoreUsersToQueue(List<Long> userIds, Long categoryId) {
         if (userIds == null || userIds.isEmpty()) {
             return;
@@ -248,6 +275,8 @@ public class MatchingSchedulerService {
                     for (MatchingQueue queue : waitingQueues) {
                         if (newStatus == QueueStatus.MATCHING) {
                             queue.startMatching();
+                        } else if (newStatus == QueueStatus.CANCELLED) {
+                            queue.cancel();
                         }
                         matchingQueueRepository.save(queue);
                         log.debug("매칭 큐 상태 업데이트 - userId: {}, queueId: {}, status: {}",
@@ -347,6 +376,16 @@ public class MatchingSchedulerService {
         }
     }
 
+    private void sendDisconnectedNotification(Long userId) {
+        try {
+            webSocketEventService.sendMatchingCancelledNotification(
+                    userId, "연결이 끊겨 매칭 대기가 취소되었습니다."
+            );
+        } catch (Exception e) {
+            log.warn("연결 끊김 취소 알림 전송 실패 - userId: {}", userId, e);
+        }
+    }
+
     /**
      * 매칭 통계 갱신 - 매일 자정 실행
      */
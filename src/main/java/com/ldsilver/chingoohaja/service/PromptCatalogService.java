@@ -0,0 +1,146 @@
+package com.ldsilver.chingoohaja.service;
+
+import com.ldsilver.chingoohaja.dto.call.PromptCatalogEntry;
+import com.ldsilver.chingoohaja.repository.ConversationPromptRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 대화 질문 인메모리 카탈로그 + 통화별 결정적 덱
+ * - 활성 질문 전체를 id 순으로 적재, (카테고리, 최대 난이도)별 후보 목록은 최초 요청 시 계산 후 재사용
+ * - 덱은 callId(와 덱 회차)를 시드로 후보 목록을 셔플한 순서이므로 모든 노드에서 같은 질문이 나옴
+ * - 주기적으로 개수/마지막 수정 시각을 비교해 변경이 있을 때만 다시 적재
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PromptCatalogService {
+
+    private final ConversationPromptRepository promptRepository;
+
+    private volatile Catalog catalog;
+
+    /**
+     * 덱의 cursor번째 질문 (덱을 한 바퀴 돌면 다른 순서로 다시 섞음)
+     */
+    public PromptCatalogEntry pick(Long callId, Long categoryId, Integer maxDifficulty, long cursor) {
+        List<PromptCatalogEntry> candidates = getCandidates(categoryId, maxDifficulty);
+        if (candidates.isEmpty()) {
+            return null;
+        }
+
+        int size = candidates.size();
+        long round = cursor / size;
+        int position = (int) (cursor % size);
+
+        return candidates.get(deckOrder(callId, round, size)[position]);
+    }
+
+    /**
+     * 이미 선택된 질문 조회 (비활성화되어 카탈로그에서 빠졌으면 null)
+     */
+    public PromptCatalogEntry find(Long promptId) {
+        return loadIfAbsent().byId.get(promptId);
+    }
+
+    public List<PromptCatalogEntry> getCandidates(Long categoryId, Integer maxDifficulty) {
+        Catalog current = loadIfAbsent();
+        return current.candidates.computeIfAbsent(new CandidateKey(categoryId, maxDifficulty),
+                key -> current.entries.stream()
+                        .filter(entry -> entry.matches(key.categoryId(), key.maxDifficulty()))
+                        .toList());
+    }
+
+    @Scheduled(fixedDelayString = "#{@callProperties.promptDeck.catalogRefreshMillis}")
+    @Transactional(readOnly = true)
+    public void refreshIfChanged() {
+        Catalog current = catalog;
+        if (current == null) {
+            return; // 아직 한 번도 사용되지 않음 (첫 요청 시 적재)
+        }
+
+        try {
+            String fingerprint = currentFingerprint();
+            if (!fingerprint.equals(current.fingerprint)) {
+                reload(fingerprint);
+            }
+        } catch (Exception e) {
+            log.warn("질문 카탈로그 갱신 확인 실패 (기존 카탈로그 유지)", e);
+        }
+    }
+
+    private Catalog loadIfAbsent() {
+        Catalog current = catalog;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (catalog == null) {
+                reload(currentFingerprint());
+            }
+            return catalog;
+        }
+    }
+
+    private void reload(String fingerprint) {
+        List<PromptCatalogEntry> entries = promptRepository.findAllActiveWithCategory().stream()
+                .map(PromptCatalogEntry::from)
+                .toList();
+        catalog = new Catalog(entries, fingerprint);
+        log.info("질문 카탈로그 적재 - 활성 질문: {}건", entries.size());
+    }
+
+    private String currentFingerprint() {
+        List<Object[]> rows = promptRepository.getCatalogFingerprint();
+        if (rows.isEmpty()) {
+            return "0";
+        }
+        Object[] row = rows.get(0);
+        return row[0] + ":" + Objects.toString(row[1], "");
+    }
+
+    // Fisher-Yates 셔플, 시드가 같으면 항상 같은 순서
+    private static int[] deckOrder(Long callId, long round, int size) {
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+
+        Random random = new Random(callId * 31 + round);
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = order[i];
+            order[i] = order[j];
+            order[j] = tmp;
+        }
+        return order;
+    }
+
+    private record CandidateKey(Long categoryId, Integer maxDifficulty) {
+    }
+
+    private static class Catalog {
+        private final List<PromptCatalogEntry> entries;
+        private final Map<Long, PromptCatalogEntry> byId;
+        private final String fingerprint;
+        private final Map<CandidateKey, List<PromptCatalogEntry>> candidates = new ConcurrentHashMap<>();
+
+        private Catalog(List<PromptCatalogEntry> entries, String fingerprint) {
+            this.entries = entries;
+            this.byId = entries.stream()
+                    .collect(Collectors.toUnmodifiableMap(PromptCatalogEntry::promptId, Function.identity()));
+            this.fingerprint = fingerprint;
+        }
+    }
+}
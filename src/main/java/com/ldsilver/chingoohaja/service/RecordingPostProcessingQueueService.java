@@ -0,0 +1,233 @@
+package com.ldsilver.chingoohaja.service;
+
+import com.ldsilver.chingoohaja.config.RecordingProperties;
+import com.ldsilver.chingoohaja.dto.call.RecordingJob;
+import com.ldsilver.chingoohaja.event.RecordingCompletedEvent;
+import com.ldsilver.chingoohaja.infrastructure.redis.RecordingJobQueue;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 녹음 후처리 큐 디스패처
+ * - 녹음 완료 이벤트는 큐에 적재만 하고 바로 반환 (이벤트 발행 스레드에서 FFmpeg를 실행하지 않음)
+ * - 빈 워커 슬롯 수만큼만 큐에서 꺼내 처리 (큐가 밀려도 메모리/프로세스 수가 늘지 않음)
+ * - 처리 중인 작업은 leaseRenewIntervalMillis마다 lease를 연장 (오래 걸리는 변환이 다른 노드에 중복 할당되지 않음)
+ * - 실패 시 지수 백오프로 재시도, maxAttempts를 넘으면 dead letter로 이동
+ */
+@Slf4j
+@Service
+public class RecordingPostProcessingQueueService {
+
+    private final RecordingJobQueue recordingJobQueue;
+    private final RecordingPostProcessorService recordingPostProcessorService;
+    private final RecordingProperties recordingProperties;
+    private final Executor postProcessingExecutor;
+
+    private final Semaphore workerSlots;
+    private final Map<String, RecordingJobQueue.ClaimedJob> runningJobs = new ConcurrentHashMap<>();
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+    private final AtomicLong deadLettered = new AtomicLong();
+    private final AtomicLong lastQueueLagMillis = new AtomicLong();
+    private final AtomicLong maxQueueLagMillis = new AtomicLong();
+    private final AtomicLong totalProcessingMillis = new AtomicLong();
+
+    public RecordingPostProcessingQueueService(
+            RecordingJobQueue recordingJobQueue,
+            RecordingPostProcessorService recordingPostProcessorService,
+            RecordingProperties recordingProperties,
+            @Qualifier("postProcessingExecutor") Executor postProcessingExecutor
+    ) {
+        this.recordingJobQueue = recordingJobQueue;
+        this.recordingPostProcessorService = recordingPostProcessorService;
+        this.recordingProperties = recordingProperties;
+        this.postProcessingExecutor = postProcessingExecutor;
+        this.workerSlots = new Semaphore(recordingProperties.getPostProcessing().resolveWorkers());
+    }
+
+    public void enqueue(RecordingCompletedEvent event) {
+        RecordingJob job = RecordingJob.from(event);
+        recordingJobQueue.enqueue(job);
+        enqueued.incrementAndGet();
+
+        log.debug("후처리 작업 적재 - callId: {}, jobId: {}", job.callId(), job.jobId());
+    }
+
+    @Scheduled(fixedDelayString = "#{@recordingProperties.postProcessing.pollIntervalMillis}")
+    public void dispatch() {
+        long leaseMillis = recordingProperties.getPostProcessing().getLeaseMillis();
+
+        while (workerSlots.tryAcquire()) {
+            RecordingJobQueue.ClaimedJob claimed;
+            try {
+                claimed = recordingJobQueue.claim(leaseMillis);
+            } catch (Exception e) {
+                workerSlots.release();
+                log.warn("후처리 작업 조회 실패 (다음 주기에 재시도)", e);
+                return;
+            }
+
+            if (claimed == null) {
+                workerSlots.release();
+                return;
+            }
+
+            recordQueueLag(claimed.job());
+
+            try {
+                postProcessingExecutor.execute(() -> runJob(claimed));
+            } catch (TaskRejectedException | RejectedExecutionException e) {
+                // 워커 스레드가 아직 반환되지 않은 경우 - 시도 횟수를 늘리지 않고 바로 다시 대기열로
+                workerSlots.release();
+                recordingJobQueue.retry(claimed, claimed.job().requeued());
+                return;
+            }
+        }
+    }
+
+    /**
+     * 처리 중인 작업의 lease 연장 (워커가 살아 있는 동안 lease가 만료되지 않도록)
+     */
+    @Scheduled(fixedDelayString = "#{@recordingProperties.postProcessing.leaseRenewIntervalMillis}")
+    public void renewLeases() {
+        long leaseMillis = recordingProperties.getPostProcessing().getLeaseMillis();
+
+        for (RecordingJobQueue.ClaimedJob claimed : runningJobs.values()) {
+            try {
+                if (!recordingJobQueue.renew(claimed, leaseMillis)) {
+                    log.warn("🚨 후처리 작업 lease 상실 - 다른 워커에 재할당됨, callId: {}, jobId: {}",
+                            claimed.job().callId(), claimed.job().jobId());
+                }
+            } catch (Exception e) {
+                log.warn("후처리 작업 lease 연장 실패 (다음 주기에 재시도) - jobId: {}", claimed.job().jobId(), e);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void recoverExpiredLeases() {
+        try {
+            RecordingJobQueue.RequeueResult result =
+                    recordingJobQueue.requeueExpired(recordingProperties.getPostProcessing().getMaxAttempts());
+            if (result.requeued() > 0) {
+                log.warn("🚨 lease 만료된 후처리 작업 재적재: {}건", result.requeued());
+            }
+            if (result.deadLettered() > 0) {
+                deadLettered.addAndGet(result.deadLettered());
+                log.error("❌ lease 만료가 반복된 후처리 작업 dead letter 이동: {}건", result.deadLettered());
+            }
+        } catch (Exception e) {
+            log.warn("lease 만료 작업 재적재 실패", e);
+        }
+    }
+
+    void runJob(RecordingJobQueue.ClaimedJob claimed) {
+        RecordingJob job = claimed.job();
+        long startedAt = System.currentTimeMillis();
+        runningJobs.put(job.jobId(), claimed);
+        try {
+            log.info("🔄 후처리 작업 시작 - callId: {}, attempt: {}", job.callId(), job.attempt());
+
+            recordingPostProcessorService.processRecordingForAI(job.toEvent());
+
+            if (recordingJobQueue.complete(claimed)) {
+                completed.incrementAndGet();
+            } else {
+                log.warn("lease를 잃은 후처리 작업 완료 - 큐 상태는 현재 보유 워커 기준으로 유지, jobId: {}", job.jobId());
+            }
+
+        } catch (Exception e) {
+            handleFailure(claimed, e);
+        } finally {
+            runningJobs.remove(job.jobId());
+            totalProcessingMillis.addAndGet(System.currentTimeMillis() - startedAt);
+            workerSlots.release();
+        }
+    }
+
+    private void handleFailure(RecordingJobQueue.ClaimedJob claimed, Exception e) {
+        RecordingJob job = claimed.job();
+        RecordingProperties.PostProcessingConfig config = recordingProperties.getPostProcessing();
+        String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+
+        try {
+            if (job.attempt() >= config.getMaxAttempts()) {
+                if (recordingJobQueue.deadLetter(claimed, job.withError(error))) {
+                    deadLettered.incrementAndGet();
+                    log.error("❌ 후처리 작업 dead letter 이동 - callId: {}, attempt: {}",
+                            job.callId(), job.attempt(), e);
+                } else {
+                    log.warn("lease를 잃은 후처리 작업 실패 - dead letter 생략, jobId: {}", job.jobId(), e);
+                }
+                return;
+            }
+
+            long delayMillis = config.getRetryDelayMillis() * (1L << Math.min(job.attempt() - 1, 10));
+            if (recordingJobQueue.retry(claimed, job.nextAttempt(delayMillis, error))) {
+                retried.incrementAndGet();
+                log.warn("⏳ 후처리 작업 재시도 예약 - callId: {}, attempt: {}/{}, delay: {}ms",
+                        job.callId(), job.attempt() + 1, config.getMaxAttempts(), delayMillis, e);
+            } else {
+                log.warn("lease를 잃은 후처리 작업 실패 - 재시도 예약 생략, jobId: {}", job.jobId(), e);
+            }
+
+        } catch (Exception queueEx) {
+            // 큐 갱신 실패 시 lease 만료 후 다시 처리됨
+            log.error("후처리 작업 실패 상태 저장 실패 - jobId: {}", job.jobId(), queueEx);
+        }
+    }
+
+    private void recordQueueLag(RecordingJob job) {
+        long lag = Math.max(0, System.currentTimeMillis() - job.availableAtMillis());
+        lastQueueLagMillis.set(lag);
+        maxQueueLagMillis.accumulateAndGet(lag, Math::max);
+    }
+
+    public PostProcessingStats getStats() {
+        RecordingJobQueue.QueueDepth depth = recordingJobQueue.depth();
+        int workers = recordingProperties.getPostProcessing().resolveWorkers();
+
+        return new PostProcessingStats(
+                depth.ready(),
+                depth.inFlight(),
+                depth.deadLettered(),
+                workers - workerSlots.availablePermits(),
+                workers,
+                enqueued.get(),
+                completed.get(),
+                retried.get(),
+                deadLettered.get(),
+                lastQueueLagMillis.get(),
+                maxQueueLagMillis.get(),
+                totalProcessingMillis.get()
+        );
+    }
+
+    public record PostProcessingStats(
+            long queued,
+            long inFlight,
+            long deadLetterSize,
+            int activeWorkers,
+            int workers,
+            long enqueued,
+            long completed,
+            long retried,
+            long deadLettered,
+            long lastQueueLagMillis,
+            long maxQueueLagMillis,
+            long totalProcessingMillis
+    ) {
+    }
+}
@@ -4,12 +4,12 @@ import com.ldsilver.chingoohaja.config.RecordingProperties;
 import com.ldsilver.chingoohaja.domain.call.Call;
 import com.ldsilver.chingoohaja.domain.call.CallRecording;
 import com.ldsilver.chingoohaja.dto.call.RecordingInfo;
+import com.ldsilver.chingoohaja.dto.call.SpeechSegment;
 import com.ldsilver.chingoohaja.event.RecordingCompletedEvent;
 import com.ldsilver.chingoohaja.repository.CallRecordingRepository;
 import com.ldsilver.chingoohaja.repository.CallRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,14 +30,15 @@ public class RecordingPostProcessorService {
     private final FirebaseStorageService firebaseStorageService;
     private final AudioConverterService audioConverterService;
     private final RecordingProperties recordingProperties;
+    private final SpeechSegmentationService speechSegmentationService;
 
     /**
-     * Recording 후처리 메인 로직
+     * Recording 후처리 메인 로직 (RecordingPostProcessingQueueService 워커에서 호출)
      * - 5분 이상 통화만 WAV 변환
      * - 각 사용자별로 분리된 WAV 생성
+     * - 변환 대상이 아니면 그냥 반환, 처리 중 실패는 예외로 던져 큐가 재시도하도록 함
      */
-    @Async("recordingTaskExecutor")
-    public void processRecordingForAI(RecordingCompletedEvent event) {
+    public void processRecordingForAI(RecordingCompletedEvent event) throws IOException {
         Long callId = event.getCallId();
 
         log.debug("=" .repeat(80));
@@ -115,9 +116,8 @@ public class RecordingPostProcessorService {
             log.debug("✅ Recording 후처리 완료 - callId: {}", callId);
 
         } catch (Exception e) {
-            log.error("=" .repeat(80));
             log.error("❌ Recording 후처리 실패 - callId: {}", callId, e);
-            log.error("=" .repeat(80));
+            throw e;
         } finally {
             if (user1TempDir != null) {
                 cleanupTempDirectory(user1TempDir);
@@ -154,21 +154,26 @@ public class RecordingPostProcessorService {
      * 로컬 HLS에서 WAV 변환 후 업로드
      */
     private String convertAndUploadWavFromLocal(
-            Path localM3u8, Long callId, Long userId, String userLabel) {
+            Path localM3u8, Long callId, Long userId, String userLabel) throws IOException {
         try {
             log.info("🔄 {} WAV 변환 시작 (로컬 파일 사용) - callId: {}, userId: {}",
                     userLabel, callId, userId);
 
             // 1. 로컬 HLS → WAV 변환
             String outputFileName = String.format("call_%d_%s", callId, userLabel);
-            byte[] wavData = audioConverterService.convertLocalHlsToWav(localM3u8, outputFileName);
+            Path wavFile = audioConverterService.convertLocalHlsToWav(localM3u8, outputFileName);
+
+            // 2. 음성 구간만 세그먼트로 분할해 업로드 (무음 제외)
+            if (recordingProperties.getSegmentation().isEnabled()) {
+                return segmentAndUpload(wavFile, callId, userId, userLabel);
+            }
 
-            // 2. GCS 업로드 경로 생성
+            // 3. GCS 업로드 경로 생성 (분할하지 않는 경우)
             String wavPath = generateWavPath(callId, userId, userLabel);
 
-            // 3. GCS 업로드
+            // 4. GCS 업로드 (파일에서 고정 크기 버퍼로 스트리밍)
             String uploadedUrl = firebaseStorageService.uploadRecordingFile(
-                    wavData,
+                    wavFile,
                     wavPath,
                     "audio/wav"
             );
@@ -185,6 +190,34 @@ public class RecordingPostProcessorService {
         }
     }
 
+    /**
+     * 전체 WAV를 음성 구간 세그먼트로 나눠 업로드하고 index.json 경로 반환
+     */
+    private String segmentAndUpload(Path wavFile, Long callId, Long userId, String userLabel) throws IOException {
+        Path segmentDir = wavFile.resolveSibling("segments_" + userLabel);
+        SpeechSegmentationService.SegmentationResult result =
+                speechSegmentationService.segment(wavFile, segmentDir, "seg");
+
+        // 세그먼트가 만들어졌으면 전체 WAV는 더 필요 없음 (임시 디스크 사용량 절감)
+        Files.deleteIfExists(wavFile);
+
+        String remoteDir = generateSegmentDirectory(callId, userId, userLabel);
+        for (SpeechSegment segment : result.segments()) {
+            Path localSegment = segmentDir.resolve(segment.fileName());
+            firebaseStorageService.uploadRecordingFile(localSegment, remoteDir + segment.fileName(), "audio/wav");
+            Files.deleteIfExists(localSegment);
+        }
+
+        Path indexFile = speechSegmentationService.writeIndex(result, callId, userId);
+        String indexUrl = firebaseStorageService.uploadRecordingFile(
+                indexFile, remoteDir + "index.json", "application/json");
+
+        log.info("✅ {} 음성 구간 업로드 완료 - callId: {}, 세그먼트: {}개, 전체: {}ms",
+                userLabel, callId, result.segments().size(), result.totalDurationMillis());
+
+        return indexUrl;
+    }
+
     /**
      * 임시 디렉토리 정리
      */
@@ -207,6 +240,12 @@ public class RecordingPostProcessorService {
         }
     }
 
+    private String generateSegmentDirectory(Long callId, Long userId, String userLabel) {
+        String date = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        return String.format("recordings/ai-training/%s/call_%d_%s_%d/",
+                date, callId, userLabel, userId);
+    }
+
     private String generateWavPath(Long callId, Long userId, String userLabel) {
         String date = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
         return String.format("recordings/ai-training/%s/call_%d_%s_%d.wav",
@@ -0,0 +1,132 @@
+package com.ldsilver.chingoohaja.service;
+
+import com.ldsilver.chingoohaja.config.JwtProperties;
+import com.ldsilver.chingoohaja.domain.user.UserToken;
+import com.ldsilver.chingoohaja.repository.UserRepository;
+import com.ldsilver.chingoohaja.repository.UserTokenRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Refresh Token 회전 이력(user_tokens) 지연 일괄 저장
+ * - 회전 자체는 Redis에서 끝나고, DB에는 감사/기기 관리용 이력만 배치로 기록
+ * - 이전 토큰 비활성화도 여기서 함께 반영 (이 대기열이 유실되어도 Redis 폐기 표시가 남은 수명 동안 DB 복구를 막음)
+ * - 새 토큰 행의 활성 여부는 저장 시점의 Redis 기준 (그 사이 다시 회전되었거나 로그아웃된 토큰은 비활성으로 저장)
+ * - 기기 정보는 이전 토큰 행에서 이어받고, 같은 배치 안에서 연속 회전된 경우 배치 내 이전 기록에서 이어받음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenAuditWriter {
+
+    private final UserTokenRepository userTokenRepository;
+    private final UserRepository userRepository;
+    private final TokenCacheService tokenCacheService;
+    private final JwtProperties jwtProperties;
+    private final PlatformTransactionManager transactionManager;
+
+    private final BlockingQueue<RotationRecord> pending = new LinkedBlockingQueue<>();
+
+    public void enqueueRotation(Long userId, String previousToken, String refreshToken, LocalDateTime expiresAt) {
+        if (pending.size() >= jwtProperties.getRefreshRotation().getQueueCapacity()) {
+            log.warn("리프레시 토큰 이력 대기열 초과 - 이력 저장 생략, userId: {}", userId);
+            return;
+        }
+        pending.offer(new RotationRecord(userId, previousToken, refreshToken, expiresAt, LocalDateTime.now()));
+    }
+
+    @Scheduled(fixedDelayString = "#{@jwtProperties.refreshRotation.flushIntervalMillis}")
+    public void flush() {
+        int batchSize = jwtProperties.getRefreshRotation().getBatchSize();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        List<RotationRecord> batch = new ArrayList<>(batchSize);
+        while (pending.drainTo(batch, batchSize) > 0) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> persist(batch));
+                log.debug("리프레시 토큰 이력 저장 - {}건", batch.size());
+            } catch (Exception e) {
+                log.error("❌ 리프레시 토큰 이력 저장 실패 - {}건 (회전은 Redis에 반영됨)", batch.size(), e);
+            }
+            batch.clear();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        if (!pending.isEmpty()) {
+            log.info("종료 전 리프레시 토큰 이력 저장 - 대기 {}건", pending.size());
+            flush();
+        }
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    private void persist(List<RotationRecord> batch) {
+        Set<String> previousTokens = new LinkedHashSet<>();
+        Set<String> newTokens = new LinkedHashSet<>();
+        Map<Long, LocalDateTime> lastLoginByUser = new HashMap<>();
+        for (RotationRecord record : batch) {
+            previousTokens.add(record.previousToken());
+            newTokens.add(record.refreshToken());
+            lastLoginByUser.merge(record.userId(), record.rotatedAt(),
+                    (current, candidate) -> candidate.isAfter(current) ? candidate : current);
+        }
+
+        Map<String, String> deviceInfoByToken = new HashMap<>();
+        userTokenRepository.findByRefreshTokenIn(previousTokens)
+                .forEach(token -> deviceInfoByToken.put(token.getRefreshToken(), token.getDeviceInfo()));
+
+        Set<String> activeTokens = tokenCacheService.findActiveRefreshTokens(newTokens);
+
+        List<UserToken> rows = new ArrayList<>(batch.size());
+        for (RotationRecord record : batch) {
+            String deviceInfo = deviceInfoByToken.get(record.previousToken());
+            deviceInfoByToken.put(record.refreshToken(), deviceInfo);
+
+            rows.add(UserToken.of(
+                    userRepository.getReferenceById(record.userId()),
+                    record.refreshToken(),
+                    record.expiresAt(),
+                    deviceInfo,
+                    activeTokens.contains(record.refreshToken())
+            ));
+        }
+
+        userTokenRepository.saveAll(rows);
+        userTokenRepository.deactivateTokensByRefreshTokenIn(previousTokens);
+
+        // 사용자마다 자신의 마지막 회전 시각으로 반영 (같은 시각끼리 묶어 한 번에 갱신)
+        Map<LocalDateTime, List<Long>> userIdsByLoginAt = new HashMap<>();
+        lastLoginByUser.forEach((userId, loginAt) ->
+                userIdsByLoginAt.computeIfAbsent(loginAt, key -> new ArrayList<>()).add(userId));
+        userIdsByLoginAt.forEach((loginAt, userIds) -> userRepository.updateLastLoginAt(userIds, loginAt));
+    }
+
+    private record RotationRecord(
+            Long userId,
+            String previousToken,
+            String refreshToken,
+            LocalDateTime expiresAt,
+            LocalDateTime rotatedAt
+    ) {
+    }
+}
@@ -0,0 +1,140 @@
+package com.ldsilver.chingoohaja.service;
+
+import com.ldsilver.chingoohaja.config.CallProperties;
+import com.ldsilver.chingoohaja.dto.call.TokenRenewalRow;
+import com.ldsilver.chingoohaja.dto.call.response.TokenRenewResponse;
+import com.ldsilver.chingoohaja.infrastructure.agora.AgoraTokenGenerator;
+import com.ldsilver.chingoohaja.repository.CallSessionRepository;
+import com.ldsilver.chingoohaja.validation.CallValidationConstants;
+import io.agora.media.RtcTokenBuilder2;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 진행 중 통화의 RTC 토큰 백그라운드 갱신
+ * - 만료 renewAheadSeconds 전에 들어온 세션을 청크 단위로 갱신하고 커밋 후 WebSocket으로 새 토큰 전송
+ * - 클라이언트가 만료 직전에 한꺼번에 갱신 API를 호출하지 않도록 요청 경로 밖에서 미리 처리
+ * - 새 토큰 유효 시간을 jitterSeconds 안에서 무작위로 줄여 같은 시각에 발급된 토큰의 다음 만료를 분산
+ * - 조건부 UPDATE로 갱신하므로 여러 노드가 동시에 실행되거나 클라이언트가 먼저 갱신해도 한 번만 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RtcTokenRenewalService {
+
+    private final CallSessionRepository callSessionRepository;
+    private final AgoraTokenGenerator agoraTokenGenerator;
+    private final WebSocketEventService webSocketEventService;
+    private final CallProperties callProperties;
+    private final PlatformTransactionManager transactionManager;
+
+    @Scheduled(fixedDelayString = "#{@callProperties.tokenRenewal.intervalMillis}")
+    public void renewExpiringTokens() {
+        CallProperties.TokenRenewalConfig config = callProperties.getTokenRenewal();
+        if (!config.isEnabled()) {
+            return;
+        }
+
+        try {
+            int renewed = renewChunks(config);
+            if (renewed > 0) {
+                log.info("🔄 RTC 토큰 백그라운드 갱신: {}건", renewed);
+            }
+        } catch (Exception e) {
+            log.error("❌ RTC 토큰 백그라운드 갱신 중 오류", e);
+        }
+    }
+
+    private int renewChunks(CallProperties.TokenRenewalConfig config) {
+        PageRequest chunk = PageRequest.of(0, config.getChunkSize());
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        long lastId = 0L;
+        int totalRenewed = 0;
+
+        for (int chunkCount = 0; chunkCount < config.getMaxChunksPerRun(); chunkCount++) {
+            LocalDateTime threshold = LocalDateTime.now().plusSeconds(config.getRenewAheadSeconds());
+
+            List<TokenRenewalRow> sessions = callSessionRepository.findTokenRenewalChunk(threshold, lastId, chunk);
+            if (sessions.isEmpty()) {
+                break;
+            }
+            lastId = sessions.get(sessions.size() - 1).sessionId();
+
+            List<RenewedToken> minted = mintTokens(sessions, config);
+
+            List<RenewedToken> committed;
+            try {
+                committed = transactionTemplate.execute(status -> {
+                    List<RenewedToken> applied = new ArrayList<>(minted.size());
+                    for (RenewedToken token : minted) {
+                        if (callSessionRepository.renewTokenIfExpiring(token.row().sessionId(),
+                                token.response().rtcToken(), token.response().expiresAt(), threshold) > 0) {
+                            applied.add(token);
+                        }
+                    }
+                    return applied;
+                });
+            } catch (Exception e) {
+                log.error("RTC 토큰 갱신 청크 저장 실패 - sessionIds: {} ~ {}",
+                        sessions.get(0).sessionId(), lastId, e);
+                continue;
+            }
+
+            if (committed != null) {
+                committed.forEach(token -> webSocketEventService.sendRtcTokenRenewed(
+                        token.row().userId(), token.row().callId(), token.response()));
+                totalRenewed += committed.size();
+            }
+
+            if (sessions.size() < config.getChunkSize()) {
+                break;
+            }
+        }
+
+        return totalRenewed;
+    }
+
+    private List<RenewedToken> mintTokens(List<TokenRenewalRow> sessions, CallProperties.TokenRenewalConfig config) {
+        List<RenewedToken> minted = new ArrayList<>(sessions.size());
+
+        for (TokenRenewalRow session : sessions) {
+            if (session.channelName() == null || session.agoraUid() == null) {
+                log.warn("채널/UID 정보가 없어 토큰 갱신 건너뜀 - sessionId: {}", session.sessionId());
+                continue;
+            }
+
+            try {
+                int ttlSeconds = CallValidationConstants.DEFAULT_TTL_SECONDS_ONE_HOURS
+                        - ThreadLocalRandom.current().nextInt(config.getJitterSeconds() + 1);
+
+                String rtcToken = agoraTokenGenerator.generateRtcToken(
+                        session.channelName(),
+                        (int) (session.agoraUid() & 0xFFFF_FFFFL),
+                        RtcTokenBuilder2.Role.ROLE_PUBLISHER,
+                        ttlSeconds
+                );
+
+                minted.add(new RenewedToken(session,
+                        TokenRenewResponse.of(rtcToken, LocalDateTime.now().plusSeconds(ttlSeconds))));
+            } catch (Exception e) {
+                log.warn("RTC 토큰 발급 실패 - sessionId: {}", session.sessionId(), e);
+            }
+        }
+
+        return minted;
+    }
+
+    private record RenewedToken(TokenRenewalRow row, TokenRenewResponse response) {
+    }
+}
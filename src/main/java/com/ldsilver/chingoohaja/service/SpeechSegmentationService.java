@@ -0,0 +1,382 @@
+package com.ldsilver.chingoohaja.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ldsilver.chingoohaja.common.exception.CustomException;
+import com.ldsilver.chingoohaja.common.exception.ErrorCode;
+import com.ldsilver.chingoohaja.config.RecordingProperties;
+import com.ldsilver.chingoohaja.dto.call.SpeechSegment;
+import com.ldsilver.chingoohaja.dto.call.SpeechSegmentIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AI 학습용 음성 구간 분할 (에너지 기반 VAD)
+ * - WAV(PCM 16-bit)를 고정 크기 프레임 단위로 읽으며 음성 구간만 세그먼트 WAV로 기록
+ * - 메모리에는 현재 프레임 + 앞쪽 여유(padding) 프레임만 유지 (녹음 길이와 무관)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SpeechSegmentationService {
+
+    private static final int WAV_HEADER_SIZE = 44;
+
+    private final RecordingProperties recordingProperties;
+    private final ObjectMapper objectMapper;
+
+    public SegmentationResult segment(Path wavFile, Path outputDir, String filePrefix) {
+        RecordingProperties.SegmentationConfig config = recordingProperties.getSegmentation();
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(wavFile)))) {
+            WavFormat format = readHeader(in);
+            Files.createDirectories(outputDir);
+
+            Segmenter segmenter = new Segmenter(config, format, outputDir, filePrefix);
+            byte[] frame = new byte[segmenter.frameBytes];
+
+            int read;
+            while ((read = in.readNBytes(frame, 0, frame.length)) > 0) {
+                int usable = read - (read % format.blockAlign());
+                if (usable == 0) {
+                    break;
+                }
+                segmenter.accept(frame, usable);
+            }
+            segmenter.finish();
+
+            log.debug("음성 구간 분할 완료 - file: {}, 세그먼트: {}개, 음성: {}ms / 전체: {}ms",
+                    wavFile.getFileName(), segmenter.segments.size(),
+                    segmenter.segments.stream().mapToLong(SpeechSegment::durationMillis).sum(),
+                    segmenter.totalMillis());
+
+            return new SegmentationResult(outputDir, format.sampleRate(), format.channels(),
+                    segmenter.totalMillis(), List.copyOf(segmenter.segments));
+
+        } catch (IOException e) {
+            log.error("❌ 음성 구간 분할 실패 - file: {}", wavFile, e);
+            throw new CustomException(ErrorCode.FILE_CONVERSION_FAILED,
+                    "음성 구간 분할 실패: " + e.getMessage());
+        }
+    }
+
+    public Path writeIndex(SegmentationResult result, Long callId, Long userId) {
+        SpeechSegmentIndex index = SpeechSegmentIndex.of(callId, userId, result.sampleRate(), result.channels(),
+                result.totalDurationMillis(), result.segments());
+
+        Path indexFile = result.directory().resolve("index.json");
+        try {
+            objectMapper.writeValue(indexFile.toFile(), index);
+            return indexFile;
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.FILE_CONVERSION_FAILED,
+                    "세그먼트 인덱스 생성 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * RIFF 청크를 순서대로 읽어 fmt 정보를 확인하고 data 청크 시작 위치까지 이동
+     */
+    private WavFormat readHeader(DataInputStream in) throws IOException {
+        byte[] riff = in.readNBytes(12);
+        if (riff.length < 12
+                || !"RIFF".equals(new String(riff, 0, 4, StandardCharsets.US_ASCII))
+                || !"WAVE".equals(new String(riff, 8, 4, StandardCharsets.US_ASCII))) {
+            throw new IOException("WAV 파일이 아닙니다.");
+        }
+
+        WavFormat format = null;
+        while (true) {
+            byte[] chunkHeader = in.readNBytes(8);
+            if (chunkHeader.length < 8) {
+                throw new EOFException("data 청크를 찾을 수 없습니다.");
+            }
+            String chunkId = new String(chunkHeader, 0, 4, StandardCharsets.US_ASCII);
+            long chunkSize = Integer.toUnsignedLong(
+                    ByteBuffer.wrap(chunkHeader, 4, 4).order(ByteOrder.LITTLE_ENDIAN).getInt());
+
+            if ("fmt ".equals(chunkId)) {
+                byte[] fmt = in.readNBytes((int) chunkSize);
+                ByteBuffer buffer = ByteBuffer.wrap(fmt).order(ByteOrder.LITTLE_ENDIAN);
+                int audioFormat = buffer.getShort() & 0xFFFF;
+                int channels = buffer.getShort() & 0xFFFF;
+                int sampleRate = buffer.getInt();
+                buffer.getInt(); // byteRate
+                int blockAlign = buffer.getShort() & 0xFFFF;
+                int bitsPerSample = buffer.getShort() & 0xFFFF;
+
+                if (audioFormat != 1 || bitsPerSample != 16) {
+                    throw new IOException("PCM 16-bit WAV만 지원합니다. format: " + audioFormat + ", bits: " + bitsPerSample);
+                }
+                format = new WavFormat(sampleRate, channels, blockAlign);
+                skipPadding(in, chunkSize);
+
+            } else if ("data".equals(chunkId)) {
+                if (format == null) {
+                    throw new IOException("fmt 청크가 data 청크보다 먼저 와야 합니다.");
+                }
+                return format;
+
+            } else {
+                in.skipNBytes(chunkSize);
+                skipPadding(in, chunkSize);
+            }
+        }
+    }
+
+    private void skipPadding(InputStream in, long chunkSize) throws IOException {
+        if (chunkSize % 2 == 1) {
+            in.skipNBytes(1);
+        }
+    }
+
+    public record SegmentationResult(
+            Path directory,
+            int sampleRate,
+            int channels,
+            long totalDurationMillis,
+            List<SpeechSegment> segments
+    ) {
+    }
+
+    private record WavFormat(int sampleRate, int channels, int blockAlign) {
+    }
+
+    /**
+     * 프레임 단위 상태 머신 (무음 대기 ↔ 음성 구간 기록)
+     */
+    private static class Segmenter {
+
+        private final RecordingProperties.SegmentationConfig config;
+        private final WavFormat format;
+        private final Path outputDir;
+        private final String filePrefix;
+
+        private final int frameBytes;
+        private final int paddingFrames;
+        private final int minSpeechFrames;
+        private final int minSilenceFrames;
+        private final int maxSegmentFrames;
+
+        // 음성 시작 전 여유 프레임 (길이 paddingFrames로 고정)
+        private final ArrayDeque<byte[]> preRoll = new ArrayDeque<>();
+        private final List<SpeechSegment> segments = new ArrayList<>();
+
+        private long frameIndex;
+        private long totalBytes;
+
+        private SegmentWriter writer;
+        private long segmentStartFrame;
+        private long segmentEndFrame;
+        private int speechFrames;
+        private int silenceRun;
+
+        private Segmenter(RecordingProperties.SegmentationConfig config, WavFormat format,
+                          Path outputDir, String filePrefix) {
+            this.config = config;
+            this.format = format;
+            this.outputDir = outputDir;
+            this.filePrefix = filePrefix;
+
+            int frameMillis = Math.max(10, config.getFrameMillis());
+            int samplesPerFrame = Math.max(1, format.sampleRate() * frameMillis / 1000);
+            this.frameBytes = samplesPerFrame * format.blockAlign();
+            this.paddingFrames = config.getPaddingMillis() / frameMillis;
+            this.minSpeechFrames = Math.max(1, config.getMinSpeechMillis() / frameMillis);
+            this.minSilenceFrames = Math.max(1, config.getMinSilenceMillis() / frameMillis);
+            this.maxSegmentFrames = Math.max(minSpeechFrames, config.getMaxSegmentSeconds() * 1000 / frameMillis);
+        }
+
+        private void accept(byte[] frame, int length) throws IOException {
+            boolean voiced = isVoiced(frame, length);
+
+            if (writer == null) {
+                if (voiced) {
+                    openSegment();
+                    writer.write(frame, length);
+                    markKept();
+                    speechFrames = 1;
+                } else {
+                    rememberPreRoll(frame, length);
+                }
+            } else {
+                if (voiced) {
+                    silenceRun = 0;
+                    speechFrames++;
+                } else {
+                    silenceRun++;
+                }
+
+                // 구간 중간의 짧은 무음은 그대로 기록하고, 닫을 때 끝쪽 무음만 padding 길이로 잘라냄
+                writer.write(frame, length);
+                if (voiced || silenceRun <= paddingFrames) {
+                    markKept();
+                }
+
+                if (silenceRun >= minSilenceFrames || frameIndex + 1 - segmentStartFrame >= maxSegmentFrames) {
+                    closeSegment();
+                }
+            }
+
+            frameIndex++;
+            totalBytes += length;
+        }
+
+        private void finish() throws IOException {
+            if (writer != null) {
+                closeSegment();
+            }
+        }
+
+        private long totalMillis() {
+            return totalBytes / format.blockAlign() * 1000L / format.sampleRate();
+        }
+
+        private boolean isVoiced(byte[] frame, int length) {
+            int samples = length / 2;
+            if (samples == 0) {
+                return false;
+            }
+
+            double sumSquares = 0;
+            for (int i = 0; i + 1 < length; i += 2) {
+                short sample = (short) ((frame[i] & 0xFF) | (frame[i + 1] << 8));
+                sumSquares += (double) sample * sample;
+            }
+            double rms = Math.sqrt(sumSquares / samples);
+            double dbfs = rms > 0 ? 20 * Math.log10(rms / 32768.0) : Double.NEGATIVE_INFINITY;
+            return dbfs >= config.getEnergyThresholdDbfs();
+        }
+
+        private void rememberPreRoll(byte[] frame, int length) {
+            if (paddingFrames == 0) {
+                return;
+            }
+            byte[] slot = preRoll.size() >= paddingFrames ? preRoll.pollFirst() : null;
+            if (slot == null || slot.length != length) {
+                slot = new byte[length];
+            }
+            System.arraycopy(frame, 0, slot, 0, length);
+            preRoll.addLast(slot);
+        }
+
+        private void openSegment() throws IOException {
+            String fileName = String.format("%s_%04d.wav", filePrefix, segments.size() + 1);
+            writer = new SegmentWriter(outputDir.resolve(fileName), fileName, format);
+
+            segmentStartFrame = frameIndex - preRoll.size();
+            for (byte[] buffered : preRoll) {
+                writer.write(buffered, buffered.length);
+            }
+            preRoll.clear();
+            speechFrames = 0;
+            silenceRun = 0;
+        }
+
+        private void markKept() {
+            writer.keptBytes = writer.dataBytes;
+            segmentEndFrame = frameIndex + 1;
+        }
+
+        private void closeSegment() throws IOException {
+            SegmentWriter closing = writer;
+            writer = null;
+            closing.close();
+
+            if (speechFrames < minSpeechFrames) {
+                Files.deleteIfExists(closing.path);
+                return;
+            }
+
+            long frameMillis = Math.max(10, config.getFrameMillis());
+            segments.add(new SpeechSegment(
+                    segments.size() + 1,
+                    closing.fileName,
+                    segmentStartFrame * frameMillis,
+                    segmentEndFrame * frameMillis));
+        }
+    }
+
+    /**
+     * 세그먼트 WAV 기록기 (헤더 크기 필드는 닫을 때 채움)
+     */
+    private static class SegmentWriter {
+
+        private final Path path;
+        private final String fileName;
+        private final FileChannel channel;
+        private long dataBytes;
+        private long keptBytes; // 닫을 때 남길 길이 (끝쪽 긴 무음 제외)
+
+        private SegmentWriter(Path path, String fileName, WavFormat format) throws IOException {
+            this.path = path;
+            this.fileName = fileName;
+            this.channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            writeFully(header(format, 0), 0);
+        }
+
+        private void write(byte[] frame, int length) throws IOException {
+            writeFully(ByteBuffer.wrap(frame, 0, length), WAV_HEADER_SIZE + dataBytes);
+            dataBytes += length;
+        }
+
+        private void close() throws IOException {
+            try {
+                dataBytes = keptBytes;
+                channel.truncate(WAV_HEADER_SIZE + dataBytes);
+
+                ByteBuffer sizes = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+                sizes.putInt(0, (int) (36 + dataBytes));
+                writeFully(sizes, 4);
+
+                sizes.clear();
+                sizes.putInt(0, (int) dataBytes);
+                writeFully(sizes, 40);
+            } finally {
+                channel.close();
+            }
+        }
+
+        private void writeFully(ByteBuffer buffer, long position) throws IOException {
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+        }
+
+        private static ByteBuffer header(WavFormat format, long dataBytes) {
+            ByteBuffer header = ByteBuffer.allocate(WAV_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            header.put("RIFF".getBytes(StandardCharsets.US_ASCII));
+            header.putInt((int) (36 + dataBytes));
+            header.put("WAVE".getBytes(StandardCharsets.US_ASCII));
+            header.put("fmt ".getBytes(StandardCharsets.US_ASCII));
+            header.putInt(16);
+            header.putShort((short) 1); // PCM
+            header.putShort((short) format.channels());
+            header.putInt(format.sampleRate());
+            header.putInt(format.sampleRate() * format.blockAlign());
+            header.putShort((short) format.blockAlign());
+            header.putShort((short) 16);
+            header.put("data".getBytes(StandardCharsets.US_ASCII));
+            header.putInt((int) dataBytes);
+            header.flip();
+            return header;
+        }
+    }
+}
@@ -1,16 +1,24 @@
 package com.ldsilver.chingoohaja.service;
 
+import com.ldsilver.chingoohaja.infrastructure.jwt.AccessTokenRevocationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
@@ -19,11 +27,60 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class TokenCacheService {
     private final RedisTemplate<String, Object> redisTemplate;
+    private final AccessTokenRevocationRegistry accessTokenRevocationRegistry;
 
     // Redis 키 prefix
     private static final String REFRESH_TOKEN_PREFIX = "refresh_token:";
-    private static final String ACCESS_TOKEN_PREFIX = "access_token:";
     private static final String USER_TOKEN_PREFIX = "user_tokens:";
+    private static final String ROTATED_TOKEN_PREFIX = "refresh_token_rotated:";
+    private static final String REVOKED_TOKEN_PREFIX = "refresh_token_revoked:";
+    private static final String USER_CLAIMS_PREFIX = "user_claims:";
+
+    private static final StringRedisSerializer STRING_SERIALIZER = new StringRedisSerializer();
+
+    /**
+     * Refresh Token 회전 (확인 + 교체를 한 번에 원자적으로 수행)
+     * - 이전 토큰이 있으면 삭제하고 새 토큰을 같은 userId로 저장, 사용자 토큰 목록도 교체
+     * - 이전 토큰 -> 새 토큰 기록을 유예 시간 동안 남겨, 같은 토큰으로 동시에 들어온 요청에는 같은 새 토큰을 반환
+     * - 이전 토큰은 남은 유효 시간 동안 폐기 표시를 남김 (DB 비활성화가 지연 저장되는 동안 DB 복구 경로로 되살아나지 않도록)
+     * - 액세스 토큰 발급에 필요한 email/userType도 함께 읽어 DB 조회 없이 응답
+     * - 사용자별 키를 스크립트 안에서 만들므로 Standalone Redis 전제
+     * KEYS: 이전 토큰 키, 새 토큰 키, 회전 기록 키, 폐기 표시 키
+     * ARGV: 새 토큰, TTL(ms), 유예(ms), refresh 키 prefix, 사용자 토큰 prefix, 사용자 클레임 prefix
+     * 반환: userId|사용할 refresh 토큰|userType|email (email에 '|'가 있을 수 있어 마지막에 둠) / 없으면 nil
+     */
+    private static final RedisScript<String> ROTATE_REFRESH_TOKEN_SCRIPT = RedisScript.of("""
+            local userId = redis.call('GET', KEYS[1])
+            local refreshToken = ARGV[1]
+            if userId then
+                local remaining = redis.call('PTTL', KEYS[1])
+                if remaining > 0 then
+                    redis.call('SET', KEYS[4], '1', 'PX', remaining)
+                end
+                redis.call('DEL', KEYS[1])
+                redis.call('SET', KEYS[2], userId, 'PX', ARGV[2])
+                local userTokens = ARGV[5] .. userId
+                redis.call('SREM', userTokens, KEYS[1])
+                redis.call('SADD', userTokens, KEYS[2])
+                redis.call('PEXPIRE', userTokens, ARGV[2])
+                if tonumber(ARGV[3]) > 0 then
+                    redis.call('SET', KEYS[3], userId .. '|' .. ARGV[1], 'PX', ARGV[3])
+                end
+            else
+                local rotated = redis.call('GET', KEYS[3])
+                if not rotated then
+                    return false
+                end
+                local separator = string.find(rotated, '|', 1, true)
+                userId = string.sub(rotated, 1, separator - 1)
+                refreshToken = string.sub(rotated, separator + 1)
+                if redis.call('EXISTS', ARGV[4] .. refreshToken) == 0 then
+                    return false
+                end
+            end
+            local claims = redis.call('HMGET', ARGV[6] .. userId, 'email', 'userType')
+            return userId .. '|' .. refreshToken .. '|' .. (claims[2] or '') .. '|' .. (claims[1] or '')
+            """, String.class);
 
     public void storeRefreshToken(Long userId, String refreshToken, Duration expiration) {
         String tokenKey = REFRESH_TOKEN_PREFIX + refreshToken;
@@ -60,6 +117,89 @@ public class TokenCacheService {
         return null;
     }
 
+    /**
+     * Refresh Token 회전 - Redis 한 번 왕복으로 검증과 교체를 끝냄
+     * @return 회전 결과, 이전 토큰이 Redis에 없으면 null
+     */
+    public RotatedRefreshToken rotateRefreshToken(String refreshToken, String newRefreshToken,
+                                                  Duration expiration, Duration reuseGrace) {
+        String result = redisTemplate.execute(
+                ROTATE_REFRESH_TOKEN_SCRIPT,
+                STRING_SERIALIZER,
+                STRING_SERIALIZER,
+                List.of(REFRESH_TOKEN_PREFIX + refreshToken,
+                        REFRESH_TOKEN_PREFIX + newRefreshToken,
+                        ROTATED_TOKEN_PREFIX + refreshToken,
+                        REVOKED_TOKEN_PREFIX + refreshToken),
+                newRefreshToken,
+                String.valueOf(expiration.toMillis()),
+                String.valueOf(reuseGrace.toMillis()),
+                REFRESH_TOKEN_PREFIX,
+                USER_TOKEN_PREFIX,
+                USER_CLAIMS_PREFIX
+        );
+
+        if (result == null) {
+            return null;
+        }
+
+        String[] parts = result.split("\\|", 4);
+        return new RotatedRefreshToken(
+                Long.valueOf(parts[0]),
+                parts[1],
+                parts[3].isEmpty() ? null : parts[3],
+                parts[2].isEmpty() ? null : parts[2]
+        );
+    }
+
+    /**
+     * 회전되어 폐기 표시가 남아 있는 Refresh Token인지 (DB 복구 전 확인용)
+     */
+    public boolean isRefreshTokenRevoked(String refreshToken) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(REVOKED_TOKEN_PREFIX + refreshToken));
+    }
+
+    /**
+     * 액세스 토큰 재발급에 필요한 사용자 클레임 저장 (토큰 갱신 시 DB 조회 생략용)
+     */
+    public void storeUserClaims(Long userId, String email, String userType, Duration expiration) {
+        String key = USER_CLAIMS_PREFIX + userId;
+
+        try {
+            Map<String, Object> claims = new HashMap<>();
+            claims.put("email", email != null ? email : "");
+            claims.put("userType", userType);
+            redisTemplate.opsForHash().putAll(key, claims);
+            redisTemplate.expire(key, expiration);
+        } catch (Exception e) {
+            log.warn("사용자 클레임 캐시 저장 실패 - userId: {}", userId, e);
+        }
+    }
+
+    /**
+     * 주어진 Refresh Token 중 Redis에 아직 남아 있는(회전/로그아웃되지 않은) 토큰
+     */
+    public Set<String> findActiveRefreshTokens(Collection<String> refreshTokens) {
+        if (refreshTokens.isEmpty()) {
+            return Set.of();
+        }
+
+        List<String> tokens = new ArrayList<>(refreshTokens);
+        List<Object> values = redisTemplate.opsForValue().multiGet(
+                tokens.stream().map(token -> REFRESH_TOKEN_PREFIX + token).toList());
+
+        Set<String> active = new HashSet<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            if (values != null && values.get(i) != null) {
+                active.add(tokens.get(i));
+            }
+        }
+        return active;
+    }
+
+    public record RotatedRefreshToken(Long userId, String refreshToken, String email, String userType) {
+    }
+
     public void deleteRefreshToken(String refreshToken) {
         String tokenKey = REFRESH_TOKEN_PREFIX + refreshToken;
 
@@ -90,27 +230,24 @@ public class TokenCacheService {
         }
     }
 
+    /**
+     * 로그아웃한 Access Token을 남은 유효 시간 동안 폐기
+     * 폐기 목록은 모든 노드의 메모리에 동기화되므로 요청마다 Redis를 조회하지 않음
+     */
     public void addToBlacklist(String accessToken, Duration expiration) {
-        String key = ACCESS_TOKEN_PREFIX + "blacklist:" + accessToken;
-
-        try {
-            redisTemplate.opsForValue().set(key, "blacklisted", expiration);
-            log.debug("Access Token 블랙리스트 추가");
-        } catch (Exception e) {
-            log.error("Access Token 블랙리스트 추가 실패", e);
-        }
+        accessTokenRevocationRegistry.revokeToken(accessToken, System.currentTimeMillis() + expiration.toMillis());
+        log.debug("Access Token 블랙리스트 추가");
     }
 
     public boolean isTokenBlacklisted(String accessToken) {
-        String key = ACCESS_TOKEN_PREFIX + "blacklist:" + accessToken;
+        return accessTokenRevocationRegistry.isTokenRevoked(accessToken);
+    }
 
-        try {
-            Boolean exists = redisTemplate.hasKey(key);
-            return Boolean.TRUE.equals(exists);
-        } catch (Exception e) {
-            log.debug("Access Token 블랙리스트 확인 실패", e);
-            return false;
-        }
+    /**
+     * 사용자에게 지금까지 발급된 Access Token을 모두 폐기 (전체 로그아웃)
+     */
+    public void revokeAllAccessTokens(Long userId) {
+        accessTokenRevocationRegistry.revokeUser(userId);
     }
 
     public void deleteAllUserTokens(Long userId) {
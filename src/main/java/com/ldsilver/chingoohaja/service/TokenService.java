@@ -29,6 +29,7 @@ public class TokenService {
     private final UserRepository userRepository;
     private final UserTokenRepository userTokenRepository;
     private final JwtProperties jwtProperties;
+    private final RefreshTokenAuditWriter refreshTokenAuditWriter;
 
     private static final int MAX_TOKENS_PER_USER = 5;
 
@@ -60,6 +61,7 @@ public class TokenService {
         userTokenRepository.save(userToken);
 
         tokenCacheService.storeRefreshToken(userId, refreshToken, tokenDuration);
+        tokenCacheService.storeUserClaims(userId, user.getEmail(), user.getUserType().name(), tokenDuration);
 
         limitUserTokens(user);
 
@@ -68,6 +70,67 @@ public class TokenService {
         return TokenResponse.of(accessToken, refreshToken, jwtProperties.getAccessTokenExpiration() / 1000);
     }
 
+    /**
+     * Refresh Token 회전 후 새 토큰 쌍 발급
+     * - 검증/교체는 Redis 스크립트 한 번으로 처리하고, 새 토큰 이력은 RefreshTokenAuditWriter가 모아서 기록
+     * - 이전 토큰의 DB 비활성화도 RefreshTokenAuditWriter가 처리하고, 그 전까지는 Redis 폐기 표시로 DB 복구를 막음
+     * - 같은 토큰으로 유예 시간 안에 다시 요청하면 이미 발급된 새 Refresh Token을 그대로 반환
+     * - Redis에 없는 토큰은 폐기 표시가 없고 DB에 활성 상태로 남아 있을 때만 Redis로 복구한 뒤 회전
+     */
+    public TokenResponse rotateRefreshToken(String refreshToken, Long userId) {
+        Duration tokenDuration = Duration.ofMillis(jwtProperties.getRefreshTokenExpiration());
+        Duration reuseGrace = Duration.ofSeconds(jwtProperties.getRefreshRotation().getReuseGraceSeconds());
+        String newRefreshToken = jwtTokenProvider.generateRefreshToken(userId);
+
+        TokenCacheService.RotatedRefreshToken rotated =
+                tokenCacheService.rotateRefreshToken(refreshToken, newRefreshToken, tokenDuration, reuseGrace);
+
+        if (rotated == null) {
+            if (tokenCacheService.isRefreshTokenRevoked(refreshToken)) {
+                throw new CustomException(ErrorCode.REFRESH_TOKEN_NOT_FOUND);
+            }
+            UserToken userToken = userTokenRepository.findByRefreshTokenAndIsActiveTrue(refreshToken)
+                    .orElseThrow(() -> new CustomException(ErrorCode.REFRESH_TOKEN_NOT_FOUND));
+            Duration remaining = Duration.between(LocalDateTime.now(), userToken.getExpiresAt());
+            if (remaining.isNegative() || remaining.isZero()) {
+                throw new CustomException(ErrorCode.REFRESH_TOKEN_NOT_FOUND);
+            }
+
+            log.debug("Redis에 없는 Refresh Token을 DB에서 복구 - userId: {}", userId);
+            tokenCacheService.storeRefreshToken(userToken.getUser().getId(), refreshToken, remaining);
+            rotated = tokenCacheService.rotateRefreshToken(refreshToken, newRefreshToken, tokenDuration, reuseGrace);
+            if (rotated == null) {
+                throw new CustomException(ErrorCode.REFRESH_TOKEN_NOT_FOUND);
+            }
+        }
+
+        if (!rotated.userId().equals(userId)) {
+            throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+
+        String email = rotated.email();
+        String userType = rotated.userType();
+        if (userType == null) {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+            email = user.getEmail();
+            userType = user.getUserType().name();
+            tokenCacheService.storeUserClaims(userId, email, userType, tokenDuration);
+        }
+
+        String accessToken = jwtTokenProvider.generateAccessToken(userId, email, userType);
+
+        if (newRefreshToken.equals(rotated.refreshToken())) {
+            refreshTokenAuditWriter.enqueueRotation(
+                    userId, refreshToken, newRefreshToken, LocalDateTime.now().plus(tokenDuration));
+        } else {
+            log.debug("유예 시간 내 재사용된 Refresh Token - 기존 회전 결과 반환, userId: {}", userId);
+        }
+
+        return TokenResponse.forRefresh(
+                accessToken, rotated.refreshToken(), jwtProperties.getAccessTokenExpiration() / 1000);
+    }
+
     private void limitUserTokens(User user) {
         List<UserToken> activeTokens = userTokenRepository
                 .findActiveTokensByUserOrderByCreatedAtDesc(user);
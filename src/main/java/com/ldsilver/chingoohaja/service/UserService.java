@@ -75,7 +75,7 @@ public class UserService {
         userRepository.save(user);
 
         if (oldImageUrl != null && !oldImageUrl.contains("default")) {
-            firebaseStorageService.deleteFile(oldImageUrl);
+            firebaseStorageService.deleteProfileImage(oldImageUrl);
         }
 
         log.debug("프로필 이미지 업로드 완료 - userId: {}", userId);
@@ -1,20 +1,28 @@
 package com.ldsilver.chingoohaja.service;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import com.ldsilver.chingoohaja.dto.call.CallStartInfo;
+import com.ldsilver.chingoohaja.dto.call.response.TokenRenewResponse;
 import com.ldsilver.chingoohaja.dto.matching.response.MatchingNotificationResponse;
+import com.ldsilver.chingoohaja.infrastructure.websocket.OutboundMessageCoalescer;
+import com.ldsilver.chingoohaja.infrastructure.websocket.UserDestinationRelay;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.messaging.simp.user.SimpUser;
 import org.springframework.messaging.simp.user.SimpUserRegistry;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class WebSocketEventService {
 
-    private final SimpMessagingTemplate messagingTemplate;
+    private static final String MATCHING_DESTINATION = "/queue/matching";
+
+    private final UserDestinationRelay userDestinationRelay;
+    private final OutboundMessageCoalescer outboundMessageCoalescer;
     private final SimpUserRegistry userRegistry;
 
     public void sendMatchingSuccessNotification(Long userId, Long callId, Long partnerId, String partnerNickname) {
@@ -28,7 +36,8 @@ public class WebSocketEventService {
 //                    "/queue/matching",
 //                    response
 //            );
-            sendMessageWithDetailedLogging(userId, "/queue/matching", response, "매칭 성공");
+            outboundMessageCoalescer.cancelPending(String.valueOf(userId), MATCHING_DESTINATION);
+            sendMessageWithDetailedLogging(userId, MATCHING_DESTINATION, response, "매칭 성공");
 
             log.debug("매칭 성공 알림 전송 완료 - userId: {}, callId: {}", userId, callId);
         } catch (Exception e) {
@@ -40,9 +49,10 @@ public class WebSocketEventService {
         try {
             MatchingNotificationResponse response = MatchingNotificationResponse.cancelled(reason);
 
-            messagingTemplate.convertAndSendToUser(
+            outboundMessageCoalescer.cancelPending(String.valueOf(userId), MATCHING_DESTINATION);
+            userDestinationRelay.sendToUser(
                     String.valueOf(userId),
-                    "/queue/matching",
+                    MATCHING_DESTINATION,
                     response
             );
 
@@ -54,7 +64,7 @@ public class WebSocketEventService {
 
     public void sendCallStartNotification(Long userId, CallStartInfo callStartInfo) {
         try {
-            messagingTemplate.convertAndSendToUser(
+            userDestinationRelay.sendToUser(
                     String.valueOf(userId),
                     "/queue/call-start",
                     callStartInfo
@@ -71,13 +81,10 @@ public class WebSocketEventService {
                     position, estimateWaitTime
             );
 
-            messagingTemplate.convertAndSendToUser(
-                    String.valueOf(userId),
-                    "/queue/matching",
-                    response
-            );
+            // 대기열 위치는 최신 값만 의미 있으므로 병합해서 전송
+            outboundMessageCoalescer.sendLatest(String.valueOf(userId), MATCHING_DESTINATION, response);
 
-            log.debug("대기열 상태 전송 완료 - userId: {}, position: {}", userId, position);
+            log.debug("대기열 상태 전송 요청 - userId: {}, position: {}", userId, position);
         } catch (Exception e) {
             log.error("대기열 상태 전송 실패 - userId: {}", userId, e);
         }
@@ -86,7 +93,7 @@ public class WebSocketEventService {
     public void sendCallStatusUpdate(Long callId, String status, Long... userIds) {
         try {
             for (Long userId : userIds) {
-                messagingTemplate.convertAndSendToUser(
+                userDestinationRelay.sendToUser(
                         String.valueOf(userId),
                         "/queue/calls",
                         new CallStatusUpdateMessage(callId, status)
@@ -99,9 +106,23 @@ public class WebSocketEventService {
         }
     }
 
+    public void sendRtcTokenRenewed(Long userId, Long callId, TokenRenewResponse token) {
+        try {
+            userDestinationRelay.sendToUser(
+                    String.valueOf(userId),
+                    "/queue/call-token",
+                    new RtcTokenRenewedMessage(callId, token.rtcToken(), token.expiresAt())
+            );
+
+            log.debug("RTC 토큰 갱신 알림 전송 완료 - userId: {}, callId: {}", userId, callId);
+        } catch (Exception e) {
+            log.error("RTC 토큰 갱신 알림 전송 실패 - userId: {}, callId: {}", userId, callId, e);
+        }
+    }
+
     public void sendPersonalMessage(Long userId, Object message) {
         try {
-            messagingTemplate.convertAndSendToUser(
+            userDestinationRelay.sendToUser(
                     String.valueOf(userId),
                     "/queue/personal",
                     message
@@ -118,60 +139,28 @@ public class WebSocketEventService {
             String status
     ) {}
 
+    public record RtcTokenRenewedMessage(
+            Long callId,
+            String rtcToken,
+            @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+            LocalDateTime expiresAt
+    ) {}
+
 
     private void sendMessageWithDetailedLogging(Long userId, String destination, Object payload, String messageType) {
         String userIdStr = String.valueOf(userId);
 
         try {
-            log.info("=== {} 메시지 전송 시작 ===", messageType);
-            log.info("Target User: {}", userIdStr);
-            log.info("Destination: {}", destination);
-            log.info("Payload Type: {}", payload.getClass().getSimpleName());
-            log.info("Payload: {}", payload);
-
-            // 1. 사용자 연결 상태 확인
-            SimpUser user = userRegistry.getUser(userIdStr);
-            if (user != null) {
-                log.info("✅ 사용자 연결됨 - Sessions: {}", user.getSessions().size());
-                user.getSessions().forEach(session ->
-                        log.info("  Session: {} (subscriptions: {})",
-                                session.getId(), session.getSubscriptions().size())
-                );
-            } else {
-                log.warn("❌ 사용자 연결되지 않음: {}", userIdStr);
-
-                // 연결된 모든 사용자 출력
-                log.info("현재 연결된 사용자들:");
-                userRegistry.getUsers().forEach(connectedUser ->
-                        log.info("  - User: {} (Sessions: {})",
-                                connectedUser.getName(), connectedUser.getSessions().size())
-                );
+            // 세션 정보는 디버그 시에만 조회 (전송 스레드를 붙잡지 않도록 대기/세션별 로그 없음)
+            if (log.isDebugEnabled()) {
+                SimpUser user = userRegistry.getUser(userIdStr);
+                log.debug("{} 메시지 전송 - user: {}, destination: {}, 이 노드 세션 수: {}",
+                        messageType, userIdStr, destination, user != null ? user.getSessions().size() : 0);
             }
 
-            // 2. 메시지 전송
-            log.info("메시지 전송 시도...");
-            messagingTemplate.convertAndSendToUser(userIdStr, destination, payload);
-            log.info("✅ 메시지 전송 완료");
-
-            // 3. 전송 후 약간의 지연을 두고 재확인
-            Thread.sleep(50);
-            SimpUser userAfter = userRegistry.getUser(userIdStr);
-            if (userAfter != null) {
-                log.info("✅ 전송 후 사용자 여전히 연결됨");
-            } else {
-                log.warn("⚠️ 전송 후 사용자 연결 끊어짐");
-            }
-
-            log.info("=== {} 메시지 전송 완료 ===", messageType);
-
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.error("=== {} 메시지 전송 실패 (인터럽트) ===", messageType);
-            log.error("User: {}, Destination: {}, Error: {}", userIdStr, destination, e.getMessage(), e);
-            throw new IllegalStateException("메시지 전송 중 인터럽트 발생", e);
+            userDestinationRelay.sendToUser(userIdStr, destination, payload);
         } catch (RuntimeException e) {
-            log.error("=== {} 메시지 전송 실패 ===", messageType);
-            log.error("User: {}, Destination: {}, Error: {}", userIdStr, destination, e.getMessage(), e);
+            log.error("❌ {} 메시지 전송 실패 - user: {}, destination: {}", messageType, userIdStr, destination, e);
             throw e;
         }
     }
@@ -0,0 +1,6 @@
+-- src/main/resources/sql/calls_version.sql
+-- 통화 상태 전이 낙관적 잠금용 버전 컬럼 (Call.version)
+-- 운영은 ddl-auto: validate 이므로 배포 전에 한 번만 수동 실행 (기존 행은 0으로 채워짐)
+
+ALTER TABLE calls
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,49 @@
+package com.ldsilver.chingoohaja.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProfileImageUrls 테스트")
+class ProfileImageUrlsTest {
+
+    private static final String ORIGINAL_URL = "https://firebasestorage.googleapis.com/v0/b/bucket/o/"
+            + "profiles%2Fuser_1_20260101_000000_abcd1234%2Foriginal.png?alt=media&token=tok";
+
+    @Test
+    @DisplayName("변형본이 있는 원본 URL은 같은 토큰의 썸네일 URL로 바꾼다")
+    void givenVariantUrl_whenThumbnail_thenReplacesFileName() {
+        // when
+        String result = ProfileImageUrls.thumbnail(ORIGINAL_URL);
+
+        // then
+        assertThat(result).isEqualTo("https://firebasestorage.googleapis.com/v0/b/bucket/o/"
+                + "profiles%2Fuser_1_20260101_000000_abcd1234%2Fthumb.jpg?alt=media&token=tok");
+        assertThat(ProfileImageUrls.hasVariants(ORIGINAL_URL)).isTrue();
+    }
+
+    @Test
+    @DisplayName("기존 업로드나 소셜 프로필 URL은 원본 URL을 그대로 사용한다")
+    void givenLegacyUrl_whenThumbnail_thenReturnsOriginal() {
+        // given
+        String legacyUrl = "https://firebasestorage.googleapis.com/v0/b/bucket/o/"
+                + "profiles%2Fuser_1_20250101_000000_abcd1234.jpg?alt=media&token=tok";
+        String socialUrl = "http://k.kakaocdn.net/dn/original.jpg";
+
+        // when & then
+        assertThat(ProfileImageUrls.thumbnail(legacyUrl)).isEqualTo(legacyUrl);
+        assertThat(ProfileImageUrls.medium(socialUrl)).isEqualTo(socialUrl);
+        assertThat(ProfileImageUrls.thumbnail(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("원본 객체명에서 변형본 객체명을 만든다")
+    void givenOriginalObjectName_whenVariantObjectName_thenSameDirectory() {
+        // when
+        String result = ProfileImageUrls.variantObjectName("profiles/user_1_x/original.png", ProfileImageUrls.MEDIUM);
+
+        // then
+        assertThat(result).isEqualTo("profiles/user_1_x/medium.jpg");
+    }
+}
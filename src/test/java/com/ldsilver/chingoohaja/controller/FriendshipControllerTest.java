@@ -79,10 +79,10 @@ class FriendshipControllerTest {
         void getFriendsList_thenReturnsFriendList() throws Exception {
             // given
             List<FriendListResponse.FriendItem> friends = List.of(
-                    new FriendListResponse.FriendItem(2L, "친구1",
-                            LocalDateTime.of(2025, 6, 1, 12, 0), "일상"),
-                    new FriendListResponse.FriendItem(3L, "친구2",
-                            LocalDateTime.of(2025, 5, 30, 10, 0), "고민상담")
+                    new FriendListResponse.FriendItem(2L, "친구1", null,
+                            LocalDateTime.of(2025, 6, 1, 12, 0), "일상", true),
+                    new FriendListResponse.FriendItem(3L, "친구2", null,
+                            LocalDateTime.of(2025, 5, 30, 10, 0), "고민상담", false)
             );
             FriendListResponse response = FriendListResponse.of(friends);
             given(friendshipService.getFriendsList(1L)).willReturn(response);
@@ -93,7 +93,8 @@ class FriendshipControllerTest {
                     .andExpect(jsonPath("$.success").value(true))
                     .andExpect(jsonPath("$.data.friends.length()").value(2))
                     .andExpect(jsonPath("$.data.total_count").value(2))
-                    .andExpect(jsonPath("$.data.friends[0].nickname").value("친구1"));
+                    .andExpect(jsonPath("$.data.friends[0].nickname").value("친구1"))
+                    .andExpect(jsonPath("$.data.friends[0].is_online").value(true));
         }
 
         @Test
@@ -0,0 +1,108 @@
+package com.ldsilver.chingoohaja.infrastructure.jwt;
+
+import com.ldsilver.chingoohaja.config.JwtProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AccessTokenRevocationRegistry 테스트")
+class AccessTokenRevocationRegistryTest {
+
+    @Mock private StringRedisTemplate redisTemplate;
+    @Mock private RedisMessageListenerContainer listenerContainer;
+    @Mock private ZSetOperations<String, String> zSetOperations;
+
+    private AccessTokenRevocationRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new AccessTokenRevocationRegistry(redisTemplate, listenerContainer, new JwtProperties());
+    }
+
+    private static JwtClaims claimsIssuedAt(long issuedAtMillis) {
+        return new JwtClaims(1L, "test@test.com", "USER", "ACCESS",
+                new Date(issuedAtMillis), new Date(issuedAtMillis + 3_600_000));
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(AccessTokenRevocationRegistry.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("로그아웃한 토큰은 Redis에 기록하고 전파한 뒤 로컬에서 바로 폐기로 판정한다")
+    void givenRevokedToken_whenIsRevoked_thenTrueWithoutRedisLookup() {
+        // given
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        long expiresAt = System.currentTimeMillis() + 60_000;
+
+        // when
+        registry.revokeToken("token-a", expiresAt);
+
+        // then
+        assertThat(registry.isRevoked("token-a", claimsIssuedAt(System.currentTimeMillis()))).isTrue();
+        assertThat(registry.isRevoked("token-b", claimsIssuedAt(System.currentTimeMillis()))).isFalse();
+        verify(zSetOperations).add(eq("auth:revoked:tokens"), eq(TokenHash.of("token-a")), anyDouble());
+        verify(redisTemplate).convertAndSend(eq(AccessTokenRevocationRegistry.CHANNEL), anyString());
+        verifyNoMoreInteractions(zSetOperations);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 전파된 사용자 폐기는 기준 시각의 초까지 발급된 토큰만 폐기한다")
+    void givenUserRevocationMessage_whenIsRevoked_thenOnlyTokensUpToThatSecondRevoked() {
+        // given
+        long revokedBefore = 1_700_000_000_500L;
+
+        // when
+        registry.onMessage(message("U:1:" + revokedBefore), null);
+
+        // then
+        assertThat(registry.isRevoked("old-token", claimsIssuedAt(1_699_999_999_000L))).isTrue();
+        // iat는 초 단위로 잘리므로 폐기 직전 같은 초에 발급된 토큰도 폐기
+        assertThat(registry.isRevoked("same-second-token", claimsIssuedAt(1_700_000_000_000L))).isTrue();
+        assertThat(registry.isRevoked("new-token", claimsIssuedAt(1_700_000_001_000L))).isFalse();
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("사용자 폐기 직전에 발급된 토큰은 iat가 초 단위로 잘려도 폐기된다")
+    void givenTokenIssuedJustBeforeRevokeUser_whenIsRevoked_thenTrue() {
+        // given
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        long issuedAt = System.currentTimeMillis() / 1000 * 1000;
+
+        // when
+        registry.revokeUser(1L);
+
+        // then
+        assertThat(registry.isRevoked("token-a", claimsIssuedAt(issuedAt))).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 전파된 토큰 폐기 메시지를 로컬 목록에 반영한다")
+    void givenTokenRevocationMessage_whenIsTokenRevoked_thenTrue() {
+        // when
+        registry.onMessage(message("T:" + TokenHash.of("token-a") + ":" + (System.currentTimeMillis() + 60_000)), null);
+
+        // then
+        assertThat(registry.isTokenRevoked("token-a")).isTrue();
+        assertThat(registry.revokedTokenCount()).isEqualTo(1);
+    }
+}
@@ -4,6 +4,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.ldsilver.chingoohaja.common.exception.CustomException;
 import com.ldsilver.chingoohaja.common.exception.ErrorCode;
+import com.ldsilver.chingoohaja.config.JwtProperties;
+import com.ldsilver.chingoohaja.domain.user.CustomUserDetails;
 import com.ldsilver.chingoohaja.domain.user.User;
 import com.ldsilver.chingoohaja.domain.user.enums.Gender;
 import com.ldsilver.chingoohaja.domain.user.enums.UserType;
@@ -15,7 +17,6 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockHttpServletRequest;
@@ -25,6 +26,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.time.LocalDate;
+import java.util.Date;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -34,11 +36,13 @@ import static org.mockito.Mockito.*;
 @DisplayName("JwtAuthenticationFilter 테스트")
 class JwtAuthenticationFilterTest {
 
-    @Mock private JwtTokenProvider jwtTokenProvider;
+    @Mock private VerifiedTokenCache verifiedTokenCache;
+    @Mock private AccessTokenRevocationRegistry accessTokenRevocationRegistry;
     @Mock private UserRepository userRepository;
     @Mock private FilterChain filterChain;
 
-    @InjectMocks private JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final JwtProperties jwtProperties = new JwtProperties();
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
 
     private MockHttpServletRequest request;
     private MockHttpServletResponse response;
@@ -46,18 +50,17 @@ class JwtAuthenticationFilterTest {
 
     private static final String VALID_TOKEN = "valid.jwt.token";
 
+    private static JwtClaims claims(Long userId, String userType, String tokenType) {
+        return new JwtClaims(userId, "test@test.com", userType, tokenType, new Date(),
+                new Date(System.currentTimeMillis() + 60_000));
+    }
+
     @BeforeEach
     void setUp() {
-        // ObjectMapper를 직접 주입 (mock 대신 실제 인스턴스)
-        try {
-            Field objectMapperField = JwtAuthenticationFilter.class.getDeclaredField("objectMapper");
-            objectMapperField.setAccessible(true);
-            ObjectMapper objectMapper = new ObjectMapper();
-            objectMapper.registerModule(new JavaTimeModule());
-            objectMapperField.set(jwtAuthenticationFilter, objectMapper);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(verifiedTokenCache, accessTokenRevocationRegistry,
+                new JwtUserDetailsFactory(userRepository, jwtProperties), objectMapper);
 
         request = new MockHttpServletRequest();
         response = new MockHttpServletResponse();
@@ -83,13 +86,53 @@ class JwtAuthenticationFilterTest {
     class DoFilterInternal {
 
         @Test
-        @DisplayName("유효한 액세스 토큰이면 SecurityContext에 인증 정보를 설정한다")
-        void givenValidAccessToken_whenFilter_thenSetsAuthentication() throws ServletException, IOException {
+        @DisplayName("유효한 액세스 토큰이면 DB 조회 없이 클레임으로 인증 정보를 설정한다")
+        void givenValidAccessToken_whenFilter_thenSetsAuthenticationFromClaims() throws ServletException, IOException {
             // given
             request.addHeader("Authorization", "Bearer " + VALID_TOKEN);
-            when(jwtTokenProvider.isTokenValid(VALID_TOKEN)).thenReturn(true);
-            when(jwtTokenProvider.isAccessToken(VALID_TOKEN)).thenReturn(true);
-            when(jwtTokenProvider.getUserIdFromToken(VALID_TOKEN)).thenReturn(1L);
+            when(verifiedTokenCache.verify(VALID_TOKEN)).thenReturn(claims(1L, "USER", "ACCESS"));
+
+            // when
+            jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+            // then
+            CustomUserDetails principal = (CustomUserDetails) SecurityContextHolder.getContext()
+                    .getAuthentication().getPrincipal();
+            assertThat(principal.getUserId()).isEqualTo(1L);
+            assertThat(principal.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+            verify(verifiedTokenCache, times(1)).verify(VALID_TOKEN);
+            verifyNoInteractions(userRepository);
+            verify(filterChain).doFilter(request, response);
+        }
+
+        @Test
+        @DisplayName("클레임으로 만든 principal은 getUser() 호출 시 한 번만 사용자를 조회한다")
+        void givenStatelessPrincipal_whenGetUser_thenLoadsOnce() throws ServletException, IOException {
+            // given
+            request.addHeader("Authorization", "Bearer " + VALID_TOKEN);
+            when(verifiedTokenCache.verify(VALID_TOKEN)).thenReturn(claims(1L, "USER", "ACCESS"));
+            when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+            jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+            CustomUserDetails principal = (CustomUserDetails) SecurityContextHolder.getContext()
+                    .getAuthentication().getPrincipal();
+
+            // when
+            principal.getUser();
+            User user = principal.getUser();
+
+            // then
+            assertThat(user).isSameAs(testUser);
+            verify(userRepository, times(1)).findById(1L);
+        }
+
+        @Test
+        @DisplayName("stateless 인증이 꺼져 있으면 요청마다 사용자를 조회한다")
+        void givenStatelessDisabled_whenFilter_thenLoadsUser() throws ServletException, IOException {
+            // given
+            jwtProperties.setStatelessAuthentication(false);
+            request.addHeader("Authorization", "Bearer " + VALID_TOKEN);
+            when(verifiedTokenCache.verify(VALID_TOKEN)).thenReturn(claims(1L, "USER", "ACCESS"));
             when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
 
             // when
@@ -97,6 +140,7 @@ class JwtAuthenticationFilterTest {
 
             // then
             assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+            verify(userRepository).findById(1L);
             verify(filterChain).doFilter(request, response);
         }
 
@@ -112,18 +156,39 @@ class JwtAuthenticationFilterTest {
         }
 
         @Test
-        @DisplayName("유효하지 않은 토큰이면 인증 없이 필터 체인을 진행한다")
-        void givenInvalidToken_whenFilter_thenContinuesWithoutAuth() throws ServletException, IOException {
+        @DisplayName("서명이 유효하지 않은 토큰이면 401 에러 응답을 반환한다")
+        void givenInvalidToken_whenFilter_thenReturns401() throws ServletException, IOException {
             // given
             request.addHeader("Authorization", "Bearer " + VALID_TOKEN);
-            when(jwtTokenProvider.isTokenValid(VALID_TOKEN)).thenReturn(false);
+            when(verifiedTokenCache.verify(VALID_TOKEN))
+                    .thenThrow(new CustomException(ErrorCode.JWT_SIGNATURE_INVALID));
 
             // when
             jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
             // then
             assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
-            verify(filterChain).doFilter(request, response);
+            assertThat(response.getStatus()).isEqualTo(401);
+            verify(filterChain, never()).doFilter(request, response);
+        }
+
+        @Test
+        @DisplayName("폐기된 토큰이면 401 에러 응답을 반환한다")
+        void givenRevokedToken_whenFilter_thenReturns401() throws ServletException, IOException {
+            // given
+            request.addHeader("Authorization", "Bearer " + VALID_TOKEN);
+            JwtClaims claims = claims(1L, "USER", "ACCESS");
+            when(verifiedTokenCache.verify(VALID_TOKEN)).thenReturn(claims);
+            when(accessTokenRevocationRegistry.isRevoked(VALID_TOKEN, claims)).thenReturn(true);
+
+            // when
+            jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+            // then
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+            assertThat(response.getStatus()).isEqualTo(401);
+            assertThat(response.getContentAsString()).contains(ErrorCode.JWT_REVOKED.getCode());
+            verify(filterChain, never()).doFilter(request, response);
         }
 
         @Test
@@ -131,8 +196,7 @@ class JwtAuthenticationFilterTest {
         void givenNonAccessToken_whenFilter_thenContinuesWithoutAuth() throws ServletException, IOException {
             // given
             request.addHeader("Authorization", "Bearer " + VALID_TOKEN);
-            when(jwtTokenProvider.isTokenValid(VALID_TOKEN)).thenReturn(true);
-            when(jwtTokenProvider.isAccessToken(VALID_TOKEN)).thenReturn(false);
+            when(verifiedTokenCache.verify(VALID_TOKEN)).thenReturn(claims(1L, null, "REFRESH"));
 
             // when
             jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -153,7 +217,7 @@ class JwtAuthenticationFilterTest {
             jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
             // then
-            verify(jwtTokenProvider, never()).isTokenValid(anyString());
+            verify(verifiedTokenCache, never()).verify(anyString());
             verify(filterChain).doFilter(request, response);
         }
 
@@ -162,7 +226,7 @@ class JwtAuthenticationFilterTest {
         void givenExpiredToken_whenFilter_thenReturns401() throws ServletException, IOException {
             // given
             request.addHeader("Authorization", "Bearer " + VALID_TOKEN);
-            when(jwtTokenProvider.isTokenValid(VALID_TOKEN))
+            when(verifiedTokenCache.verify(VALID_TOKEN))
                     .thenThrow(new io.jsonwebtoken.ExpiredJwtException(null, null, "Token expired"));
 
             // when
@@ -175,13 +239,11 @@ class JwtAuthenticationFilterTest {
         }
 
         @Test
-        @DisplayName("사용자를 찾을 수 없으면 401 에러 응답을 반환한다")
+        @DisplayName("userType 클레임이 없는 토큰에서 사용자를 찾을 수 없으면 401 에러 응답을 반환한다")
         void givenUserNotFound_whenFilter_thenReturns401() throws ServletException, IOException {
             // given
             request.addHeader("Authorization", "Bearer " + VALID_TOKEN);
-            when(jwtTokenProvider.isTokenValid(VALID_TOKEN)).thenReturn(true);
-            when(jwtTokenProvider.isAccessToken(VALID_TOKEN)).thenReturn(true);
-            when(jwtTokenProvider.getUserIdFromToken(VALID_TOKEN)).thenReturn(999L);
+            when(verifiedTokenCache.verify(VALID_TOKEN)).thenReturn(claims(999L, null, "ACCESS"));
             when(userRepository.findById(999L))
                     .thenThrow(new CustomException(ErrorCode.USER_NOT_FOUND));
 
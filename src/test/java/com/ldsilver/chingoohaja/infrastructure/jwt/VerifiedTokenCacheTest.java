@@ -0,0 +1,132 @@
+package com.ldsilver.chingoohaja.infrastructure.jwt;
+
+import com.ldsilver.chingoohaja.common.exception.CustomException;
+import com.ldsilver.chingoohaja.common.exception.ErrorCode;
+import com.ldsilver.chingoohaja.config.JwtProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VerifiedTokenCache 테스트")
+class VerifiedTokenCacheTest {
+
+    @Mock private JwtTokenProvider jwtTokenProvider;
+
+    private JwtProperties jwtProperties;
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        jwtProperties = new JwtProperties();
+        verifiedTokenCache = new VerifiedTokenCache(jwtTokenProvider, jwtProperties);
+    }
+
+    private static JwtClaims claims(Long userId, long expiresInMillis) {
+        return new JwtClaims(userId, "test@test.com", "USER", "ACCESS", new Date(),
+                new Date(System.currentTimeMillis() + expiresInMillis));
+    }
+
+    @Test
+    @DisplayName("같은 토큰을 다시 검증하면 서명 검증 없이 캐시된 클레임을 반환한다")
+    void givenCachedToken_whenVerify_thenSkipsParsing() {
+        // given
+        JwtClaims claims = claims(1L, 60_000);
+        when(jwtTokenProvider.parseClaims("token-a")).thenReturn(claims);
+
+        // when
+        verifiedTokenCache.verify("token-a");
+        JwtClaims result = verifiedTokenCache.verify("token-a");
+
+        // then
+        assertThat(result).isSameAs(claims);
+        verify(jwtTokenProvider, times(1)).parseClaims("token-a");
+        assertThat(verifiedTokenCache.getHitCount()).isEqualTo(1);
+        assertThat(verifiedTokenCache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("exp가 지난 항목은 재사용하지 않고 다시 검증한다")
+    void givenExpiredEntry_whenVerify_thenParsesAgain() {
+        // given
+        when(jwtTokenProvider.parseClaims("token-a"))
+                .thenReturn(claims(1L, -1))
+                .thenThrow(new CustomException(ErrorCode.JWT_EXPIRED));
+        verifiedTokenCache.verify("token-a");
+
+        // when & then
+        assertThatThrownBy(() -> verifiedTokenCache.verify("token-a"))
+                .isInstanceOf(CustomException.class)
+                .satisfies(ex -> assertThat(((CustomException) ex).getErrorCode())
+                        .isEqualTo(ErrorCode.JWT_EXPIRED));
+        assertThat(verifiedTokenCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("크기 상한을 넘으면 가장 오래 사용되지 않은 토큰을 제거한다")
+    void givenFullCache_whenVerifyNewToken_thenEvictsLeastRecentlyUsed() {
+        // given
+        jwtProperties.getVerifiedTokenCache().setMaxEntries(2);
+        when(jwtTokenProvider.parseClaims(anyString())).thenReturn(claims(1L, 60_000));
+        verifiedTokenCache.verify("token-a");
+        verifiedTokenCache.verify("token-b");
+        verifiedTokenCache.verify("token-a");
+
+        // when
+        verifiedTokenCache.verify("token-c");
+        verifiedTokenCache.verify("token-a");
+
+        // then
+        assertThat(verifiedTokenCache.size()).isEqualTo(2);
+        assertThat(verifiedTokenCache.getEvictionCount()).isEqualTo(1);
+        verify(jwtTokenProvider, times(1)).parseClaims("token-a");
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 검증해도 같은 토큰은 같은 클레임을 받고 크기 상한 근처로 유지된다")
+    void givenConcurrentVerifies_whenVerify_thenStaysConsistentAndBounded() throws Exception {
+        // given
+        int threads = 8;
+        jwtProperties.getVerifiedTokenCache().setMaxEntries(4);
+        JwtClaims claims = claims(1L, 60_000);
+        when(jwtTokenProvider.parseClaims(anyString())).thenReturn(claims);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            results.add(executor.submit(() -> {
+                boolean same = true;
+                for (int i = 0; i < 1_000; i++) {
+                    same &= verifiedTokenCache.verify("token-" + ((i + offset) % 8)) == claims;
+                }
+                return same;
+            }));
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        for (Future<Boolean> result : results) {
+            assertThat(result.get()).isTrue();
+        }
+        assertThat(verifiedTokenCache.size()).isLessThanOrEqualTo(4 + threads);
+        assertThat(verifiedTokenCache.getHitCount() + verifiedTokenCache.getMissCount()).isEqualTo(threads * 1_000L);
+    }
+}
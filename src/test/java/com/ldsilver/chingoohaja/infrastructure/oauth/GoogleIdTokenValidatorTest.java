@@ -0,0 +1,115 @@
+package com.ldsilver.chingoohaja.infrastructure.oauth;
+
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
+import com.google.api.client.googleapis.auth.oauth2.GooglePublicKeysManager;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.json.webtoken.JsonWebSignature;
+import com.ldsilver.chingoohaja.common.exception.CustomException;
+import com.ldsilver.chingoohaja.common.exception.ErrorCode;
+import com.ldsilver.chingoohaja.config.OAuthProperties;
+import com.ldsilver.chingoohaja.dto.oauth.OAuthUserInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GoogleIdTokenValidator 테스트")
+class GoogleIdTokenValidatorTest {
+
+    private static final String CLIENT_ID = "test-google-client-id";
+
+    // Google 인증서 대신 로컬 키를 돌려주는 공개키 관리자
+    @Mock private GooglePublicKeysManager publicKeysManager;
+
+    private KeyPair localKeyPair;
+    private GoogleIdTokenValidator validator;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        localKeyPair = generator.generateKeyPair();
+
+        OAuthProperties oAuthProperties = new OAuthProperties();
+        oAuthProperties.getGoogle().setClientId(CLIENT_ID);
+        validator = new GoogleIdTokenValidator(oAuthProperties, publicKeysManager);
+    }
+
+    private String signIdToken(PrivateKey privateKey) throws Exception {
+        long now = System.currentTimeMillis() / 1000;
+        JsonWebSignature.Header header = new JsonWebSignature.Header()
+                .setAlgorithm("RS256")
+                .setKeyId("local-key");
+        GoogleIdToken.Payload payload = new GoogleIdToken.Payload()
+                .setIssuer("https://accounts.google.com")
+                .setAudience(CLIENT_ID)
+                .setSubject("google-user-1")
+                .setEmail("test@gmail.com")
+                .setIssuedAtTimeSeconds(now)
+                .setExpirationTimeSeconds(now + 3600);
+        payload.set("name", "테스터");
+
+        return JsonWebSignature.signUsingRsaSha256(privateKey, GsonFactory.getDefaultInstance(), header, payload);
+    }
+
+    @Test
+    @DisplayName("공유 검증기는 캐시된 공개키로 여러 로그인의 ID Token을 검증한다")
+    void givenTokensSignedByCachedKey_whenVerify_thenReusesPublicKeys() throws Exception {
+        // given
+        when(publicKeysManager.getPublicKeys()).thenReturn(List.of(localKeyPair.getPublic()));
+        String idToken = signIdToken(localKeyPair.getPrivate());
+
+        // when
+        OAuthUserInfo first = validator.verifyIdToken(idToken);
+        OAuthUserInfo second = validator.verifyIdToken(idToken);
+
+        // then
+        assertThat(first.providerId()).isEqualTo("google-user-1");
+        assertThat(second.email()).isEqualTo("test@gmail.com");
+        verify(publicKeysManager, times(2)).getPublicKeys();
+        verify(publicKeysManager, never()).refresh();
+    }
+
+    @Test
+    @DisplayName("캐시된 공개키로 서명을 확인할 수 없으면 유효하지 않은 토큰으로 거부한다")
+    void givenTokenSignedByUnknownKey_whenVerify_thenThrowsInvalidOAuthToken() throws Exception {
+        // given
+        when(publicKeysManager.getPublicKeys()).thenReturn(List.of(localKeyPair.getPublic()));
+        KeyPair otherKeyPair = KeyPairGenerator.getInstance("RSA").generateKeyPair();
+        String idToken = signIdToken(otherKeyPair.getPrivate());
+
+        // when & then
+        assertThatThrownBy(() -> validator.verifyIdToken(idToken))
+                .isInstanceOf(CustomException.class)
+                .satisfies(ex -> assertThat(((CustomException) ex).getErrorCode())
+                        .isEqualTo(ErrorCode.INVALID_OAUTH_TOKEN));
+    }
+
+    @Test
+    @DisplayName("공개키 만료가 가까울 때만 백그라운드에서 갱신한다")
+    void givenKeysNearExpiration_whenRefreshCheck_thenRefreshesOnlyWhenNeeded() throws Exception {
+        // given
+        when(publicKeysManager.getExpirationTimeMilliseconds())
+                .thenReturn(System.currentTimeMillis() + 3_600_000L)
+                .thenReturn(System.currentTimeMillis() + 60_000L);
+
+        // when
+        validator.refreshPublicKeysIfExpiring();
+        validator.refreshPublicKeysIfExpiring();
+
+        // then
+        verify(publicKeysManager, times(1)).refresh();
+    }
+}
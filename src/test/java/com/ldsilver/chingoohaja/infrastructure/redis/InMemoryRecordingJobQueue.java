@@ -0,0 +1,138 @@
+package com.ldsilver.chingoohaja.infrastructure.redis;
+
+import com.ldsilver.chingoohaja.dto.call.RecordingJob;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 테스트용 후처리 큐 (RedisRecordingJobQueue와 같은 ready/in-flight/dead 상태 전이, lease 토큰 확인 포함)
+ */
+public class InMemoryRecordingJobQueue implements RecordingJobQueue {
+
+    private final List<RecordingJob> ready = new ArrayList<>();
+    private final Map<String, Long> leases = new HashMap<>();
+    private final Map<String, String> leaseTokens = new HashMap<>();
+    private final Map<String, RecordingJob> inFlight = new HashMap<>();
+    private final List<RecordingJob> dead = new ArrayList<>();
+
+    @Override
+    public synchronized void enqueue(RecordingJob job) {
+        ready.add(job);
+    }
+
+    @Override
+    public synchronized ClaimedJob claim(long leaseMillis) {
+        long now = System.currentTimeMillis();
+        RecordingJob job = ready.stream()
+                .filter(candidate -> candidate.availableAtMillis() <= now)
+                .min(Comparator.comparingLong(RecordingJob::availableAtMillis))
+                .orElse(null);
+        if (job == null) {
+            return null;
+        }
+        ready.remove(job);
+        inFlight.put(job.jobId(), job);
+        leases.put(job.jobId(), now + leaseMillis);
+
+        String token = UUID.randomUUID().toString();
+        leaseTokens.put(job.jobId(), token);
+        return new ClaimedJob(job, token);
+    }
+
+    @Override
+    public synchronized boolean renew(ClaimedJob claimed, long leaseMillis) {
+        if (!owns(claimed)) {
+            return false;
+        }
+        leases.put(claimed.job().jobId(), System.currentTimeMillis() + leaseMillis);
+        return true;
+    }
+
+    @Override
+    public synchronized boolean complete(ClaimedJob claimed) {
+        if (!owns(claimed)) {
+            return false;
+        }
+        release(claimed.job().jobId());
+        return true;
+    }
+
+    @Override
+    public synchronized boolean retry(ClaimedJob claimed, RecordingJob nextAttempt) {
+        if (!owns(claimed)) {
+            return false;
+        }
+        release(nextAttempt.jobId());
+        ready.add(nextAttempt);
+        return true;
+    }
+
+    @Override
+    public synchronized boolean deadLetter(ClaimedJob claimed, RecordingJob job) {
+        if (!owns(claimed)) {
+            return false;
+        }
+        release(job.jobId());
+        dead.add(0, job);
+        return true;
+    }
+
+    @Override
+    public synchronized RequeueResult requeueExpired(int maxAttempts) {
+        long now = System.currentTimeMillis();
+        List<String> expired = leases.entrySet().stream()
+                .filter(entry -> entry.getValue() <= now)
+                .map(Map.Entry::getKey)
+                .toList();
+        int requeued = 0;
+        int deadLettered = 0;
+        for (String jobId : expired) {
+            RecordingJob job = inFlight.get(jobId);
+            release(jobId);
+            if (job.attempt() >= maxAttempts) {
+                dead.add(0, job.withError("lease expired"));
+                deadLettered++;
+            } else {
+                ready.add(job.nextAttempt(0, "lease expired"));
+                requeued++;
+            }
+        }
+        return new RequeueResult(requeued, deadLettered);
+    }
+
+    @Override
+    public synchronized QueueDepth depth() {
+        return new QueueDepth(ready.size(), inFlight.size(), dead.size());
+    }
+
+    public synchronized List<RecordingJob> readyJobs() {
+        return List.copyOf(ready);
+    }
+
+    public synchronized List<RecordingJob> deadJobs() {
+        return List.copyOf(dead);
+    }
+
+    public synchronized List<String> inFlightJobIds() {
+        return List.copyOf(inFlight.keySet());
+    }
+
+    public synchronized Long leaseExpiresAt(String jobId) {
+        return leases.get(jobId);
+    }
+
+    private boolean owns(ClaimedJob claimed) {
+        return claimed.leaseToken().equals(leaseTokens.get(claimed.job().jobId()));
+    }
+
+    private void release(String jobId) {
+        inFlight.remove(jobId);
+        leases.remove(jobId);
+        leaseTokens.remove(jobId);
+    }
+}
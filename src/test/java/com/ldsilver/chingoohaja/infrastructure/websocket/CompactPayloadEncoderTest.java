@@ -0,0 +1,108 @@
+package com.ldsilver.chingoohaja.infrastructure.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ldsilver.chingoohaja.dto.matching.response.MatchingNotificationResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CompactPayloadEncoder 테스트")
+class CompactPayloadEncoderTest {
+
+    private static final String MATCHING_JSON = """
+            {"type":"MATCHING_SUCCESS","message":"매칭이 성공했습니다!","call_id":10,"partner_id":2,\
+            "partner_nickname":"친구","queue_position":null,"estimated_wait_time":null,\
+            "timestamp":"2026-10-19T12:00:00"}""";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private CompactPayloadSessions compactPayloadSessions;
+    private CompactPayloadEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        compactPayloadSessions = new CompactPayloadSessions();
+        encoder = new CompactPayloadEncoder(compactPayloadSessions, objectMapper);
+    }
+
+    private void connect(String sessionId, String encoding) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setSessionId(sessionId);
+        if (encoding != null) {
+            accessor.addNativeHeader("payload-encoding", encoding);
+        }
+        accessor.setLeaveMutable(true);
+        compactPayloadSessions.preSend(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()), null);
+    }
+
+    private Message<byte[]> outboundUserMessage(String sessionId, String userDestination, String json) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setDestination(userDestination.replace("/user", "") + "-user" + sessionId);
+        accessor.setNativeHeader(SimpMessageHeaderAccessor.ORIGINAL_DESTINATION, userDestination);
+        return MessageBuilder.createMessage(json.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+
+    @Test
+    @DisplayName("압축을 요청한 세션의 매칭 알림은 필드 순서 배열로 바꾸고 안내 문구와 뒤쪽 null을 뺀다")
+    void givenCompactSession_whenMatchingNotification_thenEncodesPositionalArray() {
+        // given
+        connect("s1", "compact");
+
+        // when
+        Message<?> result = encoder.beforeHandle(
+                outboundUserMessage("s1", "/user/queue/matching", MATCHING_JSON), null, null);
+
+        // then
+        String body = new String((byte[]) result.getPayload(), StandardCharsets.UTF_8);
+        assertThat(body).isEqualTo("[\"MATCHING_SUCCESS\",10,2,\"친구\",null,null,\"2026-10-19T12:00:00\"]");
+        assertThat(body.getBytes(StandardCharsets.UTF_8).length)
+                .isLessThan(MATCHING_JSON.getBytes(StandardCharsets.UTF_8).length / 2);
+        assertThat(SimpMessageHeaderAccessor.wrap(result).getFirstNativeHeader("payload-encoding"))
+                .isEqualTo("compact");
+    }
+
+    @Test
+    @DisplayName("압축을 요청하지 않은 세션이나 대상이 아닌 목적지는 원본 그대로 보낸다")
+    void givenPlainSessionOrOtherDestination_whenBeforeHandle_thenKeepsOriginal() {
+        // given
+        connect("s1", null);
+        connect("s2", "compact");
+        Message<byte[]> plainSession = outboundUserMessage("s1", "/user/queue/matching", MATCHING_JSON);
+        Message<byte[]> otherDestination = outboundUserMessage("s2", "/user/queue/calls", "{\"callId\":1}");
+
+        // when & then
+        assertThat(encoder.beforeHandle(plainSession, null, null)).isSameAs(plainSession);
+        assertThat(encoder.beforeHandle(otherDestination, null, null)).isSameAs(otherDestination);
+    }
+
+    @Test
+    @DisplayName("매칭 취소 알림은 안내 문구를 빼도 취소 사유를 마지막 필드로 전달한다")
+    void givenCancelledNotification_whenEncode_thenKeepsReason() throws Exception {
+        // given
+        connect("s1", "compact");
+        String json = objectMapper.writeValueAsString(MatchingNotificationResponse.cancelled("연결 끊김"));
+
+        // when
+        Message<?> result = encoder.beforeHandle(
+                outboundUserMessage("s1", "/user/queue/matching", json), null, null);
+
+        // then
+        JsonNode array = objectMapper.readTree((byte[]) result.getPayload());
+        assertThat(array.isArray()).isTrue();
+        assertThat(array).hasSize(CompactPayloadEncoder.FIELDS_BY_DESTINATION.get("/user/queue/matching").size());
+        assertThat(array.get(0).asText()).isEqualTo("MATCHING_CANCELLED");
+        assertThat(array.get(array.size() - 1).asText()).isEqualTo("연결 끊김");
+    }
+}
@@ -0,0 +1,54 @@
+package com.ldsilver.chingoohaja.infrastructure.websocket;
+
+import com.ldsilver.chingoohaja.config.WebSocketProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ConnectionAdmissionLimiter 테스트")
+class ConnectionAdmissionLimiterTest {
+
+    private WebSocketProperties webSocketProperties;
+    private ConnectionAdmissionLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        webSocketProperties = new WebSocketProperties();
+        WebSocketProperties.ConnectAdmission config = webSocketProperties.getConnectAdmission();
+        config.setPermitsPerSecond(1);
+        config.setBurst(2);
+        config.setMinRetryMillis(1000);
+        config.setRetryJitterMillis(500);
+        limiter = new ConnectionAdmissionLimiter(webSocketProperties);
+    }
+
+    @Test
+    @DisplayName("순간 허용량까지는 받아들이고 넘으면 무작위 지연이 더해진 재시도 시간을 안내한다")
+    void givenBurstExhausted_whenTryAcquire_thenReturnsJitteredRetryHint() {
+        // when
+        long first = limiter.tryAcquire();
+        long second = limiter.tryAcquire();
+        long rejected = limiter.tryAcquire();
+
+        // then
+        assertThat(first).isZero();
+        assertThat(second).isZero();
+        assertThat(rejected).isBetween(1000L, 1500L);
+        assertThat(limiter.getRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("제한을 끄면 모든 CONNECT를 허용한다")
+    void givenDisabled_whenTryAcquire_thenAlwaysAdmits() {
+        // given
+        webSocketProperties.getConnectAdmission().setEnabled(false);
+
+        // when & then
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire()).isZero();
+        }
+        assertThat(limiter.getRejectedCount()).isZero();
+    }
+}
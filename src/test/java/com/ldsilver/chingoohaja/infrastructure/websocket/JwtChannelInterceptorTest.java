@@ -2,18 +2,21 @@ package com.ldsilver.chingoohaja.infrastructure.websocket;
 
 import com.ldsilver.chingoohaja.common.exception.CustomException;
 import com.ldsilver.chingoohaja.common.exception.ErrorCode;
+import com.ldsilver.chingoohaja.config.JwtProperties;
 import com.ldsilver.chingoohaja.domain.user.CustomUserDetails;
 import com.ldsilver.chingoohaja.domain.user.User;
 import com.ldsilver.chingoohaja.domain.user.enums.Gender;
 import com.ldsilver.chingoohaja.domain.user.enums.UserType;
-import com.ldsilver.chingoohaja.infrastructure.jwt.JwtTokenProvider;
+import com.ldsilver.chingoohaja.infrastructure.jwt.AccessTokenRevocationRegistry;
+import com.ldsilver.chingoohaja.infrastructure.jwt.JwtClaims;
+import com.ldsilver.chingoohaja.infrastructure.jwt.JwtUserDetailsFactory;
+import com.ldsilver.chingoohaja.infrastructure.jwt.VerifiedTokenCache;
 import com.ldsilver.chingoohaja.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.messaging.Message;
@@ -25,6 +28,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 
 import java.lang.reflect.Field;
 import java.time.LocalDate;
+import java.util.Date;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -35,17 +39,32 @@ import static org.mockito.Mockito.*;
 @DisplayName("JwtChannelInterceptor 테스트")
 class JwtChannelInterceptorTest {
 
-    @Mock private JwtTokenProvider jwtTokenProvider;
+    @Mock private VerifiedTokenCache verifiedTokenCache;
+    @Mock private AccessTokenRevocationRegistry accessTokenRevocationRegistry;
     @Mock private UserRepository userRepository;
+    @Mock private ConnectionAdmissionLimiter connectionAdmissionLimiter;
     @Mock private MessageChannel messageChannel;
 
-    @InjectMocks private JwtChannelInterceptor jwtChannelInterceptor;
+    private final JwtProperties jwtProperties = new JwtProperties();
+    private JwtChannelInterceptor jwtChannelInterceptor;
 
     private User testUser;
     private static final String VALID_TOKEN = "valid.jwt.token";
 
+    private static JwtClaims claims(Long userId, String tokenType) {
+        return claims(userId, "USER", tokenType);
+    }
+
+    private static JwtClaims claims(Long userId, String userType, String tokenType) {
+        return new JwtClaims(userId, "test@test.com", userType, tokenType, new Date(),
+                new Date(System.currentTimeMillis() + 60_000));
+    }
+
     @BeforeEach
     void setUp() {
+        jwtChannelInterceptor = new JwtChannelInterceptor(verifiedTokenCache, accessTokenRevocationRegistry,
+                new JwtUserDetailsFactory(userRepository, jwtProperties), connectionAdmissionLimiter);
+
         testUser = User.of("test@test.com", "테스터", "테스터닉", Gender.MALE,
                 LocalDate.of(1990, 1, 1), null, UserType.USER, null, "kakao", "k1");
         setId(testUser, 1L);
@@ -81,14 +100,11 @@ class JwtChannelInterceptorTest {
     class PreSendConnect {
 
         @Test
-        @DisplayName("유효한 토큰으로 CONNECT 시 인증 정보를 설정한다")
+        @DisplayName("유효한 토큰으로 CONNECT 시 DB 조회 없이 클레임으로 인증 정보를 설정한다")
         void givenValidToken_whenConnect_thenSetsAuthentication() {
             // given
             Message<?> message = createConnectMessage(VALID_TOKEN);
-            when(jwtTokenProvider.isTokenValid(VALID_TOKEN)).thenReturn(true);
-            when(jwtTokenProvider.isAccessToken(VALID_TOKEN)).thenReturn(true);
-            when(jwtTokenProvider.getUserIdFromToken(VALID_TOKEN)).thenReturn(1L);
-            when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+            when(verifiedTokenCache.verify(VALID_TOKEN)).thenReturn(claims(1L, "ACCESS"));
 
             // when
             Message<?> result = jwtChannelInterceptor.preSend(message, messageChannel);
@@ -102,6 +118,46 @@ class JwtChannelInterceptorTest {
             UsernamePasswordAuthenticationToken auth =
                     (UsernamePasswordAuthenticationToken) accessor.getUser();
             assertThat(auth.getPrincipal()).isInstanceOf(CustomUserDetails.class);
+            assertThat(auth.getName()).isEqualTo("1");
+            verifyNoInteractions(userRepository);
+        }
+
+        @Test
+        @DisplayName("무상태 인증을 끄면 CONNECT 시 사용자를 조회해 principal을 만든다")
+        void givenStatelessDisabled_whenConnect_thenLoadsUser() {
+            // given
+            jwtProperties.setStatelessAuthentication(false);
+            Message<?> message = createConnectMessage(VALID_TOKEN);
+            when(verifiedTokenCache.verify(VALID_TOKEN)).thenReturn(claims(1L, "ACCESS"));
+            when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+
+            // when
+            Message<?> result = jwtChannelInterceptor.preSend(message, messageChannel);
+
+            // then
+            UsernamePasswordAuthenticationToken auth =
+                    (UsernamePasswordAuthenticationToken) StompHeaderAccessor.wrap(result).getUser();
+            assertThat(((CustomUserDetails) auth.getPrincipal()).getUser()).isSameAs(testUser);
+            verify(userRepository, times(1)).findById(1L);
+        }
+
+        @Test
+        @DisplayName("노드 접속 허용량을 넘으면 재시도 대기 시간과 함께 거절한다")
+        void givenAdmissionExhausted_whenConnect_thenThrowsThrottledException() {
+            // given
+            Message<?> message = createConnectMessage(VALID_TOKEN);
+            when(connectionAdmissionLimiter.tryAcquire()).thenReturn(2500L);
+
+            // when & then
+            assertThatThrownBy(() -> jwtChannelInterceptor.preSend(message, messageChannel))
+                    .isInstanceOf(WebSocketConnectThrottledException.class)
+                    .satisfies(ex -> {
+                        assertThat(((CustomException) ex).getErrorCode())
+                                .isEqualTo(ErrorCode.WEBSOCKET_CONNECT_THROTTLED);
+                        assertThat(((WebSocketConnectThrottledException) ex).getRetryAfterMillis())
+                                .isEqualTo(2500L);
+                    });
+            verifyNoInteractions(verifiedTokenCache, userRepository);
         }
 
         @Test
@@ -121,13 +177,14 @@ class JwtChannelInterceptorTest {
         void givenInvalidToken_whenConnect_thenThrowsCustomException() {
             // given
             Message<?> message = createConnectMessage(VALID_TOKEN);
-            when(jwtTokenProvider.isTokenValid(VALID_TOKEN)).thenReturn(false);
+            when(verifiedTokenCache.verify(VALID_TOKEN))
+                    .thenThrow(new CustomException(ErrorCode.JWT_SIGNATURE_INVALID));
 
             // when & then
             assertThatThrownBy(() -> jwtChannelInterceptor.preSend(message, messageChannel))
                     .isInstanceOf(CustomException.class)
                     .satisfies(ex -> assertThat(((CustomException) ex).getErrorCode())
-                            .isEqualTo(ErrorCode.INVALID_TOKEN));
+                            .isEqualTo(ErrorCode.JWT_SIGNATURE_INVALID));
         }
 
         @Test
@@ -135,8 +192,7 @@ class JwtChannelInterceptorTest {
         void givenNonAccessToken_whenConnect_thenThrowsCustomException() {
             // given
             Message<?> message = createConnectMessage(VALID_TOKEN);
-            when(jwtTokenProvider.isTokenValid(VALID_TOKEN)).thenReturn(true);
-            when(jwtTokenProvider.isAccessToken(VALID_TOKEN)).thenReturn(false);
+            when(verifiedTokenCache.verify(VALID_TOKEN)).thenReturn(claims(1L, "REFRESH"));
 
             // when & then
             assertThatThrownBy(() -> jwtChannelInterceptor.preSend(message, messageChannel))
@@ -146,13 +202,11 @@ class JwtChannelInterceptorTest {
         }
 
         @Test
-        @DisplayName("사용자를 찾을 수 없으면 CustomException을 던진다")
+        @DisplayName("클레임에 사용자 유형이 없어 조회한 사용자를 찾을 수 없으면 CustomException을 던진다")
         void givenUserNotFound_whenConnect_thenThrowsCustomException() {
             // given
             Message<?> message = createConnectMessage(VALID_TOKEN);
-            when(jwtTokenProvider.isTokenValid(VALID_TOKEN)).thenReturn(true);
-            when(jwtTokenProvider.isAccessToken(VALID_TOKEN)).thenReturn(true);
-            when(jwtTokenProvider.getUserIdFromToken(VALID_TOKEN)).thenReturn(999L);
+            when(verifiedTokenCache.verify(VALID_TOKEN)).thenReturn(claims(999L, null, "ACCESS"));
             when(userRepository.findById(999L)).thenReturn(Optional.empty());
 
             // when & then
@@ -178,7 +232,7 @@ class JwtChannelInterceptorTest {
 
             // then
             assertThat(result).isNotNull();
-            verify(jwtTokenProvider, never()).isTokenValid(anyString());
+            verify(verifiedTokenCache, never()).verify(anyString());
         }
     }
 }
@@ -0,0 +1,67 @@
+package com.ldsilver.chingoohaja.infrastructure.websocket;
+
+import com.ldsilver.chingoohaja.config.WebSocketProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OutboundChannelMonitor 테스트")
+class OutboundChannelMonitorTest {
+
+    private WebSocketProperties webSocketProperties;
+    private OutboundChannelMonitor monitor;
+    private final Message<byte[]> message = MessageBuilder.withPayload(new byte[0]).build();
+
+    @BeforeEach
+    void setUp() {
+        webSocketProperties = new WebSocketProperties();
+        monitor = new OutboundChannelMonitor(webSocketProperties);
+    }
+
+    @Test
+    @DisplayName("전송 스레드가 처리하기 전까지의 메시지 수를 대기열 깊이로 집계한다")
+    void givenQueuedMessages_whenHandled_thenTracksQueueDepth() {
+        // when
+        monitor.preSend(message, null);
+        monitor.preSend(message, null);
+        monitor.beforeHandle(message, null, null);
+        monitor.afterMessageHandled(message, null, null, null);
+
+        // then
+        assertThat(monitor.getQueueDepth()).isEqualTo(1);
+        assertThat(monitor.getMaxQueueDepth()).isEqualTo(2);
+        assertThat(monitor.getSlowSendCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("전송이 기준 시간을 넘기면 느린 클라이언트로 집계한다")
+    void givenSlowSend_whenHandled_thenCountsSlowConsumer() {
+        // given
+        webSocketProperties.getOutbound().setSlowSendThresholdMillis(0);
+
+        // when
+        monitor.preSend(message, null);
+        monitor.beforeHandle(message, null, null);
+        monitor.afterMessageHandled(message, null, null, null);
+
+        // then
+        assertThat(monitor.getSlowSendCount()).isEqualTo(1);
+        assertThat(monitor.getQueueDepth()).isZero();
+    }
+
+    @Test
+    @DisplayName("스레드 풀 대기열이 가득 차 거절된 메시지는 대기열 깊이에서 빼고 폐기로 집계한다")
+    void givenRejectedMessage_whenSendCompletes_thenCountsRejected() {
+        // when
+        monitor.preSend(message, null);
+        monitor.afterSendCompletion(message, null, false, new IllegalStateException("rejected"));
+
+        // then
+        assertThat(monitor.getQueueDepth()).isZero();
+        assertThat(monitor.getRejectedCount()).isEqualTo(1);
+    }
+}
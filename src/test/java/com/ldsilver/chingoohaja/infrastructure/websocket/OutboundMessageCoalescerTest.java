@@ -0,0 +1,117 @@
+package com.ldsilver.chingoohaja.infrastructure.websocket;
+
+import com.ldsilver.chingoohaja.config.WebSocketProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboundMessageCoalescer 테스트")
+class OutboundMessageCoalescerTest {
+
+    @Mock private UserDestinationRelay userDestinationRelay;
+
+    private WebSocketProperties webSocketProperties;
+    private OutboundMessageCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        webSocketProperties = new WebSocketProperties();
+        coalescer = new OutboundMessageCoalescer(userDestinationRelay, webSocketProperties);
+    }
+
+    @Test
+    @DisplayName("전송 주기 안에 같은 목적지로 여러 번 요청하면 마지막 메시지만 전송한다")
+    void givenSupersededMessages_whenFlush_thenSendsLatestOnly() {
+        // given
+        coalescer.sendLatest("1", "/queue/matching", "position-3");
+        coalescer.sendLatest("1", "/queue/matching", "position-2");
+        coalescer.sendLatest("2", "/queue/matching", "position-5");
+
+        // when
+        coalescer.flush();
+
+        // then
+        verify(userDestinationRelay).sendToUser("1", "/queue/matching", "position-2");
+        verify(userDestinationRelay).sendToUser("2", "/queue/matching", "position-5");
+        verifyNoMoreInteractions(userDestinationRelay);
+        assertThat(coalescer.getCoalescedCount()).isEqualTo(1);
+        assertThat(coalescer.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 목적지로 일반 메시지를 보내기 전 취소한 대기 메시지는 전송하지 않는다")
+    void givenCancelledPending_whenFlush_thenSkipsStaleMessage() {
+        // given
+        coalescer.sendLatest("1", "/queue/matching", "position-1");
+        coalescer.cancelPending("1", "/queue/matching");
+
+        // when
+        coalescer.flush();
+
+        // then
+        verifyNoInteractions(userDestinationRelay);
+    }
+
+    @Test
+    @DisplayName("취소 직후 늦게 도착한 병합 메시지는 버리고, 취소 유지 시간이 지나면 다시 전송한다")
+    void givenLateMessageAfterCancel_whenFlush_thenDropsUntilTombstoneExpires() {
+        // given
+        coalescer.cancelPending("1", "/queue/matching");
+        coalescer.sendLatest("1", "/queue/matching", "position-1");
+
+        // when
+        coalescer.flush();
+
+        // then
+        verifyNoInteractions(userDestinationRelay);
+        assertThat(coalescer.getDroppedAfterCancelCount()).isEqualTo(1);
+
+        // 취소 유지 시간이 지난 뒤의 요청은 정상 전송
+        webSocketProperties.getOutbound().setCoalesceTombstoneMillis(0);
+        coalescer.cancelPending("2", "/queue/matching");
+        coalescer.sendLatest("2", "/queue/matching", "position-2");
+        coalescer.flush();
+        verify(userDestinationRelay).sendToUser("2", "/queue/matching", "position-2");
+    }
+
+    @Test
+    @DisplayName("전송 중인 병합 메시지가 있으면 취소는 그 전송이 끝난 뒤에 완료된다")
+    void givenInFlightFlush_whenCancel_thenWaitsForSend() throws Exception {
+        // given
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            sending.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(userDestinationRelay).sendToUser(eq("1"), eq("/queue/matching"), any());
+        coalescer.sendLatest("1", "/queue/matching", "position-1");
+
+        CompletableFuture<Void> flush = CompletableFuture.runAsync(coalescer::flush);
+        assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        CompletableFuture<Void> cancel = CompletableFuture.runAsync(() -> coalescer.cancelPending("1", "/queue/matching"));
+
+        // then
+        Thread.sleep(100);
+        assertThat(cancel).isNotDone();
+        release.countDown();
+        flush.get(5, TimeUnit.SECONDS);
+        cancel.get(5, TimeUnit.SECONDS);
+        assertThat(coalescer.pendingCount()).isZero();
+    }
+}
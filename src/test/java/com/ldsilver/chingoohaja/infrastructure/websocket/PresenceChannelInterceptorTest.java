@@ -0,0 +1,60 @@
+package com.ldsilver.chingoohaja.infrastructure.websocket;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PresenceChannelInterceptor 테스트")
+class PresenceChannelInterceptorTest {
+
+    @Mock private PresenceRegistry presenceRegistry;
+    @Mock private MessageChannel channel;
+
+    @InjectMocks private PresenceChannelInterceptor presenceChannelInterceptor;
+
+    private static Message<byte[]> frame(SimpMessageType type, String user) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        if (user != null) {
+            accessor.setUser(new UsernamePasswordAuthenticationToken(user, null));
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    @Test
+    @DisplayName("전송 하트비트를 포함한 인증된 수신 프레임은 presence에 반영한다")
+    void givenAuthenticatedFrames_whenPreSend_thenTouchesPresence() {
+        // when
+        presenceChannelInterceptor.preSend(frame(SimpMessageType.HEARTBEAT, "1"), channel);
+        presenceChannelInterceptor.preSend(frame(SimpMessageType.MESSAGE, "2"), channel);
+
+        // then
+        verify(presenceRegistry).touch(1L);
+        verify(presenceRegistry).touch(2L);
+    }
+
+    @Test
+    @DisplayName("연결/종료 프레임과 인증되지 않은 프레임은 반영하지 않는다")
+    void givenConnectDisconnectOrAnonymous_whenPreSend_thenSkips() {
+        // when
+        presenceChannelInterceptor.preSend(frame(SimpMessageType.CONNECT, "1"), channel);
+        presenceChannelInterceptor.preSend(frame(SimpMessageType.DISCONNECT, "1"), channel);
+        presenceChannelInterceptor.preSend(frame(SimpMessageType.HEARTBEAT, null), channel);
+        presenceChannelInterceptor.preSend(frame(SimpMessageType.MESSAGE, "anonymous"), channel);
+
+        // then
+        verify(presenceRegistry, never()).touch(anyLong());
+    }
+}
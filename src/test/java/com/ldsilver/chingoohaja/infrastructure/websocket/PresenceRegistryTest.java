@@ -0,0 +1,175 @@
+package com.ldsilver.chingoohaja.infrastructure.websocket;
+
+import com.ldsilver.chingoohaja.config.WebSocketProperties;
+import com.ldsilver.chingoohaja.infrastructure.websocket.PresenceRegistry.PresenceStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PresenceRegistry 테스트")
+class PresenceRegistryTest {
+
+    private static final String CHANNEL = "ws:presence";
+
+    @Mock private StringRedisTemplate redisTemplate;
+    @Mock private RedisMessageListenerContainer listenerContainer;
+
+    private PresenceRegistry presenceRegistry;
+
+    @BeforeEach
+    void setUp() {
+        WebSocketProperties webSocketProperties = new WebSocketProperties();
+        webSocketProperties.getPresence().setTtlSeconds(60);
+        webSocketProperties.getPresence().setRetentionSeconds(600);
+        webSocketProperties.getPresence().setSyncBatchSize(2);
+        presenceRegistry = new PresenceRegistry(redisTemplate, listenerContainer, webSocketProperties);
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("하트비트는 온라인, 연결 종료나 만료된 하트비트는 오프라인, 기록이 없으면 알 수 없음으로 본다")
+    void givenHeartbeatsAndDisconnects_whenQuery_thenResolvesStatusInBulk() {
+        // given
+        long now = System.currentTimeMillis();
+        presenceRegistry.heartbeat(1L);
+        presenceRegistry.heartbeat(2L);
+        presenceRegistry.markOffline(2L);
+        presenceRegistry.onMessage(message("other-node|3:" + (now - 120_000)), null);
+
+        // when & then
+        assertThat(presenceRegistry.getStatus(1L)).isEqualTo(PresenceStatus.ONLINE);
+        assertThat(presenceRegistry.getStatus(2L)).isEqualTo(PresenceStatus.OFFLINE);
+        assertThat(presenceRegistry.getStatus(3L)).isEqualTo(PresenceStatus.OFFLINE);
+        assertThat(presenceRegistry.getStatus(4L)).isEqualTo(PresenceStatus.UNKNOWN);
+        assertThat(presenceRegistry.isOffline(4L)).isFalse();
+        assertThat(presenceRegistry.findOnlineUserIds(List.of(1L, 2L, 3L, 4L))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("변경된 기록만 배치로 발행하고, 다른 노드의 기록은 더 최근 것만 반영한다")
+    void givenDirtyEntries_whenSyncAndReceive_thenPublishesBatchesAndMergesNewest() {
+        // given
+        presenceRegistry.heartbeat(1L);
+        presenceRegistry.heartbeat(2L);
+        presenceRegistry.heartbeat(3L);
+
+        // when
+        presenceRegistry.sync();
+        presenceRegistry.sync();
+
+        // then
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate, times(2)).convertAndSend(eq(CHANNEL), published.capture());
+        assertThat(published.getAllValues()).allSatisfy(body ->
+                assertThat(body).startsWith(presenceRegistry.getNodeId() + "|"));
+        assertThat(String.join(",", published.getAllValues()).split(",")).hasSize(3);
+
+        // 더 오래된 연결 종료 기록은 무시, 더 최근 연결 종료 기록은 반영, 자신이 발행한 기록은 무시
+        long now = System.currentTimeMillis();
+        presenceRegistry.onMessage(message("other-node|1:" + -(now - 30_000) + ",2:" + -(now + 1_000)), null);
+        presenceRegistry.onMessage(message(presenceRegistry.getNodeId() + "|3:" + -(now + 1_000)), null);
+
+        assertThat(presenceRegistry.getStatus(1L)).isEqualTo(PresenceStatus.ONLINE);
+        assertThat(presenceRegistry.getStatus(2L)).isEqualTo(PresenceStatus.OFFLINE);
+        assertThat(presenceRegistry.getStatus(3L)).isEqualTo(PresenceStatus.ONLINE);
+    }
+
+    @Test
+    @DisplayName("보관 시간이 지난 기록은 정리 시 제거된다")
+    void givenExpiredEntries_whenCompact_thenRemovesThem() {
+        // given
+        long now = System.currentTimeMillis();
+        presenceRegistry.heartbeat(1L);
+        presenceRegistry.onMessage(message("other-node|2:" + (now - 700_000) + ",3:" + -(now - 700_000)), null);
+
+        // when
+        presenceRegistry.compact();
+
+        // then
+        assertThat(presenceRegistry.size()).isEqualTo(1);
+        assertThat(presenceRegistry.getStatus(2L)).isEqualTo(PresenceStatus.UNKNOWN);
+        assertThat(presenceRegistry.getStatus(3L)).isEqualTo(PresenceStatus.UNKNOWN);
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("이 노드의 마지막 세션이 끊길 때만 연결 종료로 기록한다")
+    void givenMultipleLocalSessions_whenDisconnect_thenMarksOfflineOnlyAfterLast() {
+        // given
+        presenceRegistry.sessionConnected(1L, "s1");
+        presenceRegistry.sessionConnected(1L, "s2");
+
+        // when & then
+        assertThat(presenceRegistry.sessionDisconnected(1L, "s1")).isFalse();
+        assertThat(presenceRegistry.isDisconnected(1L)).isFalse();
+        assertThat(presenceRegistry.sessionDisconnected(1L, "s2")).isTrue();
+        assertThat(presenceRegistry.isDisconnected(1L)).isTrue();
+        assertThat(presenceRegistry.hasLocalSession(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("이 노드에 세션이 남아 있으면 다른 노드의 연결 종료 기록을 무시하고 하트비트로 다시 알린다")
+    void givenLocalSession_whenRemoteDisconnect_thenStaysOnlineAndRepublishes() {
+        // given
+        presenceRegistry.sessionConnected(1L, "s1");
+        presenceRegistry.sync();
+        clearInvocations(redisTemplate);
+
+        // when
+        presenceRegistry.onMessage(message("other-node|1:" + -(System.currentTimeMillis() + 1_000)), null);
+        presenceRegistry.sync();
+
+        // then
+        assertThat(presenceRegistry.getStatus(1L)).isEqualTo(PresenceStatus.ONLINE);
+        assertThat(presenceRegistry.isDisconnected(1L)).isFalse();
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), startsWith(presenceRegistry.getNodeId() + "|1:"));
+    }
+
+    @Test
+    @DisplayName("하트비트만 끊긴 사용자는 오프라인이지만 연결 종료로 보지 않는다")
+    void givenStaleHeartbeat_whenQuery_thenOfflineButNotDisconnected() {
+        // given
+        presenceRegistry.onMessage(message("other-node|3:" + (System.currentTimeMillis() - 120_000)), null);
+
+        // when & then
+        assertThat(presenceRegistry.isOffline(3L)).isTrue();
+        assertThat(presenceRegistry.isDisconnected(3L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("수신 프레임 기록은 최근 하트비트가 있으면 다시 전파하지 않는다")
+    void givenRecentHeartbeat_whenTouch_thenSkipsRecord() {
+        // given
+        presenceRegistry.heartbeat(1L);
+        presenceRegistry.sync();
+        clearInvocations(redisTemplate);
+
+        // when
+        presenceRegistry.touch(1L);
+        presenceRegistry.touch(2L);
+        presenceRegistry.sync();
+
+        // then
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), startsWith(presenceRegistry.getNodeId() + "|2:"));
+        assertThat(presenceRegistry.getStatus(2L)).isEqualTo(PresenceStatus.ONLINE);
+    }
+}
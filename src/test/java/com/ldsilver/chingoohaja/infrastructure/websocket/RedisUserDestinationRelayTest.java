@@ -0,0 +1,102 @@
+package com.ldsilver.chingoohaja.infrastructure.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisUserDestinationRelay 테스트")
+class RedisUserDestinationRelayTest {
+
+    private static final String CHANNEL = "ws:user-destination";
+
+    @Mock private SimpMessagingTemplate messagingTemplate;
+    @Mock private SimpUserRegistry userRegistry;
+    @Mock private StringRedisTemplate redisTemplate;
+    @Mock private RedisMessageListenerContainer listenerContainer;
+    @Mock private SimpUser simpUser;
+
+    private RedisUserDestinationRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new RedisUserDestinationRelay(messagingTemplate, userRegistry, redisTemplate,
+                listenerContainer, new ObjectMapper(), CHANNEL);
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("이 노드에 세션이 있으면 바로 전달하고 다른 노드를 위해 Redis에도 발행한다")
+    void givenLocalSession_whenSendToUser_thenDeliversAndPublishes() {
+        // given
+        when(userRegistry.getUser("1")).thenReturn(simpUser);
+        Map<String, Object> payload = Map.of("type", "MATCHING_SUCCESS");
+
+        // when
+        relay.sendToUser("1", "/queue/matching", payload);
+
+        // then
+        verify(messagingTemplate).convertAndSendToUser("1", "/queue/matching", payload);
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), published.capture());
+        assertThat(published.getValue())
+                .isEqualTo(relay.getNodeId() + "\n1\n/queue/matching\n{\"type\":\"MATCHING_SUCCESS\"}");
+    }
+
+    @Test
+    @DisplayName("다른 노드가 발행한 메시지는 이 노드에 세션이 있는 사용자에게 JSON으로 전달한다")
+    void givenRemoteMessageForLocalUser_whenOnMessage_thenDeliversJson() {
+        // given
+        when(userRegistry.getUser("2")).thenReturn(simpUser);
+
+        // when
+        relay.onMessage(message("other-node\n2\n/queue/matching\n{\"type\":\"CANCELLED\"}"), null);
+
+        // then
+        ArgumentCaptor<MessageHeaders> headers = ArgumentCaptor.forClass(MessageHeaders.class);
+        verify(messagingTemplate).convertAndSendToUser(eq("2"), eq("/queue/matching"),
+                eq("{\"type\":\"CANCELLED\"}".getBytes(StandardCharsets.UTF_8)), headers.capture());
+        assertThat(headers.getValue().get(MessageHeaders.CONTENT_TYPE)).isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+        assertThat(relay.getRelayedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("자신이 발행한 메시지나 세션이 없는 사용자의 메시지는 전달하지 않는다")
+    void givenOwnOrUnknownUserMessage_whenOnMessage_thenSkips() {
+        // given
+        when(userRegistry.getUser("3")).thenReturn(null);
+
+        // when
+        relay.onMessage(message(relay.getNodeId() + "\n1\n/queue/matching\n{}"), null);
+        relay.onMessage(message("other-node\n3\n/queue/matching\n{}"), null);
+
+        // then
+        verify(messagingTemplate, never()).convertAndSendToUser(anyString(), anyString(), any(), any(Map.class));
+        assertThat(relay.getRelayedCount()).isZero();
+    }
+}
@@ -5,7 +5,7 @@ import com.ldsilver.chingoohaja.dto.call.request.RecordingRequest;
 import com.ldsilver.chingoohaja.event.CallStartedEvent;
 import com.ldsilver.chingoohaja.event.RecordingCompletedEvent;
 import com.ldsilver.chingoohaja.service.AgoraRecordingService;
-import com.ldsilver.chingoohaja.service.RecordingPostProcessorService;
+import com.ldsilver.chingoohaja.service.RecordingPostProcessingQueueService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -25,7 +25,7 @@ class CallEventListenerTest {
 
     @Mock private AgoraRecordingService agoraRecordingService;
     @Mock private RecordingProperties recordingProperties;
-    @Mock private RecordingPostProcessorService recordingPostProcessorService;
+    @Mock private RecordingPostProcessingQueueService recordingPostProcessingQueueService;
 
     @InjectMocks private CallEventListener callEventListener;
 
@@ -93,8 +93,8 @@ class CallEventListenerTest {
     class HandleRecordingCompleted {
 
         @Test
-        @DisplayName("녹음 완료 이벤트를 수신하면 AI 후처리를 시작한다")
-        void givenRecordingCompleted_whenHandled_thenStartsPostProcessing() {
+        @DisplayName("녹음 완료 이벤트를 수신하면 AI 후처리 큐에 적재한다")
+        void givenRecordingCompleted_whenHandled_thenEnqueuesPostProcessing() {
             // given
             RecordingCompletedEvent event = new RecordingCompletedEvent(1L, "/recordings/call_1.hls", 120, 1024L, "/recordings/user1.hls", "/recordings/user2.hls");
 
@@ -102,7 +102,7 @@ class CallEventListenerTest {
             callEventListener.handleRecordingCompleted(event);
 
             // then
-            verify(recordingPostProcessorService).processRecordingForAI(event);
+            verify(recordingPostProcessingQueueService).enqueue(event);
         }
     }
 }
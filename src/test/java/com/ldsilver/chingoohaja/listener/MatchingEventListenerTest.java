@@ -52,6 +52,8 @@ class MatchingEventListenerTest {
     @Mock private CallSessionRepository callSessionRepository;
     @Mock private RecordingProperties recordingProperties;
     @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private ActiveCallIndexService activeCallIndexService;
+    @Mock private CallSnapshotCacheService callSnapshotCacheService;
 
     @InjectMocks private MatchingEventListener matchingEventListener;
 
@@ -127,7 +129,6 @@ class MatchingEventListenerTest {
 
             ChannelResponse channelResponse = buildChannelResponse("channel-abc");
             when(callChannelService.createChannel(any(Call.class))).thenReturn(channelResponse);
-            when(callRepository.save(any(Call.class))).thenReturn(call);
             when(callChannelService.joinChannel(anyString(), anyLong())).thenReturn(channelResponse);
 
             BatchTokenResponse tokenResponse = new BatchTokenResponse(
@@ -156,7 +157,6 @@ class MatchingEventListenerTest {
 
             ChannelResponse channelResponse = buildChannelResponse("channel-abc");
             when(callChannelService.createChannel(any(Call.class))).thenReturn(channelResponse);
-            when(callRepository.save(any(Call.class))).thenReturn(call);
             when(callChannelService.joinChannel(anyString(), anyLong())).thenReturn(channelResponse);
 
             BatchTokenResponse tokenResponse = new BatchTokenResponse(
@@ -173,6 +173,37 @@ class MatchingEventListenerTest {
             assertThat(captor.getValue()).isInstanceOf(CallStartedEvent.class);
         }
 
+        @Test
+        @DisplayName("채널 생성 후 Call을 다시 저장하지 않고 활성 통화 인덱스만 설정한다")
+        void givenChannelCreated_whenHandled_thenDoesNotSaveStaleCall() {
+            // given
+            when(redisMatchingQueueService.removeMatchedUsers(anyLong(), anyList()))
+                    .thenReturn(new RedisMatchingQueueService.RemoveUserResult(true, "SUCCESS", 2));
+            when(callRepository.findById(100L)).thenReturn(Optional.of(call));
+
+            ChannelResponse channelResponse = buildChannelResponse("channel-abc");
+            when(callChannelService.createChannel(call)).thenAnswer(invocation -> {
+                // createChannel이 채널명을 저장하며 버전을 올림
+                call.setAgoraChannelInfo("channel-abc");
+                return channelResponse;
+            });
+            when(callChannelService.joinChannel(anyString(), anyLong())).thenReturn(channelResponse);
+
+            BatchTokenResponse tokenResponse = new BatchTokenResponse(
+                    buildTokenResponse(1L), buildTokenResponse(2L));
+            when(agoraTokenService.generateTokenForMatching(call)).thenReturn(tokenResponse);
+            when(recordingProperties.isAutoStart()).thenReturn(false);
+
+            // when
+            matchingEventListener.handleMatchingSuccess(event);
+
+            // then
+            verify(callRepository, never()).save(any(Call.class));
+            verify(activeCallIndexService).markActive(call);
+            verify(callChannelService, never()).deleteChannel(anyString());
+            verify(webSocketEventService, never()).sendMatchingCancelledNotification(anyLong(), anyString());
+        }
+
         @Test
         @DisplayName("Call 조회 실패 시 알림을 전송하지 않는다")
         void givenCallNotFound_whenHandled_thenSkipsNotifications() {
@@ -10,6 +10,7 @@ import com.ldsilver.chingoohaja.domain.category.enums.CategoryType;
 import com.ldsilver.chingoohaja.domain.user.User;
 import com.ldsilver.chingoohaja.domain.user.enums.Gender;
 import com.ldsilver.chingoohaja.domain.user.enums.UserType;
+import com.ldsilver.chingoohaja.dto.call.StaleCallRow;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -19,6 +20,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.lang.reflect.Field;
@@ -28,6 +30,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
 @Import(JpaAuditingConfig.class)
@@ -93,6 +96,48 @@ class CallRepositoryTest {
         return callRepository.save(call);
     }
 
+    // 트랜잭션 밖에서 조회해 분리된 Call (version 0)
+    private Call detachedReadyCall() {
+        Call call = callRepository.saveAndFlush(
+                Call.of(user1, user2, category1, CallType.RANDOM_MATCH, CallStatus.READY));
+        entityManager.clear();
+        return call;
+    }
+
+    @Nested
+    @DisplayName("낙관적 잠금 버전")
+    class OptimisticVersion {
+
+        @Test
+        @DisplayName("분리된 Call에 채널명을 설정해 한 번 저장하면 버전이 올라간다")
+        void givenDetachedCall_whenSavedOnce_thenIncrementsVersion() {
+            Call detached = detachedReadyCall();
+
+            // CallChannelService.createChannel과 같은 저장
+            detached.setAgoraChannelInfo("channel-abc");
+            callRepository.saveAndFlush(detached);
+            entityManager.clear();
+
+            Call reloaded = callRepository.findById(detached.getId()).orElseThrow();
+            assertThat(reloaded.getAgoraChannelName()).isEqualTo("channel-abc");
+            assertThat(reloaded.getVersion()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("이미 저장된 분리 Call 인스턴스를 다시 저장하면 버전 충돌이 발생한다")
+        void givenStaleDetachedCall_whenSavedAgain_thenThrowsOptimisticLockFailure() {
+            Call detached = detachedReadyCall();
+            detached.setAgoraChannelInfo("channel-abc");
+            callRepository.saveAndFlush(detached);
+            entityManager.clear();
+
+            // 매칭 후처리에서 같은 인스턴스를 한 번 더 저장하던 경우
+            detached.setAgoraChannelInfo("channel-abc");
+            assertThatThrownBy(() -> callRepository.saveAndFlush(detached))
+                    .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        }
+    }
+
     @Nested
     @DisplayName("findByUserAndStatus")
     class FindByUserAndStatus {
@@ -450,14 +495,11 @@ class CallRepositoryTest {
     }
 
     @Nested
-    @DisplayName("findStaleInProgressCalls")
-    class FindStaleInProgressCalls {
+    @DisplayName("findStaleInProgressCallChunk / completeStaleCalls")
+    class StaleInProgressCalls {
 
-        @Test
-        @DisplayName("오래된 진행 중 통화를 조회한다")
-        void givenStaleCalls_whenFind_thenReturnsStaleCalls() {
-            // given
-            Call call = Call.of(user1, user2, category1, CallType.RANDOM_MATCH, CallStatus.IN_PROGRESS);
+        private Call createStaleCall(User caller, User callee) {
+            Call call = Call.of(caller, callee, category1, CallType.RANDOM_MATCH, CallStatus.IN_PROGRESS);
             try {
                 Field startAtField = Call.class.getDeclaredField("startAt");
                 startAtField.setAccessible(true);
@@ -465,15 +507,44 @@ class CallRepositoryTest {
             } catch (Exception e) {
                 throw new RuntimeException(e);
             }
-            callRepository.save(call);
+            return callRepository.save(call);
+        }
+
+        @Test
+        @DisplayName("오래된 진행 중 통화를 id 키셋 페이지로 조회한다")
+        void givenStaleCalls_whenFindChunk_thenReturnsNextPage() {
+            // given
+            Call first = createStaleCall(user1, user2);
+            Call second = createStaleCall(user1, user3);
+            LocalDateTime threshold = LocalDateTime.now().minusHours(2);
 
             // when
-            List<Call> result = callRepository.findStaleInProgressCalls(
-                    LocalDateTime.now().minusHours(2));
+            List<StaleCallRow> firstPage = callRepository.findStaleInProgressCallChunk(
+                    threshold, 0L, PageRequest.of(0, 1));
+            List<StaleCallRow> secondPage = callRepository.findStaleInProgressCallChunk(
+                    threshold, firstPage.get(0).callId(), PageRequest.of(0, 1));
 
-            // then - startAt은 조건이 아니라 createdAt 기준이므로 확인
-            // 쿼리는 startAt < threshold 이므로 3시간 전 시작 → 2시간 전보다 이전
-            assertThat(result).hasSize(1);
+            // then
+            assertThat(firstPage).extracting(StaleCallRow::callId).containsExactly(first.getId());
+            assertThat(secondPage).extracting(StaleCallRow::callId).containsExactly(second.getId());
+            assertThat(firstPage.get(0).participantIds()).containsExactly(user1.getId(), user2.getId());
+        }
+
+        @Test
+        @DisplayName("일괄 종료 시 COMPLETED로 바꾸고 통화 시간을 계산한다")
+        void givenStaleCalls_whenCompleteStaleCalls_thenMarksCompleted() {
+            // given
+            Call call = createStaleCall(user1, user2);
+            entityManager.flush();
+
+            // when
+            int updated = callRepository.completeStaleCalls(List.of(call.getId()), LocalDateTime.now());
+
+            // then
+            Call result = callRepository.findById(call.getId()).orElseThrow();
+            assertThat(updated).isEqualTo(1);
+            assertThat(result.getCallStatus()).isEqualTo(CallStatus.COMPLETED);
+            assertThat(result.getDurationSeconds()).isGreaterThanOrEqualTo(3 * 60 * 60 - 1);
         }
     }
 
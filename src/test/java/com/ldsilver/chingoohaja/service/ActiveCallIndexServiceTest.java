@@ -0,0 +1,173 @@
+package com.ldsilver.chingoohaja.service;
+
+import com.ldsilver.chingoohaja.domain.call.Call;
+import com.ldsilver.chingoohaja.domain.user.User;
+import com.ldsilver.chingoohaja.repository.CallRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ActiveCallIndexService 테스트")
+class ActiveCallIndexServiceTest {
+
+    @Mock private RedisTemplate<String, String> redisTemplate;
+    @Mock private ValueOperations<String, String> valueOperations;
+    @Mock private CallRepository callRepository;
+
+    @InjectMocks private ActiveCallIndexService activeCallIndexService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("인덱스 히트 시 DB를 조회하지 않는다")
+    void givenIndexedCall_whenFindActiveCallId_thenSkipsDatabase() {
+        // given
+        when(valueOperations.get("activecall:1")).thenReturn("100");
+
+        // when
+        Optional<Long> result = activeCallIndexService.findActiveCallId(1L);
+
+        // then
+        assertThat(result).contains(100L);
+        verifyNoInteractions(callRepository);
+    }
+
+    @Test
+    @DisplayName("활성 통화 없음이 캐시되어 있으면 DB를 조회하지 않는다")
+    void givenNegativeEntry_whenFindActiveCallId_thenReturnsEmpty() {
+        // given
+        when(valueOperations.get("activecall:1")).thenReturn("none");
+
+        // when
+        Optional<Long> result = activeCallIndexService.findActiveCallId(1L);
+
+        // then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(callRepository);
+    }
+
+    @Test
+    @DisplayName("인덱스 미스 시 DB 조회 후 종료 표시가 없을 때만 인덱스를 재적재한다")
+    void givenMiss_whenFindActiveCallId_thenFallsBackToDatabase() {
+        // given
+        Call call = mock(Call.class);
+        when(call.getId()).thenReturn(100L);
+        when(valueOperations.get("activecall:1")).thenReturn(null);
+        when(callRepository.findActiveCallsByUserId(1L)).thenReturn(List.of(call));
+
+        // when
+        Optional<Long> result = activeCallIndexService.findActiveCallId(1L);
+
+        // then
+        assertThat(result).contains(100L);
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of("activecall:1", "activecall:ended:100")), eq("100"), eq("7200"));
+        verify(valueOperations, never()).setIfAbsent(anyString(), anyString(), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    @DisplayName("인덱스 미스이고 활성 통화가 없으면 부재 상태를 짧게 캐시한다")
+    void givenMissWithoutActiveCall_whenFindActiveCallId_thenCachesAbsence() {
+        // given
+        when(valueOperations.get("activecall:1")).thenReturn(null);
+        when(callRepository.findActiveCallsByUserId(1L)).thenReturn(List.of());
+
+        // when
+        Optional<Long> result = activeCallIndexService.findActiveCallId(1L);
+
+        // then
+        assertThat(result).isEmpty();
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("activecall:1")), eq("none"), eq("60"));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 설정하면 커밋 후에 인덱스를 쓴다")
+    void givenActiveTransaction_whenMarkActive_thenWritesAfterCommit() {
+        // given
+        Call call = mockCall(100L, 1L, 2L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // when
+            activeCallIndexService.markActive(call);
+
+            // then
+            verify(valueOperations, never()).set(anyString(), anyString(), anyLong(), any(TimeUnit.class));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(valueOperations).set("activecall:1", "100", 7200L, TimeUnit.SECONDS);
+            verify(valueOperations).set("activecall:2", "100", 7200L, TimeUnit.SECONDS);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션의 인덱스 삭제는 반영하지 않는다")
+    void givenRolledBackTransaction_whenClear_thenLeavesIndex() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // when
+            activeCallIndexService.clear(100L, List.of(1L, 2L));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // then
+            verifyNoInteractions(redisTemplate);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 삭제하면 참가자마다 종료 표시와 함께 일치하는 인덱스만 지운다")
+    void givenNoTransaction_whenClear_thenClearsWithEndedMarker() {
+        // when
+        activeCallIndexService.clear(100L, List.of(1L, 2L));
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of("activecall:1", "activecall:ended:100")), eq("100"), eq("300"));
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of("activecall:2", "activecall:ended:100")), eq("100"), eq("300"));
+    }
+
+    private Call mockCall(Long callId, Long user1Id, Long user2Id) {
+        User user1 = mock(User.class);
+        User user2 = mock(User.class);
+        when(user1.getId()).thenReturn(user1Id);
+        when(user2.getId()).thenReturn(user2Id);
+
+        Call call = mock(Call.class);
+        when(call.getId()).thenReturn(callId);
+        when(call.getUser1()).thenReturn(user1);
+        when(call.getUser2()).thenReturn(user2);
+        return call;
+    }
+}
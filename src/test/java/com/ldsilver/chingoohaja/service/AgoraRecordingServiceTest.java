@@ -0,0 +1,214 @@
+package com.ldsilver.chingoohaja.service;
+
+import com.ldsilver.chingoohaja.common.exception.CustomException;
+import com.ldsilver.chingoohaja.common.exception.ErrorCode;
+import com.ldsilver.chingoohaja.config.RecordingProperties;
+import com.ldsilver.chingoohaja.domain.call.Call;
+import com.ldsilver.chingoohaja.domain.call.CallRecording;
+import com.ldsilver.chingoohaja.domain.call.enums.RecordingStatus;
+import com.ldsilver.chingoohaja.dto.call.response.RecordingResponse;
+import com.ldsilver.chingoohaja.infrastructure.agora.AgoraCloudRecordingClient;
+import com.ldsilver.chingoohaja.repository.CallRecordingRepository;
+import com.ldsilver.chingoohaja.repository.CallRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AgoraRecordingService 테스트")
+class AgoraRecordingServiceTest {
+
+    private static final Long CALL_ID = 100L;
+    private static final String CHANNEL = "channel-100";
+
+    @Mock private AgoraCloudRecordingClient cloudRecordingClient;
+    @Mock private CallRepository callRepository;
+    @Mock private CallRecordingRepository callRecordingRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private RecordingProperties recordingProperties;
+    private AgoraRecordingService agoraRecordingService;
+
+    @BeforeEach
+    void setUp() {
+        recordingProperties = new RecordingProperties();
+        recordingProperties.getRetry().setMaxAttempts(2);
+        recordingProperties.getRetry().setDelaySeconds(3);
+        agoraRecordingService = new AgoraRecordingService(cloudRecordingClient, callRepository,
+                callRecordingRepository, eventPublisher, recordingProperties, transactionManager);
+    }
+
+    private Call inProgressCall() {
+        Call call = mock(Call.class);
+        when(call.isInProgress()).thenReturn(true);
+        return call;
+    }
+
+    private CallRecording processingRecording(long id) {
+        CallRecording recording = mock(CallRecording.class);
+        Call call = mock(Call.class);
+        lenient().when(recording.getId()).thenReturn(id);
+        lenient().when(recording.getAgoraSid()).thenReturn("sid-" + id);
+        lenient().when(recording.getAgoraResourceId()).thenReturn("resource-" + id);
+        lenient().when(recording.getRecordingStatus()).thenReturn(RecordingStatus.PROCESSING);
+        lenient().when(recording.getCall()).thenReturn(call);
+        return recording;
+    }
+
+    private static Map<String, Object> queryResponse(String status) {
+        return Map.of("serverResponse", Map.of("status", status));
+    }
+
+    @Test
+    @DisplayName("재시도 가능한 오류는 백오프 대기 후 다시 시도하고, 대기 중에는 재호출하지 않는다")
+    void givenRetryableFailure_whenStart_thenRetriesAfterBackoff() {
+        // given
+        Call call = inProgressCall();
+        when(callRepository.findById(CALL_ID)).thenReturn(Optional.of(call));
+        when(cloudRecordingClient.acquireResource(CHANNEL)).thenReturn(
+                Mono.error(new CustomException(ErrorCode.AGORA_REQUEST_FAILED)),
+                Mono.just("resource-1"));
+        when(cloudRecordingClient.startRecording(eq("resource-1"), eq(CHANNEL), any())).thenReturn(Mono.just("sid-1"));
+
+        // when & then
+        StepVerifier.withVirtualTime(() -> agoraRecordingService.startRecordingAsync(CALL_ID, CHANNEL))
+                .expectSubscription()
+                .thenAwait(Duration.ofSeconds(1))
+                .then(() -> verify(cloudRecordingClient, times(1)).acquireResource(CHANNEL))
+                .thenAwait(Duration.ofSeconds(5))
+                .verifyComplete();
+
+        verify(cloudRecordingClient, times(2)).acquireResource(CHANNEL);
+        verify(callRecordingRepository).save(any(CallRecording.class));
+    }
+
+    @Test
+    @DisplayName("재시도할 수 없는 오류는 바로 실패 처리하고 오류 신호를 내보내지 않는다")
+    void givenNonRetryableFailure_whenStart_thenFailsWithoutRetry() {
+        // given
+        Call call = inProgressCall();
+        when(callRepository.findById(CALL_ID)).thenReturn(Optional.of(call));
+        when(cloudRecordingClient.acquireResource(CHANNEL))
+                .thenReturn(Mono.error(new CustomException(ErrorCode.AGORA_UNAUTHORIZED)));
+        CallRecording recording = mock(CallRecording.class);
+        when(callRecordingRepository.findByCallId(CALL_ID)).thenReturn(Optional.of(recording));
+
+        // when & then
+        StepVerifier.withVirtualTime(() -> agoraRecordingService.startRecordingAsync(CALL_ID, CHANNEL))
+                .expectSubscription()
+                .thenAwait(Duration.ofSeconds(10))
+                .verifyComplete();
+
+        verify(cloudRecordingClient, times(1)).acquireResource(CHANNEL);
+        verify(recording).fail();
+        verify(callRecordingRepository).save(recording);
+    }
+
+    @Test
+    @DisplayName("중지 재시도가 모두 실패하면 녹음을 실패 처리하고 중지 실패 오류를 내보낸다")
+    void givenStopFailures_whenStop_thenExhaustsRetriesAndFails() {
+        // given
+        Call call = mock(Call.class);
+        when(call.getId()).thenReturn(CALL_ID);
+        when(call.getAgoraChannelName()).thenReturn(CHANNEL);
+        CallRecording recording = processingRecording(1L);
+        when(callRepository.findById(CALL_ID)).thenReturn(Optional.of(call));
+        when(callRecordingRepository.findByCallIdWithCall(CALL_ID)).thenReturn(Optional.of(recording));
+        AtomicInteger attempts = new AtomicInteger();
+        when(cloudRecordingClient.stopRecording("resource-1", "sid-1", CHANNEL))
+                .thenReturn(Mono.defer(() -> {
+                    attempts.incrementAndGet();
+                    return Mono.error(new IllegalStateException("agora 503"));
+                }));
+
+        // when & then
+        StepVerifier.withVirtualTime(() -> agoraRecordingService.stopRecordingAsync(CALL_ID))
+                .expectSubscription()
+                .thenAwait(Duration.ofSeconds(10))
+                .expectErrorSatisfies(e -> assertThat(((CustomException) e).getErrorCode())
+                        .isEqualTo(ErrorCode.RECORDING_STOP_FAILED))
+                .verify();
+
+        assertThat(attempts).hasValue(2);
+        verify(recording).fail();
+    }
+
+    @Test
+    @DisplayName("진행 중 녹음 상태 조회는 동시 요청 수를 제한하고, 응답이 늦은 건은 DB 상태로 응답한다")
+    void givenManyRecordings_whenGetActive_thenBoundsConcurrencyAndFallsBackOnTimeout() {
+        // given
+        recordingProperties.getStatusQuery().setMaxConcurrency(2);
+        recordingProperties.getStatusQuery().setTimeoutMillis(200);
+        List<CallRecording> recordings = new ArrayList<>();
+        for (long id = 1; id <= 5; id++) {
+            recordings.add(processingRecording(id));
+        }
+        when(callRecordingRepository.findByRecordingStatusWithCall(RecordingStatus.PROCESSING)).thenReturn(recordings);
+
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        when(cloudRecordingClient.queryRecording(anyString(), anyString())).thenAnswer(invocation -> {
+            String sid = invocation.getArgument(1);
+            Mono<Map<String, Object>> response = "sid-5".equals(sid)
+                    ? Mono.never()
+                    : Mono.delay(Duration.ofMillis(30)).thenReturn(queryResponse("6"));
+            return response
+                    .doOnSubscribe(s -> maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max))
+                    .doFinally(signal -> inFlight.decrementAndGet());
+        });
+
+        // when
+        List<RecordingResponse> responses = agoraRecordingService.getActiveRecordings();
+
+        // then
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(2);
+        assertThat(responses).extracting(RecordingResponse::recordingStatus).containsExactly(
+                RecordingStatus.COMPLETED, RecordingStatus.COMPLETED, RecordingStatus.COMPLETED,
+                RecordingStatus.COMPLETED, RecordingStatus.PROCESSING);
+    }
+
+    @Test
+    @DisplayName("캐시 유지 시간 안의 재조회는 Agora를 다시 호출하지 않고, 지나면 다시 조회한다")
+    void givenCachedStatus_whenGetActiveAgain_thenReusesUntilExpired() throws Exception {
+        // given
+        recordingProperties.getStatusQuery().setCacheTtlMillis(100);
+        CallRecording recording = processingRecording(1L);
+        when(callRecordingRepository.findByRecordingStatusWithCall(RecordingStatus.PROCESSING))
+                .thenReturn(List.of(recording));
+        when(cloudRecordingClient.queryRecording("resource-1", "sid-1"))
+                .thenReturn(Mono.just(queryResponse("1")), Mono.just(queryResponse("6")));
+
+        // when
+        RecordingStatus first = agoraRecordingService.getActiveRecordings().get(0).recordingStatus();
+        RecordingStatus cached = agoraRecordingService.getActiveRecordings().get(0).recordingStatus();
+        Thread.sleep(150);
+        RecordingStatus refreshed = agoraRecordingService.getActiveRecordings().get(0).recordingStatus();
+
+        // then
+        assertThat(first).isEqualTo(RecordingStatus.PROCESSING);
+        assertThat(cached).isEqualTo(RecordingStatus.PROCESSING);
+        assertThat(refreshed).isEqualTo(RecordingStatus.COMPLETED);
+        verify(cloudRecordingClient, times(2)).queryRecording("resource-1", "sid-1");
+    }
+}
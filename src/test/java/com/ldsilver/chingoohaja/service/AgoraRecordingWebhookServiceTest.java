@@ -0,0 +1,261 @@
+package com.ldsilver.chingoohaja.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ldsilver.chingoohaja.common.exception.CustomException;
+import com.ldsilver.chingoohaja.common.exception.ErrorCode;
+import com.ldsilver.chingoohaja.config.AgoraProperties;
+import com.ldsilver.chingoohaja.infrastructure.agora.AgoraWebhookVerifier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AgoraRecordingWebhookService 테스트")
+class AgoraRecordingWebhookServiceTest {
+
+    private static final byte[] UPLOADED_BODY = """
+            {"noticeId":"notice-1","productId":3,"eventType":31,"notifyMs":1700000000000,
+             "payload":{"cname":"call_1","uid":"999","sid":"sid-1","sequence":5,"sendts":1700000000000,
+             "serviceType":0,"details":{"msgName":"uploaded","status":0}}}
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private static byte[] sessionExitBody(int exitStatus) {
+        return ("""
+                {"noticeId":"notice-2","productId":3,"eventType":11,"notifyMs":1700000000000,
+                 "payload":{"cname":"call_1","uid":"999","sid":"sid-1","sequence":6,"sendts":1700000000000,
+                 "serviceType":0,"details":{"msgName":"session_exit","exitStatus":%d}}}
+                """.formatted(exitStatus)).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static final byte[] FILE_INFOS_BODY = """
+            {"noticeId":"notice-3","productId":3,"eventType":4,"notifyMs":1700000000000,
+             "payload":{"cname":"call_1","uid":"999","sid":"sid-1","sequence":4,"sendts":1700000000000,
+             "serviceType":0,"details":{"msgName":"cloud_recording_file_infos",
+             "fileList":[{"fileName":"sid-1_call_1__uid_s_1__uid_e_audio.m3u8"}]}}}
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private static final String STORED_FILES = "[{\"fileName\":\"sid-1_call_1__uid_s_1__uid_e_audio.m3u8\"}]";
+
+    @Mock private AgoraRecordingService agoraRecordingService;
+    @Mock private StringRedisTemplate redisTemplate;
+    @Mock private ValueOperations<String, String> valueOperations;
+
+    // 로컬 콜백 재현용 서명기 (Agora와 같은 방식으로 본문 서명)
+    private AgoraWebhookVerifier agoraWebhookVerifier;
+    private AgoraRecordingWebhookService webhookService;
+
+    @BeforeEach
+    void setUp() {
+        AgoraProperties agoraProperties = new AgoraProperties();
+        agoraProperties.setCustomerSecret("test-customer-secret");
+
+        agoraWebhookVerifier = new AgoraWebhookVerifier(agoraProperties);
+        webhookService = new AgoraRecordingWebhookService(
+                agoraWebhookVerifier, agoraRecordingService, redisTemplate, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("서명이 일치하지 않으면 콜백을 거부한다")
+    void givenInvalidSignature_whenHandle_thenRejects() {
+        // when & then
+        assertThatThrownBy(() -> webhookService.handle(UPLOADED_BODY, "deadbeef", null))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.AGORA_WEBHOOK_SIGNATURE_INVALID);
+
+        verifyNoInteractions(agoraRecordingService, redisTemplate);
+    }
+
+    @Test
+    @DisplayName("업로드 완료 콜백이 오면 보관된 파일 목록으로 녹음을 완료 처리한다")
+    void givenUploadedNotification_whenHandle_thenCompletesRecordingWithFileList() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq("agora:webhook:notice:notice-1"), eq("1"), any(Duration.class)))
+                .thenReturn(true);
+        when(valueOperations.get("agora:webhook:files:sid-1")).thenReturn(STORED_FILES);
+        when(agoraRecordingService.completeFromNotificationAsync(eq("sid-1"), any())).thenReturn(Mono.just(true));
+
+        // when
+        webhookService.handle(UPLOADED_BODY, agoraWebhookVerifier.signV2(UPLOADED_BODY), null);
+
+        // then
+        verify(agoraRecordingService).completeFromNotificationAsync(eq("sid-1"), argThat((List<Map<String, Object>> files) ->
+                files.size() == 1 && "sid-1_call_1__uid_s_1__uid_e_audio.m3u8".equals(files.get(0).get("fileName"))));
+        verify(redisTemplate).delete(List.of("agora:webhook:files:sid-1", "agora:webhook:uploaded:sid-1"));
+    }
+
+    @Test
+    @DisplayName("이미 처리한 noticeId의 재전송 콜백은 무시한다")
+    void givenDuplicateNotice_whenHandle_thenIgnores() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq("agora:webhook:notice:notice-1"), eq("1"), any(Duration.class)))
+                .thenReturn(false);
+
+        // when
+        webhookService.handle(UPLOADED_BODY, agoraWebhookVerifier.signV2(UPLOADED_BODY), null);
+
+        // then
+        verifyNoInteractions(agoraRecordingService);
+    }
+
+    @Test
+    @DisplayName("본문 바이트를 그대로 서명 검증하므로 같은 JSON이라도 바이트가 다르면 거부한다")
+    void givenReencodedBody_whenHandle_thenRejects() {
+        // given
+        String signature = agoraWebhookVerifier.signV2(UPLOADED_BODY);
+        byte[] reencoded = new String(UPLOADED_BODY, StandardCharsets.UTF_8).strip().getBytes(StandardCharsets.UTF_8);
+
+        // when & then
+        assertThatThrownBy(() -> webhookService.handle(reencoded, signature, null))
+                .isInstanceOf(CustomException.class);
+        verifyNoInteractions(agoraRecordingService);
+    }
+
+    @Test
+    @DisplayName("세션이 비정상 종료되면 녹음을 실패 처리하고 완료 이벤트를 만들지 않는다")
+    void givenErrorSessionExit_whenHandle_thenFailsRecording() {
+        // given
+        byte[] body = sessionExitBody(2);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq("agora:webhook:notice:notice-2"), eq("1"), any(Duration.class)))
+                .thenReturn(true);
+        when(agoraRecordingService.failFromNotification("sid-1")).thenReturn(true);
+
+        // when
+        webhookService.handle(body, agoraWebhookVerifier.signV2(body), null);
+
+        // then
+        verify(agoraRecordingService).failFromNotification("sid-1");
+        verify(agoraRecordingService, never()).completeFromNotificationAsync(any(), any());
+        verify(redisTemplate).delete("agora:webhook:files:sid-1");
+    }
+
+    @Test
+    @DisplayName("정상 세션 종료라도 보관된 파일 목록이 없으면 완료하지 않고 업로드 완료 콜백을 기다린다")
+    void givenNormalSessionExitWithoutFiles_whenHandle_thenWaitsForUpload() {
+        // given
+        byte[] body = sessionExitBody(0);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq("agora:webhook:notice:notice-2"), eq("1"), any(Duration.class)))
+                .thenReturn(true);
+        when(valueOperations.get("agora:webhook:files:sid-1")).thenReturn(null);
+
+        // when
+        webhookService.handle(body, agoraWebhookVerifier.signV2(body), null);
+
+        // then
+        verifyNoInteractions(agoraRecordingService);
+    }
+
+    @Test
+    @DisplayName("정상 세션 종료에 보관된 파일 목록이 있으면 완료 처리한다")
+    void givenNormalSessionExitWithFiles_whenHandle_thenCompletes() {
+        // given
+        byte[] body = sessionExitBody(0);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq("agora:webhook:notice:notice-2"), eq("1"), any(Duration.class)))
+                .thenReturn(true);
+        when(valueOperations.get("agora:webhook:files:sid-1")).thenReturn(STORED_FILES);
+        when(agoraRecordingService.completeFromNotificationAsync(eq("sid-1"), any())).thenReturn(Mono.just(false));
+
+        // when
+        webhookService.handle(body, agoraWebhookVerifier.signV2(body), null);
+
+        // then
+        verify(agoraRecordingService).completeFromNotificationAsync(eq("sid-1"), argThat(files -> files.size() == 1));
+        verify(redisTemplate, never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("파일 목록보다 업로드 완료 콜백이 먼저 오면 완료하지 않고 업로드 완료만 표시한다")
+    void givenUploadedBeforeFileInfos_whenHandle_thenMarksUploadedAndWaits() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq("agora:webhook:notice:notice-1"), eq("1"), any(Duration.class)))
+                .thenReturn(true);
+        when(valueOperations.get("agora:webhook:files:sid-1")).thenReturn(null);
+
+        // when
+        webhookService.handle(UPLOADED_BODY, agoraWebhookVerifier.signV2(UPLOADED_BODY), null);
+
+        // then
+        verify(valueOperations).set(eq("agora:webhook:uploaded:sid-1"), eq("1"), any(Duration.class));
+        verifyNoInteractions(agoraRecordingService);
+    }
+
+    @Test
+    @DisplayName("업로드 완료가 표시된 뒤 파일 목록 콜백이 오면 그 목록으로 완료 처리한다")
+    void givenUploadedMarked_whenFileInfosArrive_thenCompletes() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq("agora:webhook:notice:notice-3"), eq("1"), any(Duration.class)))
+                .thenReturn(true);
+        when(redisTemplate.delete("agora:webhook:uploaded:sid-1")).thenReturn(true);
+        when(agoraRecordingService.completeFromNotificationAsync(eq("sid-1"), any())).thenReturn(Mono.just(true));
+
+        // when
+        webhookService.handle(FILE_INFOS_BODY, agoraWebhookVerifier.signV2(FILE_INFOS_BODY), null);
+
+        // then
+        verify(valueOperations).set(eq("agora:webhook:files:sid-1"), anyString(), any(Duration.class));
+        verify(agoraRecordingService).completeFromNotificationAsync(eq("sid-1"), argThat((List<Map<String, Object>> files) ->
+                files.size() == 1 && "sid-1_call_1__uid_s_1__uid_e_audio.m3u8".equals(files.get(0).get("fileName"))));
+        verify(redisTemplate).delete(List.of("agora:webhook:files:sid-1", "agora:webhook:uploaded:sid-1"));
+    }
+
+    @Test
+    @DisplayName("업로드 완료 표시가 없으면 파일 목록 콜백은 목록만 보관한다")
+    void givenNoUploadedMark_whenFileInfosArrive_thenOnlyStoresFileList() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq("agora:webhook:notice:notice-3"), eq("1"), any(Duration.class)))
+                .thenReturn(true);
+        when(redisTemplate.delete("agora:webhook:uploaded:sid-1")).thenReturn(false);
+
+        // when
+        webhookService.handle(FILE_INFOS_BODY, agoraWebhookVerifier.signV2(FILE_INFOS_BODY), null);
+
+        // then
+        verify(valueOperations).set(eq("agora:webhook:files:sid-1"), anyString(), any(Duration.class));
+        verifyNoInteractions(agoraRecordingService);
+    }
+
+    @Test
+    @DisplayName("백그라운드 완료 처리가 실패하면 noticeId 중복 표시를 지워 재전송을 받을 수 있게 한다")
+    void givenCompletionFailure_whenHandle_thenClearsNoticeKey() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq("agora:webhook:notice:notice-1"), eq("1"), any(Duration.class)))
+                .thenReturn(true);
+        when(valueOperations.get("agora:webhook:files:sid-1")).thenReturn(STORED_FILES);
+        when(agoraRecordingService.completeFromNotificationAsync(eq("sid-1"), any()))
+                .thenReturn(Mono.error(new IllegalStateException("download failed")));
+
+        // when
+        webhookService.handle(UPLOADED_BODY, agoraWebhookVerifier.signV2(UPLOADED_BODY), null);
+
+        // then
+        verify(redisTemplate).delete("agora:webhook:notice:notice-1");
+        verify(valueOperations).set(eq("agora:webhook:uploaded:sid-1"), eq("1"), any(Duration.class));
+        verify(redisTemplate, never()).delete("agora:webhook:files:sid-1");
+    }
+}
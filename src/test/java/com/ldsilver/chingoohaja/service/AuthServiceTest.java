@@ -15,6 +15,7 @@ import com.ldsilver.chingoohaja.dto.oauth.response.SocialLoginResponse;
 import com.ldsilver.chingoohaja.dto.oauth.response.TokenResponse;
 import com.ldsilver.chingoohaja.dto.oauth.response.TokenValidationResponse;
 import com.ldsilver.chingoohaja.dto.oauth.response.UserMeResponse;
+import com.ldsilver.chingoohaja.infrastructure.jwt.JwtClaims;
 import com.ldsilver.chingoohaja.infrastructure.jwt.JwtTokenProvider;
 import com.ldsilver.chingoohaja.infrastructure.oauth.GoogleIdTokenValidator;
 import com.ldsilver.chingoohaja.infrastructure.oauth.OAuthClient;
@@ -33,6 +34,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Date;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -159,31 +161,28 @@ class AuthServiceTest {
     @DisplayName("refreshToken")
     class RefreshToken {
 
+        private JwtClaims refreshClaims() {
+            return new JwtClaims(USER_ID, null, null, "REFRESH", new Date(),
+                    new Date(System.currentTimeMillis() + 604_800_000L));
+        }
+
         @Test
-        @DisplayName("유효한 리프레시 토큰으로 액세스 토큰을 갱신한다")
-        void givenValidRefreshToken_whenRefresh_thenReturnsNewAccessToken() {
+        @DisplayName("유효한 리프레시 토큰을 회전하고 새 토큰 쌍을 반환한다")
+        void givenValidRefreshToken_whenRefresh_thenReturnsRotatedTokens() {
             // given
             RefreshTokenRequest request = new RefreshTokenRequest(REFRESH_TOKEN);
-            UserToken userToken = UserToken.of(testUser, REFRESH_TOKEN, LocalDateTime.now().plusDays(7), "device", true);
+            TokenResponse rotated = TokenResponse.forRefresh("new.access.token", "new.refresh.token", 3600L);
 
-            when(jwtTokenProvider.isTokenValid(REFRESH_TOKEN)).thenReturn(true);
-            when(jwtTokenProvider.isRefreshToken(REFRESH_TOKEN)).thenReturn(true);
-            when(userTokenRepository.findByRefreshTokenAndIsActiveTrue(REFRESH_TOKEN))
-                    .thenReturn(Optional.of(userToken));
-            when(userRepository.save(any(User.class))).thenReturn(testUser);
-
-            String newAccessToken = "new.access.token";
-            when(jwtTokenProvider.generateAccessToken(eq(USER_ID), anyString(), anyString()))
-                    .thenReturn(newAccessToken);
-            when(jwtTokenProvider.getTimeUntilExpiration(newAccessToken)).thenReturn(3600000L);
+            when(jwtTokenProvider.parseClaims(REFRESH_TOKEN)).thenReturn(refreshClaims());
+            when(tokenService.rotateRefreshToken(REFRESH_TOKEN, USER_ID)).thenReturn(rotated);
 
             // when
             TokenResponse response = authService.refreshToken(request);
 
             // then
-            assertThat(response).isNotNull();
-            assertThat(response.accessToken()).isEqualTo(newAccessToken);
-            assertThat(response.refreshToken()).isEqualTo(REFRESH_TOKEN);
+            assertThat(response.accessToken()).isEqualTo("new.access.token");
+            assertThat(response.refreshToken()).isEqualTo("new.refresh.token");
+            verifyNoInteractions(userTokenRepository, userRepository);
         }
 
         @Test
@@ -192,7 +191,8 @@ class AuthServiceTest {
             // given
             String invalidToken = "invalid.refresh.token";
             RefreshTokenRequest request = new RefreshTokenRequest(invalidToken);
-            when(jwtTokenProvider.isTokenValid(invalidToken)).thenReturn(false);
+            when(jwtTokenProvider.parseClaims(invalidToken))
+                    .thenThrow(new CustomException(ErrorCode.JWT_SIGNATURE_INVALID));
 
             // when & then
             assertThatThrownBy(() -> authService.refreshToken(request))
@@ -206,25 +206,26 @@ class AuthServiceTest {
         void givenAccessTokenAsRefresh_whenRefresh_thenThrowsException() {
             // given
             RefreshTokenRequest request = new RefreshTokenRequest(ACCESS_TOKEN);
-            when(jwtTokenProvider.isTokenValid(ACCESS_TOKEN)).thenReturn(true);
-            when(jwtTokenProvider.isRefreshToken(ACCESS_TOKEN)).thenReturn(false);
+            when(jwtTokenProvider.parseClaims(ACCESS_TOKEN)).thenReturn(new JwtClaims(
+                    USER_ID, "test@gmail.com", "USER", "ACCESS", new Date(),
+                    new Date(System.currentTimeMillis() + 3_600_000L)));
 
             // when & then
             assertThatThrownBy(() -> authService.refreshToken(request))
                     .isInstanceOf(CustomException.class)
                     .satisfies(ex -> assertThat(((CustomException) ex).getErrorCode())
                             .isEqualTo(ErrorCode.IS_NOT_REFRESH_TOKEN));
+            verifyNoInteractions(tokenService);
         }
 
         @Test
-        @DisplayName("DB에 존재하지 않는 리프레시 토큰이면 예외를 던진다")
+        @DisplayName("저장소에 존재하지 않는 리프레시 토큰이면 예외를 던진다")
         void givenNonExistentRefreshToken_whenRefresh_thenThrowsException() {
             // given
             RefreshTokenRequest request = new RefreshTokenRequest(REFRESH_TOKEN);
-            when(jwtTokenProvider.isTokenValid(REFRESH_TOKEN)).thenReturn(true);
-            when(jwtTokenProvider.isRefreshToken(REFRESH_TOKEN)).thenReturn(true);
-            when(userTokenRepository.findByRefreshTokenAndIsActiveTrue(REFRESH_TOKEN))
-                    .thenReturn(Optional.empty());
+            when(jwtTokenProvider.parseClaims(REFRESH_TOKEN)).thenReturn(refreshClaims());
+            when(tokenService.rotateRefreshToken(REFRESH_TOKEN, USER_ID))
+                    .thenThrow(new CustomException(ErrorCode.REFRESH_TOKEN_NOT_FOUND));
 
             // when & then
             assertThatThrownBy(() -> authService.refreshToken(request))
@@ -0,0 +1,147 @@
+package com.ldsilver.chingoohaja.service;
+
+import com.ldsilver.chingoohaja.domain.call.Call;
+import com.ldsilver.chingoohaja.domain.call.CallSession;
+import com.ldsilver.chingoohaja.domain.call.enums.CallType;
+import com.ldsilver.chingoohaja.domain.call.enums.SessionStatus;
+import com.ldsilver.chingoohaja.domain.category.Category;
+import com.ldsilver.chingoohaja.domain.user.User;
+import com.ldsilver.chingoohaja.domain.user.enums.Gender;
+import com.ldsilver.chingoohaja.domain.user.enums.UserType;
+import com.ldsilver.chingoohaja.infrastructure.agora.AgoraTokenGenerator;
+import com.ldsilver.chingoohaja.repository.CallRepository;
+import com.ldsilver.chingoohaja.repository.CallSessionRepository;
+import com.ldsilver.chingoohaja.repository.UserRepository;
+import io.agora.media.RtcTokenBuilder2;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CallChannelService 테스트")
+class CallChannelServiceTest {
+
+    @Mock private RedisTemplate<String, Object> redisTemplate;
+    @Mock private HashOperations<String, Object, Object> hashOperations;
+    @Mock private CallRepository callRepository;
+    @Mock private CallSessionRepository callSessionRepository;
+    @Mock private UserRepository userRepository;
+    @Mock private AgoraTokenGenerator agoraTokenGenerator;
+    @Mock private CallSnapshotCacheService callSnapshotCacheService;
+
+    @InjectMocks private CallChannelService callChannelService;
+
+    private User user1;
+    private User user2;
+    private Call call;
+
+    @BeforeEach
+    void setUp() {
+        user1 = User.of("user1@test.com", "유저1", "유저일", Gender.MALE, LocalDate.of(1990, 1, 1), null, UserType.USER, null, "kakao", "k1");
+        user2 = User.of("user2@test.com", "유저2", "유저이", Gender.FEMALE, LocalDate.of(1992, 5, 15), null, UserType.USER, null, "kakao", "k2");
+        setId(user1, 1L);
+        setId(user2, 2L);
+        Category category = Category.from("일상");
+        setId(category, 1L);
+        call = Call.from(user1, user2, category, CallType.RANDOM_MATCH);
+        setId(call, 100L);
+
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(callRepository.getReferenceById(100L)).thenReturn(call);
+        lenient().when(userRepository.getReferenceById(1L)).thenReturn(user1);
+        lenient().when(userRepository.getReferenceById(2L)).thenReturn(user2);
+    }
+
+    private void setId(Object entity, Long id) {
+        try {
+            Field field = entity.getClass().getDeclaredField("id");
+            field.setAccessible(true);
+            field.set(entity, id);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<CallSession> savedSessions() {
+        ArgumentCaptor<List<CallSession>> captor = ArgumentCaptor.forClass(List.class);
+        verify(callSessionRepository).saveAll(captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    @DisplayName("채널 생성 시 두 참가자의 RTC 토큰을 미리 발급해 세션을 한 번에 저장한다")
+    void givenNewCall_whenCreateChannel_thenPreMintsBothSessions() {
+        // given
+        when(callSessionRepository.findActiveSessionByCallIdAndUserId(eq(100L), any())).thenReturn(Optional.empty());
+        when(agoraTokenGenerator.generateRtcToken(anyString(), anyInt(), eq(RtcTokenBuilder2.Role.ROLE_PUBLISHER), anyInt()))
+                .thenReturn("token");
+
+        // when
+        callChannelService.createChannel(call);
+
+        // then
+        List<CallSession> sessions = savedSessions();
+        assertThat(sessions).hasSize(2);
+        assertThat(sessions).allSatisfy(session -> {
+            assertThat(session.getRtcToken()).isEqualTo("token");
+            assertThat(session.getSessionStatus()).isEqualTo(SessionStatus.READY);
+        });
+        assertThat(sessions).extracting(session -> session.getUser().getId()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("한 참가자의 사전 발급이 실패하거나 이미 세션이 있어도 다른 참가자의 세션은 저장한다")
+    void givenOneFailingSession_whenCreateChannel_thenSavesOthers() {
+        // given
+        when(callSessionRepository.findActiveSessionByCallIdAndUserId(100L, 1L)).thenReturn(Optional.empty());
+        when(callSessionRepository.findActiveSessionByCallIdAndUserId(100L, 2L)).thenReturn(Optional.empty());
+        when(agoraTokenGenerator.generateRtcToken(anyString(), eq(1), eq(RtcTokenBuilder2.Role.ROLE_PUBLISHER), anyInt()))
+                .thenThrow(new IllegalStateException("agora"));
+        when(agoraTokenGenerator.generateRtcToken(anyString(), eq(2), eq(RtcTokenBuilder2.Role.ROLE_PUBLISHER), anyInt()))
+                .thenReturn("token-2");
+
+        // when
+        callChannelService.createChannel(call);
+
+        // then
+        List<CallSession> sessions = savedSessions();
+        assertThat(sessions).hasSize(1);
+        assertThat(sessions.get(0).getUser().getId()).isEqualTo(2L);
+        assertThat(sessions.get(0).getRtcToken()).isEqualTo("token-2");
+    }
+
+    @Test
+    @DisplayName("두 참가자 모두 이미 활성 세션이 있으면 저장하지 않는다")
+    void givenExistingSessions_whenCreateChannel_thenSkipsSave() {
+        // given
+        when(callSessionRepository.findActiveSessionByCallIdAndUserId(eq(100L), any()))
+                .thenReturn(Optional.of(mock(CallSession.class)));
+
+        // when
+        callChannelService.createChannel(call);
+
+        // then
+        verify(callSessionRepository, never()).saveAll(any());
+        verifyNoInteractions(agoraTokenGenerator);
+    }
+}
@@ -26,12 +26,14 @@ import org.springframework.context.ApplicationEventPublisher;
 import java.lang.reflect.Field;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Optional;
+import java.util.List;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,6 +46,9 @@ class CallServiceTest {
     @Mock private RecordingProperties recordingProperties;
     @Mock private CallSessionRepository callSessionRepository;
     @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private ActiveCallIndexService activeCallIndexService;
+    @Mock private CallSnapshotCacheService callSnapshotCacheService;
+    @Mock private CallTransitionService callTransitionService;
 
     @InjectMocks private CallService callService;
 
@@ -89,6 +94,13 @@ class CallServiceTest {
         return call;
     }
 
+    // 전이 실행기는 트랜잭션/재시도만 담당하므로 전달된 전이를 바로 적용
+    @SuppressWarnings("unchecked")
+    private void givenTransitionOn(Long callId, Call call) {
+        when(callTransitionService.execute(eq(callId), any())).thenAnswer(invocation ->
+                ((Function<Call, Object>) invocation.getArgument(1)).apply(call));
+    }
+
     @Nested
     @DisplayName("startCall")
     class StartCall {
@@ -98,7 +110,7 @@ class CallServiceTest {
         void givenReadyCall_whenStartCall_thenChangesToInProgress() {
             // given
             Call call = createReadyCall();
-            when(callRepository.findByIdWithLock(100L)).thenReturn(Optional.of(call));
+            givenTransitionOn(100L, call);
             when(callRepository.save(any(Call.class))).thenReturn(call);
             when(recordingProperties.isAutoStart()).thenReturn(false);
 
@@ -110,25 +122,49 @@ class CallServiceTest {
             verify(callRepository).save(call);
         }
 
+        @Test
+        @DisplayName("충돌로 전이가 재시도되어도 활성 통화 인덱스와 캐시는 확정 후 한 번만 반영한다")
+        @SuppressWarnings("unchecked")
+        void givenRetriedTransition_whenStartCall_thenAppliesSideEffectsOnce() {
+            // given
+            Call staleAttempt = createReadyCall();
+            Call call = createReadyCall();
+            when(callTransitionService.execute(eq(100L), any())).thenAnswer(invocation -> {
+                Function<Call, Object> transition = invocation.getArgument(1);
+                transition.apply(staleAttempt); // 충돌로 롤백된 시도
+                return transition.apply(call);
+            });
+            when(recordingProperties.isAutoStart()).thenReturn(false);
+
+            // when
+            callService.startCall(100L);
+
+            // then
+            verify(activeCallIndexService, times(1)).markActive(call);
+            verify(callSnapshotCacheService, times(1)).evict(100L);
+        }
+
         @Test
         @DisplayName("이미 진행 중인 통화는 중복 시작을 무시한다")
         void givenInProgressCall_whenStartCall_thenIgnoresDuplicate() {
             // given
             Call call = createInProgressCall();
-            when(callRepository.findByIdWithLock(100L)).thenReturn(Optional.of(call));
+            givenTransitionOn(100L, call);
 
             // when
             callService.startCall(100L);
 
             // then
             verify(callRepository, never()).save(any());
+            verifyNoInteractions(activeCallIndexService);
         }
 
         @Test
         @DisplayName("존재하지 않는 통화이면 예외를 던진다")
         void givenNonExistentCall_whenStartCall_thenThrowsException() {
             // given
-            when(callRepository.findByIdWithLock(999L)).thenReturn(Optional.empty());
+            when(callTransitionService.execute(eq(999L), any()))
+                    .thenThrow(new CustomException(ErrorCode.CALL_NOT_FOUND));
 
             // when & then
             assertThatThrownBy(() -> callService.startCall(999L))
@@ -143,7 +179,7 @@ class CallServiceTest {
             // given
             Call call = createInProgressCall();
             call.endCall();
-            when(callRepository.findByIdWithLock(100L)).thenReturn(Optional.of(call));
+            givenTransitionOn(100L, call);
 
             // when & then
             assertThatThrownBy(() -> callService.startCall(100L))
@@ -158,7 +194,7 @@ class CallServiceTest {
             // given
             Call call = createReadyCall();
             call.setAgoraChannelInfo("test_channel");
-            when(callRepository.findByIdWithLock(100L)).thenReturn(Optional.of(call));
+            givenTransitionOn(100L, call);
             when(callRepository.save(any(Call.class))).thenReturn(call);
             when(recordingProperties.isAutoStart()).thenReturn(true);
 
@@ -179,7 +215,7 @@ class CallServiceTest {
         void givenInProgressCall_whenEndCall_thenChangesToCompleted() {
             // given
             Call call = createInProgressCall();
-            when(callRepository.findById(100L)).thenReturn(Optional.of(call));
+            givenTransitionOn(100L, call);
             when(recordingProperties.isAutoStop()).thenReturn(false);
             when(callSessionRepository.endAllSessionsForCall(anyLong(), any(LocalDateTime.class))).thenReturn(2);
             when(callRepository.save(any(Call.class))).thenReturn(call);
@@ -199,7 +235,7 @@ class CallServiceTest {
             // given
             Call call = createInProgressCall();
             call.endCall();
-            when(callRepository.findById(100L)).thenReturn(Optional.of(call));
+            givenTransitionOn(100L, call);
 
             // when
             callService.endCall(100L);
@@ -212,7 +248,8 @@ class CallServiceTest {
         @DisplayName("존재하지 않는 통화이면 예외를 던진다")
         void givenNonExistentCall_whenEndCall_thenThrowsException() {
             // given
-            when(callRepository.findById(999L)).thenReturn(Optional.empty());
+            when(callTransitionService.execute(eq(999L), any()))
+                    .thenThrow(new CustomException(ErrorCode.CALL_NOT_FOUND));
 
             // when & then
             assertThatThrownBy(() -> callService.endCall(999L))
@@ -235,7 +272,7 @@ class CallServiceTest {
                 setId(call, 200L);
                 return call;
             });
-            when(callRepository.findByIdWithLock(200L)).thenReturn(Optional.of(Call.from(user1, user2, category, CallType.RANDOM_MATCH)));
+            givenTransitionOn(200L, Call.from(user1, user2, category, CallType.RANDOM_MATCH));
             when(recordingProperties.isAutoStart()).thenReturn(false);
 
             // when
@@ -256,7 +293,7 @@ class CallServiceTest {
         void givenInProgressCall_whenForceEnd_thenEndsCall() {
             // given
             Call call = createInProgressCall();
-            when(callRepository.findByIdWithLockAndFetchUsers(100L)).thenReturn(Optional.of(call));
+            givenTransitionOn(100L, call);
             when(recordingProperties.isAutoStop()).thenReturn(false);
             when(callSessionRepository.endAllSessionsForCall(anyLong(), any(LocalDateTime.class))).thenReturn(2);
             when(callRepository.save(any(Call.class))).thenReturn(call);
@@ -267,6 +304,8 @@ class CallServiceTest {
             // then
             assertThat(response).isNotNull();
             assertThat(call.getCallStatus()).isEqualTo(CallStatus.COMPLETED);
+            verify(activeCallIndexService).clear(100L, List.of(1L, 2L));
+            verify(callSnapshotCacheService).evict(100L);
         }
 
         @Test
@@ -275,7 +314,7 @@ class CallServiceTest {
             // given
             Call call = createInProgressCall();
             call.endCall();
-            when(callRepository.findByIdWithLockAndFetchUsers(100L)).thenReturn(Optional.of(call));
+            givenTransitionOn(100L, call);
 
             // when & then
             assertThatThrownBy(() -> callService.forceEndCallByAdmin(100L, 99L))
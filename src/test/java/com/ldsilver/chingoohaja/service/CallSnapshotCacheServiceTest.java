@@ -0,0 +1,141 @@
+package com.ldsilver.chingoohaja.service;
+
+import com.ldsilver.chingoohaja.config.CallProperties;
+import com.ldsilver.chingoohaja.domain.call.Call;
+import com.ldsilver.chingoohaja.domain.call.enums.CallStatus;
+import com.ldsilver.chingoohaja.domain.call.enums.CallType;
+import com.ldsilver.chingoohaja.domain.category.Category;
+import com.ldsilver.chingoohaja.domain.user.User;
+import com.ldsilver.chingoohaja.domain.user.enums.Gender;
+import com.ldsilver.chingoohaja.domain.user.enums.UserType;
+import com.ldsilver.chingoohaja.dto.call.CallSnapshot;
+import com.ldsilver.chingoohaja.repository.CallRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CallSnapshotCacheService 테스트")
+class CallSnapshotCacheServiceTest {
+
+    @Mock private CallRepository callRepository;
+
+    private CallProperties callProperties;
+    private CallSnapshotCacheService cacheService;
+
+    private User user1;
+    private User user2;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        callProperties = new CallProperties();
+        cacheService = new CallSnapshotCacheService(callRepository, callProperties);
+
+        user1 = User.of("user1@test.com", "유저1", "유저일", Gender.MALE, LocalDate.of(1990, 1, 1), null, UserType.USER, null, "kakao", "k1");
+        user2 = User.of("user2@test.com", "유저2", "유저이", Gender.FEMALE, LocalDate.of(1992, 5, 15), null, UserType.USER, null, "kakao", "k2");
+        setId(user1, 1L);
+        setId(user2, 2L);
+        category = Category.from("일상");
+        setId(category, 1L);
+    }
+
+    private void setId(Object entity, Long id) {
+        try {
+            Field field = entity.getClass().getDeclaredField("id");
+            field.setAccessible(true);
+            field.set(entity, id);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private Call createInProgressCall(Long callId, String channelName) {
+        Call call = Call.from(user1, user2, category, CallType.RANDOM_MATCH);
+        setId(call, callId);
+        call.setAgoraChannelInfo(channelName);
+        call.startCall();
+        return call;
+    }
+
+    @Test
+    @DisplayName("같은 callId 재조회 시 DB를 다시 조회하지 않는다")
+    void givenCachedSnapshot_whenGetByCallId_thenHitsCache() {
+        // given
+        Call call = createInProgressCall(100L, "call_100_test");
+        when(callRepository.findByIdWithUsers(100L)).thenReturn(Optional.of(call));
+
+        // when
+        cacheService.getByCallId(100L);
+        Optional<CallSnapshot> second = cacheService.getByCallId(100L);
+
+        // then
+        assertThat(second).isPresent();
+        assertThat(second.get().callStatus()).isEqualTo(CallStatus.IN_PROGRESS);
+        assertThat(second.get().isParticipant(2L)).isTrue();
+        verify(callRepository, times(1)).findByIdWithUsers(100L);
+        assertThat(cacheService.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("callId로 적재된 스냅샷은 채널명으로도 조회된다")
+    void givenCachedByCallId_whenGetByChannelName_thenHitsCache() {
+        // given
+        Call call = createInProgressCall(100L, "call_100_test");
+        when(callRepository.findByIdWithUsers(100L)).thenReturn(Optional.of(call));
+        cacheService.getByCallId(100L);
+
+        // when
+        Optional<CallSnapshot> result = cacheService.getByChannelName("call_100_test");
+
+        // then
+        assertThat(result).map(CallSnapshot::callId).contains(100L);
+        verify(callRepository, never()).findByAgoraChannelNameWithUsers("call_100_test");
+    }
+
+    @Test
+    @DisplayName("상태 전이 후 evict하면 최신 상태를 다시 조회한다")
+    void givenEvicted_whenGetByCallId_thenReloads() {
+        // given
+        Call call = createInProgressCall(100L, "call_100_test");
+        when(callRepository.findByIdWithUsers(100L)).thenReturn(Optional.of(call));
+        cacheService.getByCallId(100L);
+
+        // when
+        call.endCall();
+        cacheService.evict(100L);
+        Optional<CallSnapshot> result = cacheService.getByCallId(100L);
+
+        // then
+        assertThat(result).map(CallSnapshot::callStatus).contains(CallStatus.COMPLETED);
+        verify(callRepository, times(2)).findByIdWithUsers(100L);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 항목을 제거한다")
+    void givenMaxEntriesExceeded_whenPut_thenEvictsEldest() {
+        // given
+        callProperties.getSnapshotCache().setMaxEntries(1);
+        Call first = createInProgressCall(100L, "call_100_test");
+        Call second = createInProgressCall(200L, "call_200_test");
+        when(callRepository.findByIdWithUsers(100L)).thenReturn(Optional.of(first));
+
+        // when
+        cacheService.put(first);
+        cacheService.put(second);
+        cacheService.getByCallId(100L);
+
+        // then
+        verify(callRepository).findByIdWithUsers(100L);
+    }
+}
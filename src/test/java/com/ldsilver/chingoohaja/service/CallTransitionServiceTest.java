@@ -0,0 +1,95 @@
+package com.ldsilver.chingoohaja.service;
+
+import com.ldsilver.chingoohaja.common.exception.CustomException;
+import com.ldsilver.chingoohaja.common.exception.ErrorCode;
+import com.ldsilver.chingoohaja.config.CallProperties;
+import com.ldsilver.chingoohaja.config.CallProperties.ConcurrencyConfig.LockMode;
+import com.ldsilver.chingoohaja.domain.call.Call;
+import com.ldsilver.chingoohaja.repository.CallRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CallTransitionService 테스트")
+class CallTransitionServiceTest {
+
+    @Mock private CallRepository callRepository;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Mock private Call call;
+
+    private CallProperties callProperties;
+    private CallTransitionService callTransitionService;
+
+    @BeforeEach
+    void setUp() {
+        callProperties = new CallProperties();
+        callProperties.getConcurrency().setRetryBackoffMillis(0);
+        callTransitionService = new CallTransitionService(callRepository, callProperties, transactionManager);
+    }
+
+    @Test
+    @DisplayName("버전 충돌 시 새 트랜잭션으로 재시도해 전이를 완료한다")
+    void givenVersionConflict_whenExecute_thenRetries() {
+        // given
+        when(callRepository.findById(100L)).thenReturn(Optional.of(call));
+        doThrow(new ObjectOptimisticLockingFailureException(Call.class, 100L))
+                .doNothing()
+                .when(callRepository).flush();
+
+        // when
+        String result = callTransitionService.execute(100L, target -> "ended");
+
+        // then
+        assertThat(result).isEqualTo("ended");
+        verify(callRepository, times(2)).findById(100L);
+        verify(callRepository, never()).findByIdWithLock(anyLong());
+
+        CallTransitionService.TransitionStats stats = callTransitionService.getStats(LockMode.OPTIMISTIC);
+        assertThat(stats.transitions()).isEqualTo(1);
+        assertThat(stats.conflicts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재시도 한도를 넘으면 CALL_CONCURRENT_MODIFICATION 예외를 던진다")
+    void givenPersistentConflict_whenExecute_thenThrowsAfterMaxAttempts() {
+        // given
+        when(callRepository.findById(100L)).thenReturn(Optional.of(call));
+        doThrow(new ObjectOptimisticLockingFailureException(Call.class, 100L))
+                .when(callRepository).flush();
+
+        // when & then
+        assertThatThrownBy(() -> callTransitionService.execute(100L, target -> "ended"))
+                .isInstanceOf(CustomException.class)
+                .satisfies(ex -> assertThat(((CustomException) ex).getErrorCode())
+                        .isEqualTo(ErrorCode.CALL_CONCURRENT_MODIFICATION));
+        verify(callRepository, times(3)).findById(100L);
+        assertThat(callTransitionService.getStats(LockMode.OPTIMISTIC).retriesExhausted()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("PESSIMISTIC 모드에서는 행 잠금으로 조회한다")
+    void givenPessimisticMode_whenExecute_thenUsesRowLock() {
+        // given
+        callProperties.getConcurrency().setLockMode(LockMode.PESSIMISTIC);
+        when(callRepository.findByIdWithLock(100L)).thenReturn(Optional.of(call));
+
+        // when
+        callTransitionService.execute(100L, target -> null);
+
+        // then
+        verify(callRepository, never()).findById(anyLong());
+        assertThat(callTransitionService.getStats(LockMode.PESSIMISTIC).transitions()).isEqualTo(1);
+    }
+}
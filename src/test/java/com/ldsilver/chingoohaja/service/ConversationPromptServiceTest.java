@@ -0,0 +1,154 @@
+package com.ldsilver.chingoohaja.service;
+
+import com.ldsilver.chingoohaja.config.CallProperties;
+import com.ldsilver.chingoohaja.domain.call.PromptLog;
+import com.ldsilver.chingoohaja.domain.call.enums.CallStatus;
+import com.ldsilver.chingoohaja.domain.call.enums.CallType;
+import com.ldsilver.chingoohaja.dto.call.CallSnapshot;
+import com.ldsilver.chingoohaja.dto.call.PromptCatalogEntry;
+import com.ldsilver.chingoohaja.dto.call.response.PromptResponse;
+import com.ldsilver.chingoohaja.repository.CallRepository;
+import com.ldsilver.chingoohaja.repository.ConversationPromptRepository;
+import com.ldsilver.chingoohaja.repository.PromptLogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConversationPromptService 테스트")
+class ConversationPromptServiceTest {
+
+    private static final Long CALL_ID = 100L;
+    private static final String DECK_KEY = "prompt:deck:100";
+
+    @Mock private ConversationPromptRepository promptRepository;
+    @Mock private PromptLogRepository promptLogRepository;
+    @Mock private CallRepository callRepository;
+    @Mock private CallSnapshotCacheService callSnapshotCacheService;
+    @Mock private PromptCatalogService promptCatalogService;
+    @Mock private RedisTemplate<String, String> redisTemplate;
+    @Mock private HashOperations<String, Object, Object> hashOperations;
+
+    private ConversationPromptService conversationPromptService;
+
+    private final PromptCatalogEntry easy = new PromptCatalogEntry(1L, "쉬운 질문", 1L, "일상", 1);
+    private final PromptCatalogEntry hard = new PromptCatalogEntry(7L, "어려운 질문", 1L, "일상", 3);
+
+    @BeforeEach
+    void setUp() {
+        conversationPromptService = new ConversationPromptService(promptRepository, promptLogRepository,
+                callRepository, callSnapshotCacheService, promptCatalogService, redisTemplate, new CallProperties());
+
+        CallSnapshot snapshot = new CallSnapshot(CALL_ID, "channel", 1L, "user1", 2L, "user2", 1L, "일상",
+                CallType.RANDOM_MATCH, CallStatus.IN_PROGRESS, LocalDateTime.now(), null, null, LocalDateTime.now());
+        when(callSnapshotCacheService.getByCallId(CALL_ID)).thenReturn(Optional.of(snapshot));
+    }
+
+    private void givenDeckState(String cursor, String promptId) {
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.multiGet(DECK_KEY, List.of("cursor", "promptId")))
+                .thenReturn(Arrays.asList(cursor, promptId));
+    }
+
+    @Test
+    @DisplayName("이미 확정된 질문이 있으면 요청자의 최대 난이도와 무관하게 같은 질문을 반환하고 기록하지 않는다")
+    void givenClaimedPrompt_whenGetWithDifferentDifficulty_thenReturnsSamePrompt() {
+        // given
+        givenDeckState("2", "7");
+        when(promptCatalogService.find(7L)).thenReturn(hard);
+
+        // when
+        PromptResponse response = conversationPromptService.getRandomPrompt(CALL_ID, 2L, 1);
+
+        // then
+        assertThat(response.promptId()).isEqualTo(7L);
+        verify(promptCatalogService, never()).pick(anyLong(), any(), any(), anyLong());
+        verify(promptLogRepository, never()).save(any());
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("현재 질문이 없으면 커서 위치의 덱 질문을 확정하고 처음 한 번만 기록한다")
+    void givenNoClaimedPrompt_whenGet_thenClaimsAndLogs() {
+        // given
+        givenDeckState("3", null);
+        when(promptCatalogService.pick(CALL_ID, 1L, 1, 3L)).thenReturn(easy);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(DECK_KEY)), eq("3"), eq("1"), eq("10800")))
+                .thenReturn(List.of(1L, 3L, 1L));
+
+        // when
+        PromptResponse response = conversationPromptService.getRandomPrompt(CALL_ID, 1L, 1);
+
+        // then
+        assertThat(response.promptId()).isEqualTo(1L);
+        verify(promptLogRepository).save(any(PromptLog.class));
+    }
+
+    @Test
+    @DisplayName("다른 참가자가 먼저 확정하면 그 질문을 반환하고 기록하지 않는다")
+    void givenLostClaim_whenGet_thenReturnsOtherParticipantsPrompt() {
+        // given
+        givenDeckState("3", null);
+        when(promptCatalogService.pick(CALL_ID, 1L, 1, 3L)).thenReturn(easy);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(DECK_KEY)), eq("3"), eq("1"), eq("10800")))
+                .thenReturn(List.of(0L, 3L, 7L));
+        when(promptCatalogService.find(7L)).thenReturn(hard);
+
+        // when
+        PromptResponse response = conversationPromptService.getRandomPrompt(CALL_ID, 1L, 1);
+
+        // then
+        assertThat(response.promptId()).isEqualTo(7L);
+        verify(promptLogRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("다음 질문 요청은 이동 스크립트 한 번으로 처리하고, 이미 이동된 상태여도 실패하지 않는다")
+    void givenAlreadyAdvanced_whenMoveToNext_thenSingleScriptCall() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(DECK_KEY)), eq("10800"))).thenReturn(-1L);
+
+        // when
+        conversationPromptService.moveToNextPrompt(CALL_ID, 1L);
+
+        // then
+        verify(promptLogRepository).hideCurrentPromptsByCallId(CALL_ID);
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        verify(redisTemplate, never()).opsForValue();
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 표시 중인 질문 기록이 있으면 그 질문을 반환한다")
+    void givenRedisFailure_whenGet_thenFallsBackToDisplayedLog() {
+        // given
+        when(redisTemplate.opsForHash()).thenThrow(new IllegalStateException("redis down"));
+        PromptLog displayed = mock(PromptLog.class, RETURNS_DEEP_STUBS);
+        when(displayed.getPrompt().getId()).thenReturn(7L);
+        when(promptLogRepository.countByCallIdAndIsCurrentlyDisplayedFalse(CALL_ID)).thenReturn(2L);
+        when(promptLogRepository.findFirstByCallIdAndIsCurrentlyDisplayedTrueOrderByDisplayedAtDesc(CALL_ID))
+                .thenReturn(Optional.of(displayed));
+        when(promptCatalogService.find(7L)).thenReturn(hard);
+
+        // when
+        PromptResponse response = conversationPromptService.getRandomPrompt(CALL_ID, 1L, 1);
+
+        // then
+        assertThat(response.promptId()).isEqualTo(7L);
+        verify(promptLogRepository, never()).save(any());
+    }
+}
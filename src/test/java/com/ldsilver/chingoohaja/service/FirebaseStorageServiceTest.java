@@ -0,0 +1,127 @@
+package com.ldsilver.chingoohaja.service;
+
+import com.google.api.gax.paging.Page;
+import com.google.cloud.ReadChannel;
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.Bucket;
+import com.google.cloud.storage.Storage;
+import com.google.firebase.cloud.StorageClient;
+import com.ldsilver.chingoohaja.config.RecordingProperties;
+import com.ldsilver.chingoohaja.infrastructure.image.ProfileImageResizer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FirebaseStorageService 테스트")
+class FirebaseStorageServiceTest {
+
+    private static final String BUCKET = "test-bucket";
+    private static final String DIRECTORY = "recordings/20261019/1/";
+    private static final String PLAYLIST = DIRECTORY + "index.m3u8";
+
+    @Mock private ProfileImageResizer profileImageResizer;
+    @Mock private StorageClient storageClient;
+    @Mock private Bucket bucket;
+    @Mock private Storage storage;
+
+    @TempDir Path tempDir;
+
+    private MockedStatic<StorageClient> storageClientStatic;
+    private RecordingProperties recordingProperties;
+    private FirebaseStorageService firebaseStorageService;
+
+    @BeforeEach
+    void setUp() {
+        recordingProperties = new RecordingProperties();
+        recordingProperties.getTransfer().setSegmentMaxAttempts(2);
+        recordingProperties.getTransfer().setSegmentRetryDelayMillis(0);
+        firebaseStorageService = new FirebaseStorageService(Runnable::run, recordingProperties, profileImageResizer);
+
+        storageClientStatic = mockStatic(StorageClient.class);
+        storageClientStatic.when(StorageClient::getInstance).thenReturn(storageClient);
+        when(storageClient.bucket()).thenReturn(bucket);
+        when(bucket.getName()).thenReturn(BUCKET);
+        when(bucket.getStorage()).thenReturn(storage);
+    }
+
+    @AfterEach
+    void tearDown() {
+        storageClientStatic.close();
+    }
+
+    private Blob blob(String name, long size) {
+        Blob blob = mock(Blob.class);
+        lenient().when(blob.getName()).thenReturn(name);
+        lenient().when(blob.getSize()).thenReturn(size);
+        lenient().when(blob.getBlobId()).thenReturn(BlobId.of(BUCKET, name));
+        lenient().when(blob.exists()).thenReturn(true);
+        return blob;
+    }
+
+    // 매 호출마다 content를 한 번 내보내고 끝나는 ReadChannel (원본이 중간에 끊긴 경우는 일부만 전달)
+    private ReadChannel reader(byte[] content) throws Exception {
+        ReadChannel reader = mock(ReadChannel.class);
+        boolean[] consumed = {false};
+        when(reader.read(any(ByteBuffer.class))).thenAnswer(invocation -> {
+            if (consumed[0]) {
+                return -1;
+            }
+            consumed[0] = true;
+            ((ByteBuffer) invocation.getArgument(0)).put(content);
+            return content.length;
+        });
+        return reader;
+    }
+
+    @Test
+    @DisplayName("내려받은 크기가 객체 크기보다 작으면 재시도하고, 크기가 맞는 세그먼트는 한 번만 받는다")
+    void givenTruncatedSegment_whenDownload_thenRetriesUntilSizeMatches() throws Exception {
+        // given
+        byte[] playlist = "#EXTM3U\nseg-0.ts\nseg-1.ts\n".getBytes(StandardCharsets.UTF_8);
+        byte[] segment = "0123456789".getBytes(StandardCharsets.UTF_8);
+        Blob playlistBlob = blob(PLAYLIST, playlist.length);
+        when(bucket.get(PLAYLIST)).thenReturn(playlistBlob);
+
+        @SuppressWarnings("unchecked")
+        Page<Blob> listing = mock(Page.class);
+        when(listing.iterateAll()).thenReturn(List.of(playlistBlob,
+                blob(DIRECTORY + "seg-0.ts", segment.length), blob(DIRECTORY + "seg-1.ts", segment.length)));
+        when(bucket.list(any(Storage.BlobListOption[].class))).thenReturn(listing);
+
+        ReadChannel playlistReader = reader(playlist);
+        ReadChannel completeReader = reader(segment);
+        ReadChannel truncatedReader = reader("0123".getBytes(StandardCharsets.UTF_8));
+        ReadChannel retriedReader = reader(segment);
+        when(storage.reader(BlobId.of(BUCKET, PLAYLIST))).thenReturn(playlistReader);
+        when(storage.reader(BlobId.of(BUCKET, DIRECTORY + "seg-0.ts"))).thenReturn(completeReader);
+        when(storage.reader(BlobId.of(BUCKET, DIRECTORY + "seg-1.ts"))).thenReturn(truncatedReader, retriedReader);
+
+        // when
+        Path localPlaylist = firebaseStorageService.downloadHlsDirectory(PLAYLIST, tempDir);
+
+        // then
+        assertThat(localPlaylist).hasBinaryContent(playlist);
+        assertThat(Files.readAllBytes(tempDir.resolve("seg-0.ts"))).isEqualTo(segment);
+        assertThat(Files.readAllBytes(tempDir.resolve("seg-1.ts"))).isEqualTo(segment);
+        verify(storage, times(1)).reader(BlobId.of(BUCKET, DIRECTORY + "seg-0.ts"));
+        verify(storage, times(2)).reader(BlobId.of(BUCKET, DIRECTORY + "seg-1.ts"));
+    }
+}
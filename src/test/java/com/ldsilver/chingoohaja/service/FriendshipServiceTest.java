@@ -10,6 +10,7 @@ import com.ldsilver.chingoohaja.domain.user.enums.UserType;
 import com.ldsilver.chingoohaja.dto.friendship.response.FriendListResponse;
 import com.ldsilver.chingoohaja.dto.friendship.response.PendingFriendRequestListResponse;
 import com.ldsilver.chingoohaja.dto.friendship.response.SentFriendRequestListResponse;
+import com.ldsilver.chingoohaja.infrastructure.websocket.PresenceRegistry;
 import com.ldsilver.chingoohaja.repository.CallRepository;
 import com.ldsilver.chingoohaja.repository.FriendshipRepository;
 import com.ldsilver.chingoohaja.repository.UserRepository;
@@ -27,6 +28,7 @@ import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -41,6 +43,7 @@ class FriendshipServiceTest {
     @Mock private FriendshipRepository friendshipRepository;
     @Mock private UserRepository userRepository;
     @Mock private CallRepository callRepository;
+    @Mock private PresenceRegistry presenceRegistry;
 
     @InjectMocks private FriendshipService friendshipService;
 
@@ -373,12 +376,15 @@ class FriendshipServiceTest {
                     .thenReturn(Collections.emptyList());
             when(callRepository.findLastCompletedCallBetweenUsers(anyLong(), anyLong()))
                     .thenReturn(Optional.empty());
+            when(presenceRegistry.findOnlineUserIds(List.of(2L))).thenReturn(Set.of(2L));
 
             // when
             FriendListResponse response = friendshipService.getFriendsList(1L);
 
             // then
             assertThat(response).isNotNull();
+            assertThat(response.friends()).singleElement()
+                    .satisfies(friend -> assertThat(friend.isOnline()).isTrue());
         }
     }
 
@@ -10,6 +10,7 @@ import com.ldsilver.chingoohaja.domain.matching.enums.QueueType;
 import com.ldsilver.chingoohaja.domain.user.User;
 import com.ldsilver.chingoohaja.domain.user.enums.Gender;
 import com.ldsilver.chingoohaja.domain.user.enums.UserType;
+import com.ldsilver.chingoohaja.infrastructure.websocket.PresenceRegistry;
 import com.ldsilver.chingoohaja.repository.CallRepository;
 import com.ldsilver.chingoohaja.repository.CategoryRepository;
 import com.ldsilver.chingoohaja.repository.MatchingQueueRepository;
@@ -50,6 +51,7 @@ class MatchingSchedulerServiceTest {
     @Mock private MatchingSchedulerProperties schedulerProperties;
     @Mock private ApplicationEventPublisher eventPublisher;
     @Mock private PlatformTransactionManager transactionManager;
+    @Mock private PresenceRegistry presenceRegistry;
 
     @InjectMocks private MatchingSchedulerService matchingSchedulerService;
 
@@ -163,6 +165,58 @@ class MatchingSchedulerServiceTest {
             verify(callRepository, never()).save(any());
         }
 
+        @Test
+        @DisplayName("연결 종료가 기록된 사용자는 대기열에서 제거하고 DB 대기 기록 취소 + 알림 후 다음 시도로 넘어간다")
+        void givenDisconnectedCandidate_whenProcess_thenDequeuesCancelsAndSkips() {
+            // given
+            MatchingQueue waitingQueue = MatchingQueue.of(user2, category, QueueType.RANDOM_MATCH, QueueStatus.WAITING, "queue_2");
+            when(redisMatchingQueueService.getWaitingCount(1L)).thenReturn(2L);
+            when(redisMatchingQueueService.findMatchCandidates(1L, 2))
+                    .thenReturn(new RedisMatchingQueueService.MatchCandicateResult(true, "성공", List.of(1L, 2L)))
+                    .thenReturn(new RedisMatchingQueueService.MatchCandicateResult(false, "후보 없음", List.of()));
+            when(redisMatchingQueueService.isBlocked(1L, 2L)).thenReturn(false);
+            when(presenceRegistry.isDisconnected(1L)).thenReturn(false);
+            when(presenceRegistry.isDisconnected(2L)).thenReturn(true);
+            when(redisMatchingQueueService.dequeueUser(2L, 1L))
+                    .thenReturn(new RedisMatchingQueueService.DequeueResult(true, "성공"));
+            when(userRepository.findById(2L)).thenReturn(Optional.of(user2));
+            when(matchingQueueRepository.findByUserOrderByCreatedAtDesc(user2)).thenReturn(List.of(waitingQueue));
+
+            // when
+            boolean result = matchingSchedulerService.processMatchingForCategory(category);
+
+            // then
+            assertThat(result).isFalse();
+            verify(redisMatchingQueueService).dequeueUser(2L, 1L);
+            verify(redisMatchingQueueService, never()).dequeueUser(eq(1L), anyLong());
+            assertThat(waitingQueue.getQueueStatus()).isEqualTo(QueueStatus.CANCELLED);
+            verify(webSocketEventService).sendMatchingCancelledNotification(eq(2L), anyString());
+            verify(userRepository, never()).findById(1L);
+            verify(callRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("하트비트만 끊긴 사용자는 연결 종료 기록이 없으므로 대기열에서 제거하지 않는다")
+        void givenStaleHeartbeatOnly_whenProcess_thenKeepsCandidate() {
+            // given
+            when(redisMatchingQueueService.getWaitingCount(1L)).thenReturn(2L);
+            when(redisMatchingQueueService.findMatchCandidates(1L, 2))
+                    .thenReturn(new RedisMatchingQueueService.MatchCandicateResult(true, "성공", List.of(1L, 2L)));
+            when(redisMatchingQueueService.isBlocked(1L, 2L)).thenReturn(false);
+            when(presenceRegistry.isDisconnected(anyLong())).thenReturn(false);
+            when(userRepository.findById(1L)).thenReturn(Optional.empty());
+            when(userRepository.findById(2L)).thenReturn(Optional.of(user2));
+            when(redisMatchingQueueService.enqueueUser(anyLong(), eq(1L), anyString()))
+                    .thenReturn(new RedisMatchingQueueService.EnqueueResult(true, "성공", 1));
+
+            // when
+            matchingSchedulerService.processMatchingForCategory(category);
+
+            // then
+            verify(redisMatchingQueueService, never()).dequeueUser(anyLong(), anyLong());
+            verify(webSocketEventService, never()).sendMatchingCancelledNotification(anyLong(), anyString());
+        }
+
         @Test
         @DisplayName("사용자 조회 실패 시 큐에 복구하고 다음 시도로 넘어간다")
         void givenUserNotFound_whenProcess_thenRestoresAndRetries() {
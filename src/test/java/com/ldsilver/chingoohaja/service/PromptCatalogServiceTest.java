@@ -0,0 +1,113 @@
+package com.ldsilver.chingoohaja.service;
+
+import com.ldsilver.chingoohaja.domain.call.ConversationPrompt;
+import com.ldsilver.chingoohaja.domain.category.Category;
+import com.ldsilver.chingoohaja.dto.call.PromptCatalogEntry;
+import com.ldsilver.chingoohaja.repository.ConversationPromptRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PromptCatalogService 테스트")
+class PromptCatalogServiceTest {
+
+    @Mock private ConversationPromptRepository promptRepository;
+
+    @InjectMocks private PromptCatalogService promptCatalogService;
+
+    private Category daily;
+    private Category worry;
+
+    @BeforeEach
+    void setUp() {
+        daily = Category.from("일상");
+        worry = Category.from("고민");
+        setId(daily, 1L);
+        setId(worry, 2L);
+
+        List<ConversationPrompt> prompts = new ArrayList<>();
+        for (long id = 1; id <= 10; id++) {
+            ConversationPrompt prompt = ConversationPrompt.of(daily, "질문" + id, id <= 5 ? 1 : 3);
+            setId(prompt, id);
+            prompts.add(prompt);
+        }
+        ConversationPrompt other = ConversationPrompt.of(worry, "고민 질문", 1);
+        setId(other, 11L);
+        prompts.add(other);
+
+        when(promptRepository.getCatalogFingerprint()).thenReturn(List.<Object[]>of(new Object[]{11L, null}));
+        when(promptRepository.findAllActiveWithCategory()).thenReturn(prompts);
+    }
+
+    private void setId(Object entity, Long id) {
+        try {
+            Field field = entity.getClass().getDeclaredField("id");
+            field.setAccessible(true);
+            field.set(entity, id);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private List<Long> deck(Long callId, Integer maxDifficulty, int length) {
+        return LongStream.range(0, length)
+                .mapToObj(cursor -> promptCatalogService.pick(callId, 1L, maxDifficulty, cursor).promptId())
+                .toList();
+    }
+
+    @Test
+    @DisplayName("같은 callId는 항상 같은 순서의 덱을 받는다")
+    void givenSameCallId_whenPick_thenReturnsSameOrder() {
+        // when
+        List<Long> first = deck(100L, null, 10);
+        List<Long> second = deck(100L, null, 10);
+
+        // then
+        assertThat(first).isEqualTo(second);
+        verify(promptRepository, times(1)).findAllActiveWithCategory();
+    }
+
+    @Test
+    @DisplayName("덱 한 바퀴 동안 카테고리 질문이 중복 없이 모두 나온다")
+    void givenCursorWithinRound_whenPick_thenCoversAllCandidatesOnce() {
+        // when
+        List<Long> round = deck(100L, null, 10);
+
+        // then
+        assertThat(round).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+    }
+
+    @Test
+    @DisplayName("최대 난이도를 넘는 질문은 덱에 포함되지 않는다")
+    void givenMaxDifficulty_whenPick_thenFiltersCandidates() {
+        // when
+        List<PromptCatalogEntry> candidates = promptCatalogService.getCandidates(1L, 1);
+
+        // then
+        assertThat(candidates).extracting(PromptCatalogEntry::promptId)
+                .containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(deck(100L, 1, 5)).allMatch(id -> id <= 5L);
+    }
+
+    @Test
+    @DisplayName("확정된 질문은 id로 다시 찾고, 카탈로그에 없는 질문은 null을 반환한다")
+    void givenPromptId_whenFind_thenReturnsCatalogEntry() {
+        // when & then
+        assertThat(promptCatalogService.find(7L).difficulty()).isEqualTo(3);
+        assertThat(promptCatalogService.find(99L)).isNull();
+        verify(promptRepository, times(1)).findAllActiveWithCategory();
+    }
+}
@@ -0,0 +1,172 @@
+package com.ldsilver.chingoohaja.service;
+
+import com.ldsilver.chingoohaja.config.RecordingProperties;
+import com.ldsilver.chingoohaja.dto.call.RecordingJob;
+import com.ldsilver.chingoohaja.event.RecordingCompletedEvent;
+import com.ldsilver.chingoohaja.infrastructure.redis.InMemoryRecordingJobQueue;
+import com.ldsilver.chingoohaja.infrastructure.redis.RecordingJobQueue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RecordingPostProcessingQueueService 테스트")
+class RecordingPostProcessingQueueServiceTest {
+
+    @Mock private RecordingPostProcessorService recordingPostProcessorService;
+
+    private InMemoryRecordingJobQueue recordingJobQueue;
+    private RecordingPostProcessingQueueService queueService;
+
+    private final RecordingCompletedEvent event = new RecordingCompletedEvent(
+            1L, "/recordings/call_1.m3u8", 600, 1024L, "/recordings/user1.m3u8", "/recordings/user2.m3u8");
+
+    private RecordingProperties recordingProperties;
+
+    @BeforeEach
+    void setUp() {
+        recordingProperties = new RecordingProperties();
+        recordingProperties.getPostProcessing().setWorkers(2);
+        recordingProperties.getPostProcessing().setMaxAttempts(2);
+        recordingProperties.getPostProcessing().setRetryDelayMillis(0);
+
+        recordingJobQueue = new InMemoryRecordingJobQueue();
+        // 워커 대신 호출 스레드에서 바로 실행
+        queueService = new RecordingPostProcessingQueueService(
+                recordingJobQueue, recordingPostProcessorService, recordingProperties, Runnable::run);
+    }
+
+    @Test
+    @DisplayName("적재된 작업을 꺼내 처리하고 완료 처리한다")
+    void givenEnqueuedJob_whenDispatch_thenProcessesAndCompletes() throws IOException {
+        // given
+        queueService.enqueue(event);
+
+        // when
+        queueService.dispatch();
+
+        // then
+        verify(recordingPostProcessorService).processRecordingForAI(any(RecordingCompletedEvent.class));
+        RecordingPostProcessingQueueService.PostProcessingStats stats = queueService.getStats();
+        assertThat(stats.queued()).isZero();
+        assertThat(stats.inFlight()).isZero();
+        assertThat(stats.completed()).isEqualTo(1);
+        assertThat(stats.activeWorkers()).isZero();
+    }
+
+    @Test
+    @DisplayName("처리에 실패하면 시도 횟수를 늘려 다시 대기열에 넣는다")
+    void givenProcessingFailure_whenDispatch_thenSchedulesRetry() throws IOException {
+        // given
+        doThrow(new IOException("download failed"))
+                .doNothing()
+                .when(recordingPostProcessorService).processRecordingForAI(any(RecordingCompletedEvent.class));
+        queueService.enqueue(event);
+
+        // when
+        queueService.dispatch();
+
+        // then - 재시도 지연 0ms이므로 같은 dispatch에서 다시 꺼내 성공
+        verify(recordingPostProcessorService, times(2)).processRecordingForAI(any(RecordingCompletedEvent.class));
+        RecordingPostProcessingQueueService.PostProcessingStats stats = queueService.getStats();
+        assertThat(stats.retried()).isEqualTo(1);
+        assertThat(stats.completed()).isEqualTo(1);
+        assertThat(stats.queued()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 넘기면 dead letter로 이동한다")
+    void givenPersistentFailure_whenDispatch_thenMovesToDeadLetter() throws IOException {
+        // given
+        doThrow(new IOException("ffmpeg failed"))
+                .when(recordingPostProcessorService).processRecordingForAI(any(RecordingCompletedEvent.class));
+        queueService.enqueue(event);
+
+        // when
+        queueService.dispatch();
+
+        // then
+        assertThat(recordingJobQueue.readyJobs()).isEmpty();
+        assertThat(recordingJobQueue.deadJobs()).hasSize(1);
+
+        RecordingJob deadJob = recordingJobQueue.deadJobs().get(0);
+        assertThat(deadJob.attempt()).isEqualTo(2);
+        assertThat(deadJob.lastError()).contains("ffmpeg failed");
+        assertThat(queueService.getStats().deadLettered()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("처리 중인 작업은 주기적으로 lease가 연장된다")
+    void givenRunningJob_whenRenewLeases_thenExtendsLease() throws IOException {
+        // given
+        recordingProperties.getPostProcessing().setLeaseMillis(1000);
+        long[] leaseBefore = new long[1];
+        long[] leaseAfter = new long[1];
+        doAnswer(invocation -> {
+            String jobId = recordingJobQueue.inFlightJobIds().get(0);
+            leaseBefore[0] = recordingJobQueue.leaseExpiresAt(jobId);
+            Thread.sleep(5);
+            queueService.renewLeases();
+            leaseAfter[0] = recordingJobQueue.leaseExpiresAt(jobId);
+            return null;
+        }).when(recordingPostProcessorService).processRecordingForAI(any(RecordingCompletedEvent.class));
+        queueService.enqueue(event);
+
+        // when
+        queueService.dispatch();
+
+        // then
+        assertThat(leaseAfter[0]).isGreaterThan(leaseBefore[0]);
+        assertThat(queueService.getStats().completed()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("lease가 만료되어 다른 워커에 넘어간 작업은 이전 워커가 완료 처리하지 못한다")
+    void givenLostLease_whenComplete_thenLeavesNewOwnersJob() {
+        // given
+        recordingJobQueue.enqueue(RecordingJob.from(event));
+        RecordingJobQueue.ClaimedJob stale = recordingJobQueue.claim(0);
+        recordingJobQueue.requeueExpired(recordingProperties.getPostProcessing().getMaxAttempts());
+        RecordingJobQueue.ClaimedJob current = recordingJobQueue.claim(60000);
+
+        // when & then
+        assertThat(recordingJobQueue.complete(stale)).isFalse();
+        assertThat(recordingJobQueue.retry(stale, stale.job().nextAttempt(0, "stale"))).isFalse();
+        assertThat(recordingJobQueue.renew(stale, 60000)).isFalse();
+        assertThat(recordingJobQueue.depth().inFlight()).isEqualTo(1);
+        assertThat(recordingJobQueue.complete(current)).isTrue();
+        assertThat(recordingJobQueue.depth().inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("lease 만료가 반복되는 작업은 시도 횟수가 늘어 dead letter로 이동한다")
+    void givenRepeatedlyExpiredLease_whenRecoverExpiredLeases_thenMovesToDeadLetter() {
+        // given
+        recordingJobQueue.enqueue(RecordingJob.from(event));
+
+        // when
+        recordingJobQueue.claim(0);
+        queueService.recoverExpiredLeases();
+        RecordingJob requeued = recordingJobQueue.readyJobs().get(0);
+        recordingJobQueue.claim(0);
+        queueService.recoverExpiredLeases();
+
+        // then
+        assertThat(requeued.attempt()).isEqualTo(2);
+        assertThat(recordingJobQueue.readyJobs()).isEmpty();
+        assertThat(recordingJobQueue.depth().inFlight()).isZero();
+        RecordingJob deadJob = recordingJobQueue.deadJobs().get(0);
+        assertThat(deadJob.attempt()).isEqualTo(2);
+        assertThat(deadJob.lastError()).isEqualTo("lease expired");
+        assertThat(queueService.getStats().deadLettered()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,134 @@
+package com.ldsilver.chingoohaja.service;
+
+import com.ldsilver.chingoohaja.config.CallProperties;
+import com.ldsilver.chingoohaja.dto.call.TokenRenewalRow;
+import com.ldsilver.chingoohaja.dto.call.response.TokenRenewResponse;
+import com.ldsilver.chingoohaja.infrastructure.agora.AgoraTokenGenerator;
+import com.ldsilver.chingoohaja.repository.CallSessionRepository;
+import io.agora.media.RtcTokenBuilder2;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RtcTokenRenewalService 테스트")
+class RtcTokenRenewalServiceTest {
+
+    @Mock private CallSessionRepository callSessionRepository;
+    @Mock private AgoraTokenGenerator agoraTokenGenerator;
+    @Mock private WebSocketEventService webSocketEventService;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private CallProperties callProperties;
+    private RtcTokenRenewalService rtcTokenRenewalService;
+
+    private final TokenRenewalRow session1 = new TokenRenewalRow(11L, 100L, 1L, 1L, "channel-100");
+    private final TokenRenewalRow session2 = new TokenRenewalRow(12L, 100L, 2L, 2L, "channel-100");
+
+    @BeforeEach
+    void setUp() {
+        callProperties = new CallProperties();
+        rtcTokenRenewalService = new RtcTokenRenewalService(callSessionRepository, agoraTokenGenerator,
+                webSocketEventService, callProperties, transactionManager);
+    }
+
+    private void givenMintedToken(int uid, String token) {
+        when(agoraTokenGenerator.generateRtcToken(eq("channel-100"), eq(uid),
+                eq(RtcTokenBuilder2.Role.ROLE_PUBLISHER), anyInt())).thenReturn(token);
+    }
+
+    @Test
+    @DisplayName("만료 임박 구간의 세션만 조회해 갱신하고 커밋된 세션에만 새 토큰을 전송한다")
+    void givenExpiringSessions_whenRenew_thenQueriesWindowAndNotifiesRenewed() {
+        // given
+        when(callSessionRepository.findTokenRenewalChunk(any(LocalDateTime.class), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(session1));
+        givenMintedToken(1, "token-1");
+        when(callSessionRepository.renewTokenIfExpiring(eq(11L), eq("token-1"), any(), any())).thenReturn(1);
+        LocalDateTime before = LocalDateTime.now();
+
+        // when
+        rtcTokenRenewalService.renewExpiringTokens();
+
+        // then
+        ArgumentCaptor<LocalDateTime> threshold = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(callSessionRepository).findTokenRenewalChunk(threshold.capture(), eq(0L), any(Pageable.class));
+        int renewAheadSeconds = callProperties.getTokenRenewal().getRenewAheadSeconds();
+        assertThat(threshold.getValue())
+                .isAfterOrEqualTo(before.plusSeconds(renewAheadSeconds))
+                .isBeforeOrEqualTo(LocalDateTime.now().plusSeconds(renewAheadSeconds));
+
+        ArgumentCaptor<TokenRenewResponse> response = ArgumentCaptor.forClass(TokenRenewResponse.class);
+        verify(webSocketEventService).sendRtcTokenRenewed(eq(1L), eq(100L), response.capture());
+        assertThat(response.getValue().rtcToken()).isEqualTo("token-1");
+        assertThat(response.getValue().expiresAt()).isAfter(before.plusMinutes(50));
+    }
+
+    @Test
+    @DisplayName("갱신 사이 통화가 종료되었거나 이미 갱신되어 반영되지 않은 세션에는 토큰을 보내지 않는다")
+    void givenEndedOrAlreadyRenewedSession_whenRenew_thenSkipsNotification() {
+        // given
+        when(callSessionRepository.findTokenRenewalChunk(any(LocalDateTime.class), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(session1, session2));
+        givenMintedToken(1, "token-1");
+        givenMintedToken(2, "token-2");
+        when(callSessionRepository.renewTokenIfExpiring(eq(11L), eq("token-1"), any(), any())).thenReturn(0);
+        when(callSessionRepository.renewTokenIfExpiring(eq(12L), eq("token-2"), any(), any())).thenReturn(1);
+
+        // when
+        rtcTokenRenewalService.renewExpiringTokens();
+
+        // then
+        verify(webSocketEventService, never()).sendRtcTokenRenewed(eq(1L), anyLong(), any());
+        verify(webSocketEventService).sendRtcTokenRenewed(eq(2L), eq(100L), any());
+    }
+
+    @Test
+    @DisplayName("한 세션의 토큰 발급이 실패해도 나머지 세션은 갱신한다")
+    void givenOneMintFailure_whenRenew_thenRenewsOthers() {
+        // given
+        when(callSessionRepository.findTokenRenewalChunk(any(LocalDateTime.class), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(session1, session2));
+        when(agoraTokenGenerator.generateRtcToken(eq("channel-100"), eq(1),
+                eq(RtcTokenBuilder2.Role.ROLE_PUBLISHER), anyInt())).thenThrow(new IllegalStateException("agora"));
+        givenMintedToken(2, "token-2");
+        when(callSessionRepository.renewTokenIfExpiring(eq(12L), eq("token-2"), any(), any())).thenReturn(1);
+
+        // when
+        rtcTokenRenewalService.renewExpiringTokens();
+
+        // then
+        verify(callSessionRepository, never()).renewTokenIfExpiring(eq(11L), any(), any(), any());
+        verify(webSocketEventService).sendRtcTokenRenewed(eq(2L), eq(100L), any());
+        verifyNoMoreInteractions(webSocketEventService);
+    }
+
+    @Test
+    @DisplayName("갱신이 꺼져 있으면 세션을 조회하지 않는다")
+    void givenDisabled_whenRenew_thenDoesNothing() {
+        // given
+        callProperties.getTokenRenewal().setEnabled(false);
+
+        // when
+        rtcTokenRenewalService.renewExpiringTokens();
+
+        // then
+        verifyNoInteractions(callSessionRepository, agoraTokenGenerator, webSocketEventService);
+    }
+}
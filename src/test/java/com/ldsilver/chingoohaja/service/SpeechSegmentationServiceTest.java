@@ -0,0 +1,104 @@
+package com.ldsilver.chingoohaja.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ldsilver.chingoohaja.config.RecordingProperties;
+import com.ldsilver.chingoohaja.dto.call.SpeechSegment;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SpeechSegmentationService 테스트")
+class SpeechSegmentationServiceTest {
+
+    private static final int SAMPLE_RATE = 16000;
+
+    @TempDir
+    Path tempDir;
+
+    private SpeechSegmentationService speechSegmentationService;
+
+    @BeforeEach
+    void setUp() {
+        RecordingProperties recordingProperties = new RecordingProperties();
+        speechSegmentationService = new SpeechSegmentationService(recordingProperties, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("음성 구간만 세그먼트로 남기고 짧은 잡음은 버린다")
+    void givenSpeechAndShortNoise_whenSegment_thenKeepsOnlySpeech() throws IOException {
+        // given - 무음 1초, 음성 1초, 무음 1초, 잡음 0.1초, 무음 1초
+        Path wav = writeWav(new int[]{1000, 1000, 1000, 100, 1000}, new boolean[]{false, true, false, true, false});
+
+        // when
+        SpeechSegmentationService.SegmentationResult result =
+                speechSegmentationService.segment(wav, tempDir.resolve("segments"), "seg");
+
+        // then
+        assertThat(result.totalDurationMillis()).isEqualTo(4100);
+        assertThat(result.segments()).hasSize(1);
+
+        SpeechSegment segment = result.segments().get(0);
+        assertThat(segment.startMillis()).isBetween(800L, 1000L);
+        assertThat(segment.endMillis()).isBetween(2000L, 2200L);
+
+        // 세그먼트 파일 길이 = 헤더 + 구간 길이만큼의 PCM
+        Path segmentFile = result.directory().resolve(segment.fileName());
+        long expectedBytes = 44 + segment.durationMillis() * SAMPLE_RATE * 2 / 1000;
+        assertThat(Files.size(segmentFile)).isEqualTo(expectedBytes);
+        assertThat(Files.list(result.directory())).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("무음만 있으면 세그먼트를 만들지 않는다")
+    void givenSilenceOnly_whenSegment_thenNoSegments() throws IOException {
+        // given
+        Path wav = writeWav(new int[]{2000}, new boolean[]{false});
+
+        // when
+        SpeechSegmentationService.SegmentationResult result =
+                speechSegmentationService.segment(wav, tempDir.resolve("segments"), "seg");
+
+        // then
+        assertThat(result.segments()).isEmpty();
+        assertThat(speechSegmentationService.writeIndex(result, 1L, 2L)).exists();
+    }
+
+    private Path writeWav(int[] durationsMillis, boolean[] voiced) throws IOException {
+        int totalSamples = 0;
+        for (int millis : durationsMillis) {
+            totalSamples += SAMPLE_RATE * millis / 1000;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(44 + totalSamples * 2).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put("RIFF".getBytes(StandardCharsets.US_ASCII)).putInt(36 + totalSamples * 2)
+                .put("WAVE".getBytes(StandardCharsets.US_ASCII))
+                .put("fmt ".getBytes(StandardCharsets.US_ASCII)).putInt(16)
+                .putShort((short) 1).putShort((short) 1)
+                .putInt(SAMPLE_RATE).putInt(SAMPLE_RATE * 2)
+                .putShort((short) 2).putShort((short) 16)
+                .put("data".getBytes(StandardCharsets.US_ASCII)).putInt(totalSamples * 2);
+
+        int sampleIndex = 0;
+        for (int part = 0; part < durationsMillis.length; part++) {
+            int samples = SAMPLE_RATE * durationsMillis[part] / 1000;
+            for (int i = 0; i < samples; i++, sampleIndex++) {
+                double value = voiced[part] ? 8000 * Math.sin(2 * Math.PI * 440 * sampleIndex / SAMPLE_RATE) : 0;
+                buffer.putShort((short) value);
+            }
+        }
+
+        Path wav = tempDir.resolve("input.wav");
+        Files.write(wav, buffer.array());
+        return wav;
+    }
+}
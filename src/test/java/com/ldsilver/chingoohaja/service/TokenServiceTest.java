@@ -0,0 +1,115 @@
+package com.ldsilver.chingoohaja.service;
+
+import com.ldsilver.chingoohaja.common.exception.CustomException;
+import com.ldsilver.chingoohaja.common.exception.ErrorCode;
+import com.ldsilver.chingoohaja.config.JwtProperties;
+import com.ldsilver.chingoohaja.dto.oauth.response.TokenResponse;
+import com.ldsilver.chingoohaja.infrastructure.jwt.JwtTokenProvider;
+import com.ldsilver.chingoohaja.repository.UserRepository;
+import com.ldsilver.chingoohaja.repository.UserTokenRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenService 테스트")
+class TokenServiceTest {
+
+    @Mock private JwtTokenProvider jwtTokenProvider;
+    @Mock private TokenCacheService tokenCacheService;
+    @Mock private UserRepository userRepository;
+    @Mock private UserTokenRepository userTokenRepository;
+    @Spy private JwtProperties jwtProperties = new JwtProperties();
+    @Mock private RefreshTokenAuditWriter refreshTokenAuditWriter;
+
+    @InjectMocks private TokenService tokenService;
+
+    private static final Long USER_ID = 1L;
+    private static final String OLD_REFRESH = "old.refresh.token";
+    private static final String NEW_REFRESH = "new.refresh.token";
+
+    @Test
+    @DisplayName("Redis에서 회전에 성공하면 DB 접근 없이 새 토큰 쌍을 발급하고, 이력과 이전 토큰 비활성화는 지연 저장한다")
+    void givenRefreshTokenInRedis_whenRotate_thenIssuesNewPairWithoutDatabase() {
+        // given
+        when(jwtTokenProvider.generateRefreshToken(USER_ID)).thenReturn(NEW_REFRESH);
+        when(tokenCacheService.rotateRefreshToken(eq(OLD_REFRESH), eq(NEW_REFRESH), any(Duration.class), any(Duration.class)))
+                .thenReturn(new TokenCacheService.RotatedRefreshToken(USER_ID, NEW_REFRESH, "test@gmail.com", "USER"));
+        when(jwtTokenProvider.generateAccessToken(USER_ID, "test@gmail.com", "USER")).thenReturn("new.access.token");
+
+        // when
+        TokenResponse response = tokenService.rotateRefreshToken(OLD_REFRESH, USER_ID);
+
+        // then
+        assertThat(response.accessToken()).isEqualTo("new.access.token");
+        assertThat(response.refreshToken()).isEqualTo(NEW_REFRESH);
+        verify(refreshTokenAuditWriter).enqueueRotation(eq(USER_ID), eq(OLD_REFRESH), eq(NEW_REFRESH), any(LocalDateTime.class));
+        verifyNoInteractions(userTokenRepository, userRepository);
+    }
+
+    @Test
+    @DisplayName("유예 시간 안에 같은 토큰으로 다시 요청하면 이미 발급된 새 리프레시 토큰을 반환한다")
+    void givenRecentlyRotatedToken_whenRotateAgain_thenReturnsSameSuccessor() {
+        // given
+        when(jwtTokenProvider.generateRefreshToken(USER_ID)).thenReturn("another.refresh.token");
+        when(tokenCacheService.rotateRefreshToken(eq(OLD_REFRESH), eq("another.refresh.token"), any(Duration.class), any(Duration.class)))
+                .thenReturn(new TokenCacheService.RotatedRefreshToken(USER_ID, NEW_REFRESH, "test@gmail.com", "USER"));
+        when(jwtTokenProvider.generateAccessToken(USER_ID, "test@gmail.com", "USER")).thenReturn("new.access.token");
+
+        // when
+        TokenResponse response = tokenService.rotateRefreshToken(OLD_REFRESH, USER_ID);
+
+        // then
+        assertThat(response.refreshToken()).isEqualTo(NEW_REFRESH);
+        verifyNoInteractions(refreshTokenAuditWriter, userTokenRepository);
+    }
+
+    @Test
+    @DisplayName("Redis와 DB 모두에 없는 리프레시 토큰이면 예외를 던진다")
+    void givenUnknownRefreshToken_whenRotate_thenThrowsException() {
+        // given
+        when(jwtTokenProvider.generateRefreshToken(USER_ID)).thenReturn(NEW_REFRESH);
+        when(tokenCacheService.rotateRefreshToken(eq(OLD_REFRESH), eq(NEW_REFRESH), any(Duration.class), any(Duration.class)))
+                .thenReturn(null);
+        when(userTokenRepository.findByRefreshTokenAndIsActiveTrue(OLD_REFRESH)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> tokenService.rotateRefreshToken(OLD_REFRESH, USER_ID))
+                .isInstanceOf(CustomException.class)
+                .satisfies(ex -> assertThat(((CustomException) ex).getErrorCode())
+                        .isEqualTo(ErrorCode.REFRESH_TOKEN_NOT_FOUND));
+        verifyNoInteractions(refreshTokenAuditWriter);
+    }
+
+    @Test
+    @DisplayName("회전되어 폐기 표시가 남은 리프레시 토큰은 DB에 활성 상태로 남아 있어도 복구하지 않는다")
+    void givenRevokedRefreshToken_whenRotate_thenRefusesDatabaseFallback() {
+        // given
+        when(jwtTokenProvider.generateRefreshToken(USER_ID)).thenReturn(NEW_REFRESH);
+        when(tokenCacheService.rotateRefreshToken(eq(OLD_REFRESH), eq(NEW_REFRESH), any(Duration.class), any(Duration.class)))
+                .thenReturn(null);
+        when(tokenCacheService.isRefreshTokenRevoked(OLD_REFRESH)).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> tokenService.rotateRefreshToken(OLD_REFRESH, USER_ID))
+                .isInstanceOf(CustomException.class)
+                .satisfies(ex -> assertThat(((CustomException) ex).getErrorCode())
+                        .isEqualTo(ErrorCode.REFRESH_TOKEN_NOT_FOUND));
+        verifyNoInteractions(userTokenRepository, refreshTokenAuditWriter);
+        verify(tokenCacheService, never()).storeRefreshToken(any(), any(), any());
+    }
+}